@@ -2,8 +2,10 @@ package nl.rabobank;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
 
 @SpringBootApplication
+@ConfigurationPropertiesScan
 public class RaboAssignmentApplication {
     public static void main(final String[] args) {
         SpringApplication.run(RaboAssignmentApplication.class, args);
@@ -0,0 +1,98 @@
+package nl.rabobank.access;
+
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import nl.rabobank.authorizations.PowerOfAttorney;
+import nl.rabobank.concurrent.RebuildableSnapshot;
+import nl.rabobank.config.AuthorizationIndexProperties;
+import nl.rabobank.document.PowerOfAttorneyDocument;
+import nl.rabobank.repository.PowerOfAttorneyRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@link GrantIndex} of all grants in {@code power_of_attorney_grants}, used to answer authorization checks without a
+ * database round trip. Until the index is seeded, or when it is disabled, there is no index and checks go to the
+ * database.
+ *
+ * <p>The index is a {@link RebuildableSnapshot}, rebuilt every {@code rabobank.authorization-index.rebuild-interval}.
+ */
+@Slf4j
+@Component
+public class AuthorizationIndex {
+
+    private final PowerOfAttorneyRepository powerOfAttorneyRepository;
+    private final AuthorizationIndexProperties properties;
+
+    private final RebuildableSnapshot<GrantIndex> index = new RebuildableSnapshot<>("authorization-index");
+
+    public AuthorizationIndex(
+            PowerOfAttorneyRepository powerOfAttorneyRepository, AuthorizationIndexProperties properties) {
+        this.powerOfAttorneyRepository = powerOfAttorneyRepository;
+        this.properties = properties;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (properties.isEnabled()) {
+            index.rebuildPeriodically(properties.getRebuildInterval(), this::rebuild);
+        }
+    }
+
+    /** The seeded index, empty while checks must go to the database. */
+    public Optional<GrantIndex> active() {
+        return Optional.ofNullable(index.active());
+    }
+
+    /** Registers a grant, must be called after the grant is stored. */
+    public void add(PowerOfAttorney powerOfAttorney) {
+        index.update(current -> grant(current, powerOfAttorney));
+    }
+
+    /**
+     * Builds a new index from all grants in the database and swaps it in. Checks keep using the current index until the
+     * new one is complete.
+     */
+    public IndexStatus rebuild() {
+        if (!properties.isEnabled()) {
+            return status();
+        }
+
+        var next = index.rebuild(new GrantIndex(), empty -> {
+            try (var grants = powerOfAttorneyRepository.streamAuthorizations(properties.getSeedBatchSize())) {
+                grants.filter(AuthorizationIndex::isComplete)
+                        .forEach(grant -> empty.grant(
+                                grant.getGranteeName(), grant.accountReference(), grant.getAuthorization()));
+            }
+        });
+
+        log.info(
+                "Authorization index built with {} grants of {} grantees on {} accounts",
+                next.grants(),
+                next.grantees(),
+                next.accounts());
+        return status();
+    }
+
+    public IndexStatus status() {
+        var current = index.active();
+        if (current == null) {
+            return new IndexStatus(false, 0, 0, 0);
+        }
+        return new IndexStatus(true, current.grants(), current.grantees(), current.accounts());
+    }
+
+    private static boolean isComplete(PowerOfAttorneyDocument grant) {
+        return grant.getGranteeName() != null && grant.accountReference() != null && grant.getAuthorization() != null;
+    }
+
+    private static void grant(GrantIndex index, PowerOfAttorney powerOfAttorney) {
+        index.grant(
+                powerOfAttorney.granteeName(),
+                powerOfAttorney.account().accountNumber(),
+                powerOfAttorney.authorization());
+    }
+
+    public record IndexStatus(boolean ready, long grants, int grantees, int accounts) {}
+}
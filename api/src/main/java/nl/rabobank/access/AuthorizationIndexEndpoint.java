@@ -0,0 +1,26 @@
+package nl.rabobank.access;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+/** {@code GET /actuator/authorizationindex} shows the index, {@code POST /actuator/authorizationindex} rebuilds it. */
+@Component
+@Endpoint(id = "authorizationindex")
+@RequiredArgsConstructor
+public class AuthorizationIndexEndpoint {
+
+    private final AuthorizationIndex authorizationIndex;
+
+    @ReadOperation
+    public AuthorizationIndex.IndexStatus status() {
+        return authorizationIndex.status();
+    }
+
+    @WriteOperation
+    public AuthorizationIndex.IndexStatus rebuild() {
+        return authorizationIndex.rebuild();
+    }
+}
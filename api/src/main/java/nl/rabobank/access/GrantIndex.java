@@ -0,0 +1,100 @@
+package nl.rabobank.access;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import nl.rabobank.authorizations.Authorization;
+
+/**
+ * Permissions of grantees on accounts, answered from memory. Grantee names are interned to an {@code int} id once, and
+ * every account holds the ids of its grantees as a sorted array next to one permission byte per grantee, so a check is
+ * two hash lookups and a binary search. A WRITE grant implies READ.
+ *
+ * <p>Checks never lock. Grants replace the arrays of their account instead of changing them, so a check sees a grant
+ * either completely or not at all.
+ */
+public class GrantIndex {
+
+    private static final byte READ = 1;
+    private static final byte WRITE = 2;
+
+    private final ConcurrentHashMap<String, Integer> granteeIds = new ConcurrentHashMap<>();
+    private final AtomicInteger nextGranteeId = new AtomicInteger();
+    private final ConcurrentHashMap<String, AccountGrants> accounts = new ConcurrentHashMap<>();
+    private final LongAdder grants = new LongAdder();
+
+    /** Adds the permission, granting the same or a lower permission again has no effect. */
+    public void grant(String granteeName, String accountNumber, Authorization authorization) {
+        var granteeId = granteeIds.computeIfAbsent(granteeName, name -> nextGranteeId.getAndIncrement());
+        var permissions = authorization == Authorization.WRITE ? (byte) (READ | WRITE) : READ;
+
+        accounts.compute(accountNumber, (key, current) -> {
+            if (current == null) {
+                grants.increment();
+                return new AccountGrants(new int[] {granteeId}, new byte[] {permissions});
+            }
+            return current.with(granteeId, permissions, grants);
+        });
+    }
+
+    /** {@code true} when a READ or WRITE grant of the grantee on the account allows the authorization. */
+    public boolean isAllowed(String granteeName, String accountNumber, Authorization authorization) {
+        if (granteeName == null || accountNumber == null || authorization == null) {
+            return false;
+        }
+        var granteeId = granteeIds.get(granteeName);
+        var account = accounts.get(accountNumber);
+        if (granteeId == null || account == null) {
+            return false;
+        }
+        var required = authorization == Authorization.WRITE ? WRITE : READ;
+        return (account.permissions(granteeId) & required) != 0;
+    }
+
+    public int grantees() {
+        return granteeIds.size();
+    }
+
+    public int accounts() {
+        return accounts.size();
+    }
+
+    /** Distinct grantee and account pairs, a WRITE and a READ grant of the same pair count once. */
+    public long grants() {
+        return grants.sum();
+    }
+
+    private record AccountGrants(int[] granteeIds, byte[] permissions) {
+
+        byte permissions(int granteeId) {
+            var position = Arrays.binarySearch(granteeIds, granteeId);
+            return position < 0 ? 0 : permissions[position];
+        }
+
+        AccountGrants with(int granteeId, byte added, LongAdder grants) {
+            var position = Arrays.binarySearch(granteeIds, granteeId);
+            if (position >= 0) {
+                var combined = (byte) (permissions[position] | added);
+                if (combined == permissions[position]) {
+                    return this;
+                }
+                var nextPermissions = permissions.clone();
+                nextPermissions[position] = combined;
+                return new AccountGrants(granteeIds, nextPermissions);
+            }
+
+            var insertAt = -position - 1;
+            var nextIds = new int[granteeIds.length + 1];
+            var nextPermissions = new byte[permissions.length + 1];
+            System.arraycopy(granteeIds, 0, nextIds, 0, insertAt);
+            System.arraycopy(permissions, 0, nextPermissions, 0, insertAt);
+            nextIds[insertAt] = granteeId;
+            nextPermissions[insertAt] = added;
+            System.arraycopy(granteeIds, insertAt, nextIds, insertAt + 1, granteeIds.length - insertAt);
+            System.arraycopy(permissions, insertAt, nextPermissions, insertAt + 1, permissions.length - insertAt);
+            grants.increment();
+            return new AccountGrants(nextIds, nextPermissions);
+        }
+    }
+}
@@ -1,23 +1,23 @@
 package nl.rabobank.apimapper;
 
-import static nl.rabobank.account.AccountType.PAYMENT;
-import static nl.rabobank.account.AccountType.SAVINGS;
-
-import java.util.Optional;
+import io.micrometer.core.annotation.Timed;
 import nl.rabobank.account.Account;
 import nl.rabobank.account.AccountType;
+import nl.rabobank.account.MinorUnits;
 import nl.rabobank.account.PaymentAccount;
 import nl.rabobank.account.SavingsAccount;
+import nl.rabobank.dto.AccountImportResponse;
 import nl.rabobank.dto.AccountRequest;
-import nl.rabobank.dto.AccountResponse;
+import nl.rabobank.service.AccountImportResult;
 import org.springframework.stereotype.Component;
 
 @Component
+@Timed("rabobank.mapper")
 public class AccountApiMapper {
 
     public Account toDomain(AccountRequest request) {
         // Ensure balance if not provided in request
-        var initialBalance = Optional.ofNullable(request.getInitialBalance()).orElse(0.0d);
+        var initialBalance = request.getInitialBalance() == null ? 0L : MinorUnits.of(request.getInitialBalance());
 
         return switch (AccountType.valueOf(request.getAccountType())) {
             case PAYMENT ->
@@ -27,18 +27,12 @@ public class AccountApiMapper {
         };
     }
 
-    public AccountResponse toResponse(Account account) {
-        var accountType =
-                switch (account) {
-                    case PaymentAccount p -> PAYMENT;
-                    case SavingsAccount s -> SAVINGS;
-                };
-
-        return AccountResponse.builder()
-                .accountNumber(account.accountNumber())
-                .accountHolderName(account.accountHolderName())
-                .balance(account.balance().toString())
-                .accountType(String.valueOf(accountType))
+    public AccountImportResponse toImportResponse(AccountImportResult result) {
+        return AccountImportResponse.builder()
+                .line(result.line())
+                .accountNumber(result.accountNumber())
+                .status(String.valueOf(result.status()))
+                .errors(result.errors())
                 .build();
     }
 }
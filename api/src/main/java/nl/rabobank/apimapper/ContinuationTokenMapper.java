@@ -0,0 +1,35 @@
+package nl.rabobank.apimapper;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.util.Base64;
+import nl.rabobank.exception.InvalidContinuationTokenException;
+import org.springframework.stereotype.Component;
+
+/**
+ * Maps the last account number of a page to an opaque continuation token and back. Clients must treat the token as
+ * opaque, so the encoding can change without breaking the API.
+ */
+@Component
+public class ContinuationTokenMapper {
+
+    private static final String VERSION_PREFIX = "v1:";
+
+    public String toToken(String accountNumber) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString((VERSION_PREFIX + accountNumber).getBytes(UTF_8));
+    }
+
+    public String toAccountNumber(String token) {
+        String decoded;
+        try {
+            decoded = new String(Base64.getUrlDecoder().decode(token), UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidContinuationTokenException("Invalid continuation token: %s".formatted(token));
+        }
+
+        if (!decoded.startsWith(VERSION_PREFIX) || decoded.length() == VERSION_PREFIX.length()) {
+            throw new InvalidContinuationTokenException("Invalid continuation token: %s".formatted(token));
+        }
+        return decoded.substring(VERSION_PREFIX.length());
+    }
+}
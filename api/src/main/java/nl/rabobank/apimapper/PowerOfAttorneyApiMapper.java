@@ -1,19 +1,18 @@
 package nl.rabobank.apimapper;
 
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.annotation.Timed;
 import nl.rabobank.account.Account;
 import nl.rabobank.authorizations.Authorization;
 import nl.rabobank.authorizations.PowerOfAttorney;
+import nl.rabobank.dto.GrantResultResponse;
 import nl.rabobank.dto.PowerOfAttorneyRequest;
-import nl.rabobank.dto.PowerOfAttorneyResponse;
+import nl.rabobank.service.GrantResult;
 import org.springframework.stereotype.Component;
 
 @Component
-@RequiredArgsConstructor
+@Timed("rabobank.mapper")
 public class PowerOfAttorneyApiMapper {
 
-    private final AccountApiMapper accountApiMapper;
-
     public PowerOfAttorney toDomain(PowerOfAttorneyRequest request, Account account) {
         return PowerOfAttorney.builder()
                 .grantorName(request.getGrantorName())
@@ -23,12 +22,12 @@ public class PowerOfAttorneyApiMapper {
                 .build();
     }
 
-    public PowerOfAttorneyResponse toResponse(PowerOfAttorney powerOfAttorney) {
-        return PowerOfAttorneyResponse.builder()
-                .grantorName(powerOfAttorney.grantorName())
-                .granteeName(powerOfAttorney.granteeName())
-                .authorization(String.valueOf(powerOfAttorney.authorization()))
-                .account(accountApiMapper.toResponse(powerOfAttorney.account()))
+    public GrantResultResponse toGrantResultResponse(GrantResult result) {
+        return GrantResultResponse.builder()
+                .index(result.index())
+                .status(String.valueOf(result.status()))
+                .powerOfAttorney(result.powerOfAttorney())
+                .errors(result.errors())
                 .build();
     }
 }
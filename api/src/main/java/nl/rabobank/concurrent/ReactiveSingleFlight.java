@@ -0,0 +1,40 @@
+package nl.rabobank.concurrent;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+import reactor.core.publisher.Mono;
+
+/**
+ * The {@link SingleFlight} of the reactive stack: the first subscriber for a key subscribes to the loader, subscribers
+ * arriving while it is in flight share its value, its empty completion or its error. The loader runs to completion even
+ * when the subscriber that started it cancels, so the others still get the result.
+ */
+public final class ReactiveSingleFlight<K, V> {
+
+    private final ConcurrentMap<K, CompletableFuture<V>> calls = new ConcurrentHashMap<>();
+
+    public Mono<V> execute(K key, Supplier<Mono<V>> loader) {
+        return Mono.defer(() -> {
+            var call = new CompletableFuture<V>();
+            var inFlight = calls.putIfAbsent(key, call);
+            if (inFlight != null) {
+                return Mono.fromFuture(inFlight, true);
+            }
+
+            call.whenComplete((value, e) -> calls.remove(key, call));
+            try {
+                loader.get().subscribe(call::complete, call::completeExceptionally, () -> call.complete(null));
+            } catch (RuntimeException e) {
+                call.completeExceptionally(e);
+            }
+            return Mono.fromFuture(call, true);
+        });
+    }
+
+    /** Number of keys with a call in flight. */
+    public int inFlight() {
+        return calls.size();
+    }
+}
@@ -0,0 +1,82 @@
+package nl.rabobank.concurrent;
+
+import java.time.Duration;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * An in-memory structure built from the database, like a filter or an index, that is rebuilt in the background and
+ * swapped in once complete; readers keep using the current one until then. Changes made through this instance are
+ * applied to the current structure and to the one being rebuilt, changes made by other instances or writers are picked
+ * up by the next rebuild.
+ */
+@Slf4j
+public final class RebuildableSnapshot<T> {
+
+    private final String name;
+
+    private volatile T active;
+    private volatile T rebuilding;
+
+    /** {@code name} is used for the rebuild thread and in logs. */
+    public RebuildableSnapshot(String name) {
+        this.name = name;
+    }
+
+    /** The last complete structure, {@code null} until the first rebuild completed. */
+    public T active() {
+        return active;
+    }
+
+    /** Applies a change to the current structure and to the one being rebuilt, must be called after it is stored. */
+    public void update(Consumer<? super T> change) {
+        // The rebuilding structure is read first: the swap sets the active structure before it clears the rebuilding
+        // one, so a change missed by both reads was stored before the rebuild started reading the database
+        var next = rebuilding;
+        var current = active;
+        if (next != null) {
+            change.accept(next);
+        }
+        if (current != null && current != next) {
+            change.accept(current);
+        }
+    }
+
+    /** Fills {@code next} from the database and swaps it in, returns it. */
+    public synchronized T rebuild(T next, Consumer<? super T> fill) {
+        rebuilding = next;
+        try {
+            fill.accept(next);
+            active = next;
+        } finally {
+            rebuilding = null;
+        }
+        return next;
+    }
+
+    /**
+     * Runs {@code rebuild} on a background thread, right away and then every {@code interval}; a zero interval only
+     * rebuilds once. A failed rebuild is logged and leaves the current structure in use.
+     */
+    public void rebuildPeriodically(Duration interval, Runnable rebuild) {
+        Thread.ofPlatform().daemon().name(name + "-rebuild").start(() -> {
+            do {
+                try {
+                    rebuild.run();
+                } catch (RuntimeException e) {
+                    log.error("Rebuilding the {} failed, the previous one stays in use", name, e);
+                }
+            } while (interval.isPositive() && sleep(interval));
+        });
+    }
+
+    private static boolean sleep(Duration interval) {
+        try {
+            Thread.sleep(interval);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package nl.rabobank.config;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "rabobank.cache.accounts")
+public class AccountCacheProperties {
+
+    /** Maximum number of accounts kept in memory, the least recently used are evicted first. */
+    private long maximumSize = 100_000;
+
+    /** How long an account stays cached after it was written to the cache. */
+    private Duration timeToLive = Duration.ofMinutes(5);
+}
@@ -0,0 +1,32 @@
+package nl.rabobank.config;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "rabobank.account-filter")
+public class AccountFilterProperties {
+
+    /** When disabled every lookup goes to the database. */
+    private boolean enabled = true;
+
+    /** Minimum number of account numbers the filter is sized for, it grows with the collection on a rebuild. */
+    private long expectedInsertions = 1_000_000;
+
+    /** Chance that an unknown account number is reported as possibly existing and still queried. */
+    private double falsePositiveRate = 0.01;
+
+    /** Number of account numbers fetched per round trip while seeding the filter. */
+    private int seedBatchSize = 10_000;
+
+    /** Time between two rebuilds after the seed, to pick up accounts written by other instances; 0 to only seed. */
+    private Duration rebuildInterval = Duration.ofMinutes(10);
+
+    /**
+     * Reads the database when the filter reports an account number as absent, since other instances and the dataset
+     * generator write accounts this instance does not see until the next rebuild. Only disable it when this instance is
+     * the only writer of the accounts collection.
+     */
+    private boolean confirmMisses = true;
+}
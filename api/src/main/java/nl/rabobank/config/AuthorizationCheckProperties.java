@@ -0,0 +1,12 @@
+package nl.rabobank.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "rabobank.api.authorization-check")
+public class AuthorizationCheckProperties {
+
+    /** Maximum number of checks in one batch request, larger batches are rejected with 400. */
+    private int maxBatchSize = 1000;
+}
@@ -0,0 +1,25 @@
+package nl.rabobank.config;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "rabobank.authorization-index")
+public class AuthorizationIndexProperties {
+
+    /** When disabled every authorization check goes to the database. */
+    private boolean enabled = true;
+
+    /** Number of grants fetched per round trip while seeding the index. */
+    private int seedBatchSize = 10_000;
+
+    /** Time between two rebuilds after the seed, to pick up grants made by other instances; 0 to only seed. */
+    private Duration rebuildInterval = Duration.ofMinutes(10);
+
+    /**
+     * Reads the grants of the checks the index denies, since grants made by other instances are not in the index until
+     * the next rebuild. Only disable it when this instance is the only writer of the grants collection.
+     */
+    private boolean confirmDenials = true;
+}
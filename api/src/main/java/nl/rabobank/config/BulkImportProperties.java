@@ -0,0 +1,12 @@
+package nl.rabobank.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "rabobank.api.bulk-import")
+public class BulkImportProperties {
+
+    /** Number of valid records written per unordered bulk write. */
+    private int batchSize = 1000;
+}
@@ -0,0 +1,35 @@
+package nl.rabobank.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.util.Set;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * In-process caches. Statistics are recorded, so the actuator exports {@code cache.gets} (hit/miss),
+ * {@code cache.evictions} and {@code cache.size} for every cache.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfiguration {
+
+    public static final String ACCOUNTS_CACHE = "accounts";
+
+    @Bean
+    public CacheManager cacheManager(AccountCacheProperties accountCacheProperties) {
+        var cacheManager = new CaffeineCacheManager();
+        // Only the caches registered below exist, a typo in a cache name must not create an unbounded cache
+        cacheManager.setCacheNames(Set.of());
+        cacheManager.registerCustomCache(
+                ACCOUNTS_CACHE,
+                Caffeine.newBuilder()
+                        .maximumSize(accountCacheProperties.getMaximumSize())
+                        .expireAfterWrite(accountCacheProperties.getTimeToLive())
+                        .recordStats()
+                        .build());
+        return cacheManager;
+    }
+}
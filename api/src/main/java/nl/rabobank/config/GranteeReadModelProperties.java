@@ -0,0 +1,22 @@
+package nl.rabobank.config;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "rabobank.grantee-read-model")
+public class GranteeReadModelProperties {
+
+    /** When disabled the grants of a grantee are read from the grants collection; the read model is still written. */
+    private boolean enabled = true;
+
+    /** Grants inserted this long before a rebuild started are added to the read model again after the rebuild. */
+    private Duration catchUpWindow = Duration.ofMinutes(1);
+
+    /** Number of grants fetched per round trip and written per bulk write while catching up after a rebuild. */
+    private int catchUpBatchSize = 1_000;
+
+    /** Time between two checks for failed writes recorded by any instance, which are then repaired; 0 to not check. */
+    private Duration repairInterval = Duration.ofSeconds(30);
+}
@@ -0,0 +1,46 @@
+package nl.rabobank.config;
+
+import static org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type.REACTIVE;
+import static org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type.SERVLET;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import nl.rabobank.metrics.HttpExchangeSizeFilter;
+import nl.rabobank.metrics.HttpExchangeSizeMetrics;
+import nl.rabobank.metrics.ReactiveHttpExchangeSizeFilter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Times every method of the classes annotated with {@code @Timed}: the services as {@code rabobank.service} and the
+ * mappers as {@code rabobank.mapper}, tagged with class and method. Repository methods are timed by Spring Boot as
+ * {@code spring.data.repository.invocations} and endpoint latency as {@code http.server.requests}; the body sizes per
+ * endpoint are added here.
+ */
+@Configuration
+public class MetricsConfiguration {
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+
+    @Bean
+    public HttpExchangeSizeMetrics httpExchangeSizeMetrics(MeterRegistry meterRegistry) {
+        return new HttpExchangeSizeMetrics(meterRegistry);
+    }
+
+    @Bean
+    @ConditionalOnWebApplication(type = SERVLET)
+    public HttpExchangeSizeFilter httpExchangeSizeFilter(HttpExchangeSizeMetrics httpExchangeSizeMetrics) {
+        return new HttpExchangeSizeFilter(httpExchangeSizeMetrics);
+    }
+
+    @Bean
+    @ConditionalOnWebApplication(type = REACTIVE)
+    public ReactiveHttpExchangeSizeFilter reactiveHttpExchangeSizeFilter(
+            HttpExchangeSizeMetrics httpExchangeSizeMetrics) {
+        return new ReactiveHttpExchangeSizeFilter(httpExchangeSizeMetrics);
+    }
+}
@@ -0,0 +1,22 @@
+package nl.rabobank.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "rabobank.api.pagination")
+public class PaginationProperties {
+
+    /** Page size used when the client does not ask for one. */
+    private int defaultPageSize = 50;
+
+    /** Hard cap on the page size, regardless of what the client asks for. */
+    private int maxPageSize = 500;
+
+    public int resolvePageSize(Integer requestedPageSize) {
+        if (requestedPageSize == null) {
+            return Math.min(defaultPageSize, maxPageSize);
+        }
+        return Math.clamp(requestedPageSize, 1, maxPageSize);
+    }
+}
@@ -0,0 +1,16 @@
+package nl.rabobank.config;
+
+import jakarta.validation.constraints.Min;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+@Data
+@Validated
+@ConfigurationProperties(prefix = "rabobank.api.streaming")
+public class StreamingProperties {
+
+    /** Number of documents the Mongo cursor fetches per round trip, and the number of elements per flush. */
+    @Min(1)
+    private int batchSize = 500;
+}
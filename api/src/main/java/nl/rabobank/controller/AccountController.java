@@ -1,12 +1,21 @@
 package nl.rabobank.controller;
 
+import static org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type.SERVLET;
+
 import jakarta.validation.Valid;
+import java.io.InputStream;
 import java.util.List;
+import java.util.function.Function;
 import lombok.RequiredArgsConstructor;
+import nl.rabobank.account.Account;
 import nl.rabobank.apimapper.AccountApiMapper;
+import nl.rabobank.apimapper.ContinuationTokenMapper;
 import nl.rabobank.dto.AccountRequest;
-import nl.rabobank.dto.AccountResponse;
+import nl.rabobank.service.AccountImportService;
 import nl.rabobank.service.AccountService;
+import nl.rabobank.streaming.ResponseStreamWriter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -15,33 +24,79 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 @RestController
+@ConditionalOnWebApplication(type = SERVLET)
 @RequestMapping("/api/v1/accounts")
 @RequiredArgsConstructor
 public class AccountController {
 
     private final AccountService accountService;
+    private final AccountImportService accountImportService;
     private final AccountApiMapper accountApiMapper;
+    private final ContinuationTokenMapper continuationTokenMapper;
+    private final ResponseStreamWriter responseStreamWriter;
 
     @PostMapping(produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<AccountResponse> create(@Valid @RequestBody AccountRequest request) {
+    public ResponseEntity<Account> create(@Valid @RequestBody AccountRequest request) {
         var account = accountService.createAccount(request);
-        var response = accountApiMapper.toResponse(account);
-        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        return ResponseEntity.status(HttpStatus.CREATED).body(account);
+    }
+
+    /**
+     * Imports newline delimited {@link AccountRequest}s and streams back one result per line (CREATED, DUPLICATE or
+     * INVALID), so a bad line does not abort the import.
+     */
+    @PostMapping(
+            value = "/import",
+            consumes = MediaType.APPLICATION_NDJSON_VALUE,
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> importAccounts(InputStream body) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(responseStreamWriter.ndjson(
+                        () -> accountImportService.importAccounts(body), accountApiMapper::toImportResponse));
     }
 
     @GetMapping(value = "/{accountNumber}", produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<AccountResponse> getByAccountNumber(@PathVariable("accountNumber") String accountNumber) {
-        var account = accountService.getByAccountNumber(accountNumber);
-        return ResponseEntity.ok(accountApiMapper.toResponse(account));
+    public ResponseEntity<Account> getByAccountNumber(@PathVariable("accountNumber") String accountNumber) {
+        return ResponseEntity.ok(accountService.getByAccountNumber(accountNumber));
     }
 
     @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<List<AccountResponse>> listAll() {
-        var accounts = accountService.findAll();
-        return ResponseEntity.ok(
-                accounts.stream().map(accountApiMapper::toResponse).toList());
+    public ResponseEntity<List<Account>> listAll(
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size) {
+        var afterAccountNumber = cursor != null ? continuationTokenMapper.toAccountNumber(cursor) : null;
+        var page = accountService.findPage(afterAccountNumber, size);
+        if (!page.hasNext()) {
+            return ResponseEntity.ok(page.accounts());
+        }
+
+        var next = ServletUriComponentsBuilder.fromCurrentRequest()
+                .replaceQueryParam("cursor", continuationTokenMapper.toToken(page.nextAccountNumber()))
+                .build()
+                .toUriString();
+        return ResponseEntity.ok()
+                .header(HttpHeaders.LINK, "<%s>; rel=\"next\"".formatted(next))
+                .body(page.accounts());
+    }
+
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAll() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(responseStreamWriter.ndjson(accountService::streamAll, Function.identity()));
+    }
+
+    @GetMapping(params = "stream=true", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAllAsJsonArray() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(responseStreamWriter.jsonArray(accountService::streamAll, Function.identity()));
     }
 }
@@ -0,0 +1,51 @@
+package nl.rabobank.controller;
+
+import static org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type.SERVLET;
+
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import nl.rabobank.authorizations.Authorization;
+import nl.rabobank.dto.AuthorizationCheckRequest;
+import nl.rabobank.service.AuthorizationDecision;
+import nl.rabobank.service.AuthorizationService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@ConditionalOnWebApplication(type = SERVLET)
+@RequestMapping("/api/v1/authorizations")
+@RequiredArgsConstructor
+public class AuthorizationController {
+
+    private final AuthorizationService authorizationService;
+
+    /** May the grantee perform the authorization on the account? A WRITE grant also allows READ. */
+    @GetMapping(value = "/check", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<AuthorizationDecision> check(
+            @RequestParam("granteeName") String granteeName,
+            @RequestParam("accountNumber") String accountNumber,
+            @RequestParam("authorization") Authorization authorization) {
+        return ResponseEntity.ok(authorizationService.check(AuthorizationCheckRequest.builder()
+                .granteeName(granteeName)
+                .accountNumber(accountNumber)
+                .authorization(authorization)
+                .build()));
+    }
+
+    /** Decides a batch of checks, returns one decision per check in request order. */
+    @PostMapping(
+            value = "/check",
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<List<AuthorizationDecision>> checkBatch(
+            @RequestBody List<AuthorizationCheckRequest> requests) {
+        return ResponseEntity.ok(authorizationService.checkBatch(requests));
+    }
+}
@@ -1,15 +1,19 @@
 package nl.rabobank.controller;
 
+import static org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type.SERVLET;
+
 import jakarta.validation.Valid;
 import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
 import nl.rabobank.apimapper.PowerOfAttorneyApiMapper;
+import nl.rabobank.authorizations.PowerOfAttorney;
+import nl.rabobank.dto.GrantResultResponse;
 import nl.rabobank.dto.PowerOfAttorneyRequest;
-import nl.rabobank.dto.PowerOfAttorneyResponse;
-import nl.rabobank.exception.AccountNotFoundException;
-import nl.rabobank.exception.GrantNotAllowedException;
-import nl.rabobank.service.AccountService;
 import nl.rabobank.service.PowerOfAttorneyService;
+import nl.rabobank.streaming.ResponseStreamWriter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -19,44 +23,70 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
+@ConditionalOnWebApplication(type = SERVLET)
 @RequestMapping("/api/v1/power-of-attorney")
 @RequiredArgsConstructor
 public class PowerOfAttorneyController {
 
     private final PowerOfAttorneyService powerOfAttorneyService;
-    private final AccountService accountService;
     private final PowerOfAttorneyApiMapper powerOfAttorneyApiMapper;
+    private final ResponseStreamWriter responseStreamWriter;
 
     @PostMapping(produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<PowerOfAttorneyResponse> grantAccess(@Valid @RequestBody PowerOfAttorneyRequest request) {
-        if (!accountService.existsByAccountNumber(request.getAccountNumber())) {
-            throw new AccountNotFoundException(
-                    "No account found with number: %s".formatted(request.getAccountNumber()));
-        }
-
-        var account = accountService.getByAccountNumber(request.getAccountNumber());
-
-        if (!account.accountHolderName().equals(request.getGrantorName())) {
-            throw new GrantNotAllowedException("The grantor %s is not the accountHolder for account %s"
-                    .formatted(request.getGrantorName(), request.getAccountNumber()));
-        }
-
+    public ResponseEntity<PowerOfAttorney> grantAccess(@Valid @RequestBody PowerOfAttorneyRequest request) {
         var powerOfAttorney = powerOfAttorneyService.grantAccess(request);
-        var response = powerOfAttorneyApiMapper.toResponse(powerOfAttorney);
-        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        return ResponseEntity.status(HttpStatus.CREATED).body(powerOfAttorney);
+    }
+
+    /**
+     * Grants a batch of powers of attorney with a constant number of database round trips. Returns 200 with one result
+     * per request, in request order, also when some of them are rejected.
+     */
+    @PostMapping(
+            value = "/batch",
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<List<GrantResultResponse>> grantAccessBatch(
+            @RequestBody List<PowerOfAttorneyRequest> requests) {
+        var results = powerOfAttorneyService.grantAccessBatch(requests);
+        return ResponseEntity.ok(results.stream()
+                .map(powerOfAttorneyApiMapper::toGrantResultResponse)
+                .toList());
     }
 
     @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<List<PowerOfAttorneyResponse>> list(
+    public ResponseEntity<List<PowerOfAttorney>> list(
             @RequestParam(value = "granteeName", required = false) String granteeName) {
 
         var list = granteeName != null
                 ? powerOfAttorneyService.findByGranteeName(granteeName)
                 : powerOfAttorneyService.findAll();
 
-        var response = list.stream().map(powerOfAttorneyApiMapper::toResponse).toList();
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok(list);
+    }
+
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> stream(
+            @RequestParam(value = "granteeName", required = false) String granteeName) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(responseStreamWriter.ndjson(() -> source(granteeName), Function.identity()));
+    }
+
+    @GetMapping(params = "stream=true", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAsJsonArray(
+            @RequestParam(value = "granteeName", required = false) String granteeName) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(responseStreamWriter.jsonArray(() -> source(granteeName), Function.identity()));
+    }
+
+    private Stream<PowerOfAttorney> source(String granteeName) {
+        return granteeName != null
+                ? powerOfAttorneyService.streamByGranteeName(granteeName)
+                : powerOfAttorneyService.streamAll();
     }
 }
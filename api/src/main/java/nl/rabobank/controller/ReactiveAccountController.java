@@ -0,0 +1,94 @@
+package nl.rabobank.controller;
+
+import static org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type.REACTIVE;
+
+import jakarta.validation.Valid;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import nl.rabobank.account.Account;
+import nl.rabobank.apimapper.AccountApiMapper;
+import nl.rabobank.apimapper.ContinuationTokenMapper;
+import nl.rabobank.dto.AccountImportResponse;
+import nl.rabobank.dto.AccountRequest;
+import nl.rabobank.service.ReactiveAccountImportService;
+import nl.rabobank.service.ReactiveAccountService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/** The {@link AccountController} contract on the reactive stack. */
+@RestController
+@RequestMapping("/api/v1/accounts")
+@ConditionalOnWebApplication(type = REACTIVE)
+@RequiredArgsConstructor
+public class ReactiveAccountController {
+
+    private final ReactiveAccountService accountService;
+    private final ReactiveAccountImportService accountImportService;
+    private final AccountApiMapper accountApiMapper;
+    private final ContinuationTokenMapper continuationTokenMapper;
+
+    @PostMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<Account>> create(@Valid @RequestBody AccountRequest request) {
+        return accountService.createAccount(request).map(account -> ResponseEntity.status(HttpStatus.CREATED)
+                .body(account));
+    }
+
+    @PostMapping(
+            value = "/import",
+            consumes = MediaType.APPLICATION_NDJSON_VALUE,
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<AccountImportResponse> importAccounts(@RequestBody Flux<String> lines) {
+        return accountImportService.importAccounts(lines).map(accountApiMapper::toImportResponse);
+    }
+
+    @GetMapping(value = "/{accountNumber}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<Account>> getByAccountNumber(@PathVariable("accountNumber") String accountNumber) {
+        return accountService.getByAccountNumber(accountNumber).map(ResponseEntity::ok);
+    }
+
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<List<Account>>> listAll(
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size,
+            ServerHttpRequest request) {
+        return Mono.fromCallable(() -> cursor != null ? continuationTokenMapper.toAccountNumber(cursor) : "")
+                .flatMap(afterAccountNumber -> accountService.findPage(afterAccountNumber, size))
+                .map(page -> {
+                    if (!page.hasNext()) {
+                        return ResponseEntity.ok(page.accounts());
+                    }
+
+                    var next = UriComponentsBuilder.fromUri(request.getURI())
+                            .replaceQueryParam("cursor", continuationTokenMapper.toToken(page.nextAccountNumber()))
+                            .build()
+                            .toUriString();
+                    return ResponseEntity.ok()
+                            .header(HttpHeaders.LINK, "<%s>; rel=\"next\"".formatted(next))
+                            .body(page.accounts());
+                });
+    }
+
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<Account> streamAll() {
+        return accountService.streamAll();
+    }
+
+    @GetMapping(params = "stream=true", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Flux<Account> streamAllAsJsonArray() {
+        return accountService.streamAll();
+    }
+}
@@ -0,0 +1,49 @@
+package nl.rabobank.controller;
+
+import static org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type.REACTIVE;
+
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import nl.rabobank.authorizations.Authorization;
+import nl.rabobank.dto.AuthorizationCheckRequest;
+import nl.rabobank.service.AuthorizationDecision;
+import nl.rabobank.service.ReactiveAuthorizationService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+/** The {@link AuthorizationController} contract on the reactive stack. */
+@RestController
+@RequestMapping("/api/v1/authorizations")
+@ConditionalOnWebApplication(type = REACTIVE)
+@RequiredArgsConstructor
+public class ReactiveAuthorizationController {
+
+    private final ReactiveAuthorizationService authorizationService;
+
+    @GetMapping(value = "/check", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<AuthorizationDecision> check(
+            @RequestParam("granteeName") String granteeName,
+            @RequestParam("accountNumber") String accountNumber,
+            @RequestParam("authorization") Authorization authorization) {
+        return authorizationService.check(AuthorizationCheckRequest.builder()
+                .granteeName(granteeName)
+                .accountNumber(accountNumber)
+                .authorization(authorization)
+                .build());
+    }
+
+    @PostMapping(
+            value = "/check",
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<List<AuthorizationDecision>> checkBatch(@RequestBody List<AuthorizationCheckRequest> requests) {
+        return authorizationService.checkBatch(requests);
+    }
+}
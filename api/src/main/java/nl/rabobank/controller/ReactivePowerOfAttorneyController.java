@@ -0,0 +1,74 @@
+package nl.rabobank.controller;
+
+import static org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type.REACTIVE;
+
+import jakarta.validation.Valid;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import nl.rabobank.apimapper.PowerOfAttorneyApiMapper;
+import nl.rabobank.authorizations.PowerOfAttorney;
+import nl.rabobank.dto.GrantResultResponse;
+import nl.rabobank.dto.PowerOfAttorneyRequest;
+import nl.rabobank.service.ReactivePowerOfAttorneyService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/** The {@link PowerOfAttorneyController} contract on the reactive stack. */
+@RestController
+@RequestMapping("/api/v1/power-of-attorney")
+@ConditionalOnWebApplication(type = REACTIVE)
+@RequiredArgsConstructor
+public class ReactivePowerOfAttorneyController {
+
+    private final ReactivePowerOfAttorneyService powerOfAttorneyService;
+    private final PowerOfAttorneyApiMapper powerOfAttorneyApiMapper;
+
+    @PostMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<PowerOfAttorney>> grantAccess(@Valid @RequestBody PowerOfAttorneyRequest request) {
+        return powerOfAttorneyService.grantAccess(request).map(powerOfAttorney -> ResponseEntity.status(
+                        HttpStatus.CREATED)
+                .body(powerOfAttorney));
+    }
+
+    @PostMapping(
+            value = "/batch",
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<List<GrantResultResponse>> grantAccessBatch(@RequestBody List<PowerOfAttorneyRequest> requests) {
+        return powerOfAttorneyService.grantAccessBatch(requests).map(results -> results.stream()
+                .map(powerOfAttorneyApiMapper::toGrantResultResponse)
+                .toList());
+    }
+
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<List<PowerOfAttorney>> list(@RequestParam(value = "granteeName", required = false) String granteeName) {
+        return source(granteeName).collectList();
+    }
+
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<PowerOfAttorney> stream(@RequestParam(value = "granteeName", required = false) String granteeName) {
+        return source(granteeName);
+    }
+
+    @GetMapping(params = "stream=true", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Flux<PowerOfAttorney> streamAsJsonArray(
+            @RequestParam(value = "granteeName", required = false) String granteeName) {
+        return source(granteeName);
+    }
+
+    private Flux<PowerOfAttorney> source(String granteeName) {
+        return granteeName != null
+                ? powerOfAttorneyService.findByGranteeName(granteeName)
+                : powerOfAttorneyService.findAll();
+    }
+}
@@ -0,0 +1,14 @@
+package nl.rabobank.dto;
+
+import java.util.List;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class AccountImportResponse {
+    private long line;
+    private String accountNumber;
+    private String status;
+    private List<String> errors;
+}
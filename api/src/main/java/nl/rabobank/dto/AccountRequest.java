@@ -1,6 +1,8 @@
 package nl.rabobank.dto;
 
+import jakarta.validation.constraints.Digits;
 import jakarta.validation.constraints.NotBlank;
+import java.math.BigDecimal;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -21,5 +23,6 @@ public class AccountRequest {
     @NotBlank(message = "accountType is required")
     private String accountType;
 
-    private Double initialBalance;
+    @Digits(integer = 16, fraction = 2, message = "initialBalance must have at most 16 digits and 2 decimals")
+    private BigDecimal initialBalance;
 }
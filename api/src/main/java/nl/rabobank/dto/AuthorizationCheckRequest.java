@@ -0,0 +1,17 @@
+package nl.rabobank.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import nl.rabobank.authorizations.Authorization;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuthorizationCheckRequest {
+    private String granteeName;
+    private String accountNumber;
+    private Authorization authorization;
+}
@@ -0,0 +1,15 @@
+package nl.rabobank.dto;
+
+import java.util.List;
+import lombok.Builder;
+import lombok.Data;
+import nl.rabobank.authorizations.PowerOfAttorney;
+
+@Data
+@Builder
+public class GrantResultResponse {
+    private int index;
+    private String status;
+    private PowerOfAttorney powerOfAttorney;
+    private List<String> errors;
+}
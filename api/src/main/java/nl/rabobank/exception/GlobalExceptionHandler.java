@@ -1,6 +1,8 @@
 package nl.rabobank.exception;
 
 import java.util.HashMap;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.http.ProblemDetail;
@@ -9,6 +11,7 @@ import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.support.WebExchangeBindException;
 
 @ControllerAdvice
 public class GlobalExceptionHandler {
@@ -33,6 +36,21 @@ public class GlobalExceptionHandler {
         return ResponseEntity.badRequest().body(problemDetail);
     }
 
+    /** The reactive stack reports {@code @Valid} failures with its own exception, answered the same way. */
+    @ExceptionHandler(WebExchangeBindException.class)
+    public ResponseEntity<ProblemDetail> handleValidationErrors(WebExchangeBindException ex) {
+
+        var errors = new HashMap<>();
+
+        for (FieldError err : ex.getBindingResult().getFieldErrors()) {
+            errors.put(err.getField(), err.getDefaultMessage());
+        }
+
+        var problemDetail = ProblemDetail.forStatusAndDetail(HttpStatusCode.valueOf(400), String.valueOf(errors));
+
+        return ResponseEntity.badRequest().body(problemDetail);
+    }
+
     @ExceptionHandler(AccountNotFoundException.class)
     public ResponseEntity<ProblemDetail> handleAccountNotFound(AccountNotFoundException ex) {
         var problemDetail = ProblemDetail.forStatusAndDetail(HttpStatusCode.valueOf(404), ex.getMessage());
@@ -44,4 +62,29 @@ public class GlobalExceptionHandler {
         var problemDetail = ProblemDetail.forStatusAndDetail(HttpStatusCode.valueOf(403), ex.getMessage());
         return ResponseEntity.status(HttpStatus.FORBIDDEN).body(problemDetail);
     }
+
+    @ExceptionHandler(InvalidContinuationTokenException.class)
+    public ResponseEntity<ProblemDetail> handleInvalidContinuationToken(InvalidContinuationTokenException ex) {
+        var problemDetail = ProblemDetail.forStatusAndDetail(HttpStatusCode.valueOf(400), ex.getMessage());
+        return ResponseEntity.badRequest().body(problemDetail);
+    }
+
+    @ExceptionHandler(BatchTooLargeException.class)
+    public ResponseEntity<ProblemDetail> handleBatchTooLarge(BatchTooLargeException ex) {
+        var problemDetail = ProblemDetail.forStatusAndDetail(HttpStatusCode.valueOf(400), ex.getMessage());
+        return ResponseEntity.badRequest().body(problemDetail);
+    }
+
+    /**
+     * Raised when no database connection became available within the pool's wait time, or the database cannot be
+     * reached at all. Both are transient, so the client is asked to retry instead of getting a generic 500.
+     */
+    @ExceptionHandler(DataAccessResourceFailureException.class)
+    public ResponseEntity<ProblemDetail> handleDatabaseUnavailable(DataAccessResourceFailureException ex) {
+        var problemDetail = ProblemDetail.forStatusAndDetail(
+                HttpStatusCode.valueOf(503), "The database is temporarily unavailable, please retry later");
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(problemDetail);
+    }
 }
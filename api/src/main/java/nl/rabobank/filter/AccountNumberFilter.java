@@ -0,0 +1,116 @@
+package nl.rabobank.filter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import nl.rabobank.concurrent.RebuildableSnapshot;
+import nl.rabobank.config.AccountFilterProperties;
+import nl.rabobank.repository.AccountRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bloom filter of all known account numbers, used to answer lookups of unknown accounts without a database round trip.
+ * Until the filter is seeded, or when it is disabled, every account number might exist. The filter only learns about
+ * accounts written by other instances at its next rebuild, so by default a miss is confirmed against the database and
+ * only short-circuits when {@code rabobank.account-filter.confirm-misses} is disabled.
+ *
+ * <p>The filter is a {@link RebuildableSnapshot}, rebuilt every {@code rabobank.account-filter.rebuild-interval}.
+ */
+@Slf4j
+@Component
+public class AccountNumberFilter {
+
+    private final AccountRepository accountRepository;
+    private final AccountFilterProperties properties;
+    private final Counter absentLookups;
+    private final Counter mightExistLookups;
+    private final Counter confirmedLookups;
+
+    private final RebuildableSnapshot<BloomFilter> filter = new RebuildableSnapshot<>("account-filter");
+
+    public AccountNumberFilter(
+            AccountRepository accountRepository, AccountFilterProperties properties, MeterRegistry meterRegistry) {
+        this.accountRepository = accountRepository;
+        this.properties = properties;
+        this.absentLookups = Counter.builder("rabobank.account.filter.lookups")
+                .description("Account lookups checked against the account number filter")
+                .tag("result", "absent")
+                .register(meterRegistry);
+        this.mightExistLookups = Counter.builder("rabobank.account.filter.lookups")
+                .description("Account lookups checked against the account number filter")
+                .tag("result", "might_exist")
+                .register(meterRegistry);
+        this.confirmedLookups = Counter.builder("rabobank.account.filter.lookups")
+                .description("Account lookups checked against the account number filter")
+                .tag("result", "absent_confirming")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (properties.isEnabled()) {
+            filter.rebuildPeriodically(properties.getRebuildInterval(), this::rebuild);
+        }
+    }
+
+    /**
+     * {@code false} only when misses are not confirmed, the account number was not in the database at the last rebuild
+     * and was not created through this instance since.
+     */
+    public boolean mightExist(String accountNumber) {
+        var current = filter.active();
+        if (current == null || current.mightContain(accountNumber)) {
+            mightExistLookups.increment();
+            return true;
+        }
+        if (properties.isConfirmMisses()) {
+            confirmedLookups.increment();
+            return true;
+        }
+        absentLookups.increment();
+        return false;
+    }
+
+    /** Registers a created account, must be called after the account is stored. */
+    public void add(String accountNumber) {
+        filter.update(current -> current.put(accountNumber));
+    }
+
+    /**
+     * Builds a new filter from all account numbers in the database and swaps it in. Lookups keep using the current
+     * filter until the new one is complete.
+     */
+    public FilterStatus rebuild() {
+        if (!properties.isEnabled()) {
+            return status();
+        }
+
+        var expectedInsertions = Math.max(properties.getExpectedInsertions(), accountRepository.count() * 2);
+        var next = filter.rebuild(BloomFilter.create(expectedInsertions, properties.getFalsePositiveRate()), empty -> {
+            try (var accountNumbers = accountRepository.streamAccountNumbers(properties.getSeedBatchSize())) {
+                accountNumbers.forEach(empty::put);
+            }
+        });
+
+        log.info("Account number filter built with {} account numbers", next.insertions());
+        return status();
+    }
+
+    public FilterStatus status() {
+        var current = filter.active();
+        if (current == null) {
+            return new FilterStatus(false, 0, 0, 0, 0);
+        }
+        return new FilterStatus(
+                true,
+                current.insertions(),
+                current.bitSize(),
+                current.hashFunctions(),
+                current.currentFalsePositiveRate());
+    }
+
+    public record FilterStatus(
+            boolean ready, long insertions, long bitSize, int hashFunctions, double currentFalsePositiveRate) {}
+}
@@ -0,0 +1,26 @@
+package nl.rabobank.filter;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+/** {@code GET /actuator/accountfilter} shows the filter, {@code POST /actuator/accountfilter} rebuilds it. */
+@Component
+@Endpoint(id = "accountfilter")
+@RequiredArgsConstructor
+public class AccountNumberFilterEndpoint {
+
+    private final AccountNumberFilter accountNumberFilter;
+
+    @ReadOperation
+    public AccountNumberFilter.FilterStatus status() {
+        return accountNumberFilter.status();
+    }
+
+    @WriteOperation
+    public AccountNumberFilter.FilterStatus rebuild() {
+        return accountNumberFilter.rebuild();
+    }
+}
@@ -0,0 +1,59 @@
+package nl.rabobank.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import java.io.IOException;
+import nl.rabobank.account.Account;
+import nl.rabobank.account.AccountType;
+import nl.rabobank.account.MinorUnits;
+import nl.rabobank.account.PaymentAccount;
+import nl.rabobank.account.SavingsAccount;
+import org.springframework.boot.jackson.JsonComponent;
+
+/**
+ * Writes an {@link Account} straight to the generator, without copying it into a response object that Jackson then
+ * introspects. Field names are encoded once:
+ *
+ * <pre>
+ * {"accountNumber":"NL123456","accountHolderName":"John Doe","accountType":"PAYMENT","balance":"1000.00"}
+ * </pre>
+ */
+@JsonComponent
+public class AccountJsonSerializer extends StdSerializer<Account> {
+
+    private static final SerializableString ACCOUNT_NUMBER = new SerializedString("accountNumber");
+    private static final SerializableString ACCOUNT_HOLDER_NAME = new SerializedString("accountHolderName");
+    private static final SerializableString ACCOUNT_TYPE = new SerializedString("accountType");
+    private static final SerializableString BALANCE = new SerializedString("balance");
+
+    public AccountJsonSerializer() {
+        super(Account.class);
+    }
+
+    @Override
+    public void serialize(Account account, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        generator.writeStartObject(account);
+        writeFields(account, generator);
+        generator.writeEndObject();
+    }
+
+    static void writeFields(Account account, JsonGenerator generator) throws IOException {
+        var accountType =
+                switch (account) {
+                    case PaymentAccount p -> AccountType.PAYMENT;
+                    case SavingsAccount s -> AccountType.SAVINGS;
+                };
+
+        generator.writeFieldName(ACCOUNT_NUMBER);
+        generator.writeString(account.accountNumber());
+        generator.writeFieldName(ACCOUNT_HOLDER_NAME);
+        generator.writeString(account.accountHolderName());
+        generator.writeFieldName(ACCOUNT_TYPE);
+        generator.writeString(accountType.name());
+        generator.writeFieldName(BALANCE);
+        generator.writeString(MinorUnits.format(account.balance()));
+    }
+}
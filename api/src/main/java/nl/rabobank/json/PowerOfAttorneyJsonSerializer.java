@@ -0,0 +1,56 @@
+package nl.rabobank.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import java.io.IOException;
+import nl.rabobank.authorizations.PowerOfAttorney;
+import org.springframework.boot.jackson.JsonComponent;
+
+/**
+ * Writes a {@link PowerOfAttorney} straight to the generator, with its account nested like
+ * {@link AccountJsonSerializer} writes it. Grants have no id in the domain; {@code "id":null} is kept so the response
+ * shape does not change.
+ */
+@JsonComponent
+public class PowerOfAttorneyJsonSerializer extends StdSerializer<PowerOfAttorney> {
+
+    private static final SerializableString ID = new SerializedString("id");
+    private static final SerializableString GRANTEE_NAME = new SerializedString("granteeName");
+    private static final SerializableString GRANTOR_NAME = new SerializedString("grantorName");
+    private static final SerializableString AUTHORIZATION = new SerializedString("authorization");
+    private static final SerializableString ACCOUNT = new SerializedString("account");
+
+    public PowerOfAttorneyJsonSerializer() {
+        super(PowerOfAttorney.class);
+    }
+
+    @Override
+    public void serialize(PowerOfAttorney powerOfAttorney, JsonGenerator generator, SerializerProvider provider)
+            throws IOException {
+        generator.writeStartObject(powerOfAttorney);
+        generator.writeFieldName(ID);
+        generator.writeNull();
+        generator.writeFieldName(GRANTEE_NAME);
+        generator.writeString(powerOfAttorney.granteeName());
+        generator.writeFieldName(GRANTOR_NAME);
+        generator.writeString(powerOfAttorney.grantorName());
+        generator.writeFieldName(AUTHORIZATION);
+        if (powerOfAttorney.authorization() == null) {
+            generator.writeNull();
+        } else {
+            generator.writeString(powerOfAttorney.authorization().name());
+        }
+        generator.writeFieldName(ACCOUNT);
+        if (powerOfAttorney.account() == null) {
+            generator.writeNull();
+        } else {
+            generator.writeStartObject(powerOfAttorney.account());
+            AccountJsonSerializer.writeFields(powerOfAttorney.account(), generator);
+            generator.writeEndObject();
+        }
+        generator.writeEndObject();
+    }
+}
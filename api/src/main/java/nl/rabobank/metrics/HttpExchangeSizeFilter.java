@@ -0,0 +1,265 @@
+package nl.rabobank.metrics;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Counts the bytes read from the request body and written to the response body, through its output stream or its
+ * writer. Streamed responses are completed
+ * asynchronously, so they are recorded when the async request completes rather than when the filter chain returns.
+ */
+@RequiredArgsConstructor
+public class HttpExchangeSizeFilter extends OncePerRequestFilter {
+
+    private final HttpExchangeSizeMetrics metrics;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        var countingRequest = new CountingRequest(request);
+        var countingResponse = new CountingResponse(response);
+        try {
+            filterChain.doFilter(countingRequest, countingResponse);
+        } finally {
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new AsyncListener() {
+                    @Override
+                    public void onComplete(AsyncEvent event) {
+                        record(request, response, countingRequest, countingResponse);
+                    }
+
+                    @Override
+                    public void onTimeout(AsyncEvent event) {}
+
+                    @Override
+                    public void onError(AsyncEvent event) {}
+
+                    @Override
+                    public void onStartAsync(AsyncEvent event) {}
+                });
+            } else {
+                record(request, response, countingRequest, countingResponse);
+            }
+        }
+    }
+
+    private void record(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            CountingRequest countingRequest,
+            CountingResponse countingResponse) {
+        var pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        metrics.record(
+                request.getMethod(),
+                pattern == null ? null : pattern.toString(),
+                response.getStatus(),
+                countingRequest.bytes(),
+                countingResponse.bytes());
+    }
+
+    private static final class CountingRequest extends HttpServletRequestWrapper {
+
+        private CountingInputStream inputStream;
+
+        CountingRequest(HttpServletRequest request) {
+            super(request);
+        }
+
+        @Override
+        public ServletInputStream getInputStream() throws IOException {
+            if (inputStream == null) {
+                inputStream = new CountingInputStream(super.getInputStream());
+            }
+            return inputStream;
+        }
+
+        long bytes() {
+            return inputStream == null ? 0 : inputStream.count;
+        }
+    }
+
+    private static final class CountingResponse extends HttpServletResponseWrapper {
+
+        private CountingOutputStream outputStream;
+        private CountingWriter countingWriter;
+        private PrintWriter writer;
+
+        CountingResponse(HttpServletResponse response) {
+            super(response);
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            if (outputStream == null) {
+                outputStream = new CountingOutputStream(super.getOutputStream());
+            }
+            return outputStream;
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            if (writer == null) {
+                countingWriter = new CountingWriter(super.getWriter(), Charset.forName(super.getCharacterEncoding()));
+                writer = new PrintWriter(countingWriter);
+            }
+            return writer;
+        }
+
+        long bytes() {
+            return (outputStream == null ? 0 : outputStream.count)
+                    + (countingWriter == null ? 0 : countingWriter.count);
+        }
+    }
+
+    private static final class CountingInputStream extends ServletInputStream {
+
+        private final ServletInputStream delegate;
+        private volatile long count;
+
+        CountingInputStream(ServletInputStream delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public int read() throws IOException {
+            var b = delegate.read();
+            if (b != -1) {
+                count++;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            var read = delegate.read(b, off, len);
+            if (read > 0) {
+                count += read;
+            }
+            return read;
+        }
+
+        @Override
+        public boolean isFinished() {
+            return delegate.isFinished();
+        }
+
+        @Override
+        public boolean isReady() {
+            return delegate.isReady();
+        }
+
+        @Override
+        public void setReadListener(ReadListener readListener) {
+            delegate.setReadListener(readListener);
+        }
+    }
+
+    // Counts the encoded size of the characters, the container encodes them when it writes its own writer
+    private static final class CountingWriter extends Writer {
+
+        private final Writer delegate;
+        private final Charset charset;
+        private volatile long count;
+
+        CountingWriter(Writer delegate, Charset charset) {
+            this.delegate = delegate;
+            this.charset = charset;
+        }
+
+        @Override
+        public void write(char[] cbuf, int off, int len) throws IOException {
+            delegate.write(cbuf, off, len);
+            count += encodedLength(cbuf, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            delegate.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+
+        // UTF-8 is counted per char without encoding: each half of a surrogate pair counts for two of its four bytes
+        private long encodedLength(char[] cbuf, int off, int len) {
+            if (!StandardCharsets.UTF_8.equals(charset)) {
+                return charset.encode(CharBuffer.wrap(cbuf, off, len)).remaining();
+            }
+            long length = 0;
+            for (int i = off; i < off + len; i++) {
+                var c = cbuf[i];
+                if (c < 0x80) {
+                    length += 1;
+                } else if (c < 0x800 || Character.isSurrogate(c)) {
+                    length += 2;
+                } else {
+                    length += 3;
+                }
+            }
+            return length;
+        }
+    }
+
+    private static final class CountingOutputStream extends ServletOutputStream {
+
+        private final ServletOutputStream delegate;
+        private volatile long count;
+
+        CountingOutputStream(ServletOutputStream delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            delegate.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            delegate.write(b, off, len);
+            count += len;
+        }
+
+        @Override
+        public void flush() throws IOException {
+            delegate.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+
+        @Override
+        public boolean isReady() {
+            return delegate.isReady();
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            delegate.setWriteListener(writeListener);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package nl.rabobank.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Records the body sizes of HTTP exchanges as {@code http.server.request.size} and {@code http.server.response.size},
+ * tagged like {@code http.server.requests} so latency and size can be correlated per endpoint.
+ */
+@RequiredArgsConstructor
+public class HttpExchangeSizeMetrics {
+
+    static final String REQUEST_SIZE = "http.server.request.size";
+    static final String RESPONSE_SIZE = "http.server.response.size";
+    static final String UNKNOWN_URI = "UNKNOWN";
+
+    private final MeterRegistry meterRegistry;
+
+    public void record(String method, String uri, int status, long requestBytes, long responseBytes) {
+        var tags = Tags.of("method", method, "uri", uri == null ? UNKNOWN_URI : uri, "status", String.valueOf(status));
+        summary(REQUEST_SIZE, "Size of the HTTP request bodies", tags).record(requestBytes);
+        summary(RESPONSE_SIZE, "Size of the HTTP response bodies", tags).record(responseBytes);
+    }
+
+    private DistributionSummary summary(String name, String description, Tags tags) {
+        return DistributionSummary.builder(name)
+                .description(description)
+                .baseUnit("bytes")
+                .tags(tags)
+                .register(meterRegistry);
+    }
+}
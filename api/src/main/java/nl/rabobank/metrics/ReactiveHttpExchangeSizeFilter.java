@@ -0,0 +1,60 @@
+package nl.rabobank.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.RequiredArgsConstructor;
+import org.reactivestreams.Publisher;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.server.reactive.ServerHttpRequestDecorator;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.web.reactive.HandlerMapping;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/** The {@link HttpExchangeSizeFilter} on the reactive stack, counting the body buffers as they pass. */
+@RequiredArgsConstructor
+public class ReactiveHttpExchangeSizeFilter implements WebFilter {
+
+    private final HttpExchangeSizeMetrics metrics;
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        var requestBytes = new AtomicLong();
+        var responseBytes = new AtomicLong();
+
+        var request = new ServerHttpRequestDecorator(exchange.getRequest()) {
+            @Override
+            public Flux<DataBuffer> getBody() {
+                return super.getBody().doOnNext(buffer -> requestBytes.addAndGet(buffer.readableByteCount()));
+            }
+        };
+        var response = new ServerHttpResponseDecorator(exchange.getResponse()) {
+            @Override
+            public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+                return super.writeWith(
+                        Flux.from(body).doOnNext(buffer -> responseBytes.addAndGet(buffer.readableByteCount())));
+            }
+
+            @Override
+            public Mono<Void> writeAndFlushWith(Publisher<? extends Publisher<? extends DataBuffer>> body) {
+                return super.writeAndFlushWith(Flux.from(body).map(part -> Flux.from(part)
+                        .doOnNext(buffer -> responseBytes.addAndGet(buffer.readableByteCount()))));
+            }
+        };
+
+        return chain.filter(
+                        exchange.mutate().request(request).response(response).build())
+                .doFinally(signal -> {
+                    var pattern = exchange.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+                    var status = exchange.getResponse().getStatusCode();
+                    metrics.record(
+                            exchange.getRequest().getMethod().name(),
+                            pattern == null ? null : pattern.toString(),
+                            status == null ? 200 : status.value(),
+                            requestBytes.get(),
+                            responseBytes.get());
+                });
+    }
+}
@@ -0,0 +1,216 @@
+package nl.rabobank.readmodel;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.extern.slf4j.Slf4j;
+import nl.rabobank.authorizations.PowerOfAttorney;
+import nl.rabobank.config.GranteeReadModelProperties;
+import nl.rabobank.document.PowerOfAttorneyDocument;
+import nl.rabobank.mapper.GranteeGrantsMapper;
+import nl.rabobank.mapper.PowerOfAttorneyMapper;
+import nl.rabobank.repository.GranteeGrantsRepository;
+import nl.rabobank.repository.PowerOfAttorneyRepository;
+import nl.rabobank.service.AccountService;
+import nl.rabobank.streaming.StreamBatches;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps {@code grantee_grants}, the read model that lists the grants of a grantee with one primary key read, in step
+ * with {@code power_of_attorney_grants}. The services write every grant to both collections; this component seeds the
+ * read model when it is empty and regenerates it on request.
+ *
+ * <p>A failed write is recorded in {@code grantee_grants_status}, so every instance, including one started later, sees
+ * that the read model lacks grants. Each instance checks that marker every {@code
+ * rabobank.grantee-read-model.repair-interval} and repairs the read model by adding the grants inserted since the first
+ * failure again. Until the read model is seeded, when it is disabled, or while it is marked stale, the grants of a
+ * grantee are read from {@code power_of_attorney_grants}.
+ */
+@Slf4j
+@Component
+public class GranteeReadModel {
+
+    private final GranteeGrantsRepository granteeGrantsRepository;
+    private final PowerOfAttorneyRepository powerOfAttorneyRepository;
+    private final AccountService accountService;
+    private final PowerOfAttorneyMapper powerOfAttorneyMapper;
+    private final GranteeGrantsMapper granteeGrantsMapper;
+    private final GranteeReadModelProperties properties;
+
+    private volatile boolean seeded;
+    private volatile boolean stale;
+    private final AtomicReference<Instant> unrecordedFailure = new AtomicReference<>();
+    private volatile Instant lastRebuild;
+
+    public GranteeReadModel(
+            GranteeGrantsRepository granteeGrantsRepository,
+            PowerOfAttorneyRepository powerOfAttorneyRepository,
+            AccountService accountService,
+            PowerOfAttorneyMapper powerOfAttorneyMapper,
+            GranteeGrantsMapper granteeGrantsMapper,
+            GranteeReadModelProperties properties) {
+        this.granteeGrantsRepository = granteeGrantsRepository;
+        this.powerOfAttorneyRepository = powerOfAttorneyRepository;
+        this.accountService = accountService;
+        this.powerOfAttorneyMapper = powerOfAttorneyMapper;
+        this.granteeGrantsMapper = granteeGrantsMapper;
+        this.properties = properties;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (properties.isEnabled()) {
+            Thread.ofPlatform().daemon().name("grantee-read-model-seed").start(() -> {
+                try {
+                    seed();
+                } catch (RuntimeException e) {
+                    log.error("Seeding the grantee read model failed, grantee reads go to the grants collection", e);
+                }
+                while (properties.getRepairInterval().isPositive() && sleep(properties.getRepairInterval())) {
+                    try {
+                        if (seeded) {
+                            repairIfStale();
+                        } else {
+                            seed();
+                        }
+                    } catch (RuntimeException e) {
+                        log.error("Repairing the grantee read model failed, retrying in the next interval", e);
+                    }
+                }
+            });
+        }
+    }
+
+    /** {@code true} when the grants of a grantee can be read from the read model. */
+    public boolean isReady() {
+        return properties.isEnabled() && seeded && !stale;
+    }
+
+    /** Appends stored grants to the read model, must be called after the grants are stored. */
+    public void add(Collection<PowerOfAttorney> grants) {
+        try {
+            granteeGrantsRepository.push(granteeGrantsMapper.toAdditions(grants));
+        } catch (RuntimeException e) {
+            markStale(e);
+        }
+    }
+
+    /**
+     * Stops reading from the read model after a write to it failed and records the failure for all instances, the read
+     * model lacks the grant until it is repaired.
+     */
+    public void markStale(Throwable cause) {
+        var failedAt = Instant.now();
+        stale = true;
+        log.error(
+                "Writing to the grantee read model failed, grantee reads go to the grants collection until a repair",
+                cause);
+        try {
+            granteeGrantsRepository.markStale(failedAt);
+        } catch (RuntimeException e) {
+            unrecordedFailure.compareAndSet(null, failedAt);
+            log.error("Recording that the grantee read model is stale failed, retrying at the next check", e);
+        }
+    }
+
+    /**
+     * Builds the read model when it is empty. Otherwise it is maintained at write time, and is ready to use once the
+     * writes that failed before this instance started are repaired.
+     */
+    public void seed() {
+        if (granteeGrantsRepository.isEmpty()) {
+            rebuild();
+        } else {
+            repairIfStale();
+            seeded = true;
+        }
+    }
+
+    /**
+     * Adds the grants inserted since the first failed write to the read model again when a write failed on any
+     * instance. The marker is only removed when no write failed while repairing, otherwise the next check repairs again.
+     */
+    public synchronized void repairIfStale() {
+        var unrecorded = unrecordedFailure.get();
+        if (unrecorded != null) {
+            granteeGrantsRepository.markStale(unrecorded);
+            unrecordedFailure.compareAndSet(unrecorded, null);
+        }
+        var staleness = granteeGrantsRepository.staleness();
+        if (staleness.isEmpty()) {
+            stale = false;
+            return;
+        }
+        stale = true;
+        var started = Instant.now();
+        var caughtUp = catchUp(staleness.get().since().minus(properties.getCatchUpWindow()));
+        granteeGrantsRepository.clearStale(started);
+        stale = granteeGrantsRepository.staleness().isPresent();
+        log.info("Grantee read model repaired, {} grants added again", caughtUp);
+    }
+
+    /**
+     * Regenerates the read model from all grants. The aggregation can overwrite grants made while it runs, so afterwards
+     * every grant inserted since shortly before the start is added again; adding a grant that is already there has no
+     * effect.
+     */
+    public synchronized ReadModelStatus rebuild() {
+        var started = Instant.now();
+        granteeGrantsRepository.rebuild();
+        var caughtUp = catchUp(started.minus(properties.getCatchUpWindow()));
+        granteeGrantsRepository.clearStale(started);
+
+        lastRebuild = Instant.now();
+        stale = granteeGrantsRepository.staleness().isPresent();
+        seeded = true;
+        log.info("Grantee read model rebuilt, {} recent grants added again", caughtUp);
+        return status();
+    }
+
+    // Adding a grant that is already in the read model has no effect, so catching up can start too early
+    private int catchUp(Instant since) {
+        var caughtUp = 0;
+        try (var batches = StreamBatches.of(
+                powerOfAttorneyRepository.streamInsertedSince(since, properties.getCatchUpBatchSize()),
+                properties.getCatchUpBatchSize())) {
+            for (var batch : (Iterable<List<PowerOfAttorneyDocument>>) batches::iterator) {
+                granteeGrantsRepository.addToSet(granteeGrantsMapper.toAdditions(resolve(batch)));
+                caughtUp += batch.size();
+            }
+        }
+        return caughtUp;
+    }
+
+    // The entries carry the account type, so the accounts of a batch are read with one $in query
+    private List<PowerOfAttorney> resolve(List<PowerOfAttorneyDocument> grants) {
+        var accounts = accountService.findAllByAccountNumbers(grants.stream()
+                .map(PowerOfAttorneyDocument::accountReference)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList());
+        return grants.stream()
+                .map(grant -> powerOfAttorneyMapper.toDomain(grant, accounts))
+                .toList();
+    }
+
+    private static boolean sleep(Duration interval) {
+        try {
+            Thread.sleep(interval);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    public ReadModelStatus status() {
+        return new ReadModelStatus(isReady(), lastRebuild);
+    }
+
+    public record ReadModelStatus(boolean ready, Instant lastRebuild) {}
+}
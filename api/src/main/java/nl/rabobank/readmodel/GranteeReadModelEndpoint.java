@@ -0,0 +1,26 @@
+package nl.rabobank.readmodel;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+/** {@code GET /actuator/granteereadmodel} shows the read model, {@code POST /actuator/granteereadmodel} rebuilds it. */
+@Component
+@Endpoint(id = "granteereadmodel")
+@RequiredArgsConstructor
+public class GranteeReadModelEndpoint {
+
+    private final GranteeReadModel granteeReadModel;
+
+    @ReadOperation
+    public GranteeReadModel.ReadModelStatus status() {
+        return granteeReadModel.status();
+    }
+
+    @WriteOperation
+    public GranteeReadModel.ReadModelStatus rebuild() {
+        return granteeReadModel.rebuild();
+    }
+}
@@ -0,0 +1,68 @@
+package nl.rabobank.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.util.Arrays;
+import java.util.List;
+import nl.rabobank.account.Account;
+import nl.rabobank.account.AccountType;
+import nl.rabobank.apimapper.AccountApiMapper;
+import nl.rabobank.dto.AccountRequest;
+import org.springframework.stereotype.Component;
+
+/** Turns one line of a bulk account import into an account, or into an INVALID result explaining why it can't be. */
+@Component
+public class AccountImportParser {
+
+    private final AccountApiMapper accountApiMapper;
+    private final Validator validator;
+    private final ObjectReader requestReader;
+
+    public AccountImportParser(AccountApiMapper accountApiMapper, Validator validator, ObjectMapper objectMapper) {
+        this.accountApiMapper = accountApiMapper;
+        this.validator = validator;
+        this.requestReader = objectMapper.readerFor(AccountRequest.class);
+    }
+
+    public ParsedLine parse(long line, String json) {
+        AccountRequest request;
+        try {
+            request = requestReader.readValue(json);
+        } catch (JsonProcessingException e) {
+            return ParsedLine.invalid(line, null, List.of("Malformed JSON: " + e.getOriginalMessage()));
+        }
+
+        var violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            var errors = violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .toList();
+            return ParsedLine.invalid(line, request.getAccountNumber(), errors);
+        }
+
+        try {
+            return new ParsedLine(line, accountApiMapper.toDomain(request), null);
+        } catch (IllegalArgumentException e) {
+            return ParsedLine.invalid(
+                    line,
+                    request.getAccountNumber(),
+                    List.of("accountType must be one of " + Arrays.toString(AccountType.values())));
+        }
+    }
+
+    /** A line that either became an account or was rejected before reaching the database. */
+    public record ParsedLine(long line, Account account, AccountImportResult invalid) {
+
+        static ParsedLine invalid(long line, String accountNumber, List<String> errors) {
+            return new ParsedLine(line, null, AccountImportResult.invalid(line, accountNumber, errors));
+        }
+
+        public boolean isValid() {
+            return account != null;
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package nl.rabobank.service;
+
+import java.util.List;
+
+/** Outcome of one line of a bulk account import, {@code line} is 1-based. */
+public record AccountImportResult(long line, String accountNumber, Status status, List<String> errors) {
+
+    public enum Status {
+        CREATED,
+        DUPLICATE,
+        INVALID
+    }
+
+    public static AccountImportResult created(long line, String accountNumber) {
+        return new AccountImportResult(line, accountNumber, Status.CREATED, List.of());
+    }
+
+    public static AccountImportResult duplicate(long line, String accountNumber) {
+        return new AccountImportResult(
+                line, accountNumber, Status.DUPLICATE, List.of("Account already exists with number: " + accountNumber));
+    }
+
+    public static AccountImportResult invalid(long line, String accountNumber, List<String> errors) {
+        return new AccountImportResult(line, accountNumber, Status.INVALID, errors);
+    }
+}
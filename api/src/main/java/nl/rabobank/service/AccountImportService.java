@@ -0,0 +1,128 @@
+package nl.rabobank.service;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import io.micrometer.core.annotation.Timed;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import lombok.RequiredArgsConstructor;
+import nl.rabobank.config.BulkImportProperties;
+import nl.rabobank.dto.AccountRequest;
+import nl.rabobank.filter.AccountNumberFilter;
+import nl.rabobank.mapper.AccountMapper;
+import nl.rabobank.repository.AccountRepository;
+import nl.rabobank.service.AccountImportParser.ParsedLine;
+import org.springframework.stereotype.Service;
+
+/**
+ * Imports accounts from newline delimited JSON, one {@link AccountRequest} per line. The body is read line by line and
+ * written in unordered bulk writes of at most {@link BulkImportProperties#getBatchSize()} records, so memory use is bound
+ * by the batch size and an invalid or duplicate record only affects its own line.
+ */
+@Service
+@RequiredArgsConstructor
+@Timed("rabobank.service")
+public class AccountImportService {
+
+    private final AccountRepository accountRepository;
+    private final AccountMapper accountMapper;
+    private final AccountNumberFilter accountNumberFilter;
+    private final AccountImportParser accountImportParser;
+    private final BulkImportProperties bulkImportProperties;
+
+    /**
+     * Returns one result per non-blank line, in line order. The body is only read while the returned stream is
+     * consumed, a batch is written once it is full or the body ends.
+     */
+    public Stream<AccountImportResult> importAccounts(InputStream ndjson) {
+        var batches = new Batches(new BufferedReader(new InputStreamReader(ndjson, UTF_8)));
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(batches, Spliterator.ORDERED), false)
+                .flatMap(List::stream);
+    }
+
+    private List<AccountImportResult> store(List<ParsedLine> batch) {
+        var accepted = batch.stream()
+                .filter(ParsedLine::isValid)
+                .map(parsed -> accountMapper.toDocument(parsed.account()))
+                .toList();
+        return results(batch, accountRepository.insertAllUnordered(accepted), accountNumberFilter);
+    }
+
+    /** Merges the outcome of the bulk write of the valid lines with the invalid lines, in line order. */
+    static List<AccountImportResult> results(
+            List<ParsedLine> batch, Set<Integer> duplicates, AccountNumberFilter accountNumberFilter) {
+        var results = new ArrayList<AccountImportResult>(batch.size());
+        var position = 0;
+        for (var parsed : batch) {
+            if (!parsed.isValid()) {
+                results.add(parsed.invalid());
+                continue;
+            }
+
+            var accountNumber = parsed.account().accountNumber();
+            accountNumberFilter.add(accountNumber);
+            results.add(
+                    duplicates.contains(position++)
+                            ? AccountImportResult.duplicate(parsed.line(), accountNumber)
+                            : AccountImportResult.created(parsed.line(), accountNumber));
+        }
+        return results;
+    }
+
+    /** Reads the body up to the next full batch and stores it. */
+    private final class Batches implements Iterator<List<AccountImportResult>> {
+
+        private final BufferedReader reader;
+        private long line;
+        private boolean exhausted;
+
+        private Batches(BufferedReader reader) {
+            this.reader = reader;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !exhausted;
+        }
+
+        @Override
+        public List<AccountImportResult> next() {
+            if (exhausted) {
+                throw new NoSuchElementException();
+            }
+
+            var batchSize = bulkImportProperties.getBatchSize();
+            var batch = new ArrayList<ParsedLine>(batchSize);
+            try {
+                while (batch.size() < batchSize) {
+                    var json = reader.readLine();
+                    if (json == null) {
+                        exhausted = true;
+                        break;
+                    }
+                    line++;
+                    if (json.isBlank()) {
+                        continue;
+                    }
+
+                    batch.add(accountImportParser.parse(line, json));
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return store(batch);
+        }
+    }
+}
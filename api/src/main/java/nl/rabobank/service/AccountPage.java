@@ -0,0 +1,15 @@
+package nl.rabobank.service;
+
+import java.util.List;
+import nl.rabobank.account.Account;
+
+/**
+ * A single keyset page of accounts. {@code nextAccountNumber} is the last account number of this page when there are
+ * more accounts after it, otherwise {@code null}.
+ */
+public record AccountPage(List<Account> accounts, String nextAccountNumber) {
+
+    public boolean hasNext() {
+        return nextAccountNumber != null;
+    }
+}
@@ -1,48 +1,124 @@
 package nl.rabobank.service;
 
-import java.util.List;
+import static nl.rabobank.config.CacheConfiguration.ACCOUNTS_CACHE;
+
+import io.micrometer.core.annotation.Timed;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
 import nl.rabobank.account.Account;
 import nl.rabobank.apimapper.AccountApiMapper;
+import nl.rabobank.concurrent.SingleFlight;
+import nl.rabobank.config.PaginationProperties;
+import nl.rabobank.config.StreamingProperties;
 import nl.rabobank.dto.AccountRequest;
 import nl.rabobank.exception.AccountNotFoundException;
 import nl.rabobank.exception.DuplicateAccountException;
+import nl.rabobank.filter.AccountNumberFilter;
 import nl.rabobank.mapper.AccountMapper;
 import nl.rabobank.repository.AccountRepository;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
 
 @Service
 @RequiredArgsConstructor
+@Timed("rabobank.service")
 public class AccountService {
 
     private final AccountRepository accountRepository;
     private final AccountApiMapper accountApiMapper;
     private final AccountMapper accountMapper;
+    private final PaginationProperties paginationProperties;
+    private final StreamingProperties streamingProperties;
+    private final AccountNumberFilter accountNumberFilter;
 
-    public Account createAccount(AccountRequest request) {
-        if (accountRepository.existsByAccountNumber(request.getAccountNumber())) {
-            throw new DuplicateAccountException("Account already exists with number: " + request.getAccountNumber());
-        }
+    /** Concurrent cache misses for the same account share a single query. */
+    private final SingleFlight<String, Optional<Account>> accountReads = new SingleFlight<>();
 
+    /**
+     * Creates the account with a single insert. The account number is the {@code _id}, so the unique primary key index
+     * detects duplicates atomically, also for concurrent creates of the same number.
+     */
+    @CachePut(cacheNames = ACCOUNTS_CACHE, key = "#result.accountNumber()")
+    public Account createAccount(AccountRequest request) {
         var account = accountApiMapper.toDomain(request);
         var document = accountMapper.toDocument(account);
 
-        return accountMapper.toDomain(accountRepository.save(document));
+        try {
+            var created = accountMapper.toDomain(accountRepository.insert(document));
+            accountNumberFilter.add(created.accountNumber());
+            return created;
+        } catch (DuplicateKeyException e) {
+            accountNumberFilter.add(request.getAccountNumber());
+            throw new DuplicateAccountException("Account already exists with number: " + request.getAccountNumber());
+        }
     }
 
+    @Cacheable(cacheNames = ACCOUNTS_CACHE)
     public Account getByAccountNumber(String accountNumber) {
-        return accountRepository
-                .findByAccountNumber(accountNumber)
-                .map(accountMapper::toDomain)
+        return readAccount(accountNumber)
                 .orElseThrow(() ->
                         new AccountNotFoundException("Account with number '%s' not found".formatted(accountNumber)));
     }
 
-    public List<Account> findAll() {
-        return accountRepository.findAll().stream().map(accountMapper::toDomain).toList();
+    /** Same as {@link #getByAccountNumber(String)}, but leaves the handling of a missing account to the caller. */
+    @Cacheable(cacheNames = ACCOUNTS_CACHE, unless = "#result == null")
+    public Optional<Account> findByAccountNumber(String accountNumber) {
+        return readAccount(accountNumber);
+    }
+
+    /**
+     * Loads the given accounts with a single {@code $in} query, keyed by account number. Unknown account numbers are
+     * left out of the result.
+     */
+    public Map<String, Account> findAllByAccountNumbers(Collection<String> accountNumbers) {
+        var candidates = accountNumbers.stream()
+                .distinct()
+                .filter(accountNumberFilter::mightExist)
+                .toList();
+        if (candidates.isEmpty()) {
+            return Map.of();
+        }
+
+        var accounts = new HashMap<String, Account>();
+        for (var account : accountRepository.findAccounts(candidates)) {
+            accounts.put(account.accountNumber(), account);
+        }
+        return accounts;
+    }
+
+    private Optional<Account> readAccount(String accountNumber) {
+        if (!accountNumberFilter.mightExist(accountNumber)) {
+            return Optional.empty();
+        }
+        return accountReads.execute(accountNumber, () -> accountRepository.findAccount(accountNumber));
+    }
+
+    public AccountPage findPage(String afterAccountNumber, Integer requestedPageSize) {
+        var pageSize = paginationProperties.resolvePageSize(requestedPageSize);
+
+        // Fetch one extra document to find out whether there is a next page without a count query
+        var found =
+                accountRepository.findAccountsAfter(Objects.requireNonNullElse(afterAccountNumber, ""), pageSize + 1);
+
+        var accounts = found.stream().limit(pageSize).toList();
+        var nextAccountNumber = found.size() > pageSize ? accounts.getLast().accountNumber() : null;
+
+        return new AccountPage(accounts, nextAccountNumber);
+    }
+
+    /** Streams all accounts from a Mongo cursor. The stream must be closed by the caller. */
+    public Stream<Account> streamAll() {
+        return accountRepository.streamAll(streamingProperties.getBatchSize());
     }
 
     public boolean existsByAccountNumber(String accountNumber) {
-        return accountRepository.existsByAccountNumber(accountNumber);
+        return accountNumberFilter.mightExist(accountNumber) && accountRepository.existsByAccountNumber(accountNumber);
     }
 }
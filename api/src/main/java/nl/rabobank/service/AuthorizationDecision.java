@@ -0,0 +1,7 @@
+package nl.rabobank.service;
+
+import nl.rabobank.authorizations.Authorization;
+
+/** Whether the grantee may perform the authorization on the account. */
+public record AuthorizationDecision(
+        String granteeName, String accountNumber, Authorization authorization, boolean allowed) {}
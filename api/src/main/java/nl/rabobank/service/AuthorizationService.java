@@ -0,0 +1,133 @@
+package nl.rabobank.service;
+
+import io.micrometer.core.annotation.Timed;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import nl.rabobank.access.AuthorizationIndex;
+import nl.rabobank.access.GrantIndex;
+import nl.rabobank.config.AuthorizationCheckProperties;
+import nl.rabobank.config.AuthorizationIndexProperties;
+import nl.rabobank.document.PowerOfAttorneyDocument;
+import nl.rabobank.dto.AuthorizationCheckRequest;
+import nl.rabobank.exception.BatchTooLargeException;
+import nl.rabobank.repository.PowerOfAttorneyRepository;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+@Timed("rabobank.service")
+public class AuthorizationService {
+
+    private final AuthorizationIndex authorizationIndex;
+    private final PowerOfAttorneyRepository powerOfAttorneyRepository;
+    private final AuthorizationCheckProperties authorizationCheckProperties;
+    private final AuthorizationIndexProperties authorizationIndexProperties;
+
+    public AuthorizationDecision check(AuthorizationCheckRequest request) {
+        return decide(List.of(request)).getFirst();
+    }
+
+    /**
+     * Decides every check in memory from the authorization index. Until the index is seeded, the grants of all checks
+     * are read with one {@code $in} query instead. The index lacks grants made by other instances until its next
+     * rebuild, so the grants of the denied checks are read with one {@code $in} query before they are denied. A
+     * {@code null} check is denied.
+     */
+    public List<AuthorizationDecision> checkBatch(List<AuthorizationCheckRequest> requests) {
+        if (requests.size() > authorizationCheckProperties.getMaxBatchSize()) {
+            throw new BatchTooLargeException("Batch of %d checks exceeds the maximum of %d"
+                    .formatted(requests.size(), authorizationCheckProperties.getMaxBatchSize()));
+        }
+        return decide(requests);
+    }
+
+    private List<AuthorizationDecision> decide(List<AuthorizationCheckRequest> requests) {
+        var index = authorizationIndex.active();
+        if (index.isEmpty()) {
+            return decide(read(requests), requests);
+        }
+
+        var decisions = decide(index.get(), requests);
+        if (!authorizationIndexProperties.isConfirmDenials()) {
+            return decisions;
+        }
+        var denied = denied(requests, decisions);
+        return denied.isEmpty() ? decisions : confirm(decisions, read(denied), requests);
+    }
+
+    private GrantIndex read(List<AuthorizationCheckRequest> requests) {
+        var granteeNames = distinct(requests, AuthorizationCheckRequest::getGranteeName);
+        var accountNumbers = distinct(requests, AuthorizationCheckRequest::getAccountNumber);
+        if (granteeNames.isEmpty() || accountNumbers.isEmpty()) {
+            return new GrantIndex();
+        }
+        return index(powerOfAttorneyRepository.findByGranteeNamesAndAccountNumbers(granteeNames, accountNumbers));
+    }
+
+    static Set<String> distinct(
+            List<AuthorizationCheckRequest> requests, Function<AuthorizationCheckRequest, String> field) {
+        return requests.stream()
+                .filter(Objects::nonNull)
+                .map(field)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+    }
+
+    /** The denied checks that a grant could allow, the others are denied without looking. */
+    static List<AuthorizationCheckRequest> denied(
+            List<AuthorizationCheckRequest> requests, List<AuthorizationDecision> decisions) {
+        var denied = new ArrayList<AuthorizationCheckRequest>();
+        for (int i = 0; i < requests.size(); i++) {
+            var request = requests.get(i);
+            if (!decisions.get(i).allowed()
+                    && request != null
+                    && request.getGranteeName() != null
+                    && request.getAccountNumber() != null
+                    && request.getAuthorization() != null) {
+                denied.add(request);
+            }
+        }
+        return denied;
+    }
+
+    /** Decides the denied checks again from the grants read from the database. */
+    static List<AuthorizationDecision> confirm(
+            List<AuthorizationDecision> decisions, GrantIndex grants, List<AuthorizationCheckRequest> requests) {
+        var confirmed = decide(grants, requests);
+        var result = new ArrayList<AuthorizationDecision>(decisions.size());
+        for (int i = 0; i < decisions.size(); i++) {
+            result.add(decisions.get(i).allowed() ? decisions.get(i) : confirmed.get(i));
+        }
+        return result;
+    }
+
+    static GrantIndex index(Iterable<PowerOfAttorneyDocument> documents) {
+        var grants = new GrantIndex();
+        for (var document : documents) {
+            if (document.getAuthorization() != null && document.accountReference() != null) {
+                grants.grant(document.getGranteeName(), document.accountReference(), document.getAuthorization());
+            }
+        }
+        return grants;
+    }
+
+    static List<AuthorizationDecision> decide(GrantIndex grants, List<AuthorizationCheckRequest> requests) {
+        return requests.stream()
+                .map(request -> request == null
+                        ? new AuthorizationDecision(null, null, null, false)
+                        : new AuthorizationDecision(
+                                request.getGranteeName(),
+                                request.getAccountNumber(),
+                                request.getAuthorization(),
+                                grants.isAllowed(
+                                        request.getGranteeName(),
+                                        request.getAccountNumber(),
+                                        request.getAuthorization())))
+                .toList();
+    }
+}
@@ -0,0 +1,62 @@
+package nl.rabobank.service;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import nl.rabobank.account.Account;
+import nl.rabobank.authorizations.Authorization;
+import nl.rabobank.dto.PowerOfAttorneyRequest;
+import org.springframework.stereotype.Component;
+
+/** Checks one item of a batch grant in memory, against the accounts loaded for the whole batch. */
+@Component
+@RequiredArgsConstructor
+public class GrantRequestChecker {
+
+    private final Validator validator;
+
+    /** The rejection of the item, empty when it may be granted. */
+    public Optional<GrantResult> reject(int index, PowerOfAttorneyRequest request, Map<String, Account> accounts) {
+        if (request == null) {
+            return Optional.of(GrantResult.rejected(index, GrantResult.Status.INVALID, List.of("grant is required")));
+        }
+
+        var violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            var errors = violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .toList();
+            return Optional.of(GrantResult.rejected(index, GrantResult.Status.INVALID, errors));
+        }
+
+        if (Arrays.stream(Authorization.values())
+                .noneMatch(authorization -> authorization.name().equals(request.getAuthorization()))) {
+            return Optional.of(GrantResult.rejected(
+                    index,
+                    GrantResult.Status.INVALID,
+                    List.of("authorization must be one of " + Arrays.toString(Authorization.values()))));
+        }
+
+        var account = accounts.get(request.getAccountNumber());
+        if (account == null) {
+            return Optional.of(GrantResult.rejected(
+                    index,
+                    GrantResult.Status.ACCOUNT_NOT_FOUND,
+                    List.of("No account found with number: %s".formatted(request.getAccountNumber()))));
+        }
+
+        if (!account.accountHolderName().equals(request.getGrantorName())) {
+            return Optional.of(GrantResult.rejected(
+                    index,
+                    GrantResult.Status.NOT_ALLOWED,
+                    List.of("The grantor %s is not the accountHolder for account %s"
+                            .formatted(request.getGrantorName(), request.getAccountNumber()))));
+        }
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,23 @@
+package nl.rabobank.service;
+
+import java.util.List;
+import nl.rabobank.authorizations.PowerOfAttorney;
+
+/** Outcome of one item of a batch grant, {@code index} is its 0-based position in the batch. */
+public record GrantResult(int index, Status status, PowerOfAttorney powerOfAttorney, List<String> errors) {
+
+    public enum Status {
+        GRANTED,
+        INVALID,
+        ACCOUNT_NOT_FOUND,
+        NOT_ALLOWED
+    }
+
+    public static GrantResult granted(int index, PowerOfAttorney powerOfAttorney) {
+        return new GrantResult(index, Status.GRANTED, powerOfAttorney, List.of());
+    }
+
+    public static GrantResult rejected(int index, Status status, List<String> errors) {
+        return new GrantResult(index, status, null, errors);
+    }
+}
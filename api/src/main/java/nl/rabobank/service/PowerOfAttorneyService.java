@@ -1,50 +1,173 @@
 package nl.rabobank.service;
 
+import io.micrometer.core.annotation.Timed;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
+import nl.rabobank.access.AuthorizationIndex;
 import nl.rabobank.apimapper.PowerOfAttorneyApiMapper;
 import nl.rabobank.authorizations.PowerOfAttorney;
+import nl.rabobank.config.BulkGrantProperties;
+import nl.rabobank.config.StreamingProperties;
+import nl.rabobank.document.PowerOfAttorneyDocument;
 import nl.rabobank.dto.PowerOfAttorneyRequest;
 import nl.rabobank.exception.AccountNotFoundException;
-import nl.rabobank.mapper.AccountMapper;
+import nl.rabobank.exception.BatchTooLargeException;
+import nl.rabobank.exception.GrantNotAllowedException;
+import nl.rabobank.mapper.GranteeGrantsMapper;
 import nl.rabobank.mapper.PowerOfAttorneyMapper;
-import nl.rabobank.repository.AccountRepository;
+import nl.rabobank.readmodel.GranteeReadModel;
+import nl.rabobank.repository.GranteeGrantsRepository;
 import nl.rabobank.repository.PowerOfAttorneyRepository;
+import nl.rabobank.streaming.StreamBatches;
 import org.springframework.stereotype.Service;
 
 @Service
 @RequiredArgsConstructor
+@Timed("rabobank.service")
 public class PowerOfAttorneyService {
 
     private final PowerOfAttorneyRepository powerOfAttorneyRepository;
     private final PowerOfAttorneyApiMapper powerOfAttorneyApiMapper;
     private final PowerOfAttorneyMapper powerOfAttorneyMapper;
 
-    private final AccountRepository accountRepository;
-    private final AccountMapper accountMapper;
+    private final AccountService accountService;
+    private final StreamingProperties streamingProperties;
+    private final BulkGrantProperties bulkGrantProperties;
+    private final GrantRequestChecker grantRequestChecker;
+    private final AuthorizationIndex authorizationIndex;
 
+    private final GranteeGrantsRepository granteeGrantsRepository;
+    private final GranteeGrantsMapper granteeGrantsMapper;
+    private final GranteeReadModel granteeReadModel;
+
+    /**
+     * Grants access with at most three round trips: one read of the account, which is also used for the grantor check
+     * and is served from the account cache when the account is hot, one insert of the grant and one upsert of the
+     * grantee read model.
+     */
     public PowerOfAttorney grantAccess(PowerOfAttorneyRequest request) {
-        var accountDocument = accountRepository
+        var account = accountService
                 .findByAccountNumber(request.getAccountNumber())
                 .orElseThrow(() -> new AccountNotFoundException(
                         "No account found with number: %s".formatted(request.getAccountNumber())));
 
-        var account = accountMapper.toDomain(accountDocument);
+        if (!account.accountHolderName().equals(request.getGrantorName())) {
+            throw new GrantNotAllowedException("The grantor %s is not the accountHolder for account %s"
+                    .formatted(request.getGrantorName(), request.getAccountNumber()));
+        }
+
         var powerOfAttorney = powerOfAttorneyApiMapper.toDomain(request, account);
         var document = powerOfAttorneyMapper.toDocument(powerOfAttorney);
 
-        return powerOfAttorneyMapper.toDomain(powerOfAttorneyRepository.save(document));
+        var granted = powerOfAttorneyMapper.toDomain(powerOfAttorneyRepository.insert(document), account);
+        granteeReadModel.add(List.of(granted));
+        authorizationIndex.add(granted);
+        return granted;
+    }
+
+    /**
+     * Grants a batch with three round trips regardless of its size: one {@code $in} query for all referenced accounts,
+     * one insert of all allowed grants and one bulk upsert of the grantee read model. Every item is checked on its own,
+     * a rejected item does not affect the others.
+     */
+    public List<GrantResult> grantAccessBatch(List<PowerOfAttorneyRequest> requests) {
+        if (requests.size() > bulkGrantProperties.getMaxBatchSize()) {
+            throw new BatchTooLargeException("Batch of %d grants exceeds the maximum of %d"
+                    .formatted(requests.size(), bulkGrantProperties.getMaxBatchSize()));
+        }
+
+        var accounts = accountService.findAllByAccountNumbers(requests.stream()
+                .filter(Objects::nonNull)
+                .map(PowerOfAttorneyRequest::getAccountNumber)
+                .filter(Objects::nonNull)
+                .toList());
+
+        var results = new GrantResult[requests.size()];
+        var allowed = new ArrayList<PowerOfAttorneyDocument>();
+        var allowedIndexes = new ArrayList<Integer>();
+
+        for (int index = 0; index < requests.size(); index++) {
+            var request = requests.get(index);
+            var rejection = grantRequestChecker.reject(index, request, accounts);
+            if (rejection.isPresent()) {
+                results[index] = rejection.get();
+                continue;
+            }
+
+            var powerOfAttorney = powerOfAttorneyApiMapper.toDomain(request, accounts.get(request.getAccountNumber()));
+            allowed.add(powerOfAttorneyMapper.toDocument(powerOfAttorney));
+            allowedIndexes.add(index);
+        }
+
+        if (!allowed.isEmpty()) {
+            var inserted = powerOfAttorneyRepository.insert(allowed);
+            var granted = new ArrayList<PowerOfAttorney>(inserted.size());
+            for (int i = 0; i < inserted.size(); i++) {
+                var index = allowedIndexes.get(i);
+                var grant = powerOfAttorneyMapper.toDomain(inserted.get(i), accounts);
+                authorizationIndex.add(grant);
+                granted.add(grant);
+                results[index] = GrantResult.granted(index, grant);
+            }
+            granteeReadModel.add(granted);
+        }
+
+        return List.of(results);
     }
 
+    /**
+     * Reads the grants of the grantee from the grantee read model with one primary key read, and their accounts with one
+     * {@code $in} query, so the grants show the current balances. Until the read model is ready the grants are queried
+     * from the grants collection.
+     */
     public List<PowerOfAttorney> findByGranteeName(String granteeName) {
-        return powerOfAttorneyRepository.findByGranteeName(granteeName).stream()
-                .map(powerOfAttorneyMapper::toDomain)
-                .toList();
+        if (!granteeReadModel.isReady()) {
+            return resolve(powerOfAttorneyRepository.findByGranteeName(granteeName));
+        }
+
+        return granteeGrantsRepository
+                .findById(granteeName)
+                .map(document -> granteeGrantsMapper.toDomain(
+                        document, accountService.findAllByAccountNumbers(granteeGrantsMapper.accountNumbers(document))))
+                .orElse(List.of());
     }
 
+    /** Reads all grants, and their accounts with one {@code $in} query. */
     public List<PowerOfAttorney> findAll() {
-        return powerOfAttorneyRepository.findAll().stream()
-                .map(powerOfAttorneyMapper::toDomain)
+        return resolve(powerOfAttorneyRepository.findAll());
+    }
+
+    /**
+     * Streams all grants for the grantee from a Mongo cursor over the grants collection, for grantees with more grants
+     * than the read model should be asked for in one go. The stream must be closed by the caller.
+     */
+    public Stream<PowerOfAttorney> streamByGranteeName(String granteeName) {
+        return resolve(powerOfAttorneyRepository.streamByGranteeName(granteeName, streamingProperties.getBatchSize()));
+    }
+
+    /** Streams all grants from a Mongo cursor. The stream must be closed by the caller. */
+    public Stream<PowerOfAttorney> streamAll() {
+        return resolve(powerOfAttorneyRepository.streamAll(streamingProperties.getBatchSize()));
+    }
+
+    /** Grants only reference their account, the accounts of a page are loaded with one {@code $in} query. */
+    private List<PowerOfAttorney> resolve(List<PowerOfAttorneyDocument> documents) {
+        var accounts = accountService.findAllByAccountNumbers(documents.stream()
+                .map(PowerOfAttorneyDocument::accountReference)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList());
+        return documents.stream()
+                .map(document -> powerOfAttorneyMapper.toDomain(document, accounts))
                 .toList();
     }
+
+    /** Resolves the accounts of a cursor one cursor batch at a time. */
+    private Stream<PowerOfAttorney> resolve(Stream<PowerOfAttorneyDocument> documents) {
+        return StreamBatches.of(documents, streamingProperties.getBatchSize())
+                .flatMap(batch -> resolve(batch).stream());
+    }
 }
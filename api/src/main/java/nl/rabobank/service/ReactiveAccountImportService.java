@@ -0,0 +1,46 @@
+package nl.rabobank.service;
+
+import static org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type.REACTIVE;
+
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import nl.rabobank.config.BulkImportProperties;
+import nl.rabobank.filter.AccountNumberFilter;
+import nl.rabobank.mapper.AccountMapper;
+import nl.rabobank.repository.reactive.ReactiveAccountRepository;
+import nl.rabobank.service.AccountImportParser.ParsedLine;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+
+/** Non-blocking counterpart of {@link AccountImportService}, only active on the reactive stack. */
+@Service
+@ConditionalOnWebApplication(type = REACTIVE)
+@RequiredArgsConstructor
+public class ReactiveAccountImportService {
+
+    private final ReactiveAccountRepository accountRepository;
+    private final AccountMapper accountMapper;
+    private final AccountNumberFilter accountNumberFilter;
+    private final AccountImportParser accountImportParser;
+    private final BulkImportProperties bulkImportProperties;
+
+    /** One result per non-blank line, in line order; a batch is written once it is full or the lines end. */
+    public Flux<AccountImportResult> importAccounts(Flux<String> lines) {
+        return lines.index()
+                .filter(line -> !line.getT2().isBlank())
+                .map(line -> accountImportParser.parse(line.getT1() + 1, line.getT2()))
+                .buffer(bulkImportProperties.getBatchSize())
+                .concatMap(this::store);
+    }
+
+    private Flux<AccountImportResult> store(List<ParsedLine> batch) {
+        var accepted = batch.stream()
+                .filter(ParsedLine::isValid)
+                .map(parsed -> accountMapper.toDocument(parsed.account()))
+                .toList();
+        return accountRepository
+                .insertAllUnordered(accepted)
+                .flatMapIterable(duplicates -> AccountImportService.results(batch, duplicates, accountNumberFilter));
+    }
+}
@@ -0,0 +1,133 @@
+package nl.rabobank.service;
+
+import static nl.rabobank.config.CacheConfiguration.ACCOUNTS_CACHE;
+import static org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type.REACTIVE;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import nl.rabobank.account.Account;
+import nl.rabobank.apimapper.AccountApiMapper;
+import nl.rabobank.concurrent.ReactiveSingleFlight;
+import nl.rabobank.config.PaginationProperties;
+import nl.rabobank.config.StreamingProperties;
+import nl.rabobank.dto.AccountRequest;
+import nl.rabobank.exception.AccountNotFoundException;
+import nl.rabobank.exception.DuplicateAccountException;
+import nl.rabobank.filter.AccountNumberFilter;
+import nl.rabobank.mapper.AccountMapper;
+import nl.rabobank.repository.reactive.ReactiveAccountRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking counterpart of {@link AccountService}, only active on the reactive stack. It shares the account cache and
+ * the account number filter with the servlet stack.
+ */
+@Service
+@ConditionalOnWebApplication(type = REACTIVE)
+public class ReactiveAccountService {
+
+    private final ReactiveAccountRepository accountRepository;
+    private final AccountApiMapper accountApiMapper;
+    private final AccountMapper accountMapper;
+    private final PaginationProperties paginationProperties;
+    private final StreamingProperties streamingProperties;
+    private final AccountNumberFilter accountNumberFilter;
+    private final Cache accounts;
+
+    /** Concurrent cache misses for the same account share a single query. */
+    private final ReactiveSingleFlight<String, Account> accountReads = new ReactiveSingleFlight<>();
+
+    public ReactiveAccountService(
+            ReactiveAccountRepository accountRepository,
+            AccountApiMapper accountApiMapper,
+            AccountMapper accountMapper,
+            PaginationProperties paginationProperties,
+            StreamingProperties streamingProperties,
+            AccountNumberFilter accountNumberFilter,
+            CacheManager cacheManager) {
+        this.accountRepository = accountRepository;
+        this.accountApiMapper = accountApiMapper;
+        this.accountMapper = accountMapper;
+        this.paginationProperties = paginationProperties;
+        this.streamingProperties = streamingProperties;
+        this.accountNumberFilter = accountNumberFilter;
+        this.accounts = Objects.requireNonNull(cacheManager.getCache(ACCOUNTS_CACHE));
+    }
+
+    /** Creates the account with a single insert, duplicates are detected by the primary key index. */
+    public Mono<Account> createAccount(AccountRequest request) {
+        return Mono.fromCallable(() -> accountMapper.toDocument(accountApiMapper.toDomain(request)))
+                .flatMap(accountRepository::insert)
+                .map(accountMapper::toDomain)
+                .doOnNext(account -> {
+                    accountNumberFilter.add(account.accountNumber());
+                    accounts.put(account.accountNumber(), account);
+                })
+                .onErrorMap(DuplicateKeyException.class, e -> {
+                    accountNumberFilter.add(request.getAccountNumber());
+                    return new DuplicateAccountException(
+                            "Account already exists with number: " + request.getAccountNumber());
+                });
+    }
+
+    public Mono<Account> getByAccountNumber(String accountNumber) {
+        return findByAccountNumber(accountNumber)
+                .switchIfEmpty(Mono.error(() ->
+                        new AccountNotFoundException("Account with number '%s' not found".formatted(accountNumber))));
+    }
+
+    /** Same as {@link #getByAccountNumber(String)}, but completes empty for a missing account. */
+    public Mono<Account> findByAccountNumber(String accountNumber) {
+        if (!accountNumberFilter.mightExist(accountNumber)) {
+            return Mono.empty();
+        }
+
+        var cached = accounts.get(accountNumber, Account.class);
+        if (cached != null) {
+            return Mono.just(cached);
+        }
+        return accountReads.execute(accountNumber, () -> accountRepository
+                .findAccount(accountNumber)
+                .doOnNext(account -> accounts.put(accountNumber, account)));
+    }
+
+    /** Loads the given accounts with a single {@code $in} query, keyed by account number. */
+    public Mono<Map<String, Account>> findAllByAccountNumbers(Collection<String> accountNumbers) {
+        var candidates = accountNumbers.stream()
+                .distinct()
+                .filter(accountNumberFilter::mightExist)
+                .toList();
+        if (candidates.isEmpty()) {
+            return Mono.just(Map.of());
+        }
+
+        return accountRepository.findAccounts(candidates).collectMap(Account::accountNumber);
+    }
+
+    public Mono<AccountPage> findPage(String afterAccountNumber, Integer requestedPageSize) {
+        var pageSize = paginationProperties.resolvePageSize(requestedPageSize);
+
+        // Fetch one extra document to find out whether there is a next page without a count query
+        return accountRepository
+                .findAccountsAfter(Objects.requireNonNullElse(afterAccountNumber, ""), pageSize + 1)
+                .collectList()
+                .map(accounts -> {
+                    var page = accounts.stream().limit(pageSize).toList();
+                    var nextAccountNumber =
+                            accounts.size() > pageSize ? page.getLast().accountNumber() : null;
+                    return new AccountPage(page, nextAccountNumber);
+                });
+    }
+
+    /** Streams all accounts from a Mongo cursor, with backpressure from the subscriber. */
+    public Flux<Account> streamAll() {
+        return accountRepository.streamAll(streamingProperties.getBatchSize());
+    }
+}
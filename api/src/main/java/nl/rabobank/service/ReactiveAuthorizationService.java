@@ -0,0 +1,73 @@
+package nl.rabobank.service;
+
+import static org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type.REACTIVE;
+
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import nl.rabobank.access.AuthorizationIndex;
+import nl.rabobank.access.GrantIndex;
+import nl.rabobank.config.AuthorizationCheckProperties;
+import nl.rabobank.config.AuthorizationIndexProperties;
+import nl.rabobank.dto.AuthorizationCheckRequest;
+import nl.rabobank.exception.BatchTooLargeException;
+import nl.rabobank.repository.reactive.ReactivePowerOfAttorneyRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking counterpart of {@link AuthorizationService}, only active on the reactive stack. It shares the
+ * authorization index with the servlet stack.
+ */
+@Service
+@ConditionalOnWebApplication(type = REACTIVE)
+@RequiredArgsConstructor
+public class ReactiveAuthorizationService {
+
+    private final AuthorizationIndex authorizationIndex;
+    private final ReactivePowerOfAttorneyRepository powerOfAttorneyRepository;
+    private final AuthorizationCheckProperties authorizationCheckProperties;
+    private final AuthorizationIndexProperties authorizationIndexProperties;
+
+    public Mono<AuthorizationDecision> check(AuthorizationCheckRequest request) {
+        return decide(List.of(request)).map(List::getFirst);
+    }
+
+    /** Same contract as {@link AuthorizationService#checkBatch(List)}. */
+    public Mono<List<AuthorizationDecision>> checkBatch(List<AuthorizationCheckRequest> requests) {
+        if (requests.size() > authorizationCheckProperties.getMaxBatchSize()) {
+            return Mono.error(new BatchTooLargeException("Batch of %d checks exceeds the maximum of %d"
+                    .formatted(requests.size(), authorizationCheckProperties.getMaxBatchSize())));
+        }
+        return decide(requests);
+    }
+
+    private Mono<List<AuthorizationDecision>> decide(List<AuthorizationCheckRequest> requests) {
+        var index = authorizationIndex.active();
+        if (index.isEmpty()) {
+            return read(requests).map(grants -> AuthorizationService.decide(grants, requests));
+        }
+
+        var decisions = AuthorizationService.decide(index.get(), requests);
+        if (!authorizationIndexProperties.isConfirmDenials()) {
+            return Mono.just(decisions);
+        }
+        var denied = AuthorizationService.denied(requests, decisions);
+        if (denied.isEmpty()) {
+            return Mono.just(decisions);
+        }
+        return read(denied).map(grants -> AuthorizationService.confirm(decisions, grants, requests));
+    }
+
+    private Mono<GrantIndex> read(List<AuthorizationCheckRequest> requests) {
+        var granteeNames = AuthorizationService.distinct(requests, AuthorizationCheckRequest::getGranteeName);
+        var accountNumbers = AuthorizationService.distinct(requests, AuthorizationCheckRequest::getAccountNumber);
+        if (granteeNames.isEmpty() || accountNumbers.isEmpty()) {
+            return Mono.just(new GrantIndex());
+        }
+        return powerOfAttorneyRepository
+                .findByGranteeNamesAndAccountNumbers(granteeNames, accountNumbers)
+                .collectList()
+                .map(AuthorizationService::index);
+    }
+}
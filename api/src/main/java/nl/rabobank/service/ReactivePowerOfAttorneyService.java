@@ -0,0 +1,159 @@
+package nl.rabobank.service;
+
+import static org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type.REACTIVE;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import lombok.RequiredArgsConstructor;
+import nl.rabobank.access.AuthorizationIndex;
+import nl.rabobank.apimapper.PowerOfAttorneyApiMapper;
+import nl.rabobank.authorizations.PowerOfAttorney;
+import nl.rabobank.config.BulkGrantProperties;
+import nl.rabobank.config.StreamingProperties;
+import nl.rabobank.document.PowerOfAttorneyDocument;
+import nl.rabobank.dto.PowerOfAttorneyRequest;
+import nl.rabobank.exception.AccountNotFoundException;
+import nl.rabobank.exception.BatchTooLargeException;
+import nl.rabobank.exception.GrantNotAllowedException;
+import nl.rabobank.mapper.GranteeGrantsMapper;
+import nl.rabobank.mapper.PowerOfAttorneyMapper;
+import nl.rabobank.readmodel.GranteeReadModel;
+import nl.rabobank.repository.reactive.ReactiveGranteeGrantsRepository;
+import nl.rabobank.repository.reactive.ReactivePowerOfAttorneyRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/** Non-blocking counterpart of {@link PowerOfAttorneyService}, only active on the reactive stack. */
+@Service
+@ConditionalOnWebApplication(type = REACTIVE)
+@RequiredArgsConstructor
+public class ReactivePowerOfAttorneyService {
+
+    private final ReactivePowerOfAttorneyRepository powerOfAttorneyRepository;
+    private final PowerOfAttorneyApiMapper powerOfAttorneyApiMapper;
+    private final PowerOfAttorneyMapper powerOfAttorneyMapper;
+
+    private final ReactiveAccountService accountService;
+    private final BulkGrantProperties bulkGrantProperties;
+    private final StreamingProperties streamingProperties;
+    private final GrantRequestChecker grantRequestChecker;
+    private final AuthorizationIndex authorizationIndex;
+
+    private final ReactiveGranteeGrantsRepository granteeGrantsRepository;
+    private final GranteeGrantsMapper granteeGrantsMapper;
+    private final GranteeReadModel granteeReadModel;
+
+    public Mono<PowerOfAttorney> grantAccess(PowerOfAttorneyRequest request) {
+        return accountService
+                .findByAccountNumber(request.getAccountNumber())
+                .switchIfEmpty(Mono.error(() -> new AccountNotFoundException(
+                        "No account found with number: %s".formatted(request.getAccountNumber()))))
+                .flatMap(account -> {
+                    if (!account.accountHolderName().equals(request.getGrantorName())) {
+                        return Mono.error(
+                                new GrantNotAllowedException("The grantor %s is not the accountHolder for account %s"
+                                        .formatted(request.getGrantorName(), request.getAccountNumber())));
+                    }
+                    var powerOfAttorney = powerOfAttorneyApiMapper.toDomain(request, account);
+                    return powerOfAttorneyRepository
+                            .insert(powerOfAttorneyMapper.toDocument(powerOfAttorney))
+                            .map(inserted -> powerOfAttorneyMapper.toDomain(inserted, account));
+                })
+                .flatMap(granted -> addToReadModel(List.of(granted)).thenReturn(granted))
+                .doOnNext(authorizationIndex::add);
+    }
+
+    /**
+     * Same contract as {@link PowerOfAttorneyService#grantAccessBatch(List)}: one account query, one insert and one
+     * upsert of the grantee read model.
+     */
+    public Mono<List<GrantResult>> grantAccessBatch(List<PowerOfAttorneyRequest> requests) {
+        if (requests.size() > bulkGrantProperties.getMaxBatchSize()) {
+            return Mono.error(new BatchTooLargeException("Batch of %d grants exceeds the maximum of %d"
+                    .formatted(requests.size(), bulkGrantProperties.getMaxBatchSize())));
+        }
+
+        var accountNumbers = requests.stream()
+                .filter(Objects::nonNull)
+                .map(PowerOfAttorneyRequest::getAccountNumber)
+                .filter(Objects::nonNull)
+                .toList();
+
+        return accountService.findAllByAccountNumbers(accountNumbers).flatMap(accounts -> {
+            var results = new GrantResult[requests.size()];
+            var allowed = new ArrayList<PowerOfAttorneyDocument>();
+            var allowedIndexes = new ArrayList<Integer>();
+
+            for (int index = 0; index < requests.size(); index++) {
+                var request = requests.get(index);
+                var rejection = grantRequestChecker.reject(index, request, accounts);
+                if (rejection.isPresent()) {
+                    results[index] = rejection.get();
+                    continue;
+                }
+
+                var powerOfAttorney =
+                        powerOfAttorneyApiMapper.toDomain(request, accounts.get(request.getAccountNumber()));
+                allowed.add(powerOfAttorneyMapper.toDocument(powerOfAttorney));
+                allowedIndexes.add(index);
+            }
+
+            if (allowed.isEmpty()) {
+                return Mono.just(List.of(results));
+            }
+            return powerOfAttorneyRepository
+                    .insert(allowed)
+                    .map(inserted -> powerOfAttorneyMapper.toDomain(inserted, accounts))
+                    .collectList()
+                    .flatMap(granted -> addToReadModel(granted).thenReturn(granted))
+                    .map(granted -> {
+                        for (int i = 0; i < granted.size(); i++) {
+                            var index = allowedIndexes.get(i);
+                            authorizationIndex.add(granted.get(i));
+                            results[index] = GrantResult.granted(index, granted.get(i));
+                        }
+                        return List.of(results);
+                    });
+        });
+    }
+
+    /** Same contract as {@link PowerOfAttorneyService#findByGranteeName(String)}. */
+    public Flux<PowerOfAttorney> findByGranteeName(String granteeName) {
+        if (!granteeReadModel.isReady()) {
+            return resolve(powerOfAttorneyRepository.findByGranteeName(granteeName));
+        }
+
+        return granteeGrantsRepository.findById(granteeName).flatMapMany(document -> accountService
+                .findAllByAccountNumbers(granteeGrantsMapper.accountNumbers(document))
+                .flatMapIterable(accounts -> granteeGrantsMapper.toDomain(document, accounts)));
+    }
+
+    public Flux<PowerOfAttorney> findAll() {
+        return resolve(powerOfAttorneyRepository.findAll());
+    }
+
+    /** Grants only reference their account, the accounts are loaded with one {@code $in} query per batch of grants. */
+    private Flux<PowerOfAttorney> resolve(Flux<PowerOfAttorneyDocument> documents) {
+        return documents.buffer(streamingProperties.getBatchSize()).concatMap(batch -> accountService
+                .findAllByAccountNumbers(batch.stream()
+                        .map(PowerOfAttorneyDocument::accountReference)
+                        .filter(Objects::nonNull)
+                        .distinct()
+                        .toList())
+                .flatMapIterable(accounts -> batch.stream()
+                        .map(document -> powerOfAttorneyMapper.toDomain(document, accounts))
+                        .toList()));
+    }
+
+    // The grants are stored, a failed read model write must not fail the request; the stale marker is a blocking write
+    private Mono<Void> addToReadModel(List<PowerOfAttorney> granted) {
+        return granteeGrantsRepository
+                .push(granteeGrantsMapper.toAdditions(granted))
+                .onErrorResume(e -> Mono.<Void>fromRunnable(() -> granteeReadModel.markStale(e))
+                        .subscribeOn(Schedulers.boundedElastic()));
+    }
+}
@@ -0,0 +1,76 @@
+package nl.rabobank.streaming;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import nl.rabobank.config.StreamingProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * Writes a stream of elements straight to the response output stream, one element at a time. Memory use is bound by
+ * the cursor batch size instead of the result size, and the first element is flushed before the last one is read.
+ */
+@Component
+public class ResponseStreamWriter {
+
+    private final ObjectWriter objectWriter;
+    private final StreamingProperties streamingProperties;
+
+    public ResponseStreamWriter(ObjectMapper objectMapper, StreamingProperties streamingProperties) {
+        this.objectWriter = objectMapper
+                .writer()
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        this.streamingProperties = streamingProperties;
+    }
+
+    /** Newline delimited JSON, one element per line. */
+    public <T, R> StreamingResponseBody ndjson(Supplier<Stream<T>> source, Function<T, R> mapper) {
+        return out -> write(source, mapper, out, false);
+    }
+
+    /** A single JSON array, written element by element with chunked transfer encoding. */
+    public <T, R> StreamingResponseBody jsonArray(Supplier<Stream<T>> source, Function<T, R> mapper) {
+        return out -> write(source, mapper, out, true);
+    }
+
+    private <T, R> void write(Supplier<Stream<T>> source, Function<T, R> mapper, OutputStream out, boolean asArray)
+            throws IOException {
+        var flushInterval = streamingProperties.getBatchSize();
+
+        try (var stream = source.get();
+                var generator = objectWriter.createGenerator(out)) {
+            if (asArray) {
+                generator.writeStartArray();
+            } else {
+                generator.setRootValueSeparator(null);
+            }
+
+            var iterator = stream.iterator();
+            var written = 0L;
+
+            while (iterator.hasNext()) {
+                objectWriter.writeValue(generator, mapper.apply(iterator.next()));
+                if (!asArray) {
+                    generator.writeRaw('\n');
+                }
+
+                // Get the first element out immediately, then flush once per cursor batch
+                if (++written % flushInterval == 1 || flushInterval == 1) {
+                    generator.flush();
+                }
+            }
+
+            if (asArray) {
+                generator.writeEndArray();
+            }
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package nl.rabobank.streaming;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/** Groups the elements of a stream into consecutive batches, for work that is done once per batch instead of per element. */
+public final class StreamBatches {
+
+    private StreamBatches() {}
+
+    /**
+     * The elements of {@code source} in lists of {@code size}, the last one can be smaller. The source is read lazily,
+     * one batch at a time, and closed with the returned stream.
+     */
+    public static <T> Stream<List<T>> of(Stream<T> source, int size) {
+        if (size < 1) {
+            throw new IllegalArgumentException("Batch size must be positive, got " + size);
+        }
+
+        var elements = source.iterator();
+        var batches =
+                new Spliterators.AbstractSpliterator<List<T>>(
+                        Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL) {
+                    @Override
+                    public boolean tryAdvance(Consumer<? super List<T>> action) {
+                        if (!elements.hasNext()) {
+                            return false;
+                        }
+                        var batch = new ArrayList<T>(size);
+                        while (batch.size() < size && elements.hasNext()) {
+                            batch.add(elements.next());
+                        }
+                        action.accept(batch);
+                        return true;
+                    }
+                };
+        return StreamSupport.stream(batches, false).onClose(source::close);
+    }
+}
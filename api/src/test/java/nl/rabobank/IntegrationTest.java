@@ -4,17 +4,42 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.tuple;
 
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import nl.rabobank.account.Account;
+import nl.rabobank.account.AccountType;
+import nl.rabobank.account.MinorUnits;
+import nl.rabobank.account.PaymentAccount;
+import nl.rabobank.account.SavingsAccount;
+import nl.rabobank.authorizations.Authorization;
+import nl.rabobank.authorizations.PowerOfAttorney;
+import nl.rabobank.config.CacheConfiguration;
 import nl.rabobank.controller.AccountController;
 import nl.rabobank.controller.PowerOfAttorneyController;
+import nl.rabobank.document.AccountDocument;
+import nl.rabobank.document.GranteeGrantsDocument;
+import nl.rabobank.document.PowerOfAttorneyDocument;
 import nl.rabobank.dto.AccountRequest;
-import nl.rabobank.dto.AccountResponse;
+import nl.rabobank.dto.GrantResultResponse;
 import nl.rabobank.dto.PowerOfAttorneyRequest;
-import nl.rabobank.dto.PowerOfAttorneyResponse;
 import nl.rabobank.exception.AccountNotFoundException;
 import nl.rabobank.exception.DuplicateAccountException;
 import nl.rabobank.exception.GrantNotAllowedException;
+import nl.rabobank.migration.MigrationEngine;
+import nl.rabobank.readmodel.GranteeReadModel;
 import nl.rabobank.repository.AccountRepository;
+import nl.rabobank.repository.GranteeGrantsRepository;
 import nl.rabobank.repository.PowerOfAttorneyRepository;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
@@ -23,8 +48,12 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Bean;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.http.ResponseEntity;
 import org.springframework.test.context.ActiveProfiles;
@@ -48,6 +77,21 @@ class IntegrationTest {
     @Autowired
     private PowerOfAttorneyRepository powerOfAttorneyRepository;
 
+    @Autowired
+    private GranteeGrantsRepository granteeGrantsRepository;
+
+    @Autowired
+    private GranteeReadModel granteeReadModel;
+
+    @Autowired
+    private MigrationEngine migrationEngine;
+
+    @Autowired
+    private DatabaseCommandCounter databaseCommandCounter;
+
+    @Autowired
+    private CacheManager cacheManager;
+
     @Container
     @ServiceConnection
     static MongoDBContainer mongoDBContainer = new MongoDBContainer(DockerImageName.parse("mongo:7.0.14"))
@@ -63,7 +107,10 @@ class IntegrationTest {
     @BeforeEach
     void setUp() {
         powerOfAttorneyRepository.deleteAll();
+        granteeGrantsRepository.deleteAll();
         accountRepository.deleteAll();
+        // The repositories are cleared behind the back of the services, so the caches must follow
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
     }
 
     @ParameterizedTest
@@ -74,24 +121,24 @@ class IntegrationTest {
         "NL987654, Mary Doe, -500.0, SAVINGS"
     })
     void postAccounts_shouldCreateAccountAndVerifyInDatabase_forAccountRequest(
-            String accountNumber, String accountHolderName, Double initialBalance, String accountType) {
+            String accountNumber, String accountHolderName, BigDecimal initialBalance, String accountType) {
         var request = getAccountRequest(accountNumber, accountHolderName, initialBalance, accountType);
         var responseEntityForCreation = accountController.create(request);
 
         assertAccountCreationResponseEntity(
                 accountNumber, accountHolderName, initialBalance, accountType, responseEntityForCreation);
 
-        var responseEntityForFind = accountController.listAll();
+        var responseEntityForFind = accountController.listAll(null, null);
 
         assertThat(responseEntityForFind).isNotNull().satisfies(response -> {
             assertThat(response.getStatusCode()).isEqualTo(HttpStatusCode.valueOf(200));
             assertThat(response.hasBody()).isTrue();
             assertThat(response.getBody()).isNotNull().satisfies(body -> {
                 assertThat(body).hasSize(1);
-                assertThat(body.getFirst().getAccountNumber()).isEqualTo(accountNumber);
-                assertThat(body.getFirst().getAccountHolderName()).isEqualTo(accountHolderName);
-                assertThat(body.getFirst().getBalance()).isEqualTo(initialBalance.toString());
-                assertThat(body.getFirst().getAccountType()).isEqualTo(accountType);
+                assertThat(body.getFirst().accountNumber()).isEqualTo(accountNumber);
+                assertThat(body.getFirst().accountHolderName()).isEqualTo(accountHolderName);
+                assertThat(body.getFirst().balance()).isEqualTo(MinorUnits.of(initialBalance));
+                assertThat(accountType(body.getFirst())).isEqualTo(accountType);
             });
         });
     }
@@ -106,7 +153,7 @@ class IntegrationTest {
             String granteeName,
             String authorization,
             String accountNumber,
-            Double balance,
+            BigDecimal balance,
             String accountType) {
 
         var accountRequest = getAccountRequest(accountNumber, grantorName, balance, accountType);
@@ -128,11 +175,11 @@ class IntegrationTest {
         assertThat(databaseResponseEntity.getBody()).isNotNull().satisfies(body -> {
             assertThat(body).isNotNull();
             assertThat(body).hasSize(1);
-            assertThat(body.getFirst().getGranteeName()).isEqualTo(granteeName);
-            assertThat(body.getFirst().getGrantorName()).isEqualTo(grantorName);
-            assertThat(body.getFirst().getAuthorization()).isEqualTo(authorization);
-            assertThat(body.getFirst().getAccount()).isNotNull();
-            assertThat(body.getFirst().getAccount().getAccountNumber()).isEqualTo(accountNumber);
+            assertThat(body.getFirst().granteeName()).isEqualTo(granteeName);
+            assertThat(body.getFirst().grantorName()).isEqualTo(grantorName);
+            assertThat(body.getFirst().authorization()).hasToString(authorization);
+            assertThat(body.getFirst().account()).isNotNull();
+            assertThat(body.getFirst().account().accountNumber()).isEqualTo(accountNumber);
         });
     }
 
@@ -148,7 +195,7 @@ class IntegrationTest {
             String firstAuthorization,
             String secondAuthorization,
             String accountNumber,
-            Double balance,
+            BigDecimal balance,
             String accountType) {
 
         var accountRequest = getAccountRequest(accountNumber, grantorName, balance, accountType);
@@ -178,20 +225,176 @@ class IntegrationTest {
         assertStatusAndListSizeFromDatabase(allPowerOfAttorneyDocumentsFromDatabase, 2);
 
         assertThat(allPowerOfAttorneyDocumentsFromDatabase.getBody())
-                .extracting(PowerOfAttorneyResponse::getGranteeName)
+                .extracting(PowerOfAttorney::granteeName)
                 .containsExactlyInAnyOrderElementsOf(List.of(firstGranteeName, secondGranteeName));
 
         assertThat(allPowerOfAttorneyDocumentsFromDatabase.getBody())
-                .extracting(PowerOfAttorneyResponse::getAuthorization)
+                .extracting(powerOfAttorney -> String.valueOf(powerOfAttorney.authorization()))
                 .containsExactlyInAnyOrderElementsOf(List.of(firstAuthorization, secondAuthorization));
     }
 
+    @Test
+    void postPowerOfAttorney_shouldReadAccountOnceInsertOnceAndUpdateReadModelOnce_perGrant() {
+        var accountRequest = getAccountRequest("NL444444444", "Round Trip", new BigDecimal("1000.0"), "PAYMENT");
+        accountController.create(accountRequest);
+
+        cacheManager.getCache(CacheConfiguration.ACCOUNTS_CACHE).clear();
+        databaseCommandCounter.reset();
+
+        var powerOfAttorneyRequest =
+                getPowerOfAttorneyRequest("Round Trip", "Grantee", "READ", "NL444444444", "PAYMENT");
+        var powerOfAttorneyResponseEntity = powerOfAttorneyController.grantAccess(powerOfAttorneyRequest);
+        assertPowerOfAttorneyCreationResponseEntity(
+                "Round Trip", "Grantee", "READ", "NL444444444", powerOfAttorneyResponseEntity);
+
+        assertThat(databaseCommandCounter.commands()).containsExactly("find", "insert", "update");
+    }
+
+    @Test
+    void postPowerOfAttorney_shouldNotReadAccount_forCachedAccount() {
+        var accountRequest = getAccountRequest("NL555555555", "Cached", new BigDecimal("1000.0"), "PAYMENT");
+        accountController.create(accountRequest);
+
+        databaseCommandCounter.reset();
+
+        var powerOfAttorneyRequest = getPowerOfAttorneyRequest("Cached", "Grantee", "READ", "NL555555555", "PAYMENT");
+        powerOfAttorneyController.grantAccess(powerOfAttorneyRequest);
+        accountController.getByAccountNumber("NL555555555");
+
+        assertThat(databaseCommandCounter.commands()).containsExactly("insert", "update");
+    }
+
+    @Test
+    void postPowerOfAttorneyBatch_shouldUseOneQueryOneInsertAndOneReadModelUpdate_forWholeBatch() {
+        accountController.create(getAccountRequest("NL610000001", "Team Lead", new BigDecimal("1000.0"), "PAYMENT"));
+        accountController.create(getAccountRequest("NL610000002", "Team Lead", new BigDecimal("1000.0"), "SAVINGS"));
+
+        var requests = new ArrayList<PowerOfAttorneyRequest>();
+        for (int i = 0; i < 50; i++) {
+            requests.add(getPowerOfAttorneyRequest(
+                    "Team Lead", "Member " + i, i % 2 == 0 ? "READ" : "WRITE", "NL61000000" + (1 + i % 2), "PAYMENT"));
+        }
+        requests.add(getPowerOfAttorneyRequest("Someone Else", "Member X", "READ", "NL610000001", "PAYMENT"));
+        requests.add(getPowerOfAttorneyRequest("Team Lead", "Member Y", "READ", "NL610000009", "PAYMENT"));
+
+        databaseCommandCounter.reset();
+
+        var response = powerOfAttorneyController.grantAccessBatch(requests);
+
+        assertThat(response.getBody())
+                .extracting(GrantResultResponse::getStatus)
+                .containsOnly("GRANTED", "NOT_ALLOWED", "ACCOUNT_NOT_FOUND")
+                .filteredOn("GRANTED"::equals)
+                .hasSize(50);
+        assertThat(response.getBody())
+                .last()
+                .extracting(GrantResultResponse::getStatus)
+                .isEqualTo("ACCOUNT_NOT_FOUND");
+        assertThat(databaseCommandCounter.commands()).containsExactly("find", "insert", "update");
+        assertThat(powerOfAttorneyRepository.count()).isEqualTo(50);
+    }
+
+    @Test
+    void getPowerOfAttorney_shouldReadGranteeDocumentOnce_andItsAccountsOnce() {
+        accountController.create(getAccountRequest("NL620000001", "Owner", new BigDecimal("1000.0"), "PAYMENT"));
+        accountController.create(getAccountRequest("NL620000002", "Owner", new BigDecimal("25.0"), "SAVINGS"));
+        granteeReadModel.seed();
+
+        powerOfAttorneyController.grantAccess(
+                getPowerOfAttorneyRequest("Owner", "Reader", "READ", "NL620000001", "PAYMENT"));
+        powerOfAttorneyController.grantAccess(
+                getPowerOfAttorneyRequest("Owner", "Reader", "WRITE", "NL620000002", "SAVINGS"));
+
+        databaseCommandCounter.reset();
+        var response = powerOfAttorneyController.list("Reader");
+
+        assertThat(response.getBody())
+                .extracting(
+                        powerOfAttorney -> powerOfAttorney.account().accountNumber(), PowerOfAttorney::authorization)
+                .containsExactly(tuple("NL620000001", Authorization.READ), tuple("NL620000002", Authorization.WRITE));
+        assertThat(databaseCommandCounter.commands()).containsExactly("find", "find");
+    }
+
+    @Test
+    void getPowerOfAttorney_shouldReadGrantsOnce_andTheirAccountsWithOneQuery() {
+        accountController.create(getAccountRequest("NL640000001", "Owner", new BigDecimal("1000.0"), "PAYMENT"));
+        accountController.create(getAccountRequest("NL640000002", "Owner", new BigDecimal("25.0"), "SAVINGS"));
+        powerOfAttorneyController.grantAccess(
+                getPowerOfAttorneyRequest("Owner", "First", "READ", "NL640000001", "PAYMENT"));
+        powerOfAttorneyController.grantAccess(
+                getPowerOfAttorneyRequest("Owner", "Second", "READ", "NL640000001", "PAYMENT"));
+        powerOfAttorneyController.grantAccess(
+                getPowerOfAttorneyRequest("Owner", "Third", "WRITE", "NL640000002", "SAVINGS"));
+
+        databaseCommandCounter.reset();
+        var response = powerOfAttorneyController.list(null);
+
+        assertThat(response.getBody())
+                .extracting(powerOfAttorney -> powerOfAttorney.account().accountNumber())
+                .containsExactlyInAnyOrder("NL640000001", "NL640000001", "NL640000002");
+        assertThat(databaseCommandCounter.commands()).containsExactly("find", "find");
+    }
+
+    @Test
+    void migrate_shouldReplaceEmbeddedAccount_byReference() {
+        var account = accountRepository.insert(AccountDocument.builder()
+                .accountNumber("NL650000001")
+                .accountHolderName("Owner")
+                .balance(new BigDecimal("1000.0"))
+                .accountType(AccountType.PAYMENT)
+                .build());
+        powerOfAttorneyRepository.insert(PowerOfAttorneyDocument.builder()
+                .granteeName("Legacy")
+                .grantorName("Owner")
+                .accountDocument(account)
+                .authorization(Authorization.READ)
+                .build());
+        // Grants written directly are not in the grantee read model, so the list of all grants shows how they are read
+        assertThat(powerOfAttorneyController.list(null).getBody())
+                .extracting(powerOfAttorney -> powerOfAttorney.account().accountNumber())
+                .containsExactly("NL650000001");
+        // Loaded grants are upgraded before the background migration reaches them
+        assertThat(powerOfAttorneyRepository.findByGranteeName("Legacy"))
+                .singleElement()
+                .satisfies(grant -> assertThat(grant.getAccountNumber()).isEqualTo("NL650000001"));
+
+        assertThat(migrationEngine.migrate()).isEqualTo(1);
+
+        assertThat(powerOfAttorneyRepository.findByGranteeName("Legacy"))
+                .singleElement()
+                .satisfies(grant -> {
+                    assertThat(grant.getAccountNumber()).isEqualTo("NL650000001");
+                    assertThat(grant.getAccountDocument()).isNull();
+                });
+        assertThat(powerOfAttorneyController.list(null).getBody())
+                .extracting(powerOfAttorney -> powerOfAttorney.account().accountNumber())
+                .containsExactly("NL650000001");
+        assertThat(migrationEngine.migrate()).isZero();
+    }
+
+    @Test
+    void rebuildGranteeReadModel_shouldRegenerateGrants_fromGrantsCollection() {
+        accountController.create(getAccountRequest("NL630000001", "Owner", new BigDecimal("1000.0"), "PAYMENT"));
+        powerOfAttorneyController.grantAccess(
+                getPowerOfAttorneyRequest("Owner", "Rebuilt", "READ", "NL630000001", "PAYMENT"));
+        granteeGrantsRepository.deleteAll();
+
+        granteeReadModel.rebuild();
+
+        assertThat(granteeGrantsRepository.findById("Rebuilt")).hasValueSatisfying(document -> assertThat(
+                        document.getGrants())
+                .extracting(
+                        GranteeGrantsDocument.Grant::getAccountNumber, GranteeGrantsDocument.Grant::getAuthorization)
+                .containsExactly(tuple("NL630000001", Authorization.READ)));
+        assertThat(powerOfAttorneyController.list("Rebuilt").getBody()).hasSize(1);
+    }
+
     @Test
     void get_shouldReturnAllAccounts_fromDatabase() {
         var accountsRequests = List.of(
-                getAccountRequest("NL111111111", "User One", 1000.0, "PAYMENT"),
-                getAccountRequest("NL222222222", "User Two", 2000.0, "SAVINGS"),
-                getAccountRequest("NL333333333", "User Three", 3000.0, "PAYMENT"));
+                getAccountRequest("NL111111111", "User One", new BigDecimal("1000.0"), "PAYMENT"),
+                getAccountRequest("NL222222222", "User Two", new BigDecimal("2000.0"), "SAVINGS"),
+                getAccountRequest("NL333333333", "User Three", new BigDecimal("3000.0"), "PAYMENT"));
 
         var accountResponseResponseEntities =
                 accountsRequests.stream().map(accountController::create).toList();
@@ -200,7 +403,7 @@ class IntegrationTest {
                     .filter(account -> {
                         Assertions.assertNotNull(accountResponse.getBody());
                         return account.getAccountNumber()
-                                .equals(accountResponse.getBody().getAccountNumber());
+                                .equals(accountResponse.getBody().accountNumber());
                     })
                     .findFirst()
                     .ifPresent(account -> assertAccountCreationResponseEntity(
@@ -211,24 +414,24 @@ class IntegrationTest {
                             accountResponse));
         });
 
-        var allAccountDocumentsFromDatabase = accountController.listAll();
+        var allAccountDocumentsFromDatabase = accountController.listAll(null, null);
         assertStatusAndListSizeFromDatabase(allAccountDocumentsFromDatabase, 3);
 
         assertThat(allAccountDocumentsFromDatabase.getBody())
-                .extracting(AccountResponse::getAccountNumber)
+                .extracting(Account::accountNumber)
                 .containsExactlyInAnyOrder("NL111111111", "NL222222222", "NL333333333");
 
         assertThat(allAccountDocumentsFromDatabase.getBody())
-                .extracting(AccountResponse::getBalance)
-                .containsExactlyInAnyOrder("1000.0", "2000.0", "3000.0");
+                .extracting(Account::balance)
+                .containsExactlyInAnyOrder(100000L, 200000L, 300000L);
     }
 
     @Test
     void get_shouldReturnAllPowerOfAttorney_fromDatabase() {
-        var accountRequest = getAccountRequest("NL555555555", "Main User", 5000.0, "SAVINGS");
+        var accountRequest = getAccountRequest("NL555555555", "Main User", new BigDecimal("5000.0"), "SAVINGS");
         var accountResponseResponseEntity = accountController.create(accountRequest);
         assertAccountCreationResponseEntity(
-                "NL555555555", "Main User", 5000.0, "SAVINGS", accountResponseResponseEntity);
+                "NL555555555", "Main User", new BigDecimal("5000.0"), "SAVINGS", accountResponseResponseEntity);
 
         var powerOfAttorneyRequests = List.of(
                 getPowerOfAttorneyRequest("Main User", "Grantee One", "READ", "NL555555555", "SAVINGS"),
@@ -244,7 +447,7 @@ class IntegrationTest {
                         Assertions.assertNotNull(powerOfAttorneyResponse.getBody());
                         return powerOfAttorneyRequest
                                 .getGranteeName()
-                                .equals(powerOfAttorneyResponse.getBody().getGranteeName());
+                                .equals(powerOfAttorneyResponse.getBody().granteeName());
                     })
                     .findFirst()
                     .ifPresent(powerOfAttorneyRequest -> assertPowerOfAttorneyCreationResponseEntity(
@@ -259,47 +462,116 @@ class IntegrationTest {
         assertStatusAndListSizeFromDatabase(allPowerOfAttorneyDocumentsFromDatabase, 3);
 
         assertThat(allPowerOfAttorneyDocumentsFromDatabase.getBody())
-                .extracting(PowerOfAttorneyResponse::getGranteeName)
+                .extracting(PowerOfAttorney::granteeName)
                 .containsExactlyInAnyOrder("Grantee One", "Grantee Two", "Grantee Three");
 
         assertThat(allPowerOfAttorneyDocumentsFromDatabase.getBody())
-                .filteredOn(powerOfAttorneyResponse ->
-                        powerOfAttorneyResponse.getAuthorization().equals("READ"))
+                .filteredOn(powerOfAttorneyResponse -> powerOfAttorneyResponse.authorization() == Authorization.READ)
                 .hasSize(2);
 
         assertThat(allPowerOfAttorneyDocumentsFromDatabase.getBody())
-                .filteredOn(powerOfAttorneyResponse ->
-                        powerOfAttorneyResponse.getAuthorization().equals("WRITE"))
+                .filteredOn(powerOfAttorneyResponse -> powerOfAttorneyResponse.authorization() == Authorization.WRITE)
                 .hasSize(1);
     }
 
     @Test
     void post_shouldRejectCreation_forDuplicateAccount() throws Exception {
-        var accountRequest = getAccountRequest("NL999999999", "Duplicate Test", 1000.0, "PAYMENT");
+        var accountRequest = getAccountRequest("NL999999999", "Duplicate Test", new BigDecimal("1000.0"), "PAYMENT");
         var accountResponseResponseEntity = accountController.create(accountRequest);
         assertAccountCreationResponseEntity(
-                "NL999999999", "Duplicate Test", 1000.0, "PAYMENT", accountResponseResponseEntity);
+                "NL999999999", "Duplicate Test", new BigDecimal("1000.0"), "PAYMENT", accountResponseResponseEntity);
 
-        var duplicateAccountRequest = getAccountRequest("NL999999999", "Other name", 1000.0, "PAYMENT");
+        var duplicateAccountRequest =
+                getAccountRequest("NL999999999", "Other name", new BigDecimal("1000.0"), "PAYMENT");
         assertThatThrownBy(() -> accountController.create(duplicateAccountRequest))
                 .isInstanceOf(DuplicateAccountException.class)
                 .hasMessage("Account already exists with number: NL999999999");
 
-        var allAccountDocumentsFromDatabase = accountController.listAll();
+        var allAccountDocumentsFromDatabase = accountController.listAll(null, null);
 
         assertThat(allAccountDocumentsFromDatabase).isNotNull().satisfies(response -> {
             assertThat(response.getStatusCode()).isEqualTo(HttpStatusCode.valueOf(200));
             assertThat(response.hasBody()).isTrue();
             assertThat(response.getBody()).isNotNull().satisfies(body -> {
                 assertThat(body).hasSize(1);
-                assertThat(body.getFirst().getAccountNumber()).isEqualTo("NL999999999");
-                assertThat(body.getFirst().getAccountHolderName()).isEqualTo("Duplicate Test");
-                assertThat(body.getFirst().getBalance()).isEqualTo("1000.0");
-                assertThat(body.getFirst().getAccountType()).isEqualTo("PAYMENT");
+                assertThat(body.getFirst().accountNumber()).isEqualTo("NL999999999");
+                assertThat(body.getFirst().accountHolderName()).isEqualTo("Duplicate Test");
+                assertThat(body.getFirst().balance()).isEqualTo(100000L);
+                assertThat(accountType(body.getFirst())).isEqualTo("PAYMENT");
             });
         });
     }
 
+    @Test
+    void post_shouldInsertOnce_perAccount() {
+        databaseCommandCounter.reset();
+
+        var accountResponseResponseEntity = accountController.create(
+                getAccountRequest("NL888888888", "Insert Once", new BigDecimal("1000.0"), "PAYMENT"));
+        assertAccountCreationResponseEntity(
+                "NL888888888", "Insert Once", new BigDecimal("1000.0"), "PAYMENT", accountResponseResponseEntity);
+
+        assertThat(databaseCommandCounter.commands()).containsExactly("insert");
+    }
+
+    @Test
+    void importAccounts_shouldStoreValidLinesWithOneBulkWrite_andReportEveryLine() throws Exception {
+        accountController.create(getAccountRequest("NL100000002", "Existing", new BigDecimal("1000.0"), "PAYMENT"));
+        databaseCommandCounter.reset();
+
+        var body = new ByteArrayInputStream("""
+                {"accountNumber":"NL100000001","accountHolderName":"Bulk One","accountType":"PAYMENT","initialBalance":10.0}
+                {"accountNumber":"NL100000002","accountHolderName":"Bulk Two","accountType":"SAVINGS"}
+                {"accountNumber":"NL100000003","accountType":"PAYMENT"}
+                {"accountNumber":"NL100000004","accountHolderName":"Bulk Four","accountType":"SAVINGS"}
+                """.getBytes(StandardCharsets.UTF_8));
+        var out = new ByteArrayOutputStream();
+        accountController.importAccounts(body).getBody().writeTo(out);
+
+        assertThat(out.toString(StandardCharsets.UTF_8).lines())
+                .extracting(line -> line.replaceAll(".*\"status\":\"(\\w+)\".*", "$1"))
+                .containsExactly("CREATED", "DUPLICATE", "INVALID", "CREATED");
+        assertThat(databaseCommandCounter.commands()).containsExactly("insert");
+
+        assertThat(accountRepository.findAll())
+                .extracting(AccountDocument::getAccountNumber, AccountDocument::getAccountHolderName)
+                .containsExactlyInAnyOrder(
+                        tuple("NL100000001", "Bulk One"),
+                        tuple("NL100000002", "Existing"),
+                        tuple("NL100000004", "Bulk Four"));
+    }
+
+    @Test
+    void post_shouldCreateExactlyOnce_forConcurrentDuplicateAccounts() throws Exception {
+        var concurrentCreates = 8;
+        var start = new CountDownLatch(1);
+
+        try (var executor = Executors.newFixedThreadPool(concurrentCreates)) {
+            var results = new ArrayList<Future<Boolean>>();
+            for (int i = 0; i < concurrentCreates; i++) {
+                var request = getAccountRequest("NL777777777", "Racer " + i, new BigDecimal("1000.0"), "PAYMENT");
+                results.add(executor.submit(() -> {
+                    start.await();
+                    try {
+                        accountController.create(request);
+                        return true;
+                    } catch (DuplicateAccountException e) {
+                        return false;
+                    }
+                }));
+            }
+            start.countDown();
+
+            var created = 0;
+            for (var result : results) {
+                created += result.get() ? 1 : 0;
+            }
+            assertThat(created).isEqualTo(1);
+        }
+
+        assertThat(accountRepository.count()).isEqualTo(1);
+    }
+
     @Test
     void post_shouldRejectPowerOfAttorney_forNonExistentAccount() throws Exception {
         var powerOfAttorneyRequest =
@@ -314,10 +586,15 @@ class IntegrationTest {
 
     @Test
     void post_shouldRejectPowerOfAttorney_forGrantorNotAccountHolder() throws Exception {
-        var accountRequest = getAccountRequest("NL999999999", "Valid AccountHolder", 1000.0, "PAYMENT");
+        var accountRequest =
+                getAccountRequest("NL999999999", "Valid AccountHolder", new BigDecimal("1000.0"), "PAYMENT");
         var accountResponseResponseEntity = accountController.create(accountRequest);
         assertAccountCreationResponseEntity(
-                "NL999999999", "Valid AccountHolder", 1000.0, "PAYMENT", accountResponseResponseEntity);
+                "NL999999999",
+                "Valid AccountHolder",
+                new BigDecimal("1000.0"),
+                "PAYMENT",
+                accountResponseResponseEntity);
 
         var powerOfAttorneyRequest =
                 getPowerOfAttorneyRequest("Invalid Grantor", "Grantee", "READ", "NL999999999", "PAYMENT");
@@ -332,9 +609,9 @@ class IntegrationTest {
     @Test
     void post_shouldCreateAndVerifyInDatabase_foMultipleAccountsAndGrants() {
         var accountsRequests = List.of(
-                getAccountRequest("NL100100100", "Alice", 1000.0, "PAYMENT"),
-                getAccountRequest("NL200200200", "Bob", 2000.0, "SAVINGS"),
-                getAccountRequest("NL300300300", "Charlie", 3000.0, "PAYMENT"));
+                getAccountRequest("NL100100100", "Alice", new BigDecimal("1000.0"), "PAYMENT"),
+                getAccountRequest("NL200200200", "Bob", new BigDecimal("2000.0"), "SAVINGS"),
+                getAccountRequest("NL300300300", "Charlie", new BigDecimal("3000.0"), "PAYMENT"));
 
         var accountResponseResponseEntities =
                 accountsRequests.stream().map(accountController::create).toList();
@@ -343,7 +620,7 @@ class IntegrationTest {
                     .filter(account -> {
                         Assertions.assertNotNull(accountResponse.getBody());
                         return account.getAccountNumber()
-                                .equals(accountResponse.getBody().getAccountNumber());
+                                .equals(accountResponse.getBody().accountNumber());
                     })
                     .findFirst()
                     .ifPresent(account -> assertAccountCreationResponseEntity(
@@ -371,13 +648,13 @@ class IntegrationTest {
                                         .getGranteeName()
                                         .equals(powerOfAttorneyResponse
                                                 .getBody()
-                                                .getGranteeName())
+                                                .granteeName())
                                 && powerOfAttorneyRequest
                                         .getAccountNumber()
                                         .equals(powerOfAttorneyResponse
                                                 .getBody()
-                                                .getAccount()
-                                                .getAccountNumber());
+                                                .account()
+                                                .accountNumber());
                     })
                     .findFirst()
                     .ifPresent(powerOfAttorneyRequest -> assertPowerOfAttorneyCreationResponseEntity(
@@ -388,7 +665,7 @@ class IntegrationTest {
                             powerOfAttorneyResponse));
         });
 
-        var allAccountDocumentsFromDatabase = accountController.listAll();
+        var allAccountDocumentsFromDatabase = accountController.listAll(null, null);
         assertStatusAndListSizeFromDatabase(allAccountDocumentsFromDatabase, 3);
 
         var allPowerOfAttorneyDocumentsFromDatabase = powerOfAttorneyController.list(null);
@@ -396,38 +673,38 @@ class IntegrationTest {
 
         assertThat(allPowerOfAttorneyDocumentsFromDatabase.getBody())
                 .filteredOn(powerOfAttorneyResponse ->
-                        powerOfAttorneyResponse.getGrantorName().equals("Alice"))
+                        powerOfAttorneyResponse.grantorName().equals("Alice"))
                 .hasSize(2)
                 .extracting(
-                        PowerOfAttorneyResponse::getGrantorName,
-                        PowerOfAttorneyResponse::getGranteeName,
+                        PowerOfAttorney::grantorName,
+                        PowerOfAttorney::granteeName,
                         powerOfAttorneyResponse ->
-                                powerOfAttorneyResponse.getAccount().getAccountNumber())
+                                powerOfAttorneyResponse.account().accountNumber())
                 .containsExactlyInAnyOrder(
                         tuple("Alice", "Bob", "NL100100100"), tuple("Alice", "Charlie", "NL100100100"));
 
         assertThat(allPowerOfAttorneyDocumentsFromDatabase.getBody())
                 .filteredOn(powerOfAttorneyResponse ->
-                        powerOfAttorneyResponse.getAccount().getAccountNumber().equals("NL100100100"))
+                        powerOfAttorneyResponse.account().accountNumber().equals("NL100100100"))
                 .hasSize(2)
-                .extracting(PowerOfAttorneyResponse::getGranteeName)
+                .extracting(PowerOfAttorney::granteeName)
                 .containsExactlyInAnyOrder("Bob", "Charlie");
 
         assertThat(allPowerOfAttorneyDocumentsFromDatabase.getBody())
                 .filteredOn(powerOfAttorneyResponse ->
-                        powerOfAttorneyResponse.getGranteeName().equals("Alice"))
+                        powerOfAttorneyResponse.granteeName().equals("Alice"))
                 .hasSize(2)
                 .extracting(
-                        PowerOfAttorneyResponse::getGrantorName,
-                        PowerOfAttorneyResponse::getGranteeName,
+                        PowerOfAttorney::grantorName,
+                        PowerOfAttorney::granteeName,
                         powerOfAttorneyResponse ->
-                                powerOfAttorneyResponse.getAccount().getAccountNumber())
+                                powerOfAttorneyResponse.account().accountNumber())
                 .containsExactlyInAnyOrder(
                         tuple("Bob", "Alice", "NL200200200"), tuple("Charlie", "Alice", "NL300300300"));
     }
 
     private static AccountRequest getAccountRequest(
-            String accountNumber, String accountHolderName, Double initialBalance, String accountType) {
+            String accountNumber, String accountHolderName, BigDecimal initialBalance, String accountType) {
         return AccountRequest.builder()
                 .accountNumber(accountNumber)
                 .accountHolderName(accountHolderName)
@@ -450,17 +727,17 @@ class IntegrationTest {
     private static void assertAccountCreationResponseEntity(
             String accountNumber,
             String accountHolderName,
-            Double initialBalance,
+            BigDecimal initialBalance,
             String accountType,
-            ResponseEntity<AccountResponse> responseEntityForCreation) {
+            ResponseEntity<Account> responseEntityForCreation) {
         assertThat(responseEntityForCreation).isNotNull().satisfies(response -> {
             assertThat(response.getStatusCode()).isEqualTo(HttpStatusCode.valueOf(201));
             assertThat(response.hasBody()).isTrue();
             assertThat(response.getBody()).satisfies(body -> {
-                assertThat(body.getAccountNumber()).isEqualTo(accountNumber);
-                assertThat(body.getAccountHolderName()).isEqualTo(accountHolderName);
-                assertThat(body.getBalance()).isEqualTo(initialBalance.toString());
-                assertThat(body.getAccountType()).isEqualTo(accountType);
+                assertThat(body.accountNumber()).isEqualTo(accountNumber);
+                assertThat(body.accountHolderName()).isEqualTo(accountHolderName);
+                assertThat(body.balance()).isEqualTo(MinorUnits.of(initialBalance));
+                assertThat(accountType(body)).isEqualTo(accountType);
             });
         });
     }
@@ -470,21 +747,28 @@ class IntegrationTest {
             String granteeName,
             String authorization,
             String accountNumber,
-            ResponseEntity<PowerOfAttorneyResponse> powerOfAttorneyResponseResponseEntity) {
+            ResponseEntity<PowerOfAttorney> powerOfAttorneyResponseResponseEntity) {
         assertThat(powerOfAttorneyResponseResponseEntity).isNotNull().satisfies(response -> {
             assertThat(response.getStatusCode()).isEqualTo(HttpStatusCode.valueOf(201));
             assertThat(response.hasBody()).isTrue();
             assertThat(response.getBody()).isNotNull().satisfies(body -> {
                 assertThat(body).isNotNull();
-                assertThat(body.getGranteeName()).isEqualTo(granteeName);
-                assertThat(body.getGrantorName()).isEqualTo(grantorName);
-                assertThat(body.getAuthorization()).isEqualTo(authorization);
-                assertThat(body.getAccount()).isNotNull();
-                assertThat(body.getAccount().getAccountNumber()).isEqualTo(accountNumber);
+                assertThat(body.granteeName()).isEqualTo(granteeName);
+                assertThat(body.grantorName()).isEqualTo(grantorName);
+                assertThat(body.authorization()).hasToString(authorization);
+                assertThat(body.account()).isNotNull();
+                assertThat(body.account().accountNumber()).isEqualTo(accountNumber);
             });
         });
     }
 
+    private static String accountType(Account account) {
+        return switch (account) {
+            case PaymentAccount p -> "PAYMENT";
+            case SavingsAccount s -> "SAVINGS";
+        };
+    }
+
     private static void assertStatusAndListSizeFromDatabase(ResponseEntity<? extends List<?>> documents, int size) {
         assertThat(documents).isNotNull().satisfies(response -> {
             assertThat(response.getStatusCode()).isEqualTo(HttpStatusCode.valueOf(200));
@@ -495,4 +779,42 @@ class IntegrationTest {
             });
         });
     }
+
+    @TestConfiguration
+    static class DatabaseCommandCounterConfiguration {
+
+        @Bean
+        DatabaseCommandCounter databaseCommandCounter() {
+            return new DatabaseCommandCounter();
+        }
+
+        @Bean
+        MongoClientSettingsBuilderCustomizer databaseCommandCounterCustomizer(DatabaseCommandCounter counter) {
+            return builder -> builder.addCommandListener(counter);
+        }
+    }
+
+    /** Records the data commands sent to Mongo, ignoring handshakes, heartbeats and index management. */
+    static class DatabaseCommandCounter implements CommandListener {
+
+        private static final Set<String> DATA_COMMANDS =
+                Set.of("find", "getMore", "insert", "update", "delete", "findAndModify", "aggregate", "count");
+
+        private final List<String> commands = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void commandStarted(CommandStartedEvent event) {
+            if (DATA_COMMANDS.contains(event.getCommandName())) {
+                commands.add(event.getCommandName());
+            }
+        }
+
+        void reset() {
+            commands.clear();
+        }
+
+        List<String> commands() {
+            return List.copyOf(commands);
+        }
+    }
 }
@@ -0,0 +1,171 @@
+package nl.rabobank.access;
+
+import static nl.rabobank.authorizations.Authorization.READ;
+import static nl.rabobank.authorizations.Authorization.WRITE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+import nl.rabobank.account.PaymentAccount;
+import nl.rabobank.authorizations.Authorization;
+import nl.rabobank.authorizations.PowerOfAttorney;
+import nl.rabobank.config.AuthorizationIndexProperties;
+import nl.rabobank.document.AccountDocument;
+import nl.rabobank.document.PowerOfAttorneyDocument;
+import nl.rabobank.repository.PowerOfAttorneyRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class AuthorizationIndexTest {
+
+    @Mock
+    private PowerOfAttorneyRepository powerOfAttorneyRepository;
+
+    private static final int GRANTS = 500;
+
+    private final AuthorizationIndexProperties properties = new AuthorizationIndexProperties();
+
+    private AuthorizationIndex authorizationIndex;
+
+    @BeforeEach
+    void setUp() {
+        authorizationIndex = new AuthorizationIndex(powerOfAttorneyRepository, properties);
+    }
+
+    @Test
+    void active_shouldBeEmpty_beforeIndexIsBuilt() {
+        assertThat(authorizationIndex.active()).isEmpty();
+        assertThat(authorizationIndex.status().ready()).isFalse();
+    }
+
+    @Test
+    void rebuild_shouldIndexAllGrants_fromDatabase() {
+        when(powerOfAttorneyRepository.streamAuthorizations(10_000))
+                .thenReturn(Stream.of(grant("Alice", "NL1", READ), legacyGrant("Bob", "NL1", WRITE)));
+
+        var status = authorizationIndex.rebuild();
+
+        assertThat(status).isEqualTo(new AuthorizationIndex.IndexStatus(true, 2, 2, 1));
+        assertThat(authorizationIndex.active()).hasValueSatisfying(index -> {
+            assertThat(index.isAllowed("Alice", "NL1", READ)).isTrue();
+            assertThat(index.isAllowed("Alice", "NL1", WRITE)).isFalse();
+            assertThat(index.isAllowed("Bob", "NL1", WRITE)).isTrue();
+        });
+    }
+
+    @Test
+    void rebuild_shouldSkipIncompleteGrants() {
+        when(powerOfAttorneyRepository.streamAuthorizations(10_000))
+                .thenReturn(Stream.of(
+                        grant("Alice", "NL1", null),
+                        PowerOfAttorneyDocument.builder()
+                                .granteeName("Bob")
+                                .authorization(READ)
+                                .build(),
+                        grant("Carol", "NL1", READ)));
+
+        assertThat(authorizationIndex.rebuild().grants()).isEqualTo(1);
+    }
+
+    @Test
+    void add_shouldAllowGrantedAccess_afterRebuild() {
+        when(powerOfAttorneyRepository.streamAuthorizations(10_000)).thenReturn(Stream.of());
+        authorizationIndex.rebuild();
+
+        authorizationIndex.add(powerOfAttorney("Alice", "NL1", WRITE));
+
+        assertThat(authorizationIndex.active().orElseThrow().isAllowed("Alice", "NL1", READ))
+                .isTrue();
+    }
+
+    @Test
+    void add_shouldNotLoseGrant_madeWhileRebuilding() {
+        // The grant is made after the cursor passed its position, so only the dual write puts it in the new index
+        when(powerOfAttorneyRepository.streamAuthorizations(10_000))
+                .thenReturn(Stream.of(grant("Alice", "NL1", READ))
+                        .peek(grant -> authorizationIndex.add(powerOfAttorney("Bob", "NL2", READ))));
+
+        authorizationIndex.rebuild();
+
+        assertThat(authorizationIndex.active().orElseThrow().isAllowed("Bob", "NL2", READ))
+                .isTrue();
+    }
+
+    @Test
+    void add_shouldNotLoseGrant_madeWhileIndexIsSwapped() throws Exception {
+        var stored = new ConcurrentLinkedQueue<PowerOfAttorneyDocument>();
+        when(powerOfAttorneyRepository.streamAuthorizations(10_000)).thenAnswer(invocation -> stored.stream());
+        authorizationIndex.rebuild();
+        var stop = new AtomicBoolean();
+        var rebuilds = Thread.ofPlatform().start(() -> {
+            while (!stop.get()) {
+                authorizationIndex.rebuild();
+            }
+        });
+
+        try {
+            for (var i = 0; i < GRANTS; i++) {
+                var accountNumber = "NL%06d".formatted(i);
+                stored.add(grant("Alice", accountNumber, READ));
+                authorizationIndex.add(powerOfAttorney("Alice", accountNumber, READ));
+                for (var granted : stored) {
+                    assertThat(authorizationIndex
+                                    .active()
+                                    .orElseThrow()
+                                    .isAllowed("Alice", granted.getAccountNumber(), READ))
+                            .as(granted.getAccountNumber())
+                            .isTrue();
+                }
+            }
+        } finally {
+            stop.set(true);
+            rebuilds.join();
+        }
+    }
+
+    @Test
+    void rebuild_shouldDoNothing_whenDisabled() {
+        properties.setEnabled(false);
+
+        var status = authorizationIndex.rebuild();
+
+        assertThat(status.ready()).isFalse();
+        verifyNoInteractions(powerOfAttorneyRepository);
+    }
+
+    private static PowerOfAttorneyDocument grant(
+            String granteeName, String accountNumber, Authorization authorization) {
+        return PowerOfAttorneyDocument.builder()
+                .granteeName(granteeName)
+                .accountNumber(accountNumber)
+                .authorization(authorization)
+                .build();
+    }
+
+    private static PowerOfAttorneyDocument legacyGrant(
+            String granteeName, String accountNumber, Authorization authorization) {
+        return PowerOfAttorneyDocument.builder()
+                .granteeName(granteeName)
+                .accountDocument(
+                        AccountDocument.builder().accountNumber(accountNumber).build())
+                .authorization(authorization)
+                .build();
+    }
+
+    private static PowerOfAttorney powerOfAttorney(
+            String granteeName, String accountNumber, Authorization authorization) {
+        return PowerOfAttorney.builder()
+                .granteeName(granteeName)
+                .grantorName("Holder")
+                .account(new PaymentAccount(accountNumber, "Holder", 0))
+                .authorization(authorization)
+                .build();
+    }
+}
@@ -0,0 +1,97 @@
+package nl.rabobank.access;
+
+import static nl.rabobank.authorizations.Authorization.READ;
+import static nl.rabobank.authorizations.Authorization.WRITE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+import nl.rabobank.authorizations.Authorization;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class GrantIndexTest {
+
+    private GrantIndex grantIndex;
+
+    @BeforeEach
+    void setUp() {
+        grantIndex = new GrantIndex();
+    }
+
+    @ParameterizedTest(name = "[{index}] {0} grant allows {1}: {2}")
+    @CsvSource({"READ, READ, true", "READ, WRITE, false", "WRITE, READ, true", "WRITE, WRITE, true"})
+    void isAllowed_shouldLetWriteImplyRead(Authorization granted, Authorization checked, boolean allowed) {
+        grantIndex.grant("Alice", "NL1", granted);
+
+        assertThat(grantIndex.isAllowed("Alice", "NL1", checked)).isEqualTo(allowed);
+    }
+
+    @Test
+    void isAllowed_shouldReturnFalse_forUnknownGranteeOrAccount() {
+        grantIndex.grant("Alice", "NL1", WRITE);
+
+        assertThat(grantIndex.isAllowed("Bob", "NL1", READ)).isFalse();
+        assertThat(grantIndex.isAllowed("Alice", "NL2", READ)).isFalse();
+        assertThat(grantIndex.isAllowed(null, "NL1", READ)).isFalse();
+        assertThat(grantIndex.isAllowed("Alice", null, READ)).isFalse();
+        assertThat(grantIndex.isAllowed("Alice", "NL1", null)).isFalse();
+    }
+
+    @Test
+    void isAllowed_shouldNotMixGrantees_onSameAccount() {
+        // Grantees are interned in this order, so the account's sorted id array is filled out of insertion order
+        grantIndex.grant("Carol", "NL0", READ);
+        grantIndex.grant("Alice", "NL0", READ);
+        grantIndex.grant("Bob", "NL0", READ);
+
+        grantIndex.grant("Bob", "NL1", WRITE);
+        grantIndex.grant("Alice", "NL1", READ);
+        grantIndex.grant("Carol", "NL1", READ);
+
+        assertThat(grantIndex.isAllowed("Bob", "NL1", WRITE)).isTrue();
+        assertThat(grantIndex.isAllowed("Alice", "NL1", WRITE)).isFalse();
+        assertThat(grantIndex.isAllowed("Carol", "NL1", WRITE)).isFalse();
+        assertThat(grantIndex.isAllowed("Carol", "NL1", READ)).isTrue();
+    }
+
+    @Test
+    void grant_shouldUpgradeReadToWrite_andNeverDowngrade() {
+        grantIndex.grant("Alice", "NL1", READ);
+        grantIndex.grant("Alice", "NL1", WRITE);
+        grantIndex.grant("Alice", "NL1", READ);
+
+        assertThat(grantIndex.isAllowed("Alice", "NL1", WRITE)).isTrue();
+        assertThat(grantIndex.grants()).isEqualTo(1);
+    }
+
+    @Test
+    void grant_shouldCountDistinctGranteesAccountsAndPairs() {
+        grantIndex.grant("Alice", "NL1", READ);
+        grantIndex.grant("Alice", "NL2", READ);
+        grantIndex.grant("Bob", "NL1", WRITE);
+        grantIndex.grant("Bob", "NL1", READ);
+
+        assertThat(grantIndex.grantees()).isEqualTo(2);
+        assertThat(grantIndex.accounts()).isEqualTo(2);
+        assertThat(grantIndex.grants()).isEqualTo(3);
+    }
+
+    @Test
+    void grant_shouldKeepEveryGrant_whenGrantingConcurrently() {
+        try (var executor = Executors.newFixedThreadPool(8)) {
+            IntStream.range(0, 10_000)
+                    .forEach(i -> executor.submit(() -> grantIndex.grant("Grantee " + i % 500, "NL" + i % 20, READ)));
+        }
+
+        // i % 500 determines i % 20, so there are 500 distinct pairs
+        assertThat(grantIndex.grants()).isEqualTo(500);
+        assertThat(IntStream.range(0, 10_000)
+                        .allMatch(i -> grantIndex.isAllowed("Grantee " + i % 500, "NL" + i % 20, READ)))
+                .isTrue();
+        assertThat(grantIndex.grantees()).isEqualTo(500);
+        assertThat(grantIndex.accounts()).isEqualTo(20);
+    }
+}
@@ -1,7 +1,9 @@
 package nl.rabobank.apimapper;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.math.BigDecimal;
 import nl.rabobank.account.AccountType;
 import nl.rabobank.account.PaymentAccount;
 import nl.rabobank.account.SavingsAccount;
@@ -19,15 +21,20 @@ class AccountApiMapperTest {
         mapper = new AccountApiMapper();
     }
 
-    @ParameterizedTest(name = "[{index}] {4}")
+    @ParameterizedTest(name = "[{index}] {5}")
     @CsvSource({
-        "NL123456, John Doe, 1000.0, PAYMENT, Payment account with positive balance",
-        "NL654321, Mary Doe, 500.0, SAVINGS, Savings account with positive balance",
-        "NL456789, John Doe, -1000.0, SAVINGS, Payment account with negative balance",
-        "NL987654, Mary Doe, -500.0, SAVINGS, Savings account with negative balance"
+        "NL123456, John Doe, 1000.0, 100000, PAYMENT, Payment account with positive balance",
+        "NL654321, Mary Doe, 500.05, 50005, SAVINGS, Savings account with positive balance",
+        "NL456789, John Doe, -1000, -100000, SAVINGS, Payment account with negative balance",
+        "NL987654, Mary Doe, -0.5, -50, SAVINGS, Savings account with negative balance"
     })
     void toDomain_shouldMap_fromRequest(
-            String accountNumber, String accountHolderName, Double balance, String accountType, String testName) {
+            String accountNumber,
+            String accountHolderName,
+            BigDecimal balance,
+            long minorUnits,
+            String accountType,
+            String testName) {
         var request = AccountRequest.builder()
                 .accountNumber(accountNumber)
                 .accountHolderName(accountHolderName)
@@ -46,7 +53,7 @@ class AccountApiMapperTest {
         assertThat(account).isNotNull().isInstanceOf(accountTypeClass).satisfies(acc -> {
             assertThat(acc.accountNumber()).isEqualTo(accountNumber);
             assertThat(acc.accountHolderName()).isEqualTo(accountHolderName);
-            assertThat(acc.balance()).isEqualTo(balance);
+            assertThat(acc.balance()).isEqualTo(minorUnits);
         });
     }
 
@@ -70,32 +77,20 @@ class AccountApiMapperTest {
         assertThat(account).isNotNull().isInstanceOf(accountTypeClass).satisfies(acc -> {
             assertThat(acc.accountNumber()).isEqualTo("NL123456");
             assertThat(acc.accountHolderName()).isEqualTo("John Doe");
-            assertThat(acc.balance()).isEqualTo(0.0);
+            assertThat(acc.balance()).isZero();
         });
     }
 
-    @ParameterizedTest(name = "[{index}] {4}")
-    @CsvSource({
-        "NL123456, John Doe, 1000.0, PAYMENT, Payment document with positive balance",
-        "NL654321, Mary Doe, 500.0, SAVINGS, Savings document with positive balance",
-        "NL456789, John Doe, -1000.0, SAVINGS, Payment document with negative balance",
-        "NL987654, Mary Doe, -500.0, SAVINGS, Savings document with negative balance"
-    })
-    void toResponse_shouldMap_fromAccount(
-            String accountNumber, String accountHolderName, Double balance, AccountType accountType, String testName) {
-        var account =
-                switch (accountType) {
-                    case PAYMENT -> new PaymentAccount(accountNumber, accountHolderName, balance);
-                    case SAVINGS -> new SavingsAccount(accountNumber, accountHolderName, balance);
-                };
-
-        var document = mapper.toResponse(account);
+    @ParameterizedTest
+    @CsvSource({"10.005", "0.001", "99999999999999999999"})
+    void toDomain_shouldThrowException_forBalanceNotInCents(BigDecimal balance) {
+        var request = AccountRequest.builder()
+                .accountNumber("NL123456")
+                .accountHolderName("John Doe")
+                .initialBalance(balance)
+                .accountType("PAYMENT")
+                .build();
 
-        assertThat(document).isNotNull().satisfies(doc -> {
-            assertThat(doc.getAccountNumber()).isEqualTo(accountNumber);
-            assertThat(doc.getAccountHolderName()).isEqualTo(accountHolderName);
-            assertThat(doc.getBalance()).isEqualTo(balance.toString());
-            assertThat(doc.getAccountType()).isEqualTo(accountType.toString());
-        });
+        assertThatThrownBy(() -> mapper.toDomain(request)).isInstanceOf(ArithmeticException.class);
     }
 }
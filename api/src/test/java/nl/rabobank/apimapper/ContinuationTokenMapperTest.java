@@ -0,0 +1,36 @@
+package nl.rabobank.apimapper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import nl.rabobank.exception.InvalidContinuationTokenException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class ContinuationTokenMapperTest {
+
+    private ContinuationTokenMapper mapper;
+
+    @BeforeEach
+    void setUp() {
+        mapper = new ContinuationTokenMapper();
+    }
+
+    @ParameterizedTest
+    @CsvSource({"NL100000001", "NL1", "NL999999999"})
+    void mapper_shouldReturnSameValue_forAccountNumberToTokenToAccountNumber(String accountNumber) {
+        var token = mapper.toToken(accountNumber);
+
+        assertThat(token).doesNotContain(accountNumber).doesNotContain("=");
+        assertThat(mapper.toAccountNumber(token)).isEqualTo(accountNumber);
+    }
+
+    @ParameterizedTest
+    @CsvSource({"not-base64!", "TkwxMDAwMDAwMDE", "djE6"})
+    void toAccountNumber_shouldThrowException_forInvalidToken(String token) {
+        assertThatThrownBy(() -> mapper.toAccountNumber(token))
+                .isInstanceOf(InvalidContinuationTokenException.class)
+                .hasMessage("Invalid continuation token: " + token);
+    }
+}
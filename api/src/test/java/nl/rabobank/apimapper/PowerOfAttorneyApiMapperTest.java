@@ -6,8 +6,6 @@ import nl.rabobank.account.Account;
 import nl.rabobank.account.AccountType;
 import nl.rabobank.account.PaymentAccount;
 import nl.rabobank.account.SavingsAccount;
-import nl.rabobank.authorizations.Authorization;
-import nl.rabobank.authorizations.PowerOfAttorney;
 import nl.rabobank.dto.PowerOfAttorneyRequest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -16,25 +14,23 @@ import org.junit.jupiter.params.provider.CsvSource;
 class PowerOfAttorneyApiMapperTest {
 
     private PowerOfAttorneyApiMapper mapper;
-    private AccountApiMapper accountApiMapper;
 
     @BeforeEach
     void setUp() {
-        accountApiMapper = new AccountApiMapper();
-        mapper = new PowerOfAttorneyApiMapper(accountApiMapper);
+        mapper = new PowerOfAttorneyApiMapper();
     }
 
     @ParameterizedTest(name = "[{index}] {6}")
     @CsvSource({
-        "John Doe, Frank Bank, READ, NL123456, 1000.0, PAYMENT, Grant READ",
-        "Mary Doe, Pieter Post, WRITE, NL654321, 500.0, SAVINGS, Grant WRITE",
+        "John Doe, Frank Bank, READ, NL123456, 100000, PAYMENT, Grant READ",
+        "Mary Doe, Pieter Post, WRITE, NL654321, 50000, SAVINGS, Grant WRITE",
     })
     void toDomain_shouldMap_fromPowerOfAttorneyRequest(
             String grantorName,
             String granteeName,
             String authorization,
             String accountNumber,
-            Double balance,
+            long balance,
             String accountType,
             String testName) {
 
@@ -57,40 +53,7 @@ class PowerOfAttorneyApiMapperTest {
         });
     }
 
-    @ParameterizedTest(name = "[{index}] {6}")
-    @CsvSource({
-        "John Doe, Frank Bank, READ, NL123456, 1000.0, PAYMENT, Grant READ",
-        "Mary Doe, Pieter Post, WRITE, NL654321, 500.0, SAVINGS, Grant WRITE",
-    })
-    void toResponse_shouldMap_fromPowerOfAttorney(
-            String grantorName,
-            String granteeName,
-            String authorization,
-            String accountNumber,
-            Double balance,
-            String accountType,
-            String testName) {
-        var account = getAccount(accountNumber, grantorName, balance, AccountType.valueOf(accountType));
-
-        var powerOfAttorney = PowerOfAttorney.builder()
-                .granteeName(granteeName)
-                .grantorName(grantorName)
-                .account(account)
-                .authorization(Authorization.valueOf(authorization))
-                .build();
-
-        var document = mapper.toResponse(powerOfAttorney);
-
-        assertThat(document).isNotNull().satisfies(doc -> {
-            assertThat(doc.getGranteeName()).isEqualTo(granteeName);
-            assertThat(doc.getGrantorName()).isEqualTo(grantorName);
-            assertThat(doc.getAuthorization()).isEqualTo(authorization);
-            assertThat(doc.getAccount()).isEqualTo(accountApiMapper.toResponse(account));
-        });
-    }
-
-    private Account getAccount(
-            String accountNumber, String accountHolderName, Double balance, AccountType accountType) {
+    private Account getAccount(String accountNumber, String accountHolderName, long balance, AccountType accountType) {
         return switch (accountType) {
             case PAYMENT -> new PaymentAccount(accountNumber, accountHolderName, balance);
             case SAVINGS -> new SavingsAccount(accountNumber, accountHolderName, balance);
@@ -0,0 +1,115 @@
+package nl.rabobank.benchmark;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.IntFunction;
+
+/** Closed-loop load: every client sends its requests one after the other, all clients run concurrently. */
+final class LoadDriver {
+
+    private static final HttpClient HTTP_CLIENT =
+            HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+
+    private LoadDriver() {}
+
+    /** Creates {@code count} accounts {@code NL000000}, {@code NL000001}, ... through the API. */
+    static void seedAccounts(String accountsUri, int count) throws Exception {
+        for (var i = 0; i < count; i++) {
+            var body = """
+                    {"accountNumber":"%s","accountHolderName":"%s","initialBalance":100.0,"accountType":"PAYMENT"}
+                    """.formatted(accountNumber(i), holder(i));
+            var response = HTTP_CLIENT.send(
+                    HttpRequest.newBuilder(URI.create(accountsUri))
+                            .header("Content-Type", "application/json")
+                            .POST(HttpRequest.BodyPublishers.ofString(body))
+                            .build(),
+                    HttpResponse.BodyHandlers.discarding());
+            if (response.statusCode() != 201) {
+                throw new IllegalStateException(
+                        "Seeding account %d failed with %d".formatted(i, response.statusCode()));
+            }
+        }
+    }
+
+    static String accountNumber(int i) {
+        return "NL%06d".formatted(i);
+    }
+
+    static String holder(int i) {
+        return "Holder " + i;
+    }
+
+    /**
+     * Sends {@code clients * requestsPerClient} requests, the n-th request of a client being built by {@code request}
+     * from {@code client + n}. Responses other than {@code expectedStatus} are counted as failures.
+     */
+    static Result run(
+            String name, int clients, int requestsPerClient, IntFunction<HttpRequest> request, int expectedStatus)
+            throws Exception {
+        List<Callable<long[]>> tasks = new ArrayList<>();
+        for (var client = 0; client < clients; client++) {
+            var offset = client;
+            tasks.add(() -> {
+                var latencies = new long[requestsPerClient];
+                for (var i = 0; i < requestsPerClient; i++) {
+                    var started = System.nanoTime();
+                    var response = HTTP_CLIENT.send(request.apply(offset + i), HttpResponse.BodyHandlers.discarding());
+                    // A failed request is recorded with a negative latency
+                    var latency = System.nanoTime() - started;
+                    latencies[i] = response.statusCode() == expectedStatus ? latency : -latency;
+                }
+                return latencies;
+            });
+        }
+
+        var started = System.nanoTime();
+        var all = new long[clients * requestsPerClient];
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            var position = 0;
+            for (Future<long[]> result : executor.invokeAll(tasks)) {
+                var latencies = result.get();
+                System.arraycopy(latencies, 0, all, position, latencies.length);
+                position += latencies.length;
+            }
+        }
+        var elapsed = Duration.ofNanos(System.nanoTime() - started);
+
+        var failures = Arrays.stream(all).filter(latency -> latency < 0).count();
+        var latencies = Arrays.stream(all).map(Math::abs).sorted().toArray();
+        return new Result(name, clients, latencies, failures, elapsed);
+    }
+
+    record Result(String name, int clients, long[] sortedLatencies, long failures, Duration elapsed) {
+
+        double throughput() {
+            return sortedLatencies.length / (elapsed.toNanos() / 1e9);
+        }
+
+        double percentileMillis(double percentile) {
+            var index = (int) Math.min(sortedLatencies.length - 1, Math.ceil(percentile * sortedLatencies.length) - 1);
+            return sortedLatencies[Math.max(0, index)] / 1e6;
+        }
+
+        void print() {
+            System.out.printf(
+                    "[%s] %d requests, %d clients: %.0f req/s, p50 %.2f ms, p99 %.2f ms, max %.2f ms, %d failed%n",
+                    name,
+                    sortedLatencies.length,
+                    clients,
+                    throughput(),
+                    percentileMillis(0.50),
+                    percentileMillis(0.99),
+                    percentileMillis(1.0),
+                    failures);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package nl.rabobank.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import nl.rabobank.RaboAssignmentApplication;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * Compares the servlet and the reactive stack under the same concurrent read load against one Mongo container.
+ *
+ * <p>Excluded from the regular build; run it with {@code mvn -pl api test -Pbenchmark}. Concurrency and the number of
+ * requests per client can be tuned with {@code -Dbenchmark.concurrency} and {@code -Dbenchmark.requests}.
+ */
+@Tag("benchmark")
+class StackBenchmarkTest {
+
+    private static final int ACCOUNTS = 1_000;
+    private static final int CONCURRENCY = Integer.getInteger("benchmark.concurrency", 256);
+    private static final int REQUESTS_PER_CLIENT = Integer.getInteger("benchmark.requests", 200);
+
+    private static final MongoDBContainer mongoDBContainer =
+            new MongoDBContainer(DockerImageName.parse("mongo:7.0.14"));
+
+    @BeforeAll
+    static void startMongo() {
+        mongoDBContainer.start();
+    }
+
+    @AfterAll
+    static void stopMongo() {
+        mongoDBContainer.stop();
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @ValueSource(strings = {"servlet", "reactive"})
+    void getByAccountNumber_underConcurrentLoad(String stack) throws Exception {
+        try (var context = new SpringApplicationBuilder(RaboAssignmentApplication.class)
+                .profiles("test")
+                .properties(
+                        "spring.main.web-application-type=" + stack,
+                        "server.port=0",
+                        "spring.data.mongodb.uri=" + mongoDBContainer.getReplicaSetUrl("benchmark-" + stack))
+                .run()) {
+            var port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            var accountsUri = "http://localhost:%d/api/v1/accounts".formatted(port);
+            LoadDriver.seedAccounts(accountsUri, ACCOUNTS);
+
+            // Warm up both the JIT and the caches before measuring
+            LoadDriver.run(stack, CONCURRENCY, REQUESTS_PER_CLIENT / 4, i -> get(accountsUri, i), 200);
+
+            var result = LoadDriver.run(stack, CONCURRENCY, REQUESTS_PER_CLIENT, i -> get(accountsUri, i), 200);
+            result.print();
+            assertThat(result.failures()).isZero();
+        }
+    }
+
+    private static HttpRequest get(String accountsUri, int i) {
+        return HttpRequest.newBuilder(URI.create(accountsUri + "/" + LoadDriver.accountNumber(i % ACCOUNTS)))
+                .GET()
+                .build();
+    }
+}
@@ -0,0 +1,84 @@
+package nl.rabobank.benchmark;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import nl.rabobank.RaboAssignmentApplication;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * Compares request handling on platform threads with virtual threads ({@code spring.threads.virtual.enabled}) for the
+ * account lookup and the grant endpoint, each with the connection pool sized for its threading model.
+ *
+ * <p>Excluded from the regular build; run it with {@code mvn -pl api test -Pbenchmark}. Concurrency should exceed the
+ * Tomcat thread pool (200) to show the difference; tune it with {@code -Dbenchmark.concurrency} and
+ * {@code -Dbenchmark.requests}. Requests failing with 503 ran out of pooled connections.
+ */
+@Tag("benchmark")
+class ThreadingBenchmarkTest {
+
+    private static final int ACCOUNTS = 1_000;
+    private static final int CONCURRENCY = Integer.getInteger("benchmark.concurrency", 1_000);
+    private static final int REQUESTS_PER_CLIENT = Integer.getInteger("benchmark.requests", 50);
+
+    private static final MongoDBContainer mongoDBContainer =
+            new MongoDBContainer(DockerImageName.parse("mongo:7.0.14"));
+
+    @BeforeAll
+    static void startMongo() {
+        mongoDBContainer.start();
+    }
+
+    @AfterAll
+    static void stopMongo() {
+        mongoDBContainer.stop();
+    }
+
+    @ParameterizedTest(name = "virtual threads {0}")
+    @ValueSource(booleans = {false, true})
+    void accountAndGrantEndpoints_underConcurrentLoad(boolean virtualThreads) throws Exception {
+        var threads = virtualThreads ? "virtual" : "platform";
+        try (var context = new SpringApplicationBuilder(RaboAssignmentApplication.class)
+                .profiles("test")
+                .properties(
+                        "spring.threads.virtual.enabled=" + virtualThreads,
+                        "server.port=0",
+                        "spring.data.mongodb.uri=" + mongoDBContainer.getReplicaSetUrl("benchmark-" + threads))
+                .run()) {
+            var port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            var baseUri = "http://localhost:%d/api/v1".formatted(port);
+            LoadDriver.seedAccounts(baseUri + "/accounts", ACCOUNTS);
+
+            LoadDriver.run(threads, CONCURRENCY, REQUESTS_PER_CLIENT / 5, i -> getAccount(baseUri, i), 200);
+
+            LoadDriver.run(threads + " GET account", CONCURRENCY, REQUESTS_PER_CLIENT, i -> getAccount(baseUri, i), 200)
+                    .print();
+            LoadDriver.run(threads + " POST grant", CONCURRENCY, REQUESTS_PER_CLIENT, i -> postGrant(baseUri, i), 201)
+                    .print();
+        }
+    }
+
+    private static HttpRequest getAccount(String baseUri, int i) {
+        return HttpRequest.newBuilder(URI.create(baseUri + "/accounts/" + LoadDriver.accountNumber(i % ACCOUNTS)))
+                .GET()
+                .build();
+    }
+
+    private static HttpRequest postGrant(String baseUri, int i) {
+        var account = i % ACCOUNTS;
+        var body = """
+                {"grantorName":"%s","granteeName":"Grantee %d","authorization":"READ","accountNumber":"%s","accountType":"PAYMENT"}
+                """.formatted(LoadDriver.holder(account), i, LoadDriver.accountNumber(account));
+        return HttpRequest.newBuilder(URI.create(baseUri + "/power-of-attorney"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+}
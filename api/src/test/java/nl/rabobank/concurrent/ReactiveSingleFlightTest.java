@@ -0,0 +1,89 @@
+package nl.rabobank.concurrent;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+class ReactiveSingleFlightTest {
+
+    private final ReactiveSingleFlight<String, String> singleFlight = new ReactiveSingleFlight<>();
+    private final AtomicInteger loads = new AtomicInteger();
+    private final Sinks.One<String> result = Sinks.one();
+
+    @Test
+    void execute_shouldSubscribeLoaderOnce_forConcurrentSubscribersOfSameKey() throws Exception {
+        var first = singleFlight.execute("NL123456", this::load).toFuture();
+        var second = singleFlight.execute("NL123456", this::load).toFuture();
+
+        result.tryEmitValue("account");
+
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("account");
+        assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo("account");
+        assertThat(loads).hasValue(1);
+        assertThat(singleFlight.inFlight()).isZero();
+    }
+
+    @Test
+    void execute_shouldShareEmptyCompletion() {
+        var first = singleFlight.execute("NL123456", this::load);
+        var second = singleFlight.execute("NL123456", this::load);
+
+        StepVerifier.create(first.mergeWith(second)).then(result::tryEmitEmpty).verifyComplete();
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void execute_shouldPropagateError_toAllSubscribers() {
+        var first = singleFlight.execute("NL123456", this::load).toFuture();
+        var second = singleFlight.execute("NL123456", this::load).toFuture();
+
+        result.tryEmitError(new IllegalStateException("database unavailable"));
+
+        for (var call : List.of(first, second)) {
+            assertThatThrownBy(() -> call.get(5, TimeUnit.SECONDS))
+                    .isInstanceOf(ExecutionException.class)
+                    .cause()
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessage("database unavailable");
+        }
+        assertThat(singleFlight.inFlight()).isZero();
+    }
+
+    @Test
+    void execute_shouldCompleteOtherSubscribers_whenTheFirstCancels() {
+        singleFlight.execute("NL123456", this::load).subscribe().dispose();
+        var second = singleFlight.execute("NL123456", this::load);
+
+        StepVerifier.create(second)
+                .then(() -> result.tryEmitValue("account"))
+                .expectNext("account")
+                .verifyComplete();
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void execute_shouldLoadAgain_afterTheCallCompleted() {
+        StepVerifier.create(singleFlight.execute("NL123456", () -> Mono.just("first")))
+                .expectNext("first")
+                .verifyComplete();
+
+        StepVerifier.create(singleFlight.execute("NL123456", () -> Mono.just("second")))
+                .expectNext("second")
+                .verifyComplete();
+    }
+
+    private Mono<String> load() {
+        return Mono.defer(() -> {
+            loads.incrementAndGet();
+            return result.asMono();
+        });
+    }
+}
@@ -0,0 +1,59 @@
+package nl.rabobank.concurrent;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class RebuildableSnapshotTest {
+
+    private final RebuildableSnapshot<Set<String>> snapshot = new RebuildableSnapshot<>("test-snapshot");
+
+    @Test
+    void update_shouldDoNothing_beforeFirstRebuild() {
+        snapshot.update(current -> current.add("NL1"));
+
+        assertThat(snapshot.active()).isNull();
+    }
+
+    @Test
+    void update_shouldApplyChange_toCurrentAndRebuildingStructure() {
+        var current = snapshot.rebuild(ConcurrentHashMap.newKeySet(), empty -> empty.add("NL1"));
+
+        var next = snapshot.rebuild(ConcurrentHashMap.newKeySet(), empty -> snapshot.update(set -> set.add("NL2")));
+
+        assertThat(snapshot.active()).isSameAs(next).containsExactly("NL2");
+        assertThat(current).containsExactlyInAnyOrder("NL1", "NL2");
+    }
+
+    @Test
+    void rebuild_shouldKeepCurrentStructure_whenFillFails() {
+        var current = snapshot.rebuild(ConcurrentHashMap.newKeySet(), empty -> empty.add("NL1"));
+
+        assertThatThrownBy(() -> snapshot.rebuild(ConcurrentHashMap.newKeySet(), empty -> {
+                    throw new IllegalStateException("cursor closed");
+                }))
+                .isInstanceOf(IllegalStateException.class);
+
+        assertThat(snapshot.active()).isSameAs(current);
+        snapshot.update(set -> set.add("NL2"));
+        assertThat(current).containsExactlyInAnyOrder("NL1", "NL2");
+    }
+
+    @Test
+    void rebuildPeriodically_shouldRebuildAgain_afterFailure() throws Exception {
+        var rebuilds = new CountDownLatch(3);
+
+        snapshot.rebuildPeriodically(Duration.ofMillis(10), () -> {
+            rebuilds.countDown();
+            throw new IllegalStateException("database down");
+        });
+
+        assertThat(rebuilds.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+}
@@ -0,0 +1,115 @@
+package nl.rabobank.concurrent;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class SingleFlightTest {
+
+    private static final int CALLERS = 16;
+
+    private final SingleFlight<String, String> singleFlight = new SingleFlight<>();
+
+    @Test
+    void execute_shouldRunLoaderOnce_forConcurrentCallersOfSameKey() throws Exception {
+        var loads = new AtomicInteger();
+        var release = new CountDownLatch(1);
+
+        var results = runConcurrently(
+                () -> singleFlight.execute("NL123456", () -> {
+                    loads.incrementAndGet();
+                    await(release);
+                    return "account";
+                }),
+                release);
+
+        for (var result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("account");
+        }
+        assertThat(loads).hasValue(1);
+        assertThat(singleFlight.inFlight()).isZero();
+    }
+
+    @Test
+    void execute_shouldPropagateException_toAllWaiters() throws Exception {
+        var loads = new AtomicInteger();
+        var release = new CountDownLatch(1);
+
+        var results = runConcurrently(
+                () -> singleFlight.execute("NL123456", () -> {
+                    loads.incrementAndGet();
+                    await(release);
+                    throw new IllegalStateException("database unavailable");
+                }),
+                release);
+
+        for (var result : results) {
+            assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS))
+                    .isInstanceOf(ExecutionException.class)
+                    .cause()
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessage("database unavailable");
+        }
+        assertThat(loads).hasValue(1);
+        assertThat(singleFlight.inFlight()).isZero();
+    }
+
+    @Test
+    void execute_shouldLoadAgain_afterCallCompleted() {
+        var loads = new AtomicInteger();
+
+        singleFlight.execute("NL123456", () -> "first-" + loads.incrementAndGet());
+        var second = singleFlight.execute("NL123456", () -> "second-" + loads.incrementAndGet());
+
+        assertThat(second).isEqualTo("second-2");
+    }
+
+    @Test
+    void execute_shouldNotCoalesce_differentKeys() {
+        assertThat(singleFlight.execute("NL1", () -> "one")).isEqualTo("one");
+        assertThat(singleFlight.execute("NL2", () -> "two")).isEqualTo("two");
+    }
+
+    /**
+     * Starts all callers, waits until the leader is loading and the others had time to join, then releases the
+     * loader.
+     */
+    private List<Future<String>> runConcurrently(Callable<String> call, CountDownLatch release)
+            throws InterruptedException {
+        var results = new ArrayList<Future<String>>();
+        try (var executor = Executors.newFixedThreadPool(CALLERS)) {
+            var ready = new CountDownLatch(CALLERS);
+            for (int i = 0; i < CALLERS; i++) {
+                results.add(executor.submit(() -> {
+                    ready.countDown();
+                    return call.call();
+                }));
+            }
+            ready.await(5, TimeUnit.SECONDS);
+            while (singleFlight.inFlight() == 0) {
+                Thread.onSpinWait();
+            }
+            Thread.sleep(100);
+            release.countDown();
+        }
+        return results;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
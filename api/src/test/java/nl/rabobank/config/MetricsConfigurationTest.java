@@ -0,0 +1,53 @@
+package nl.rabobank.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.math.BigDecimal;
+import nl.rabobank.apimapper.AccountApiMapper;
+import nl.rabobank.dto.AccountRequest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.EnableAspectJAutoProxy;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+@SpringJUnitConfig
+class MetricsConfigurationTest {
+
+    @Autowired
+    private AccountApiMapper accountApiMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void timedClass_shouldRecordTimerPerMethod() {
+        accountApiMapper.toDomain(AccountRequest.builder()
+                .accountNumber("NL1")
+                .accountHolderName("John Doe")
+                .initialBalance(new BigDecimal("1.0"))
+                .accountType("PAYMENT")
+                .build());
+
+        var timer = meterRegistry
+                .get("rabobank.mapper")
+                .tags("class", AccountApiMapper.class.getName(), "method", "toDomain", "exception", "none")
+                .timer();
+        assertThat(timer.count()).isEqualTo(1);
+    }
+
+    @Configuration
+    @EnableAspectJAutoProxy
+    @Import({MetricsConfiguration.class, AccountApiMapper.class})
+    static class Config {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+}
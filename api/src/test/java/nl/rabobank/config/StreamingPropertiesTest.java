@@ -0,0 +1,28 @@
+package nl.rabobank.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.Test;
+
+class StreamingPropertiesTest {
+
+    private final Validator validator =
+            Validation.buildDefaultValidatorFactory().getValidator();
+
+    @Test
+    void validate_shouldAcceptDefaults() {
+        assertThat(validator.validate(new StreamingProperties())).isEmpty();
+    }
+
+    @Test
+    void validate_shouldReject_forZeroBatchSize() {
+        var properties = new StreamingProperties();
+        properties.setBatchSize(0);
+
+        assertThat(validator.validate(properties))
+                .extracting(violation -> violation.getPropertyPath().toString())
+                .containsExactly("batchSize");
+    }
+}
@@ -2,24 +2,36 @@ package nl.rabobank.controller;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.math.BigDecimal;
 import java.util.List;
+import java.util.stream.Stream;
 import nl.rabobank.account.AccountType;
 import nl.rabobank.account.PaymentAccount;
 import nl.rabobank.account.SavingsAccount;
 import nl.rabobank.apimapper.AccountApiMapper;
+import nl.rabobank.apimapper.ContinuationTokenMapper;
+import nl.rabobank.config.StreamingProperties;
 import nl.rabobank.dto.AccountRequest;
-import nl.rabobank.dto.AccountResponse;
 import nl.rabobank.exception.AccountNotFoundException;
 import nl.rabobank.exception.DuplicateAccountException;
+import nl.rabobank.exception.InvalidContinuationTokenException;
+import nl.rabobank.service.AccountImportResult;
+import nl.rabobank.service.AccountImportService;
+import nl.rabobank.service.AccountPage;
 import nl.rabobank.service.AccountService;
+import nl.rabobank.streaming.ResponseStreamWriter;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -27,11 +39,14 @@ import org.junit.jupiter.params.provider.CsvSource;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
 @WebMvcTest(AccountController.class)
+@Import({ResponseStreamWriter.class, StreamingProperties.class})
 @ExtendWith(MockitoExtension.class)
 class AccountControllerTest {
 
@@ -44,18 +59,29 @@ class AccountControllerTest {
     @MockitoBean
     private AccountService accountService;
 
+    @MockitoBean
+    private AccountImportService accountImportService;
+
     @MockitoBean
     private AccountApiMapper accountApiMapper;
 
-    @ParameterizedTest(name = "[{index}] {4}")
+    @MockitoBean
+    private ContinuationTokenMapper continuationTokenMapper;
+
+    @ParameterizedTest(name = "[{index}] {5}")
     @CsvSource({
-        "NL123456, John Doe, 1000.0, PAYMENT, Should create payment account with positive balance",
-        "NL654321, Mary Doe, 500.0, SAVINGS, Should create savings account with positive balance",
-        "NL456789, John Doe, -1000.0, SAVINGS, Should create payment account with negative balance",
-        "NL987654, Mary Doe, -500.0, SAVINGS, Should create savings account with negative balance"
+        "NL123456, John Doe, 1000.00, 100000, PAYMENT, Should create payment account with positive balance",
+        "NL654321, Mary Doe, 500.00, 50000, SAVINGS, Should create savings account with positive balance",
+        "NL456789, John Doe, -1000.00, -100000, SAVINGS, Should create payment account with negative balance",
+        "NL987654, Mary Doe, -500.00, -50000, SAVINGS, Should create savings account with negative balance"
     })
     void create_shouldCreateAccount_forAccountRequest(
-            String accountNumber, String accountHolderName, Double balance, String accountType, String testName)
+            String accountNumber,
+            String accountHolderName,
+            BigDecimal balance,
+            long minorUnits,
+            String accountType,
+            String testName)
             throws Exception {
         var request = AccountRequest.builder()
                 .accountNumber(accountNumber)
@@ -66,19 +92,11 @@ class AccountControllerTest {
 
         var account =
                 switch (AccountType.valueOf(accountType)) {
-                    case PAYMENT -> new PaymentAccount(accountNumber, accountHolderName, balance);
-                    case SAVINGS -> new SavingsAccount(accountNumber, accountHolderName, balance);
+                    case PAYMENT -> new PaymentAccount(accountNumber, accountHolderName, minorUnits);
+                    case SAVINGS -> new SavingsAccount(accountNumber, accountHolderName, minorUnits);
                 };
 
-        var response = AccountResponse.builder()
-                .accountNumber(accountNumber)
-                .accountHolderName(accountHolderName)
-                .balance(balance.toString())
-                .accountType(accountType)
-                .build();
-
         when(accountService.createAccount(any(AccountRequest.class))).thenReturn(account);
-        when(accountApiMapper.toResponse(any())).thenReturn(response);
 
         mockMvc.perform(post("/api/v1/accounts")
                         .contentType(MediaType.APPLICATION_JSON)
@@ -91,7 +109,6 @@ class AccountControllerTest {
                 .andExpect(jsonPath("$.accountType").value(accountType));
 
         verify(accountService).createAccount(any(AccountRequest.class));
-        verify(accountApiMapper).toResponse(account);
     }
 
     @Test
@@ -99,7 +116,7 @@ class AccountControllerTest {
         var request = AccountRequest.builder()
                 .accountNumber("NL123456")
                 .accountHolderName("John Doe")
-                .initialBalance(1000.0)
+                .initialBalance(new BigDecimal("1000.0"))
                 .accountType("PAYMENT")
                 .build();
 
@@ -119,7 +136,7 @@ class AccountControllerTest {
     void create_shouldReturn400_forMissingFields() throws Exception {
         var request = AccountRequest.builder()
                 .accountNumber("NL123456")
-                .initialBalance(1000.0)
+                .initialBalance(new BigDecimal("1000.0"))
                 .build();
 
         mockMvc.perform(post("/api/v1/accounts")
@@ -133,25 +150,32 @@ class AccountControllerTest {
     }
 
     @Test
-    void getByAccountNumber_shouldReturn200_withAccount() throws Exception {
-        var account = new PaymentAccount("NL123456", "John Doe", 1000.0);
+    void create_shouldReturn400_forBalanceWithMoreThanTwoDecimals() throws Exception {
+        mockMvc.perform(post("/api/v1/accounts")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"accountNumber":"NL123456","accountHolderName":"John Doe","accountType":"PAYMENT","initialBalance":10.005}
+                                """))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.detail")
+                        .value("{initialBalance=initialBalance must have at most 16 digits and 2 decimals}"));
 
-        var response = AccountResponse.builder()
-                .accountNumber("NL123456")
-                .accountHolderName("John Doe")
-                .balance("1000.0")
-                .accountType("PAYMENT")
-                .build();
+        verifyNoInteractions(accountService);
+    }
+
+    @Test
+    void getByAccountNumber_shouldReturn200_withAccount() throws Exception {
+        var account = new PaymentAccount("NL123456", "John Doe", 100000);
 
         when(accountService.getByAccountNumber("NL123456")).thenReturn(account);
-        when(accountApiMapper.toResponse(account)).thenReturn(response);
 
         mockMvc.perform(get("/api/v1/accounts/NL123456").accept(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
-                .andExpect(content().json(objectMapper.writeValueAsString(response)));
+                .andExpect(content().json("""
+                                {"accountNumber":"NL123456","accountHolderName":"John Doe","accountType":"PAYMENT","balance":"1000.00"}
+                                """, true));
 
         verify(accountService).getByAccountNumber("NL123456");
-        verify(accountApiMapper).toResponse(account);
     }
 
     @Test
@@ -168,32 +192,138 @@ class AccountControllerTest {
 
     @Test
     void listAll_shouldReturn200_withListOfAccounts() throws Exception {
-        var acc1 = new PaymentAccount("NL1", "Alice", 100.0);
-        var acc2 = new SavingsAccount("NL2", "Bob", 200.0);
+        var acc1 = new PaymentAccount("NL1", "Alice", 10000);
+        var acc2 = new SavingsAccount("NL2", "Bob", 20000);
 
-        var response1 = AccountResponse.builder()
-                .accountNumber("NL1")
-                .accountHolderName("Alice")
-                .balance("100.0")
-                .accountType("PAYMENT")
-                .build();
-        var response2 = AccountResponse.builder()
-                .accountNumber("NL2")
-                .accountHolderName("Bob")
-                .balance("200.0")
-                .accountType("SAVINGS")
-                .build();
-
-        when(accountService.findAll()).thenReturn(List.of(acc1, acc2));
-        when(accountApiMapper.toResponse(acc1)).thenReturn(response1);
-        when(accountApiMapper.toResponse(acc2)).thenReturn(response2);
+        when(accountService.findPage(null, null)).thenReturn(new AccountPage(List.of(acc1, acc2), null));
 
         mockMvc.perform(get("/api/v1/accounts").accept(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.LINK))
                 .andExpect(jsonPath("$.length()").value(2))
                 .andExpect(jsonPath("$[0].accountNumber").value("NL1"))
-                .andExpect(jsonPath("$[1].accountNumber").value("NL2"));
+                .andExpect(jsonPath("$[1].accountNumber").value("NL2"))
+                .andExpect(jsonPath("$[1].accountType").value("SAVINGS"))
+                .andExpect(jsonPath("$[1].balance").value("200.00"));
+
+        verify(accountService).findPage(null, null);
+    }
 
-        verify(accountService).findAll();
+    @Test
+    void listAll_shouldReturnNextLink_whenMoreAccountsExist() throws Exception {
+        var acc1 = new PaymentAccount("NL1", "Alice", 10000);
+
+        when(continuationTokenMapper.toAccountNumber("token-0")).thenReturn("NL0");
+        when(continuationTokenMapper.toToken("NL1")).thenReturn("token-1");
+        when(accountService.findPage("NL0", 1)).thenReturn(new AccountPage(List.of(acc1), "NL1"));
+
+        mockMvc.perform(get("/api/v1/accounts?cursor=token-0&size=1").accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(header().string(
+                                HttpHeaders.LINK,
+                                "<http://localhost/api/v1/accounts?size=1&cursor=token-1>; rel=\"next\""))
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].accountNumber").value("NL1"));
+
+        verify(accountService).findPage("NL0", 1);
+    }
+
+    @Test
+    void listAll_shouldReturn400_forInvalidCursor() throws Exception {
+        when(continuationTokenMapper.toAccountNumber("garbage"))
+                .thenThrow(new InvalidContinuationTokenException("Invalid continuation token: garbage"));
+
+        mockMvc.perform(get("/api/v1/accounts").param("cursor", "garbage").accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.detail").value("Invalid continuation token: garbage"));
+    }
+
+    @Test
+    void listAll_shouldReturnPage_withoutAcceptHeader() throws Exception {
+        when(accountService.findPage(null, null)).thenReturn(new AccountPage(List.of(), null));
+
+        mockMvc.perform(get("/api/v1/accounts"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.length()").value(0));
+
+        verify(accountService).findPage(null, null);
+    }
+
+    @Test
+    void streamAll_shouldReturn200_withNdjson() throws Exception {
+        var acc1 = new PaymentAccount("NL1", "Alice", 10000);
+        var acc2 = new SavingsAccount("NL2", "Bob", 20000);
+
+        when(accountService.streamAll()).thenReturn(Stream.of(acc1, acc2));
+
+        var result = mockMvc.perform(get("/api/v1/accounts").accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string("""
+                                {"accountNumber":"NL1","accountHolderName":"Alice","accountType":"PAYMENT","balance":"100.00"}
+                                {"accountNumber":"NL2","accountHolderName":"Bob","accountType":"SAVINGS","balance":"200.00"}
+                                """));
+
+        verify(accountService).streamAll();
+    }
+
+    @Test
+    void streamAllAsJsonArray_shouldReturn200_withJsonArray() throws Exception {
+        var acc1 = new PaymentAccount("NL1", "Alice", 10000);
+
+        when(accountService.streamAll()).thenReturn(Stream.of(acc1));
+
+        var result = mockMvc.perform(
+                        get("/api/v1/accounts").param("stream", "true").accept(MediaType.APPLICATION_JSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].accountNumber").value("NL1"));
+
+        verify(accountService).streamAll();
+    }
+
+    @Test
+    void importAccounts_shouldStreamResultPerLine_forNdjsonBody() throws Exception {
+        var created = AccountImportResult.created(1, "NL1");
+        var invalid = AccountImportResult.invalid(2, null, List.of("accountNumber is required"));
+
+        when(accountImportService.importAccounts(any())).thenReturn(Stream.of(created, invalid));
+        when(accountApiMapper.toImportResponse(any())).thenCallRealMethod();
+
+        var result = mockMvc.perform(post("/api/v1/accounts/import")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .accept(MediaType.APPLICATION_NDJSON)
+                        .content("""
+                                {"accountNumber":"NL1","accountHolderName":"Alice","accountType":"PAYMENT"}
+                                {"accountHolderName":"Bob","accountType":"PAYMENT"}
+                                """))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string("""
+                                {"line":1,"accountNumber":"NL1","status":"CREATED","errors":[]}
+                                {"line":2,"accountNumber":null,"status":"INVALID","errors":["accountNumber is required"]}
+                                """));
+    }
+
+    @Test
+    void importAccounts_shouldReturn415_forJsonBody() throws Exception {
+        mockMvc.perform(post("/api/v1/accounts/import")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[]"))
+                .andExpect(status().isUnsupportedMediaType());
     }
 }
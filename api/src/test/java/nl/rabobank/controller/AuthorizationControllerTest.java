@@ -0,0 +1,126 @@
+package nl.rabobank.controller;
+
+import static nl.rabobank.authorizations.Authorization.READ;
+import static nl.rabobank.authorizations.Authorization.WRITE;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.Arrays;
+import java.util.List;
+import nl.rabobank.dto.AuthorizationCheckRequest;
+import nl.rabobank.exception.BatchTooLargeException;
+import nl.rabobank.service.AuthorizationDecision;
+import nl.rabobank.service.AuthorizationService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+@WebMvcTest(AuthorizationController.class)
+class AuthorizationControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private AuthorizationService authorizationService;
+
+    @Test
+    void check_shouldReturn200_withDecision() throws Exception {
+        var request = AuthorizationCheckRequest.builder()
+                .granteeName("Alice")
+                .accountNumber("NL1")
+                .authorization(WRITE)
+                .build();
+        when(authorizationService.check(request)).thenReturn(new AuthorizationDecision("Alice", "NL1", WRITE, false));
+
+        mockMvc.perform(get("/api/v1/authorizations/check")
+                        .param("granteeName", "Alice")
+                        .param("accountNumber", "NL1")
+                        .param("authorization", "WRITE"))
+                .andExpect(status().isOk())
+                .andExpect(content().json("""
+                                {"granteeName":"Alice","accountNumber":"NL1","authorization":"WRITE","allowed":false}
+                                """, true));
+
+        verify(authorizationService).check(request);
+    }
+
+    @Test
+    void check_shouldReturn400_forUnknownAuthorization() throws Exception {
+        mockMvc.perform(get("/api/v1/authorizations/check")
+                        .param("granteeName", "Alice")
+                        .param("accountNumber", "NL1")
+                        .param("authorization", "DELETE"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(authorizationService);
+    }
+
+    @Test
+    void checkBatch_shouldReturn200_withDecisionPerCheck() throws Exception {
+        when(authorizationService.checkBatch(any()))
+                .thenReturn(List.of(
+                        new AuthorizationDecision("Alice", "NL1", READ, true),
+                        new AuthorizationDecision("Bob", "NL1", WRITE, false)));
+
+        mockMvc.perform(post("/api/v1/authorizations/check")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                [{"granteeName":"Alice","accountNumber":"NL1","authorization":"READ"},
+                                 {"granteeName":"Bob","accountNumber":"NL1","authorization":"WRITE"}]
+                                """))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].allowed").value(true))
+                .andExpect(jsonPath("$[1].granteeName").value("Bob"))
+                .andExpect(jsonPath("$[1].allowed").value(false));
+
+        verify(authorizationService)
+                .checkBatch(List.of(
+                        AuthorizationCheckRequest.builder()
+                                .granteeName("Alice")
+                                .accountNumber("NL1")
+                                .authorization(READ)
+                                .build(),
+                        AuthorizationCheckRequest.builder()
+                                .granteeName("Bob")
+                                .accountNumber("NL1")
+                                .authorization(WRITE)
+                                .build()));
+    }
+
+    @Test
+    void checkBatch_shouldReturn200_withDeniedDecision_forNullCheck() throws Exception {
+        when(authorizationService.checkBatch(Arrays.asList((AuthorizationCheckRequest) null)))
+                .thenReturn(List.of(new AuthorizationDecision(null, null, null, false)));
+
+        mockMvc.perform(post("/api/v1/authorizations/check")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[null]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].allowed").value(false));
+    }
+
+    @Test
+    void checkBatch_shouldReturn400_forBatchAboveMaximum() throws Exception {
+        when(authorizationService.checkBatch(any()))
+                .thenThrow(new BatchTooLargeException("Batch of 2 checks exceeds the maximum of 1"));
+
+        mockMvc.perform(post("/api/v1/authorizations/check")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[{},{}]"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.detail").value("Batch of 2 checks exceeds the maximum of 1"));
+    }
+}
@@ -3,37 +3,45 @@ package nl.rabobank.controller;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.util.List;
+import java.util.stream.Stream;
 import nl.rabobank.account.Account;
 import nl.rabobank.account.AccountType;
 import nl.rabobank.account.PaymentAccount;
 import nl.rabobank.account.SavingsAccount;
-import nl.rabobank.apimapper.AccountApiMapper;
 import nl.rabobank.apimapper.PowerOfAttorneyApiMapper;
 import nl.rabobank.authorizations.Authorization;
 import nl.rabobank.authorizations.PowerOfAttorney;
-import nl.rabobank.dto.AccountResponse;
+import nl.rabobank.config.StreamingProperties;
+import nl.rabobank.dto.GrantResultResponse;
 import nl.rabobank.dto.PowerOfAttorneyRequest;
-import nl.rabobank.dto.PowerOfAttorneyResponse;
-import nl.rabobank.service.AccountService;
+import nl.rabobank.exception.AccountNotFoundException;
+import nl.rabobank.exception.BatchTooLargeException;
+import nl.rabobank.exception.GrantNotAllowedException;
+import nl.rabobank.service.GrantResult;
 import nl.rabobank.service.PowerOfAttorneyService;
+import nl.rabobank.streaming.ResponseStreamWriter;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
 @WebMvcTest(PowerOfAttorneyController.class)
+@Import({ResponseStreamWriter.class, StreamingProperties.class})
 class PowerOfAttorneyControllerTest {
 
     @Autowired
@@ -42,9 +50,6 @@ class PowerOfAttorneyControllerTest {
     @MockitoBean
     private PowerOfAttorneyService powerOfAttorneyService;
 
-    @MockitoBean
-    private AccountService accountService;
-
     @Autowired
     private final ObjectMapper objectMapper = new ObjectMapper();
 
@@ -62,7 +67,7 @@ class PowerOfAttorneyControllerTest {
                 .authorization(authorization)
                 .build();
 
-        var account = getAccount("NL01TEST", "Alice", 100.0, AccountType.valueOf("PAYMENT"));
+        var account = getAccount("NL01TEST", "Alice", 10000, AccountType.valueOf("PAYMENT"));
 
         var powerOfAttorney = PowerOfAttorney.builder()
                 .grantorName("Alice")
@@ -71,24 +76,17 @@ class PowerOfAttorneyControllerTest {
                 .authorization(Authorization.valueOf(authorization))
                 .build();
 
-        var powerOfAttorneyResponse = PowerOfAttorneyResponse.builder()
-                .id("random_id")
-                .grantorName("Alice")
-                .granteeName("Bob")
-                .authorization(authorization)
-                .account(getAccountResponse(account))
-                .build();
-
-        when(accountService.existsByAccountNumber(any())).thenReturn(true);
-        when(accountService.getByAccountNumber("NL01TEST")).thenReturn(account);
         when(powerOfAttorneyService.grantAccess(any())).thenReturn(powerOfAttorney);
-        when(powerOfAttorneyApiMapper.toResponse(powerOfAttorney)).thenReturn(powerOfAttorneyResponse);
 
         mockMvc.perform(post("/api/v1/power-of-attorney")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(request)))
                 .andExpect(status().isCreated())
-                .andExpect(content().json(objectMapper.writeValueAsString(powerOfAttorneyResponse)));
+                .andExpect(content().json("""
+                                {"id":null,"granteeName":"Bob","grantorName":"Alice","authorization":"%s",
+                                 "account":{"accountNumber":"NL01TEST","accountHolderName":"Alice",
+                                            "accountType":"PAYMENT","balance":"100.00"}}
+                                """.formatted(authorization), true));
     }
 
     @ParameterizedTest
@@ -102,7 +100,8 @@ class PowerOfAttorneyControllerTest {
                 .authorization(authorization)
                 .build();
 
-        when(accountService.existsByAccountNumber(any())).thenReturn(false);
+        when(powerOfAttorneyService.grantAccess(any()))
+                .thenThrow(new AccountNotFoundException("No account found with number: NL01TEST"));
 
         mockMvc.perform(post("/api/v1/power-of-attorney")
                         .contentType(MediaType.APPLICATION_JSON)
@@ -113,8 +112,6 @@ class PowerOfAttorneyControllerTest {
 
     @Test
     void grantAccess_shouldReturn403_forGrantorNotAccountHolder() throws Exception {
-        var account = getAccount("NL01TEST", "Alice", 100.0, AccountType.valueOf("PAYMENT"));
-
         var request = PowerOfAttorneyRequest.builder()
                 .grantorName("Peter")
                 .granteeName("Bob")
@@ -123,8 +120,9 @@ class PowerOfAttorneyControllerTest {
                 .authorization("READ")
                 .build();
 
-        when(accountService.existsByAccountNumber(any())).thenReturn(true);
-        when(accountService.getByAccountNumber("NL01TEST")).thenReturn(account);
+        when(powerOfAttorneyService.grantAccess(any()))
+                .thenThrow(new GrantNotAllowedException(
+                        "The grantor Peter is not the accountHolder for account NL01TEST"));
 
         mockMvc.perform(post("/api/v1/power-of-attorney")
                         .contentType(MediaType.APPLICATION_JSON)
@@ -153,7 +151,7 @@ class PowerOfAttorneyControllerTest {
 
     @Test
     void listByGrantee_shouldReturn200_withList() throws Exception {
-        var account = new PaymentAccount("NL1", "Alice", 100.0);
+        var account = new PaymentAccount("NL1", "Alice", 10000);
 
         var poa1 = PowerOfAttorney.builder()
                 .grantorName("Alice")
@@ -169,27 +167,8 @@ class PowerOfAttorneyControllerTest {
                 .account(account)
                 .build();
 
-        var response1 = PowerOfAttorneyResponse.builder()
-                .id("1")
-                .grantorName("Alice")
-                .granteeName("Bob")
-                .authorization("READ")
-                .account(new AccountApiMapper().toResponse(account))
-                .build();
-
-        var response2 = PowerOfAttorneyResponse.builder()
-                .id("2")
-                .grantorName("Charlie")
-                .granteeName("Bob")
-                .authorization("WRITE")
-                .account(new AccountApiMapper().toResponse(account))
-                .build();
-
         when(powerOfAttorneyService.findByGranteeName("Bob")).thenReturn(List.of(poa1, poa2));
 
-        when(powerOfAttorneyApiMapper.toResponse(poa1)).thenReturn(response1);
-        when(powerOfAttorneyApiMapper.toResponse(poa2)).thenReturn(response2);
-
         mockMvc.perform(get("/api/v1/power-of-attorney")
                         .param("granteeName", "Bob")
                         .accept(MediaType.APPLICATION_JSON))
@@ -213,15 +192,128 @@ class PowerOfAttorneyControllerTest {
         verify(powerOfAttorneyService).findByGranteeName("Nobody");
     }
 
-    private Account getAccount(
-            String accountNumber, String accountHolderName, Double balance, AccountType accountType) {
+    @Test
+    void streamByGrantee_shouldReturn200_withNdjson() throws Exception {
+        var account = new PaymentAccount("NL1", "Alice", 10000);
+
+        var poa = PowerOfAttorney.builder()
+                .grantorName("Alice")
+                .granteeName("Bob")
+                .authorization(Authorization.READ)
+                .account(account)
+                .build();
+
+        when(powerOfAttorneyService.streamByGranteeName("Bob")).thenReturn(Stream.of(poa, poa));
+
+        var result = mockMvc.perform(get("/api/v1/power-of-attorney")
+                        .param("granteeName", "Bob")
+                        .accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        var line = """
+                {"id":null,"granteeName":"Bob","grantorName":"Alice","authorization":"READ","account":\
+                {"accountNumber":"NL1","accountHolderName":"Alice","accountType":"PAYMENT","balance":"100.00"}}\
+                """;
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string(line + "\n" + line + "\n"));
+
+        verify(powerOfAttorneyService).streamByGranteeName("Bob");
+    }
+
+    @Test
+    void streamAllAsJsonArray_shouldReturn200_withEmptyArray() throws Exception {
+        when(powerOfAttorneyService.streamAll()).thenReturn(Stream.of());
+
+        var result = mockMvc.perform(
+                        get("/api/v1/power-of-attorney").param("stream", "true").accept(MediaType.APPLICATION_JSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.length()").value(0));
+
+        verify(powerOfAttorneyService).streamAll();
+    }
+
+    private Account getAccount(String accountNumber, String accountHolderName, long balance, AccountType accountType) {
         return switch (accountType) {
             case PAYMENT -> new PaymentAccount(accountNumber, accountHolderName, balance);
             case SAVINGS -> new SavingsAccount(accountNumber, accountHolderName, balance);
         };
     }
 
-    private AccountResponse getAccountResponse(Account account) {
-        return new AccountApiMapper().toResponse(account);
+    @Test
+    void grantAccessBatch_shouldReturn200_withResultPerRequest() throws Exception {
+        var requests = List.of(
+                PowerOfAttorneyRequest.builder()
+                        .grantorName("Alice")
+                        .granteeName("Bob")
+                        .accountNumber("NL01TEST")
+                        .accountType("PAYMENT")
+                        .authorization("READ")
+                        .build(),
+                PowerOfAttorneyRequest.builder()
+                        .grantorName("Alice")
+                        .granteeName("Carol")
+                        .accountNumber("NL02TEST")
+                        .accountType("PAYMENT")
+                        .authorization("READ")
+                        .build());
+
+        var granted = GrantResult.granted(
+                0,
+                PowerOfAttorney.builder()
+                        .grantorName("Alice")
+                        .granteeName("Bob")
+                        .account(getAccount("NL01TEST", "Alice", 10000, AccountType.PAYMENT))
+                        .authorization(Authorization.READ)
+                        .build());
+        var notFound = GrantResult.rejected(
+                1, GrantResult.Status.ACCOUNT_NOT_FOUND, List.of("No account found with number: NL02TEST"));
+
+        when(powerOfAttorneyService.grantAccessBatch(requests)).thenReturn(List.of(granted, notFound));
+        when(powerOfAttorneyApiMapper.toGrantResultResponse(granted))
+                .thenReturn(GrantResultResponse.builder()
+                        .index(0)
+                        .status("GRANTED")
+                        .powerOfAttorney(granted.powerOfAttorney())
+                        .errors(List.of())
+                        .build());
+        when(powerOfAttorneyApiMapper.toGrantResultResponse(notFound))
+                .thenReturn(GrantResultResponse.builder()
+                        .index(1)
+                        .status("ACCOUNT_NOT_FOUND")
+                        .errors(List.of("No account found with number: NL02TEST"))
+                        .build());
+
+        mockMvc.perform(post("/api/v1/power-of-attorney/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(requests)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].status").value("GRANTED"))
+                .andExpect(jsonPath("$[0].powerOfAttorney.granteeName").value("Bob"))
+                .andExpect(jsonPath("$[0].powerOfAttorney.account.balance").value("100.00"))
+                .andExpect(jsonPath("$[1].status").value("ACCOUNT_NOT_FOUND"))
+                .andExpect(jsonPath("$[1].errors[0]").value("No account found with number: NL02TEST"));
+
+        verify(powerOfAttorneyService).grantAccessBatch(requests);
+    }
+
+    @Test
+    void grantAccessBatch_shouldReturn400_forBatchAboveMaximum() throws Exception {
+        when(powerOfAttorneyService.grantAccessBatch(any()))
+                .thenThrow(new BatchTooLargeException("Batch of 2 grants exceeds the maximum of 1"));
+
+        mockMvc.perform(post("/api/v1/power-of-attorney/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[{},{}]"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.detail").value("Batch of 2 grants exceeds the maximum of 1"));
     }
 }
@@ -0,0 +1,134 @@
+package nl.rabobank.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.util.List;
+import nl.rabobank.account.PaymentAccount;
+import nl.rabobank.apimapper.AccountApiMapper;
+import nl.rabobank.apimapper.ContinuationTokenMapper;
+import nl.rabobank.dto.AccountRequest;
+import nl.rabobank.exception.AccountNotFoundException;
+import nl.rabobank.service.AccountPage;
+import nl.rabobank.service.ReactiveAccountImportService;
+import nl.rabobank.service.ReactiveAccountService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@WebFluxTest(ReactiveAccountController.class)
+@Import({AccountApiMapper.class, ContinuationTokenMapper.class})
+class ReactiveAccountControllerTest {
+
+    private static final PaymentAccount ACCOUNT = new PaymentAccount("NL123456", "John Doe", 100000);
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @MockitoBean
+    private ReactiveAccountService accountService;
+
+    @MockitoBean
+    private ReactiveAccountImportService accountImportService;
+
+    @Test
+    void create_shouldCreateAccount_forAccountRequest() {
+        when(accountService.createAccount(any(AccountRequest.class))).thenReturn(Mono.just(ACCOUNT));
+
+        webTestClient
+                .post()
+                .uri("/api/v1/accounts")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(AccountRequest.builder()
+                        .accountNumber("NL123456")
+                        .accountHolderName("John Doe")
+                        .initialBalance(new BigDecimal("1000.0"))
+                        .accountType("PAYMENT")
+                        .build())
+                .exchange()
+                .expectStatus()
+                .isCreated()
+                .expectBody()
+                .jsonPath("$.accountNumber")
+                .isEqualTo("NL123456")
+                .jsonPath("$.accountType")
+                .isEqualTo("PAYMENT");
+    }
+
+    @Test
+    void create_shouldReturnBadRequest_forInvalidAccountRequest() {
+        webTestClient
+                .post()
+                .uri("/api/v1/accounts")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(AccountRequest.builder().accountType("PAYMENT").build())
+                .exchange()
+                .expectStatus()
+                .isBadRequest()
+                .expectBody()
+                .jsonPath("$.detail")
+                .value(detail -> assertThat((String) detail).contains("accountNumber"));
+    }
+
+    @Test
+    void getByAccountNumber_shouldReturnNotFound_forUnknownAccount() {
+        when(accountService.getByAccountNumber("NL999999"))
+                .thenReturn(Mono.error(new AccountNotFoundException("Account with number 'NL999999' not found")));
+
+        webTestClient
+                .get()
+                .uri("/api/v1/accounts/NL999999")
+                .exchange()
+                .expectStatus()
+                .isNotFound()
+                .expectBody()
+                .jsonPath("$.detail")
+                .isEqualTo("Account with number 'NL999999' not found");
+    }
+
+    @Test
+    void listAll_shouldReturnLinkHeader_whenMoreAccountsExist() {
+        when(accountService.findPage("", 1)).thenReturn(Mono.just(new AccountPage(List.of(ACCOUNT), "NL123456")));
+
+        webTestClient
+                .get()
+                .uri("http://localhost/api/v1/accounts?size=1")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus()
+                .isOk()
+                .expectHeader()
+                .value(HttpHeaders.LINK, link -> assertThat(link)
+                        .startsWith("<http://localhost/api/v1/accounts?size=1&cursor=")
+                        .endsWith(">; rel=\"next\""))
+                .expectBody()
+                .jsonPath("$[0].accountNumber")
+                .isEqualTo("NL123456");
+    }
+
+    @Test
+    void streamAll_shouldStreamNdjson() {
+        when(accountService.streamAll()).thenReturn(Flux.just(ACCOUNT));
+
+        webTestClient
+                .get()
+                .uri("/api/v1/accounts")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus()
+                .isOk()
+                .expectHeader()
+                .contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .expectBody(String.class)
+                .value(body -> assertThat(body).contains("\"accountNumber\":\"NL123456\""));
+    }
+}
@@ -7,6 +7,8 @@ import static org.mockito.Mockito.when;
 import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.FieldError;
@@ -89,4 +91,35 @@ class GlobalExceptionHandlerTest {
                     .isEqualTo("The grantor Peter is not the accountHolder for account NL01TEST");
         });
     }
+
+    @Test
+    void handleBatchTooLarge_shouldReturnResponseEntity_forBatchTooLargeException() {
+        var exception = new BatchTooLargeException("Batch of 1001 grants exceeds the maximum of 1000");
+
+        var response = exceptionHandler.handleBatchTooLarge(exception);
+
+        assertThat(response).isNotNull().satisfies(resp -> {
+            assertThat(resp.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+            assertThat(resp.getBody()).isNotNull();
+            assertThat(resp.getBody().getStatus()).isEqualTo(400);
+            assertThat(resp.getBody().getDetail()).isEqualTo("Batch of 1001 grants exceeds the maximum of 1000");
+        });
+    }
+
+    @Test
+    void handleDatabaseUnavailable_shouldReturnServiceUnavailable_forConnectionPoolTimeout() {
+        var exception = new DataAccessResourceFailureException(
+                "Timed out after 2000 ms while waiting for a connection to server localhost:27017");
+
+        var response = exceptionHandler.handleDatabaseUnavailable(exception);
+
+        assertThat(response).isNotNull().satisfies(resp -> {
+            assertThat(resp.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+            assertThat(resp.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+            assertThat(resp.getBody()).isNotNull();
+            assertThat(resp.getBody().getStatus()).isEqualTo(503);
+            assertThat(resp.getBody().getDetail())
+                    .isEqualTo("The database is temporarily unavailable, please retry later");
+        });
+    }
 }
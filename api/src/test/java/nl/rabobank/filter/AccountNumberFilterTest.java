@@ -0,0 +1,141 @@
+package nl.rabobank.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+import nl.rabobank.config.AccountFilterProperties;
+import nl.rabobank.repository.AccountRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class AccountNumberFilterTest {
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    private static final int ACCOUNTS = 500;
+
+    private final AccountFilterProperties properties = new AccountFilterProperties();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private AccountNumberFilter accountNumberFilter;
+
+    @BeforeEach
+    void setUp() {
+        properties.setExpectedInsertions(1_000);
+        properties.setConfirmMisses(false);
+        accountNumberFilter = new AccountNumberFilter(accountRepository, properties, meterRegistry);
+    }
+
+    @Test
+    void mightExist_shouldReturnTrue_beforeFilterIsBuilt() {
+        assertThat(accountNumberFilter.mightExist("NL123456")).isTrue();
+        assertThat(accountNumberFilter.status().ready()).isFalse();
+    }
+
+    @Test
+    void mightExist_shouldShortCircuitUnknownAccounts_afterRebuild() {
+        when(accountRepository.count()).thenReturn(2L);
+        when(accountRepository.streamAccountNumbers(10_000)).thenReturn(Stream.of("NL1", "NL2"));
+
+        var status = accountNumberFilter.rebuild();
+
+        assertThat(status.ready()).isTrue();
+        assertThat(status.insertions()).isEqualTo(2);
+        assertThat(accountNumberFilter.mightExist("NL1")).isTrue();
+        assertThat(accountNumberFilter.mightExist("NL2")).isTrue();
+        assertThat(accountNumberFilter.mightExist("NL3")).isFalse();
+
+        assertThat(lookups("absent")).isEqualTo(1);
+        assertThat(lookups("might_exist")).isEqualTo(2);
+    }
+
+    @Test
+    void mightExist_shouldLetDatabaseConfirmUnknownAccounts_whenMissesAreConfirmed() {
+        properties.setConfirmMisses(true);
+        when(accountRepository.count()).thenReturn(1L);
+        when(accountRepository.streamAccountNumbers(10_000)).thenReturn(Stream.of("NL1"));
+        accountNumberFilter.rebuild();
+
+        // Created by another instance after the rebuild
+        assertThat(accountNumberFilter.mightExist("NL2")).isTrue();
+
+        assertThat(lookups("absent_confirming")).isEqualTo(1);
+        assertThat(lookups("absent")).isZero();
+    }
+
+    @Test
+    void add_shouldMakeCreatedAccountKnown_afterRebuild() {
+        when(accountRepository.streamAccountNumbers(10_000)).thenReturn(Stream.of());
+        accountNumberFilter.rebuild();
+
+        accountNumberFilter.add("NL123456");
+
+        assertThat(accountNumberFilter.mightExist("NL123456")).isTrue();
+    }
+
+    @Test
+    void add_shouldNotLoseAccount_createdWhileRebuilding() {
+        // The account is created after the cursor passed its position, so only the dual write puts it in the new filter
+        when(accountRepository.streamAccountNumbers(10_000))
+                .thenReturn(Stream.of("NL1").peek(accountNumber -> accountNumberFilter.add("NL999")));
+
+        accountNumberFilter.rebuild();
+
+        assertThat(accountNumberFilter.mightExist("NL999")).isTrue();
+    }
+
+    @Test
+    void add_shouldNotLoseAccount_createdWhileFilterIsSwapped() throws Exception {
+        var stored = new ConcurrentSkipListSet<String>();
+        when(accountRepository.streamAccountNumbers(10_000)).thenAnswer(invocation -> stored.stream());
+        var stop = new AtomicBoolean();
+        var rebuilds = Thread.ofPlatform().start(() -> {
+            while (!stop.get()) {
+                accountNumberFilter.rebuild();
+            }
+        });
+
+        try {
+            for (var i = 0; i < ACCOUNTS; i++) {
+                var accountNumber = "NL%06d".formatted(i);
+                stored.add(accountNumber);
+                accountNumberFilter.add(accountNumber);
+                for (var created : stored) {
+                    assertThat(accountNumberFilter.mightExist(created))
+                            .as(created)
+                            .isTrue();
+                }
+            }
+        } finally {
+            stop.set(true);
+            rebuilds.join();
+        }
+    }
+
+    @Test
+    void rebuild_shouldDoNothing_whenDisabled() {
+        properties.setEnabled(false);
+
+        assertThat(accountNumberFilter.rebuild().ready()).isFalse();
+        assertThat(accountNumberFilter.mightExist("NL123456")).isTrue();
+        verifyNoInteractions(accountRepository);
+    }
+
+    private double lookups(String result) {
+        return meterRegistry
+                .get("rabobank.account.filter.lookups")
+                .tag("result", result)
+                .counter()
+                .count();
+    }
+}
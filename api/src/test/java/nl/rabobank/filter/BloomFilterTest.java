@@ -0,0 +1,60 @@
+package nl.rabobank.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class BloomFilterTest {
+
+    @Test
+    void mightContain_shouldReturnTrue_forEveryPutValue() {
+        var filter = BloomFilter.create(10_000, 0.01);
+
+        IntStream.range(0, 10_000).forEach(i -> filter.put("NL" + i));
+
+        assertThat(IntStream.range(0, 10_000)).allMatch(i -> filter.mightContain("NL" + i));
+        assertThat(filter.insertions()).isEqualTo(10_000);
+    }
+
+    @ParameterizedTest
+    @CsvSource({"0.01", "0.001"})
+    void mightContain_shouldStayNearFalsePositiveRate_forAbsentValues(double falsePositiveRate) {
+        var filter = BloomFilter.create(10_000, falsePositiveRate);
+        IntStream.range(0, 10_000).forEach(i -> filter.put("NL" + i));
+
+        var falsePositives = IntStream.range(0, 100_000)
+                .filter(i -> filter.mightContain("BE" + i))
+                .count();
+
+        assertThat(falsePositives / 100_000.0).isLessThan(falsePositiveRate * 2);
+        assertThat(filter.currentFalsePositiveRate()).isLessThan(falsePositiveRate * 2);
+    }
+
+    @Test
+    void mightContain_shouldReturnFalse_forEmptyFilter() {
+        var filter = BloomFilter.create(100, 0.01);
+
+        assertThat(filter.mightContain("NL123456")).isFalse();
+        assertThat(filter.currentFalsePositiveRate()).isZero();
+    }
+
+    @Test
+    void create_shouldSizeFilter_forExpectedInsertionsAndRate() {
+        var filter = BloomFilter.create(1_000_000, 0.01);
+
+        // About 9.6 bits per value and 7 hash functions for a 1% false positive rate
+        assertThat(filter.bitSize()).isBetween(9_500_000L, 9_600_000L);
+        assertThat(filter.hashFunctions()).isEqualTo(7);
+    }
+
+    @ParameterizedTest
+    @CsvSource({"0, 0.01", "-1, 0.01", "100, 0", "100, 1", "100, 1.5"})
+    void create_shouldThrowException_forInvalidArguments(long expectedInsertions, double falsePositiveRate) {
+        assertThatThrownBy(() -> BloomFilter.create(expectedInsertions, falsePositiveRate))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
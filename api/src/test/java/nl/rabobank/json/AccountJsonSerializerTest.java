@@ -0,0 +1,81 @@
+package nl.rabobank.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import java.util.List;
+import nl.rabobank.account.Account;
+import nl.rabobank.account.AccountType;
+import nl.rabobank.account.PaymentAccount;
+import nl.rabobank.account.SavingsAccount;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class AccountJsonSerializerTest {
+
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = new ObjectMapper().registerModule(new SimpleModule().addSerializer(new AccountJsonSerializer()));
+    }
+
+    @ParameterizedTest(name = "[{index}] {5}")
+    @CsvSource({
+        "NL123456, John Doe, 100000, 1000.00, PAYMENT, Payment account with positive balance",
+        "NL654321, Mary Doe, 50005, 500.05, SAVINGS, Savings account with positive balance",
+        "NL456789, John Doe, -100000, -1000.00, SAVINGS, Savings account with negative balance",
+        "NL987654, Mary Doe, -50, -0.50, SAVINGS, Savings account with negative balance below one",
+        "NL000001, John Doe, 7, 0.07, PAYMENT, Payment account with balance below one",
+        "NL000002, John Doe, -9223372036854775808, -92233720368547758.08, PAYMENT, Payment account with lowest balance"
+    })
+    void serialize_shouldWriteResponseShape_forAccount(
+            String accountNumber,
+            String accountHolderName,
+            long balance,
+            String formattedBalance,
+            AccountType accountType,
+            String testName)
+            throws JsonProcessingException {
+        var account =
+                switch (accountType) {
+                    case PAYMENT -> new PaymentAccount(accountNumber, accountHolderName, balance);
+                    case SAVINGS -> new SavingsAccount(accountNumber, accountHolderName, balance);
+                };
+
+        var json = objectMapper.writeValueAsString(account);
+
+        assertThat(json)
+                .isEqualTo(
+                        "{\"accountNumber\":\"%s\",\"accountHolderName\":\"%s\",\"accountType\":\"%s\",\"balance\":\"%s\"}",
+                        accountNumber, accountHolderName, accountType, formattedBalance);
+    }
+
+    @Test
+    void serialize_shouldEscapeStrings() throws JsonProcessingException {
+        var account = new PaymentAccount("NL\"1", "Jöhn \\ Doe", 0);
+
+        var json = objectMapper.writeValueAsString(account);
+
+        assertThat(objectMapper.readTree(json).get("accountNumber").asText()).isEqualTo("NL\"1");
+        assertThat(objectMapper.readTree(json).get("accountHolderName").asText())
+                .isEqualTo("Jöhn \\ Doe");
+    }
+
+    @Test
+    void serialize_shouldWriteEachElement_forListOfAccounts() throws JsonProcessingException {
+        List<Account> accounts =
+                List.of(new PaymentAccount("NL1", "John Doe", 1), new SavingsAccount("NL2", "Mary Doe", 2));
+
+        var json = objectMapper.writeValueAsString(accounts);
+
+        assertThat(json)
+                .isEqualTo("[{\"accountNumber\":\"NL1\",\"accountHolderName\":\"John Doe\",\"accountType\":\"PAYMENT\","
+                        + "\"balance\":\"0.01\"},{\"accountNumber\":\"NL2\",\"accountHolderName\":\"Mary Doe\","
+                        + "\"accountType\":\"SAVINGS\",\"balance\":\"0.02\"}]");
+    }
+}
@@ -0,0 +1,79 @@
+package nl.rabobank.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import nl.rabobank.account.PaymentAccount;
+import nl.rabobank.account.SavingsAccount;
+import nl.rabobank.authorizations.Authorization;
+import nl.rabobank.authorizations.PowerOfAttorney;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class PowerOfAttorneyJsonSerializerTest {
+
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = new ObjectMapper()
+                .registerModule(new SimpleModule()
+                        .addSerializer(new AccountJsonSerializer())
+                        .addSerializer(new PowerOfAttorneyJsonSerializer()));
+    }
+
+    @ParameterizedTest(name = "[{index}] {3}")
+    @CsvSource({"John Doe, Frank Bank, READ, Grant READ", "Mary Doe, Pieter Post, WRITE, Grant WRITE"})
+    void serialize_shouldWriteResponseShape_forPowerOfAttorney(
+            String grantorName, String granteeName, Authorization authorization, String testName)
+            throws JsonProcessingException {
+        var powerOfAttorney = PowerOfAttorney.builder()
+                .grantorName(grantorName)
+                .granteeName(granteeName)
+                .authorization(authorization)
+                .account(new SavingsAccount("NL123456", grantorName, 100000))
+                .build();
+
+        var json = objectMapper.writeValueAsString(powerOfAttorney);
+
+        assertThat(json)
+                .isEqualTo(
+                        "{\"id\":null,\"granteeName\":\"%s\",\"grantorName\":\"%s\",\"authorization\":\"%s\","
+                                + "\"account\":{\"accountNumber\":\"NL123456\",\"accountHolderName\":\"%s\","
+                                + "\"accountType\":\"SAVINGS\",\"balance\":\"1000.00\"}}",
+                        granteeName, grantorName, authorization, grantorName);
+    }
+
+    @Test
+    void serialize_shouldWriteNull_forMissingAccountAndAuthorization() throws JsonProcessingException {
+        var powerOfAttorney = PowerOfAttorney.builder()
+                .grantorName("John Doe")
+                .granteeName("Frank Bank")
+                .build();
+
+        var json = objectMapper.writeValueAsString(powerOfAttorney);
+
+        assertThat(json)
+                .isEqualTo("{\"id\":null,\"granteeName\":\"Frank Bank\",\"grantorName\":\"John Doe\","
+                        + "\"authorization\":null,\"account\":null}");
+    }
+
+    @Test
+    void serialize_shouldMatchNestedAccount_withAccountSerializer() throws JsonProcessingException {
+        var account = new PaymentAccount("NL654321", "Mary Doe", -50);
+        var powerOfAttorney = PowerOfAttorney.builder()
+                .grantorName("Mary Doe")
+                .granteeName("Pieter Post")
+                .authorization(Authorization.READ)
+                .account(account)
+                .build();
+
+        var tree = objectMapper.readTree(objectMapper.writeValueAsString(powerOfAttorney));
+
+        assertThat(tree.get("account")).isEqualTo(objectMapper.readTree(objectMapper.writeValueAsString(account)));
+    }
+}
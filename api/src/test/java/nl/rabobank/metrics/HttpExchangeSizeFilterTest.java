@@ -0,0 +1,90 @@
+package nl.rabobank.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+class HttpExchangeSizeFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final HttpExchangeSizeFilter filter =
+            new HttpExchangeSizeFilter(new HttpExchangeSizeMetrics(meterRegistry));
+
+    @Test
+    void doFilter_shouldRecordBodySizes_perEndpoint() throws Exception {
+        var request = new MockHttpServletRequest("POST", "/api/v1/accounts");
+        request.setContent("{\"accountNumber\":\"NL1\"}".getBytes());
+        var response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+                req.getInputStream().readAllBytes();
+                req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/v1/accounts");
+                resp.setStatus(201);
+                resp.getOutputStream().write("{\"accountNumber\":\"NL1\",\"balance\":1}".getBytes());
+            }
+        }));
+
+        var requestSize = meterRegistry
+                .get(HttpExchangeSizeMetrics.REQUEST_SIZE)
+                .tags("method", "POST", "uri", "/api/v1/accounts", "status", "201")
+                .summary();
+        var responseSize = meterRegistry
+                .get(HttpExchangeSizeMetrics.RESPONSE_SIZE)
+                .tags("method", "POST", "uri", "/api/v1/accounts", "status", "201")
+                .summary();
+        assertThat(requestSize.count()).isEqualTo(1);
+        assertThat(requestSize.totalAmount()).isEqualTo(23);
+        assertThat(responseSize.totalAmount()).isEqualTo(35);
+        assertThat(response.getContentAsString()).isEqualTo("{\"accountNumber\":\"NL1\",\"balance\":1}");
+    }
+
+    @Test
+    void doFilter_shouldRecordEncodedSize_ofBodyWrittenThroughWriter() throws Exception {
+        var request = new MockHttpServletRequest("GET", "/api/v1/accounts/NL1");
+        var response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+                req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/v1/accounts/{accountNumber}");
+                resp.setCharacterEncoding("UTF-8");
+                resp.getWriter().write("{\"accountHolderName\":\"Zoë\"}");
+                resp.getWriter().print('€');
+            }
+        }));
+
+        var responseSize = meterRegistry
+                .get(HttpExchangeSizeMetrics.RESPONSE_SIZE)
+                .tags("method", "GET", "uri", "/api/v1/accounts/{accountNumber}", "status", "200")
+                .summary();
+        assertThat(responseSize.totalAmount()).isEqualTo(response.getContentAsByteArray().length);
+        assertThat(responseSize.totalAmount()).isEqualTo(31);
+    }
+
+    @Test
+    void doFilter_shouldTagUnknownUri_forUnmappedRequest() throws Exception {
+        var request = new MockHttpServletRequest("GET", "/unknown");
+        var response = new MockHttpServletResponse();
+        response.setStatus(404);
+
+        filter.doFilter(request, response, new MockFilterChain());
+
+        var responseSize = meterRegistry
+                .get(HttpExchangeSizeMetrics.RESPONSE_SIZE)
+                .tags("uri", "UNKNOWN", "status", "404")
+                .summary();
+        assertThat(responseSize.count()).isEqualTo(1);
+        assertThat(responseSize.totalAmount()).isZero();
+    }
+}
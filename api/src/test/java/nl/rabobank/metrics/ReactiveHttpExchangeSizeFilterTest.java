@@ -0,0 +1,56 @@
+package nl.rabobank.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.reactive.HandlerMapping;
+import org.springframework.web.util.pattern.PathPatternParser;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+class ReactiveHttpExchangeSizeFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ReactiveHttpExchangeSizeFilter filter =
+            new ReactiveHttpExchangeSizeFilter(new HttpExchangeSizeMetrics(meterRegistry));
+
+    @Test
+    void filter_shouldRecordBodySizes_perEndpoint() {
+        var exchange = MockServerWebExchange.from(
+                MockServerHttpRequest.post("/api/v1/accounts").body("{\"accountNumber\":\"NL1\"}"));
+
+        var filtered = filter.filter(
+                exchange, ex -> DataBufferUtils.join(ex.getRequest().getBody())
+                        .doOnNext(DataBufferUtils::release)
+                        .then(Mono.defer(() -> {
+                            ex.getAttributes()
+                                    .put(
+                                            HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE,
+                                            PathPatternParser.defaultInstance.parse("/api/v1/accounts"));
+                            ex.getResponse().setStatusCode(HttpStatus.CREATED);
+                            var body = ex.getResponse()
+                                    .bufferFactory()
+                                    .wrap("{\"accountNumber\":\"NL1\",\"balance\":1}".getBytes(StandardCharsets.UTF_8));
+                            return ex.getResponse().writeWith(Mono.just(body));
+                        })));
+
+        StepVerifier.create(filtered).verifyComplete();
+
+        var requestSize = meterRegistry
+                .get(HttpExchangeSizeMetrics.REQUEST_SIZE)
+                .tags("method", "POST", "uri", "/api/v1/accounts", "status", "201")
+                .summary();
+        var responseSize = meterRegistry
+                .get(HttpExchangeSizeMetrics.RESPONSE_SIZE)
+                .tags("method", "POST", "uri", "/api/v1/accounts", "status", "201")
+                .summary();
+        assertThat(requestSize.totalAmount()).isEqualTo(23);
+        assertThat(responseSize.totalAmount()).isEqualTo(35);
+    }
+}
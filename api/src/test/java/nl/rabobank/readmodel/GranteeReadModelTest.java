@@ -0,0 +1,219 @@
+package nl.rabobank.readmodel;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+import nl.rabobank.account.AccountType;
+import nl.rabobank.account.PaymentAccount;
+import nl.rabobank.authorizations.Authorization;
+import nl.rabobank.authorizations.PowerOfAttorney;
+import nl.rabobank.config.GranteeReadModelProperties;
+import nl.rabobank.document.GranteeGrantsDocument;
+import nl.rabobank.document.PowerOfAttorneyDocument;
+import nl.rabobank.mapper.AccountMapper;
+import nl.rabobank.mapper.GranteeGrantsMapper;
+import nl.rabobank.mapper.PowerOfAttorneyMapper;
+import nl.rabobank.repository.GranteeGrantsRepository;
+import nl.rabobank.repository.GranteeGrantsRepositoryCustom.Staleness;
+import nl.rabobank.repository.PowerOfAttorneyRepository;
+import nl.rabobank.service.AccountService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class GranteeReadModelTest {
+
+    @Mock
+    private GranteeGrantsRepository granteeGrantsRepository;
+
+    @Mock
+    private PowerOfAttorneyRepository powerOfAttorneyRepository;
+
+    @Mock
+    private AccountService accountService;
+
+    private static final PaymentAccount ACCOUNT = new PaymentAccount("NL1", "Bob", 100);
+
+    private final GranteeReadModelProperties properties = new GranteeReadModelProperties();
+
+    private GranteeReadModel granteeReadModel;
+
+    @BeforeEach
+    void setUp() {
+        properties.setCatchUpBatchSize(2);
+        granteeReadModel = new GranteeReadModel(
+                granteeGrantsRepository,
+                powerOfAttorneyRepository,
+                accountService,
+                new PowerOfAttorneyMapper(new AccountMapper()),
+                new GranteeGrantsMapper(),
+                properties);
+    }
+
+    @Test
+    void isReady_shouldBeFalse_beforeSeeding() {
+        assertThat(granteeReadModel.isReady()).isFalse();
+        assertThat(granteeReadModel.status()).isEqualTo(new GranteeReadModel.ReadModelStatus(false, null));
+    }
+
+    @Test
+    void seed_shouldUseExistingReadModel_withoutRebuilding() {
+        when(granteeGrantsRepository.isEmpty()).thenReturn(false);
+
+        granteeReadModel.seed();
+
+        assertThat(granteeReadModel.isReady()).isTrue();
+        verify(granteeGrantsRepository, never()).rebuild();
+    }
+
+    @Test
+    void seed_shouldRebuild_emptyReadModel() {
+        when(granteeGrantsRepository.isEmpty()).thenReturn(true);
+        when(powerOfAttorneyRepository.streamInsertedSince(any(), any(Integer.class)))
+                .thenReturn(Stream.of());
+
+        granteeReadModel.seed();
+
+        assertThat(granteeReadModel.isReady()).isTrue();
+        verify(granteeGrantsRepository).rebuild();
+    }
+
+    @Test
+    void rebuild_shouldAddRecentGrantsAgain_inBatchesAfterTheAggregation() {
+        var grants = List.of(grant("Alice"), grant("Bob"), grant("Carol"));
+        var since = ArgumentCaptor.forClass(Instant.class);
+        when(powerOfAttorneyRepository.streamInsertedSince(since.capture(), any(Integer.class)))
+                .thenReturn(grants.stream());
+        when(accountService.findAllByAccountNumbers(List.of("NL1"))).thenReturn(Map.of("NL1", ACCOUNT));
+        var batches = new ArrayList<List<GranteeGrantsDocument>>();
+        doAnswer(invocation -> batches.add(invocation.getArgument(0)))
+                .when(granteeGrantsRepository)
+                .addToSet(anyList());
+        var before = Instant.now();
+
+        var status = granteeReadModel.rebuild();
+
+        var after = Instant.now();
+        var order = inOrder(granteeGrantsRepository, powerOfAttorneyRepository);
+        order.verify(granteeGrantsRepository).rebuild();
+        order.verify(powerOfAttorneyRepository).streamInsertedSince(any(), any(Integer.class));
+        assertThat(batches).containsExactly(List.of(addition("Alice"), addition("Bob")), List.of(addition("Carol")));
+        // The entries carry the account type, so the accounts of every batch are read once
+        verify(accountService, times(2)).findAllByAccountNumbers(List.of("NL1"));
+        assertThat(since.getValue()).isBetween(before.minus(Duration.ofMinutes(1)), after.minus(Duration.ofMinutes(1)));
+        assertThat(status.ready()).isTrue();
+        assertThat(status.lastRebuild()).isAfterOrEqualTo(before);
+    }
+
+    @Test
+    void isReady_shouldBeFalse_whenDisabled() {
+        properties.setEnabled(false);
+        when(granteeGrantsRepository.isEmpty()).thenReturn(false);
+
+        granteeReadModel.seed();
+
+        assertThat(granteeReadModel.isReady()).isFalse();
+    }
+
+    @Test
+    void add_shouldMarkReadModelStale_whenWriteFails() {
+        when(granteeGrantsRepository.isEmpty()).thenReturn(false);
+        granteeReadModel.seed();
+        doThrow(new IllegalStateException("write failed"))
+                .when(granteeGrantsRepository)
+                .push(anyList());
+
+        granteeReadModel.add(List.of(new PowerOfAttorney("Alice", "Bob", ACCOUNT, Authorization.READ)));
+
+        assertThat(granteeReadModel.isReady()).isFalse();
+        verify(granteeGrantsRepository).markStale(any());
+    }
+
+    @Test
+    void seed_shouldRepairExistingReadModel_whenAWriteFailedBeforeStartup() {
+        var failedAt = Instant.parse("2026-01-01T10:00:00Z");
+        when(granteeGrantsRepository.isEmpty()).thenReturn(false);
+        when(granteeGrantsRepository.staleness())
+                .thenReturn(Optional.of(new Staleness(failedAt, failedAt)))
+                .thenReturn(Optional.empty());
+        when(powerOfAttorneyRepository.streamInsertedSince(failedAt.minus(Duration.ofMinutes(1)), 2))
+                .thenReturn(Stream.of(grant("Alice")));
+        when(accountService.findAllByAccountNumbers(List.of("NL1"))).thenReturn(Map.of("NL1", ACCOUNT));
+
+        granteeReadModel.seed();
+
+        verify(granteeGrantsRepository).addToSet(List.of(addition("Alice")));
+        verify(granteeGrantsRepository).clearStale(any());
+        assertThat(granteeReadModel.isReady()).isTrue();
+    }
+
+    @Test
+    void repairIfStale_shouldStayStale_whenAWriteFailedWhileRepairing() {
+        var failedAt = Instant.parse("2026-01-01T10:00:00Z");
+        when(granteeGrantsRepository.isEmpty()).thenReturn(false);
+        granteeReadModel.seed();
+        when(granteeGrantsRepository.staleness())
+                .thenReturn(Optional.of(new Staleness(failedAt, Instant.now().plusSeconds(1))));
+        when(powerOfAttorneyRepository.streamInsertedSince(any(), any(Integer.class)))
+                .thenReturn(Stream.of());
+
+        granteeReadModel.repairIfStale();
+
+        assertThat(granteeReadModel.isReady()).isFalse();
+    }
+
+    @Test
+    void repairIfStale_shouldRecordFailure_thatCouldNotBeRecordedWhenTheWriteFailed() {
+        when(granteeGrantsRepository.isEmpty()).thenReturn(false);
+        granteeReadModel.seed();
+        doThrow(new IllegalStateException("write failed"))
+                .when(granteeGrantsRepository)
+                .push(anyList());
+        var failedAt = ArgumentCaptor.forClass(Instant.class);
+        doThrow(new IllegalStateException("database unavailable"))
+                .doNothing()
+                .when(granteeGrantsRepository)
+                .markStale(failedAt.capture());
+        granteeReadModel.add(List.of(new PowerOfAttorney("Alice", "Bob", ACCOUNT, Authorization.READ)));
+
+        granteeReadModel.repairIfStale();
+
+        verify(granteeGrantsRepository, times(2)).markStale(any());
+        assertThat(failedAt.getAllValues().get(1))
+                .isEqualTo(failedAt.getAllValues().get(0));
+    }
+
+    private static PowerOfAttorneyDocument grant(String granteeName) {
+        return PowerOfAttorneyDocument.builder()
+                .granteeName(granteeName)
+                .grantorName("Bob")
+                .accountNumber("NL1")
+                .authorization(Authorization.READ)
+                .build();
+    }
+
+    private static GranteeGrantsDocument addition(String granteeName) {
+        return new GranteeGrantsDocument(
+                granteeName,
+                List.of(new GranteeGrantsDocument.Grant("NL1", AccountType.PAYMENT, Authorization.READ, "Bob")));
+    }
+}
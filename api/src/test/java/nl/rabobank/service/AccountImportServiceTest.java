@@ -0,0 +1,143 @@
+package nl.rabobank.service;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validation;
+import java.io.ByteArrayInputStream;
+import java.util.List;
+import java.util.Set;
+import nl.rabobank.apimapper.AccountApiMapper;
+import nl.rabobank.config.BulkImportProperties;
+import nl.rabobank.document.AccountDocument;
+import nl.rabobank.filter.AccountNumberFilter;
+import nl.rabobank.mapper.AccountMapper;
+import nl.rabobank.repository.AccountRepository;
+import nl.rabobank.service.AccountImportResult.Status;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class AccountImportServiceTest {
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    @Mock
+    private AccountNumberFilter accountNumberFilter;
+
+    private final BulkImportProperties bulkImportProperties = new BulkImportProperties();
+
+    private AccountImportService accountImportService;
+
+    @BeforeEach
+    void setUp() {
+        var accountImportParser = new AccountImportParser(
+                new AccountApiMapper(),
+                Validation.buildDefaultValidatorFactory().getValidator(),
+                new ObjectMapper());
+        accountImportService = new AccountImportService(
+                accountRepository, new AccountMapper(), accountNumberFilter, accountImportParser, bulkImportProperties);
+    }
+
+    @Test
+    void importAccounts_shouldReportResultPerLine_forMixedInput() {
+        when(accountRepository.insertAllUnordered(anyList())).thenReturn(Set.of(1));
+
+        var results = importAccounts("""
+                {"accountNumber":"NL1","accountHolderName":"Alice","accountType":"PAYMENT","initialBalance":10.0}
+                {"accountNumber":"NL2","accountHolderName":"Bob","accountType":"SAVINGS"}
+                {"accountNumber":"NL3","accountType":"PAYMENT"}
+
+                {"accountNumber":"NL4","accountHolderName":"Carol","accountType":"CHECKING"}
+                {"accountNumber":
+                """);
+
+        assertThat(results)
+                .extracting(AccountImportResult::line, AccountImportResult::accountNumber, AccountImportResult::status)
+                .containsExactly(
+                        tuple(1L, "NL1", Status.CREATED),
+                        tuple(2L, "NL2", Status.DUPLICATE),
+                        tuple(3L, "NL3", Status.INVALID),
+                        tuple(5L, "NL4", Status.INVALID),
+                        tuple(6L, null, Status.INVALID));
+
+        assertThat(results.get(1).errors()).containsExactly("Account already exists with number: NL2");
+        assertThat(results.get(2).errors()).containsExactly("accountHolderName is required");
+        assertThat(results.get(3).errors()).containsExactly("accountType must be one of [PAYMENT, SAVINGS]");
+        assertThat(results.get(4).errors()).singleElement().asString().startsWith("Malformed JSON");
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<AccountDocument>> inserted = ArgumentCaptor.forClass(List.class);
+        verify(accountRepository).insertAllUnordered(inserted.capture());
+        assertThat(inserted.getValue())
+                .extracting(AccountDocument::getAccountNumber)
+                .containsExactly("NL1", "NL2");
+        verify(accountNumberFilter).add("NL1");
+        verify(accountNumberFilter).add("NL2");
+    }
+
+    @Test
+    void importAccounts_shouldWriteInBatches_ofConfiguredSize() {
+        bulkImportProperties.setBatchSize(2);
+        when(accountRepository.insertAllUnordered(anyList())).thenReturn(Set.of());
+
+        var results = importAccounts("""
+                {"accountNumber":"NL1","accountHolderName":"A","accountType":"PAYMENT"}
+                {"accountNumber":"NL2","accountHolderName":"B","accountType":"PAYMENT"}
+                {"accountNumber":"NL3","accountHolderName":"C","accountType":"PAYMENT"}
+                {"accountNumber":"NL4","accountHolderName":"D","accountType":"PAYMENT"}
+                {"accountNumber":"NL5","accountHolderName":"E","accountType":"PAYMENT"}
+                """);
+
+        assertThat(results).hasSize(5).extracting(AccountImportResult::status).containsOnly(Status.CREATED);
+        verify(accountRepository, times(3)).insertAllUnordered(anyList());
+    }
+
+    @Test
+    void importAccounts_shouldReadBodyLazily_whileStreamIsConsumed() {
+        bulkImportProperties.setBatchSize(1);
+        when(accountRepository.insertAllUnordered(anyList())).thenReturn(Set.of());
+
+        try (var results = accountImportService.importAccounts(body("""
+                {"accountNumber":"NL1","accountHolderName":"A","accountType":"PAYMENT"}
+                {"accountNumber":"NL2","accountHolderName":"B","accountType":"PAYMENT"}
+                """))) {
+            verify(accountRepository, never()).insertAllUnordered(any());
+
+            assertThat(results.findFirst()).hasValueSatisfying(result -> assertThat(result.accountNumber())
+                    .isEqualTo("NL1"));
+        }
+
+        verify(accountRepository, times(1)).insertAllUnordered(anyList());
+    }
+
+    @Test
+    void importAccounts_shouldReturnNoResults_forEmptyBody() {
+        when(accountRepository.insertAllUnordered(List.of())).thenReturn(Set.of());
+
+        assertThat(importAccounts("")).isEmpty();
+    }
+
+    private List<AccountImportResult> importAccounts(String ndjson) {
+        try (var results = accountImportService.importAccounts(body(ndjson))) {
+            return results.toList();
+        }
+    }
+
+    private static ByteArrayInputStream body(String ndjson) {
+        return new ByteArrayInputStream(ndjson.getBytes(UTF_8));
+    }
+}
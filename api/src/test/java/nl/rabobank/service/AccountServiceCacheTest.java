@@ -0,0 +1,138 @@
+package nl.rabobank.service;
+
+import static nl.rabobank.config.CacheConfiguration.ACCOUNTS_CACHE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Optional;
+import nl.rabobank.account.PaymentAccount;
+import nl.rabobank.apimapper.AccountApiMapper;
+import nl.rabobank.config.AccountCacheProperties;
+import nl.rabobank.config.CacheConfiguration;
+import nl.rabobank.config.PaginationProperties;
+import nl.rabobank.config.StreamingProperties;
+import nl.rabobank.document.AccountDocument;
+import nl.rabobank.dto.AccountRequest;
+import nl.rabobank.exception.AccountNotFoundException;
+import nl.rabobank.filter.AccountNumberFilter;
+import nl.rabobank.mapper.AccountMapper;
+import nl.rabobank.repository.AccountRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+@SpringJUnitConfig
+class AccountServiceCacheTest {
+
+    private static final PaymentAccount ACCOUNT = new PaymentAccount("NL123456", "John Doe", 100000);
+    private static final AccountDocument DOCUMENT = new AccountMapper().toDocument(ACCOUNT);
+
+    @Configuration
+    @Import({CacheConfiguration.class, AccountService.class})
+    @EnableConfigurationProperties({AccountCacheProperties.class, PaginationProperties.class, StreamingProperties.class
+    })
+    static class Config {}
+
+    @MockitoBean
+    private AccountRepository accountRepository;
+
+    @MockitoBean
+    private AccountApiMapper accountApiMapper;
+
+    @MockitoBean
+    private AccountMapper accountMapper;
+
+    @MockitoBean
+    private AccountNumberFilter accountNumberFilter;
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager.getCache(ACCOUNTS_CACHE).clear();
+        when(accountMapper.toDomain(DOCUMENT)).thenReturn(ACCOUNT);
+        when(accountNumberFilter.mightExist(any())).thenReturn(true);
+    }
+
+    @Test
+    void getByAccountNumber_shouldReadDatabaseOnce_forRepeatedLookups() {
+        when(accountRepository.findAccount("NL123456")).thenReturn(Optional.of(ACCOUNT));
+        var before = nativeCache().stats();
+
+        assertThat(accountService.getByAccountNumber("NL123456")).isEqualTo(ACCOUNT);
+        assertThat(accountService.getByAccountNumber("NL123456")).isEqualTo(ACCOUNT);
+        assertThat(accountService.findByAccountNumber("NL123456")).contains(ACCOUNT);
+
+        verify(accountRepository).findAccount("NL123456");
+
+        var stats = nativeCache().stats().minus(before);
+        assertThat(stats.missCount()).isEqualTo(1);
+        assertThat(stats.hitCount()).isEqualTo(2);
+    }
+
+    @Test
+    void getByAccountNumber_shouldNotCacheMissingAccount() {
+        when(accountRepository.findAccount("NL999999")).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> accountService.getByAccountNumber("NL999999"))
+                .isInstanceOf(AccountNotFoundException.class)
+                .hasMessage("Account with number 'NL999999' not found");
+        assertThat(accountService.findByAccountNumber("NL999999")).isEmpty();
+        assertThatThrownBy(() -> accountService.getByAccountNumber("NL999999"))
+                .isInstanceOf(AccountNotFoundException.class);
+
+        verify(accountRepository, times(3)).findAccount("NL999999");
+        assertThat(nativeCache().estimatedSize()).isZero();
+    }
+
+    @Test
+    void createAccount_shouldPopulateCache_forCreatedAccount() {
+        var request = AccountRequest.builder()
+                .accountNumber("NL123456")
+                .accountHolderName("John Doe")
+                .initialBalance(new BigDecimal("1000.0"))
+                .accountType("PAYMENT")
+                .build();
+
+        when(accountApiMapper.toDomain(request)).thenReturn(ACCOUNT);
+        when(accountMapper.toDocument(ACCOUNT)).thenReturn(DOCUMENT);
+        when(accountRepository.insert(any(AccountDocument.class))).thenReturn(DOCUMENT);
+
+        accountService.createAccount(request);
+
+        assertThat(accountService.getByAccountNumber("NL123456")).isEqualTo(ACCOUNT);
+        verify(accountRepository, times(0)).findAccount(any());
+    }
+
+    @Test
+    void cacheManager_shouldApplyConfiguredBounds() {
+        var properties = new AccountCacheProperties();
+        var policy = nativeCache().policy();
+
+        assertThat(policy.eviction()).hasValueSatisfying(eviction -> assertThat(eviction.getMaximum())
+                .isEqualTo(properties.getMaximumSize()));
+        assertThat(policy.expireAfterWrite()).hasValueSatisfying(expiration -> assertThat(expiration.getExpiresAfter())
+                .isEqualTo(Duration.ofMinutes(5)));
+    }
+
+    private com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeCache() {
+        return ((CaffeineCache) cacheManager.getCache(ACCOUNTS_CACHE)).getNativeCache();
+    }
+}
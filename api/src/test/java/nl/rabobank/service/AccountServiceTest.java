@@ -4,30 +4,41 @@ import static nl.rabobank.account.AccountType.PAYMENT;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import java.math.BigDecimal;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 import nl.rabobank.account.Account;
 import nl.rabobank.account.AccountType;
 import nl.rabobank.account.PaymentAccount;
 import nl.rabobank.account.SavingsAccount;
 import nl.rabobank.apimapper.AccountApiMapper;
+import nl.rabobank.config.PaginationProperties;
+import nl.rabobank.config.StreamingProperties;
 import nl.rabobank.document.AccountDocument;
 import nl.rabobank.dto.AccountRequest;
 import nl.rabobank.exception.AccountNotFoundException;
 import nl.rabobank.exception.DuplicateAccountException;
+import nl.rabobank.filter.AccountNumberFilter;
 import nl.rabobank.mapper.AccountMapper;
 import nl.rabobank.repository.AccountRepository;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
 
 @ExtendWith(MockitoExtension.class)
 class AccountServiceTest {
@@ -41,18 +52,37 @@ class AccountServiceTest {
     @Mock
     private AccountMapper accountMapper;
 
+    @Spy
+    private PaginationProperties paginationProperties = new PaginationProperties();
+
+    @Spy
+    private StreamingProperties streamingProperties = new StreamingProperties();
+
+    @Mock
+    private AccountNumberFilter accountNumberFilter;
+
     @InjectMocks
     private AccountService accountService;
 
-    @ParameterizedTest(name = "[{index}] {4}")
+    @BeforeEach
+    void setUp() {
+        lenient().when(accountNumberFilter.mightExist(any())).thenReturn(true);
+    }
+
+    @ParameterizedTest(name = "[{index}] {5}")
     @CsvSource({
-        "NL123456, John Doe, 1000.0, PAYMENT, Should create payment account with positive balance",
-        "NL654321, Mary Doe, 500.0, SAVINGS, Should create savings account with positive balance",
-        "NL456789, John Doe, -1000.0, SAVINGS, Should create payment account with negative balance",
-        "NL987654, Mary Doe, -500.0, SAVINGS, Should create savings account with negative balance"
+        "NL123456, John Doe, 1000.0, 100000, PAYMENT, Should create payment account with positive balance",
+        "NL654321, Mary Doe, 500.0, 50000, SAVINGS, Should create savings account with positive balance",
+        "NL456789, John Doe, -1000.0, -100000, SAVINGS, Should create payment account with negative balance",
+        "NL987654, Mary Doe, -500.0, -50000, SAVINGS, Should create savings account with negative balance"
     })
     void createAccount_shouldCreateNewAccount_forRequest(
-            String accountNumber, String accountHolderName, Double balance, String accountType, String testName) {
+            String accountNumber,
+            String accountHolderName,
+            BigDecimal balance,
+            long minorUnits,
+            String accountType,
+            String testName) {
         var request = AccountRequest.builder()
                 .accountNumber(accountNumber)
                 .accountHolderName(accountHolderName)
@@ -60,13 +90,12 @@ class AccountServiceTest {
                 .accountType(accountType)
                 .build();
 
-        var account = getAccount(accountNumber, accountHolderName, balance, AccountType.valueOf(accountType));
+        var account = getAccount(accountNumber, accountHolderName, minorUnits, AccountType.valueOf(accountType));
         var savedDocument = getAccountDocument(account);
 
-        when(accountRepository.existsByAccountNumber(accountNumber)).thenReturn(false);
         when(accountApiMapper.toDomain(request)).thenReturn(account);
         when(accountMapper.toDocument(account)).thenReturn(savedDocument);
-        when(accountRepository.save(any(AccountDocument.class))).thenReturn(savedDocument);
+        when(accountRepository.insert(any(AccountDocument.class))).thenReturn(savedDocument);
         when(accountMapper.toDomain(savedDocument)).thenReturn(account);
 
         var result = accountService.createAccount(request);
@@ -80,11 +109,13 @@ class AccountServiceTest {
         assertThat(result).isNotNull().isInstanceOf(accountTypeClass).satisfies(acc -> {
             assertThat(acc.accountNumber()).isEqualTo(accountNumber);
             assertThat(acc.accountHolderName()).isEqualTo(accountHolderName);
-            assertThat(acc.balance()).isEqualTo(balance);
+            assertThat(acc.balance()).isEqualTo(minorUnits);
         });
 
-        verify(accountRepository).existsByAccountNumber(accountNumber);
-        verify(accountRepository).save(any(AccountDocument.class));
+        verify(accountRepository).insert(any(AccountDocument.class));
+        verify(accountRepository, never()).existsByAccountNumber(any());
+        verify(accountRepository, never()).save(any(AccountDocument.class));
+        verify(accountNumberFilter).add(accountNumber);
     }
 
     @Test
@@ -92,53 +123,52 @@ class AccountServiceTest {
         var request = AccountRequest.builder()
                 .accountNumber("NL123456")
                 .accountHolderName("John Doe")
-                .initialBalance(1000.0)
+                .initialBalance(new BigDecimal("1000.0"))
                 .accountType(String.valueOf(AccountType.PAYMENT))
                 .build();
 
-        when(accountRepository.existsByAccountNumber("NL123456")).thenReturn(true);
+        var account = getAccount("NL123456", "John Doe", 100000, PAYMENT);
+        var document = getAccountDocument(account);
+
+        when(accountApiMapper.toDomain(request)).thenReturn(account);
+        when(accountMapper.toDocument(account)).thenReturn(document);
+        when(accountRepository.insert(document))
+                .thenThrow(new DuplicateKeyException("E11000 duplicate key error collection: test.accounts"));
 
         assertThatThrownBy(() -> accountService.createAccount(request))
                 .isInstanceOf(DuplicateAccountException.class)
                 .hasMessage("Account already exists with number: NL123456");
 
-        verify(accountRepository).existsByAccountNumber("NL123456");
+        verify(accountRepository).insert(document);
         verify(accountRepository, never()).save(any(AccountDocument.class));
     }
 
     @Test
     void getAccountByNumber_shouldReturnAccount_forAccountNumber() {
-        var document = AccountDocument.builder()
-                .accountNumber("NL123456")
-                .accountHolderName("John Doe")
-                .balance(1000.0)
-                .accountType(PAYMENT)
-                .build();
-
-        var account = getAccount("NL123456", "John Doe", 1000.0, PAYMENT);
-        when(accountRepository.findByAccountNumber("NL123456")).thenReturn(Optional.of(document));
-        when(accountMapper.toDomain(document)).thenReturn(account);
+        var account = getAccount("NL123456", "John Doe", 100000, PAYMENT);
+        when(accountRepository.findAccount("NL123456")).thenReturn(Optional.of(account));
 
         var result = accountService.getByAccountNumber("NL123456");
 
         assertThat(result).isNotNull().satisfies(acc -> {
             assertThat(acc.accountNumber()).isEqualTo("NL123456");
             assertThat(acc.accountHolderName()).isEqualTo("John Doe");
-            assertThat(acc.balance()).isEqualTo(1000.0);
+            assertThat(acc.balance()).isEqualTo(100000);
         });
 
-        verify(accountRepository).findByAccountNumber("NL123456");
+        verify(accountRepository).findAccount("NL123456");
+        verifyNoInteractions(accountMapper);
     }
 
     @Test
     void getAccountByNumber_shouldReturnOptionalEmpty_forNonExistingAccountNumber() {
-        when(accountRepository.findByAccountNumber("NL123456")).thenReturn(Optional.empty());
+        when(accountRepository.findAccount("NL123456")).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> accountService.getByAccountNumber("NL123456"))
                 .isInstanceOf(AccountNotFoundException.class)
                 .hasMessage("Account with number 'NL123456' not found");
 
-        verify(accountRepository).findByAccountNumber("NL123456");
+        verify(accountRepository).findAccount("NL123456");
     }
 
     @Test
@@ -161,8 +191,48 @@ class AccountServiceTest {
         verify(accountRepository).existsByAccountNumber("NL123456");
     }
 
-    private Account getAccount(
-            String accountNumber, String accountHolderName, Double balance, AccountType accountType) {
+    @Test
+    void existsByAccountNumber_shouldNotQueryDatabase_whenFilterRulesAccountOut() {
+        when(accountNumberFilter.mightExist("NL123456")).thenReturn(false);
+
+        assertThat(accountService.existsByAccountNumber("NL123456")).isFalse();
+
+        verifyNoInteractions(accountRepository);
+    }
+
+    @Test
+    void getAccountByNumber_shouldNotQueryDatabase_whenFilterRulesAccountOut() {
+        when(accountNumberFilter.mightExist("NL123456")).thenReturn(false);
+
+        assertThatThrownBy(() -> accountService.getByAccountNumber("NL123456"))
+                .isInstanceOf(AccountNotFoundException.class)
+                .hasMessage("Account with number 'NL123456' not found");
+        assertThat(accountService.findByAccountNumber("NL123456")).isEmpty();
+
+        verifyNoInteractions(accountRepository);
+    }
+
+    @Test
+    void findAllByAccountNumbers_shouldLoadKnownAccountsWithOneQuery() {
+        var account = getAccount("NL1", "John", 10000, PAYMENT);
+
+        when(accountNumberFilter.mightExist("NL3")).thenReturn(false);
+        when(accountRepository.findAccounts(List.of("NL1", "NL2"))).thenReturn(List.of(account));
+
+        var result = accountService.findAllByAccountNumbers(List.of("NL1", "NL2", "NL1", "NL3"));
+
+        assertThat(result).containsOnly(Map.entry("NL1", account));
+        verify(accountRepository).findAccounts(List.of("NL1", "NL2"));
+    }
+
+    @Test
+    void findAllByAccountNumbers_shouldNotQuery_forNoCandidates() {
+        assertThat(accountService.findAllByAccountNumbers(List.of())).isEmpty();
+
+        verifyNoInteractions(accountRepository);
+    }
+
+    private Account getAccount(String accountNumber, String accountHolderName, long balance, AccountType accountType) {
         return switch (accountType) {
             case PAYMENT -> new PaymentAccount(accountNumber, accountHolderName, balance);
             case SAVINGS -> new SavingsAccount(accountNumber, accountHolderName, balance);
@@ -170,46 +240,62 @@ class AccountServiceTest {
     }
 
     @Test
-    void findAll_shouldReturnList_forAllAccounts() {
-        var doc1 = AccountDocument.builder()
-                .accountNumber("NL1")
-                .accountHolderName("John")
-                .balance(100.0)
-                .accountType(AccountType.PAYMENT)
-                .build();
+    void findPage_shouldReturnFirstPageWithNext_whenMoreAccountsExist() {
+        var acc1 = new PaymentAccount("NL1", "John", 10000);
+        var acc2 = new SavingsAccount("NL2", "Mary", 20000);
+        var acc3 = new SavingsAccount("NL3", "Peter", 30000);
 
-        var doc2 = AccountDocument.builder()
-                .accountNumber("NL2")
-                .accountHolderName("Mary")
-                .balance(200.0)
-                .accountType(AccountType.SAVINGS)
-                .build();
+        when(accountRepository.findAccountsAfter("", 3)).thenReturn(List.of(acc1, acc2, acc3));
+
+        var result = accountService.findPage(null, 2);
+
+        assertThat(result.accounts()).hasSize(2).containsExactly(acc1, acc2);
+        assertThat(result.hasNext()).isTrue();
+        assertThat(result.nextAccountNumber()).isEqualTo("NL2");
+
+        verify(accountRepository).findAccountsAfter("", 3);
+    }
+
+    @Test
+    void findPage_shouldReturnLastPageWithoutNext_afterAccountNumber() {
+        var acc = new SavingsAccount("NL3", "Peter", 30000);
 
-        var acc1 = new PaymentAccount("NL1", "John", 100.0);
-        var acc2 = new SavingsAccount("NL2", "Mary", 200.0);
+        when(accountRepository.findAccountsAfter("NL2", 3)).thenReturn(List.of(acc));
+
+        var result = accountService.findPage("NL2", 2);
+
+        assertThat(result.accounts()).containsExactly(acc);
+        assertThat(result.hasNext()).isFalse();
+        assertThat(result.nextAccountNumber()).isNull();
+    }
 
-        when(accountRepository.findAll()).thenReturn(List.of(doc1, doc2));
-        when(accountMapper.toDomain(doc1)).thenReturn(acc1);
-        when(accountMapper.toDomain(doc2)).thenReturn(acc2);
+    @ParameterizedTest(name = "[{index}] requested {0} -> {1}")
+    @CsvSource(
+            value = {"null, 50", "10, 10", "0, 1", "-5, 1", "500, 500", "100000, 500"},
+            nullValues = "null")
+    void findPage_shouldApplyDefaultAndHardCap_forRequestedPageSize(Integer requested, int expected) {
+        when(accountRepository.findAccountsAfter("", expected + 1)).thenReturn(List.of());
 
-        var result = accountService.findAll();
+        var result = accountService.findPage(null, requested);
 
-        assertThat(result).hasSize(2).containsExactly(acc1, acc2);
+        assertThat(result.accounts()).isEmpty();
+        assertThat(result.hasNext()).isFalse();
 
-        verify(accountRepository).findAll();
-        verify(accountMapper).toDomain(doc1);
-        verify(accountMapper).toDomain(doc2);
+        verify(accountRepository).findAccountsAfter("", expected + 1);
     }
 
     @Test
-    void findAll_shouldReturnEmptyList_whenRepositoryEmpty() {
-        when(accountRepository.findAll()).thenReturn(List.of());
+    void streamAll_shouldReturnEveryAccount_fromCursorWithBatchSize() {
+        var acc1 = new PaymentAccount("NL1", "John", 10000);
 
-        var result = accountService.findAll();
+        streamingProperties.setBatchSize(250);
+        when(accountRepository.streamAll(250)).thenReturn(Stream.of(acc1));
 
-        assertThat(result).isEmpty();
+        try (var result = accountService.streamAll()) {
+            assertThat(result).containsExactly(acc1);
+        }
 
-        verify(accountRepository).findAll();
+        verify(accountRepository).streamAll(250);
     }
 
     private AccountDocument getAccountDocument(Account account) {
@@ -0,0 +1,175 @@
+package nl.rabobank.service;
+
+import static nl.rabobank.authorizations.Authorization.READ;
+import static nl.rabobank.authorizations.Authorization.WRITE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import nl.rabobank.access.AuthorizationIndex;
+import nl.rabobank.access.GrantIndex;
+import nl.rabobank.authorizations.Authorization;
+import nl.rabobank.config.AuthorizationCheckProperties;
+import nl.rabobank.config.AuthorizationIndexProperties;
+import nl.rabobank.document.AccountDocument;
+import nl.rabobank.document.PowerOfAttorneyDocument;
+import nl.rabobank.dto.AuthorizationCheckRequest;
+import nl.rabobank.exception.BatchTooLargeException;
+import nl.rabobank.repository.PowerOfAttorneyRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class AuthorizationServiceTest {
+
+    @Mock
+    private AuthorizationIndex authorizationIndex;
+
+    @Mock
+    private PowerOfAttorneyRepository powerOfAttorneyRepository;
+
+    @Spy
+    private AuthorizationCheckProperties authorizationCheckProperties = new AuthorizationCheckProperties();
+
+    @Spy
+    private AuthorizationIndexProperties authorizationIndexProperties = new AuthorizationIndexProperties();
+
+    @InjectMocks
+    private AuthorizationService authorizationService;
+
+    @Test
+    void check_shouldDecideFromIndex_withoutDatabase() {
+        var grants = new GrantIndex();
+        grants.grant("Alice", "NL1", WRITE);
+        when(authorizationIndex.active()).thenReturn(Optional.of(grants));
+
+        var decision = authorizationService.check(check("Alice", "NL1", READ));
+
+        assertThat(decision).isEqualTo(new AuthorizationDecision("Alice", "NL1", READ, true));
+        verifyNoInteractions(powerOfAttorneyRepository);
+    }
+
+    @Test
+    void checkBatch_shouldReturnDecisionPerCheck_inRequestOrder() {
+        authorizationIndexProperties.setConfirmDenials(false);
+        var grants = new GrantIndex();
+        grants.grant("Alice", "NL1", READ);
+        grants.grant("Bob", "NL2", WRITE);
+        when(authorizationIndex.active()).thenReturn(Optional.of(grants));
+
+        var decisions = authorizationService.checkBatch(List.of(
+                check("Alice", "NL1", WRITE),
+                check("Bob", "NL2", WRITE),
+                check("Alice", "NL2", READ),
+                check(null, "NL1", READ)));
+
+        assertThat(decisions).extracting(AuthorizationDecision::allowed).containsExactly(false, true, false, false);
+        verifyNoInteractions(powerOfAttorneyRepository);
+    }
+
+    @Test
+    void checkBatch_shouldReadGrantsOfDeniedChecks_beforeDenying() {
+        var grants = new GrantIndex();
+        grants.grant("Alice", "NL1", READ);
+        when(authorizationIndex.active()).thenReturn(Optional.of(grants));
+        // Granted by another instance after the index was built
+        when(powerOfAttorneyRepository.findByGranteeNamesAndAccountNumbers(Set.of("Bob", "Carol"), Set.of("NL2")))
+                .thenReturn(List.of(grant("Bob", "NL2", READ)));
+
+        var decisions = authorizationService.checkBatch(
+                List.of(check("Alice", "NL1", READ), check("Bob", "NL2", READ), check("Carol", "NL2", READ)));
+
+        assertThat(decisions).extracting(AuthorizationDecision::allowed).containsExactly(true, true, false);
+    }
+
+    @Test
+    void checkBatch_shouldDenyNullCheck_andDecideTheOthers() {
+        var grants = new GrantIndex();
+        grants.grant("Alice", "NL1", READ);
+        when(authorizationIndex.active()).thenReturn(Optional.of(grants));
+
+        var decisions = authorizationService.checkBatch(Arrays.asList(check("Alice", "NL1", READ), null));
+
+        assertThat(decisions)
+                .containsExactly(
+                        new AuthorizationDecision("Alice", "NL1", READ, true),
+                        new AuthorizationDecision(null, null, null, false));
+        verifyNoInteractions(powerOfAttorneyRepository);
+    }
+
+    @Test
+    void checkBatch_shouldQueryGrantsOnce_untilIndexIsSeeded() {
+        when(authorizationIndex.active()).thenReturn(Optional.empty());
+        when(powerOfAttorneyRepository.findByGranteeNamesAndAccountNumbers(
+                        Set.of("Alice", "Bob"), Set.of("NL1", "NL2")))
+                .thenReturn(List.of(grant("Alice", "NL1", WRITE), legacyGrant("Bob", "NL1", READ)));
+
+        var decisions = authorizationService.checkBatch(
+                List.of(check("Alice", "NL1", WRITE), check("Bob", "NL1", WRITE), check("Bob", "NL2", READ)));
+
+        assertThat(decisions).extracting(AuthorizationDecision::allowed).containsExactly(true, false, false);
+        verify(powerOfAttorneyRepository)
+                .findByGranteeNamesAndAccountNumbers(Set.of("Alice", "Bob"), Set.of("NL1", "NL2"));
+    }
+
+    @Test
+    void checkBatch_shouldNotQuery_forChecksWithoutGrantee() {
+        when(authorizationIndex.active()).thenReturn(Optional.empty());
+
+        var decisions = authorizationService.checkBatch(List.of(check(null, "NL1", READ)));
+
+        assertThat(decisions).extracting(AuthorizationDecision::allowed).containsExactly(false);
+        verifyNoInteractions(powerOfAttorneyRepository);
+    }
+
+    @Test
+    void checkBatch_shouldThrowException_forBatchAboveMaximum() {
+        authorizationCheckProperties.setMaxBatchSize(1);
+
+        var requests = Collections.nCopies(2, check("Alice", "NL1", READ));
+
+        assertThatThrownBy(() -> authorizationService.checkBatch(requests))
+                .isInstanceOf(BatchTooLargeException.class)
+                .hasMessage("Batch of 2 checks exceeds the maximum of 1");
+        verifyNoInteractions(authorizationIndex, powerOfAttorneyRepository);
+    }
+
+    private static AuthorizationCheckRequest check(
+            String granteeName, String accountNumber, Authorization authorization) {
+        return AuthorizationCheckRequest.builder()
+                .granteeName(granteeName)
+                .accountNumber(accountNumber)
+                .authorization(authorization)
+                .build();
+    }
+
+    private static PowerOfAttorneyDocument grant(
+            String granteeName, String accountNumber, Authorization authorization) {
+        return PowerOfAttorneyDocument.builder()
+                .granteeName(granteeName)
+                .accountNumber(accountNumber)
+                .authorization(authorization)
+                .build();
+    }
+
+    private static PowerOfAttorneyDocument legacyGrant(
+            String granteeName, String accountNumber, Authorization authorization) {
+        return PowerOfAttorneyDocument.builder()
+                .granteeName(granteeName)
+                .accountDocument(
+                        AccountDocument.builder().accountNumber(accountNumber).build())
+                .authorization(authorization)
+                .build();
+    }
+}
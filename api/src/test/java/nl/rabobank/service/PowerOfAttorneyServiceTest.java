@@ -4,13 +4,23 @@ import static nl.rabobank.account.AccountType.PAYMENT;
 import static nl.rabobank.authorizations.Authorization.READ;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
+import jakarta.validation.Validation;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+import nl.rabobank.access.AuthorizationIndex;
 import nl.rabobank.account.Account;
 import nl.rabobank.account.AccountType;
 import nl.rabobank.account.PaymentAccount;
@@ -18,21 +28,30 @@ import nl.rabobank.account.SavingsAccount;
 import nl.rabobank.apimapper.PowerOfAttorneyApiMapper;
 import nl.rabobank.authorizations.Authorization;
 import nl.rabobank.authorizations.PowerOfAttorney;
+import nl.rabobank.config.BulkGrantProperties;
+import nl.rabobank.config.StreamingProperties;
 import nl.rabobank.document.AccountDocument;
+import nl.rabobank.document.GranteeGrantsDocument;
 import nl.rabobank.document.PowerOfAttorneyDocument;
 import nl.rabobank.dto.PowerOfAttorneyRequest;
 import nl.rabobank.exception.AccountNotFoundException;
+import nl.rabobank.exception.BatchTooLargeException;
+import nl.rabobank.exception.GrantNotAllowedException;
 import nl.rabobank.mapper.AccountMapper;
+import nl.rabobank.mapper.GranteeGrantsMapper;
 import nl.rabobank.mapper.PowerOfAttorneyMapper;
-import nl.rabobank.repository.AccountRepository;
+import nl.rabobank.readmodel.GranteeReadModel;
+import nl.rabobank.repository.GranteeGrantsRepository;
 import nl.rabobank.repository.PowerOfAttorneyRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 @ExtendWith(MockitoExtension.class)
@@ -43,7 +62,7 @@ class PowerOfAttorneyServiceTest {
     private PowerOfAttorneyRepository powerOfAttorneyRepository;
 
     @Mock
-    private AccountRepository accountRepository;
+    private AccountService accountService;
 
     @Mock
     private PowerOfAttorneyApiMapper powerOfAttorneyApiMapper;
@@ -52,7 +71,26 @@ class PowerOfAttorneyServiceTest {
     private PowerOfAttorneyMapper powerOfAttorneyMapper;
 
     @Mock
-    private AccountMapper accountMapper;
+    private AuthorizationIndex authorizationIndex;
+
+    @Mock
+    private GranteeGrantsRepository granteeGrantsRepository;
+
+    @Mock
+    private GranteeReadModel granteeReadModel;
+
+    @Spy
+    private GranteeGrantsMapper granteeGrantsMapper = new GranteeGrantsMapper();
+
+    @Spy
+    private StreamingProperties streamingProperties = new StreamingProperties();
+
+    @Spy
+    private BulkGrantProperties bulkGrantProperties = new BulkGrantProperties();
+
+    @Spy
+    private GrantRequestChecker grantRequestChecker =
+            new GrantRequestChecker(Validation.buildDefaultValidatorFactory().getValidator());
 
     @InjectMocks
     private PowerOfAttorneyService powerOfAttorneyService;
@@ -72,14 +110,13 @@ class PowerOfAttorneyServiceTest {
                 .accountType(String.valueOf(PAYMENT))
                 .build();
 
-        var account = getAccount(accountNumber, grantorName, 1000.0, PAYMENT);
-        var accountDocument = getAccountDocument(account);
+        var account = getAccount(accountNumber, grantorName, 100000, PAYMENT);
 
         var savedDocument = PowerOfAttorneyDocument.builder()
                 .id("poa-123")
                 .granteeName(granteeName)
                 .grantorName(grantorName)
-                .accountDocument(accountDocument)
+                .accountNumber(accountNumber)
                 .authorization(Authorization.valueOf(authorization))
                 .build();
 
@@ -90,12 +127,11 @@ class PowerOfAttorneyServiceTest {
                 .account(account)
                 .build();
 
-        when(accountRepository.findByAccountNumber(accountNumber)).thenReturn(Optional.of(accountDocument));
-        when(accountMapper.toDomain(accountDocument)).thenReturn(account);
+        when(accountService.findByAccountNumber(accountNumber)).thenReturn(Optional.of(account));
         when(powerOfAttorneyApiMapper.toDomain(request, account)).thenReturn(powerOfAttorney);
         when(powerOfAttorneyMapper.toDocument(powerOfAttorney)).thenReturn(savedDocument);
-        when(powerOfAttorneyRepository.save(savedDocument)).thenReturn(savedDocument);
-        when(powerOfAttorneyMapper.toDomain(savedDocument)).thenReturn(powerOfAttorney);
+        when(powerOfAttorneyRepository.insert(savedDocument)).thenReturn(savedDocument);
+        when(powerOfAttorneyMapper.toDomain(savedDocument, account)).thenReturn(powerOfAttorney);
 
         PowerOfAttorney result = powerOfAttorneyService.grantAccess(request);
 
@@ -107,8 +143,35 @@ class PowerOfAttorneyServiceTest {
             assertThat(poa.account().accountNumber()).isEqualTo(accountNumber);
         });
 
-        verify(accountRepository).findByAccountNumber(accountNumber);
-        verify(powerOfAttorneyRepository).save(any(PowerOfAttorneyDocument.class));
+        // One read of the account, one insert of the grant and one write of the read model, nothing else
+        verify(accountService).findByAccountNumber(accountNumber);
+        verify(powerOfAttorneyRepository).insert(any(PowerOfAttorneyDocument.class));
+        verifyNoMoreInteractions(accountService, powerOfAttorneyRepository);
+        verify(granteeReadModel).add(List.of(powerOfAttorney));
+        verify(authorizationIndex).add(powerOfAttorney);
+    }
+
+    @Test
+    void grantAccess_shouldThrowException_forGrantorNotAccountHolder() {
+        var request = PowerOfAttorneyRequest.builder()
+                .granteeName("Alice")
+                .grantorName("Peter")
+                .authorization(String.valueOf(READ))
+                .accountNumber("NL123456")
+                .accountType(String.valueOf(PAYMENT))
+                .build();
+
+        var account = getAccount("NL123456", "Bob", 100000, PAYMENT);
+
+        when(accountService.findByAccountNumber("NL123456")).thenReturn(Optional.of(account));
+
+        assertThatThrownBy(() -> powerOfAttorneyService.grantAccess(request))
+                .isInstanceOf(GrantNotAllowedException.class)
+                .hasMessage("The grantor Peter is not the accountHolder for account NL123456");
+
+        verify(accountService).findByAccountNumber("NL123456");
+        verifyNoMoreInteractions(accountService, powerOfAttorneyRepository);
+        verifyNoInteractions(authorizationIndex);
     }
 
     @Test
@@ -121,29 +184,65 @@ class PowerOfAttorneyServiceTest {
                 .accountType(String.valueOf(PAYMENT))
                 .build();
 
-        when(accountRepository.findByAccountNumber("NL999999")).thenReturn(Optional.empty());
+        when(accountService.findByAccountNumber("NL999999")).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> powerOfAttorneyService.grantAccess(request))
                 .isInstanceOf(AccountNotFoundException.class)
                 .hasMessage("No account found with number: NL999999");
 
-        verify(accountRepository).findByAccountNumber("NL999999");
-        verify(powerOfAttorneyRepository, never()).save(any(PowerOfAttorneyDocument.class));
+        verify(accountService).findByAccountNumber("NL999999");
+        verify(powerOfAttorneyRepository, never()).insert(any(PowerOfAttorneyDocument.class));
+    }
+
+    @Test
+    void findByGranteeName_shouldReadOneDocumentAndItsAccounts_whenReadModelIsReady() {
+        var payment = new PaymentAccount("NL1", "Bob", 150_00);
+        var savings = new SavingsAccount("NL2", "Carol", 20_00);
+        var document = GranteeGrantsDocument.builder()
+                .granteeName("Alice")
+                .grants(List.of(
+                        new GranteeGrantsDocument.Grant("NL1", PAYMENT, Authorization.READ, "Bob"),
+                        new GranteeGrantsDocument.Grant("NL2", AccountType.SAVINGS, Authorization.WRITE, "Carol")))
+                .build();
+
+        when(granteeReadModel.isReady()).thenReturn(true);
+        when(granteeGrantsRepository.findById("Alice")).thenReturn(Optional.of(document));
+        when(accountService.findAllByAccountNumbers(List.of("NL1", "NL2")))
+                .thenReturn(Map.of("NL1", payment, "NL2", savings));
+
+        var result = powerOfAttorneyService.findByGranteeName("Alice");
+
+        assertThat(result)
+                .containsExactly(
+                        new PowerOfAttorney("Alice", "Bob", payment, Authorization.READ),
+                        new PowerOfAttorney("Alice", "Carol", savings, Authorization.WRITE));
+        verifyNoInteractions(powerOfAttorneyRepository);
+    }
+
+    @Test
+    void findByGranteeName_shouldReturnEmptyList_forGranteeWithoutReadModelDocument() {
+        when(granteeReadModel.isReady()).thenReturn(true);
+        when(granteeGrantsRepository.findById("Unknown")).thenReturn(Optional.empty());
+
+        var result = powerOfAttorneyService.findByGranteeName("Unknown");
+
+        assertThat(result).isEmpty();
+        verifyNoInteractions(accountService, powerOfAttorneyRepository);
     }
 
     @Test
     void findByGranteeName_shouldReturnList_forGranteeName() {
         String grantee = "Alice";
 
-        var account = new PaymentAccount("NL111", "Bob", 100.0);
-        var accountDocument = new AccountMapper().toDocument(account);
+        var account = new PaymentAccount("NL111", "Bob", 10000);
+        var accounts = Map.<String, Account>of("NL111", account);
 
         var doc1 = PowerOfAttorneyDocument.builder()
                 .id("poa-1")
                 .granteeName(grantee)
                 .grantorName("Bob")
                 .authorization(Authorization.READ)
-                .accountDocument(accountDocument)
+                .accountNumber("NL111")
                 .build();
 
         var doc2 = PowerOfAttorneyDocument.builder()
@@ -151,7 +250,7 @@ class PowerOfAttorneyServiceTest {
                 .granteeName(grantee)
                 .grantorName("Charlie")
                 .authorization(Authorization.WRITE)
-                .accountDocument(accountDocument)
+                .accountNumber("NL111")
                 .build();
 
         var poa1 = PowerOfAttorney.builder()
@@ -169,16 +268,18 @@ class PowerOfAttorneyServiceTest {
                 .build();
 
         when(powerOfAttorneyRepository.findByGranteeName(grantee)).thenReturn(List.of(doc1, doc2));
-        when(powerOfAttorneyMapper.toDomain(doc1)).thenReturn(poa1);
-        when(powerOfAttorneyMapper.toDomain(doc2)).thenReturn(poa2);
+        when(accountService.findAllByAccountNumbers(List.of("NL111"))).thenReturn(accounts);
+        when(powerOfAttorneyMapper.toDomain(doc1, accounts)).thenReturn(poa1);
+        when(powerOfAttorneyMapper.toDomain(doc2, accounts)).thenReturn(poa2);
 
         var result = powerOfAttorneyService.findByGranteeName(grantee);
 
         assertThat(result).hasSize(2).containsExactly(poa1, poa2);
 
+        // The account both grants refer to is read once
         verify(powerOfAttorneyRepository).findByGranteeName(grantee);
-        verify(powerOfAttorneyMapper).toDomain(doc1);
-        verify(powerOfAttorneyMapper).toDomain(doc2);
+        verify(accountService).findAllByAccountNumbers(List.of("NL111"));
+        verifyNoMoreInteractions(accountService);
     }
 
     @Test
@@ -192,8 +293,193 @@ class PowerOfAttorneyServiceTest {
         verify(powerOfAttorneyRepository).findByGranteeName("Unknown");
     }
 
-    private Account getAccount(
-            String accountNumber, String accountHolderName, Double balance, AccountType accountType) {
+    @Test
+    void streamByGranteeName_shouldMapEveryDocument_fromCursorWithBatchSize() {
+        var account = new PaymentAccount("NL111", "Bob", 10000);
+
+        var doc = PowerOfAttorneyDocument.builder()
+                .id("poa-1")
+                .granteeName("Alice")
+                .grantorName("Bob")
+                .authorization(Authorization.READ)
+                .accountNumber("NL111")
+                .build();
+
+        var poa = PowerOfAttorney.builder()
+                .granteeName("Alice")
+                .grantorName("Bob")
+                .authorization(Authorization.READ)
+                .account(account)
+                .build();
+
+        when(powerOfAttorneyRepository.streamByGranteeName("Alice", 500)).thenReturn(Stream.of(doc));
+        when(accountService.findAllByAccountNumbers(List.of("NL111"))).thenReturn(Map.of("NL111", account));
+        when(powerOfAttorneyMapper.toDomain(doc, Map.of("NL111", account))).thenReturn(poa);
+
+        try (var result = powerOfAttorneyService.streamByGranteeName("Alice")) {
+            assertThat(result).containsExactly(poa);
+        }
+
+        verify(powerOfAttorneyRepository).streamByGranteeName("Alice", 500);
+    }
+
+    @Test
+    void streamAll_shouldReadAccountsOncePerBatch_andCloseTheCursor() {
+        streamingProperties.setBatchSize(2);
+        var accounts = Map.<String, Account>of(
+                "NL1", new PaymentAccount("NL1", "Bob", 100),
+                "NL2", new SavingsAccount("NL2", "Carol", 200));
+        var docs = List.of(
+                grantDocument("Alice", "NL1"),
+                grantDocument("Dave", "NL1"),
+                PowerOfAttorneyDocument.builder()
+                        .granteeName("Erin")
+                        .accountDocument(getAccountDocument(accounts.get("NL2")))
+                        .build());
+        var closed = new AtomicBoolean();
+
+        when(powerOfAttorneyRepository.streamAll(2)).thenReturn(docs.stream().onClose(() -> closed.set(true)));
+        when(accountService.findAllByAccountNumbers(any())).thenReturn(accounts);
+        when(powerOfAttorneyMapper.toDomain(any(PowerOfAttorneyDocument.class), any(Map.class)))
+                .thenAnswer(invocation -> new PowerOfAttorneyMapper(new AccountMapper())
+                        .toDomain(invocation.getArgument(0), invocation.<Map<String, Account>>getArgument(1)));
+
+        try (var result = powerOfAttorneyService.streamAll()) {
+            assertThat(result)
+                    .extracting(
+                            PowerOfAttorney::granteeName, poa -> poa.account().accountNumber())
+                    .containsExactly(tuple("Alice", "NL1"), tuple("Dave", "NL1"), tuple("Erin", "NL2"));
+        }
+
+        verify(accountService).findAllByAccountNumbers(List.of("NL1"));
+        verify(accountService).findAllByAccountNumbers(List.of("NL2"));
+        verifyNoMoreInteractions(accountService);
+        assertThat(closed).isTrue();
+    }
+
+    @Test
+    void grantAccessBatch_shouldReportOutcomePerItem_withOneLookupAndOneInsert() {
+        var bobs = getAccount("NL1", "Bob", 10000, PAYMENT);
+        var requests = List.of(
+                grantRequest("Bob", "Alice", "READ", "NL1"),
+                grantRequest("Peter", "Alice", "READ", "NL1"),
+                grantRequest("Bob", "Carol", "READ", "NL2"),
+                grantRequest("Bob", null, "READ", "NL1"),
+                grantRequest("Bob", "Dave", "DELETE", "NL1"),
+                grantRequest("Bob", "Erin", "WRITE", "NL1"));
+
+        when(accountService.findAllByAccountNumbers(List.of("NL1", "NL1", "NL2", "NL1", "NL1", "NL1")))
+                .thenReturn(Map.of("NL1", bobs));
+        when(powerOfAttorneyApiMapper.toDomain(any(PowerOfAttorneyRequest.class), any(Account.class)))
+                .thenAnswer(invocation ->
+                        new PowerOfAttorneyApiMapper().toDomain(invocation.getArgument(0), invocation.getArgument(1)));
+        when(powerOfAttorneyMapper.toDocument(any(PowerOfAttorney.class)))
+                .thenAnswer(invocation ->
+                        new PowerOfAttorneyMapper(new AccountMapper()).toDocument(invocation.getArgument(0)));
+        when(powerOfAttorneyRepository.insert(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(powerOfAttorneyMapper.toDomain(any(PowerOfAttorneyDocument.class), any(Map.class)))
+                .thenAnswer(invocation -> new PowerOfAttorneyMapper(new AccountMapper())
+                        .toDomain(invocation.getArgument(0), invocation.<Map<String, Account>>getArgument(1)));
+
+        var results = powerOfAttorneyService.grantAccessBatch(requests);
+
+        assertThat(results)
+                .extracting(GrantResult::index, GrantResult::status)
+                .containsExactly(
+                        tuple(0, GrantResult.Status.GRANTED),
+                        tuple(1, GrantResult.Status.NOT_ALLOWED),
+                        tuple(2, GrantResult.Status.ACCOUNT_NOT_FOUND),
+                        tuple(3, GrantResult.Status.INVALID),
+                        tuple(4, GrantResult.Status.INVALID),
+                        tuple(5, GrantResult.Status.GRANTED));
+        assertThat(results.get(0).powerOfAttorney().granteeName()).isEqualTo("Alice");
+        assertThat(results.get(5).powerOfAttorney().authorization()).isEqualTo(Authorization.WRITE);
+        assertThat(results.get(1).errors())
+                .containsExactly("The grantor Peter is not the accountHolder for account NL1");
+        assertThat(results.get(2).errors()).containsExactly("No account found with number: NL2");
+        assertThat(results.get(3).errors()).containsExactly("granteeName is required");
+        assertThat(results.get(4).errors()).containsExactly("authorization must be one of [READ, WRITE]");
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<PowerOfAttorneyDocument>> inserted = ArgumentCaptor.forClass(List.class);
+        verify(powerOfAttorneyRepository).insert(inserted.capture());
+        assertThat(inserted.getValue())
+                .extracting(PowerOfAttorneyDocument::getGranteeName)
+                .containsExactly("Alice", "Erin");
+        verify(granteeReadModel)
+                .add(List.of(results.get(0).powerOfAttorney(), results.get(5).powerOfAttorney()));
+        verify(authorizationIndex).add(results.get(0).powerOfAttorney());
+        verify(authorizationIndex).add(results.get(5).powerOfAttorney());
+        verify(accountService).findAllByAccountNumbers(any());
+        verifyNoMoreInteractions(accountService, powerOfAttorneyRepository);
+    }
+
+    @Test
+    void grantAccessBatch_shouldNotInsert_whenEveryItemIsRejected() {
+        when(accountService.findAllByAccountNumbers(List.of("NL1"))).thenReturn(Map.of());
+
+        var results = powerOfAttorneyService.grantAccessBatch(List.of(grantRequest("Bob", "Alice", "READ", "NL1")));
+
+        assertThat(results).extracting(GrantResult::status).containsExactly(GrantResult.Status.ACCOUNT_NOT_FOUND);
+        verifyNoInteractions(powerOfAttorneyRepository);
+    }
+
+    @Test
+    void grantAccessBatch_shouldRejectNullItemAsInvalid_andGrantTheOthers() {
+        var bobs = getAccount("NL1", "Bob", 10000, PAYMENT);
+        when(accountService.findAllByAccountNumbers(List.of("NL1"))).thenReturn(Map.of("NL1", bobs));
+        when(powerOfAttorneyApiMapper.toDomain(any(PowerOfAttorneyRequest.class), any(Account.class)))
+                .thenAnswer(invocation ->
+                        new PowerOfAttorneyApiMapper().toDomain(invocation.getArgument(0), invocation.getArgument(1)));
+        when(powerOfAttorneyMapper.toDocument(any(PowerOfAttorney.class)))
+                .thenAnswer(invocation ->
+                        new PowerOfAttorneyMapper(new AccountMapper()).toDocument(invocation.getArgument(0)));
+        when(powerOfAttorneyRepository.insert(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(powerOfAttorneyMapper.toDomain(any(PowerOfAttorneyDocument.class), any(Map.class)))
+                .thenAnswer(invocation -> new PowerOfAttorneyMapper(new AccountMapper())
+                        .toDomain(invocation.getArgument(0), invocation.<Map<String, Account>>getArgument(1)));
+
+        var results = powerOfAttorneyService.grantAccessBatch(
+                Arrays.asList(null, grantRequest("Bob", "Alice", "READ", "NL1")));
+
+        assertThat(results)
+                .extracting(GrantResult::index, GrantResult::status)
+                .containsExactly(tuple(0, GrantResult.Status.INVALID), tuple(1, GrantResult.Status.GRANTED));
+        assertThat(results.get(0).errors()).containsExactly("grant is required");
+    }
+
+    @Test
+    void grantAccessBatch_shouldThrowException_forBatchAboveMaximum() {
+        bulkGrantProperties.setMaxBatchSize(1);
+        var requests =
+                List.of(grantRequest("Bob", "Alice", "READ", "NL1"), grantRequest("Bob", "Carol", "READ", "NL1"));
+
+        assertThatThrownBy(() -> powerOfAttorneyService.grantAccessBatch(requests))
+                .isInstanceOf(BatchTooLargeException.class)
+                .hasMessage("Batch of 2 grants exceeds the maximum of 1");
+
+        verifyNoInteractions(accountService, powerOfAttorneyRepository);
+    }
+
+    private PowerOfAttorneyRequest grantRequest(
+            String grantorName, String granteeName, String authorization, String accountNumber) {
+        return PowerOfAttorneyRequest.builder()
+                .grantorName(grantorName)
+                .granteeName(granteeName)
+                .authorization(authorization)
+                .accountNumber(accountNumber)
+                .accountType(String.valueOf(PAYMENT))
+                .build();
+    }
+
+    private PowerOfAttorneyDocument grantDocument(String granteeName, String accountNumber) {
+        return PowerOfAttorneyDocument.builder()
+                .granteeName(granteeName)
+                .accountNumber(accountNumber)
+                .build();
+    }
+
+    private Account getAccount(String accountNumber, String accountHolderName, long balance, AccountType accountType) {
         return switch (accountType) {
             case PAYMENT -> new PaymentAccount(accountNumber, accountHolderName, balance);
             case SAVINGS -> new SavingsAccount(accountNumber, accountHolderName, balance);
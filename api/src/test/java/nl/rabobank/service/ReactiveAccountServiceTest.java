@@ -0,0 +1,173 @@
+package nl.rabobank.service;
+
+import static nl.rabobank.account.AccountType.PAYMENT;
+import static nl.rabobank.config.CacheConfiguration.ACCOUNTS_CACHE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import nl.rabobank.account.Account;
+import nl.rabobank.account.PaymentAccount;
+import nl.rabobank.apimapper.AccountApiMapper;
+import nl.rabobank.config.PaginationProperties;
+import nl.rabobank.config.StreamingProperties;
+import nl.rabobank.document.AccountDocument;
+import nl.rabobank.dto.AccountRequest;
+import nl.rabobank.exception.AccountNotFoundException;
+import nl.rabobank.exception.DuplicateAccountException;
+import nl.rabobank.filter.AccountNumberFilter;
+import nl.rabobank.mapper.AccountMapper;
+import nl.rabobank.repository.reactive.ReactiveAccountRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.dao.DuplicateKeyException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveAccountServiceTest {
+
+    private static final PaymentAccount ACCOUNT = new PaymentAccount("NL123456", "John Doe", 100000);
+    private static final AccountDocument DOCUMENT = new AccountMapper().toDocument(ACCOUNT);
+
+    @Mock
+    private ReactiveAccountRepository accountRepository;
+
+    @Mock
+    private AccountNumberFilter accountNumberFilter;
+
+    private final ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager(ACCOUNTS_CACHE);
+
+    private ReactiveAccountService accountService;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(accountNumberFilter.mightExist(any())).thenReturn(true);
+        accountService = new ReactiveAccountService(
+                accountRepository,
+                new AccountApiMapper(),
+                new AccountMapper(),
+                new PaginationProperties(),
+                new StreamingProperties(),
+                accountNumberFilter,
+                cacheManager);
+    }
+
+    @Test
+    void createAccount_shouldInsertAndCacheAccount_forRequest() {
+        when(accountRepository.insert(any(AccountDocument.class))).thenReturn(Mono.just(DOCUMENT));
+
+        StepVerifier.create(accountService.createAccount(request("NL123456")))
+                .expectNext(ACCOUNT)
+                .verifyComplete();
+
+        assertThat(cacheManager.getCache(ACCOUNTS_CACHE).get("NL123456", PaymentAccount.class))
+                .isEqualTo(ACCOUNT);
+        verify(accountNumberFilter).add("NL123456");
+    }
+
+    @Test
+    void createAccount_shouldSignalDuplicateAccount_forExistingAccountNumber() {
+        when(accountRepository.insert(any(AccountDocument.class)))
+                .thenReturn(Mono.error(new DuplicateKeyException("E11000 duplicate key error")));
+
+        StepVerifier.create(accountService.createAccount(request("NL123456")))
+                .expectErrorSatisfies(error -> assertThat(error)
+                        .isInstanceOf(DuplicateAccountException.class)
+                        .hasMessage("Account already exists with number: NL123456"))
+                .verify();
+    }
+
+    @Test
+    void getByAccountNumber_shouldQueryOnce_andServeFromCacheAfterwards() {
+        when(accountRepository.findAccount("NL123456")).thenReturn(Mono.just(ACCOUNT));
+
+        StepVerifier.create(accountService.getByAccountNumber("NL123456"))
+                .expectNext(ACCOUNT)
+                .verifyComplete();
+        StepVerifier.create(accountService.getByAccountNumber("NL123456"))
+                .expectNext(ACCOUNT)
+                .verifyComplete();
+
+        verify(accountRepository).findAccount("NL123456");
+    }
+
+    @Test
+    void getByAccountNumber_shouldShareOneQuery_forConcurrentCacheMisses() {
+        var account = Sinks.<Account>one();
+        when(accountRepository.findAccount("NL123456")).thenReturn(account.asMono());
+
+        StepVerifier.create(Flux.merge(
+                        accountService.getByAccountNumber("NL123456"), accountService.getByAccountNumber("NL123456")))
+                .then(() -> account.tryEmitValue(ACCOUNT))
+                .expectNext(ACCOUNT, ACCOUNT)
+                .verifyComplete();
+
+        verify(accountRepository).findAccount("NL123456");
+    }
+
+    @Test
+    void getByAccountNumber_shouldSignalNotFound_forUnknownAccount() {
+        when(accountRepository.findAccount("NL999999")).thenReturn(Mono.empty());
+
+        StepVerifier.create(accountService.getByAccountNumber("NL999999"))
+                .expectErrorSatisfies(error -> assertThat(error)
+                        .isInstanceOf(AccountNotFoundException.class)
+                        .hasMessage("Account with number 'NL999999' not found"))
+                .verify();
+    }
+
+    @Test
+    void findByAccountNumber_shouldNotQuery_whenFilterRulesAccountOut() {
+        when(accountNumberFilter.mightExist("NL999999")).thenReturn(false);
+
+        StepVerifier.create(accountService.findByAccountNumber("NL999999")).verifyComplete();
+
+        verifyNoInteractions(accountRepository);
+    }
+
+    @Test
+    void findPage_shouldReturnPageWithNext_whenMoreAccountsExist() {
+        var second = new PaymentAccount("NL2", "Jane", 100);
+        var third = new PaymentAccount("NL3", "Jim", 100);
+
+        when(accountRepository.findAccountsAfter("NL1", 3)).thenReturn(Flux.just(second, third, ACCOUNT));
+
+        StepVerifier.create(accountService.findPage("NL1", 2))
+                .assertNext(page -> {
+                    assertThat(page.accounts()).extracting("accountNumber").containsExactly("NL2", "NL3");
+                    assertThat(page.nextAccountNumber()).isEqualTo("NL3");
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void findAllByAccountNumbers_shouldLoadAccountsWithOneQuery() {
+        when(accountRepository.findAccounts(List.of("NL123456"))).thenReturn(Flux.just(ACCOUNT));
+
+        StepVerifier.create(accountService.findAllByAccountNumbers(List.of("NL123456", "NL123456")))
+                .expectNext(Map.of("NL123456", ACCOUNT))
+                .verifyComplete();
+    }
+
+    private static AccountRequest request(String accountNumber) {
+        return AccountRequest.builder()
+                .accountNumber(accountNumber)
+                .accountHolderName("John Doe")
+                .initialBalance(new BigDecimal("1000.0"))
+                .accountType(String.valueOf(PAYMENT))
+                .build();
+    }
+}
@@ -0,0 +1,233 @@
+package nl.rabobank.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import jakarta.validation.Validation;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import nl.rabobank.access.AuthorizationIndex;
+import nl.rabobank.account.AccountType;
+import nl.rabobank.account.PaymentAccount;
+import nl.rabobank.apimapper.PowerOfAttorneyApiMapper;
+import nl.rabobank.authorizations.Authorization;
+import nl.rabobank.authorizations.PowerOfAttorney;
+import nl.rabobank.config.BulkGrantProperties;
+import nl.rabobank.config.StreamingProperties;
+import nl.rabobank.document.GranteeGrantsDocument;
+import nl.rabobank.document.PowerOfAttorneyDocument;
+import nl.rabobank.dto.PowerOfAttorneyRequest;
+import nl.rabobank.exception.AccountNotFoundException;
+import nl.rabobank.exception.GrantNotAllowedException;
+import nl.rabobank.mapper.AccountMapper;
+import nl.rabobank.mapper.GranteeGrantsMapper;
+import nl.rabobank.mapper.PowerOfAttorneyMapper;
+import nl.rabobank.readmodel.GranteeReadModel;
+import nl.rabobank.repository.reactive.ReactiveGranteeGrantsRepository;
+import nl.rabobank.repository.reactive.ReactivePowerOfAttorneyRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+@ExtendWith(MockitoExtension.class)
+class ReactivePowerOfAttorneyServiceTest {
+
+    private static final PaymentAccount ACCOUNT = new PaymentAccount("NL1", "Bob", 10000);
+
+    @Mock
+    private ReactivePowerOfAttorneyRepository powerOfAttorneyRepository;
+
+    @Mock
+    private ReactiveAccountService accountService;
+
+    @Mock
+    private AuthorizationIndex authorizationIndex;
+
+    @Mock
+    private ReactiveGranteeGrantsRepository granteeGrantsRepository;
+
+    @Mock
+    private GranteeReadModel granteeReadModel;
+
+    private final StreamingProperties streamingProperties = new StreamingProperties();
+
+    private ReactivePowerOfAttorneyService powerOfAttorneyService;
+
+    @BeforeEach
+    void setUp() {
+        powerOfAttorneyService = new ReactivePowerOfAttorneyService(
+                powerOfAttorneyRepository,
+                new PowerOfAttorneyApiMapper(),
+                new PowerOfAttorneyMapper(new AccountMapper()),
+                accountService,
+                new BulkGrantProperties(),
+                streamingProperties,
+                new GrantRequestChecker(
+                        Validation.buildDefaultValidatorFactory().getValidator()),
+                authorizationIndex,
+                granteeGrantsRepository,
+                new GranteeGrantsMapper(),
+                granteeReadModel);
+    }
+
+    @Test
+    void grantAccess_shouldInsertGrant_forAccountHolder() {
+        when(accountService.findByAccountNumber("NL1")).thenReturn(Mono.just(ACCOUNT));
+        when(powerOfAttorneyRepository.insert(any(PowerOfAttorneyDocument.class)))
+                .thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+        when(granteeGrantsRepository.push(anyList())).thenReturn(Mono.empty());
+
+        StepVerifier.create(powerOfAttorneyService.grantAccess(request("Bob", "Alice", "NL1")))
+                .assertNext(powerOfAttorney -> {
+                    assertThat(powerOfAttorney.granteeName()).isEqualTo("Alice");
+                    assertThat(powerOfAttorney.authorization()).isEqualTo(Authorization.READ);
+                    assertThat(powerOfAttorney.account()).isEqualTo(ACCOUNT);
+                    verify(authorizationIndex).add(powerOfAttorney);
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void grantAccess_shouldSignalNotAllowed_forGrantorNotAccountHolder() {
+        when(accountService.findByAccountNumber("NL1")).thenReturn(Mono.just(ACCOUNT));
+
+        StepVerifier.create(powerOfAttorneyService.grantAccess(request("Peter", "Alice", "NL1")))
+                .expectErrorSatisfies(error -> assertThat(error)
+                        .isInstanceOf(GrantNotAllowedException.class)
+                        .hasMessage("The grantor Peter is not the accountHolder for account NL1"))
+                .verify();
+
+        verify(powerOfAttorneyRepository, never()).insert(any(PowerOfAttorneyDocument.class));
+        verifyNoInteractions(authorizationIndex);
+    }
+
+    @Test
+    void grantAccess_shouldSignalNotFound_forUnknownAccount() {
+        when(accountService.findByAccountNumber("NL9")).thenReturn(Mono.empty());
+
+        StepVerifier.create(powerOfAttorneyService.grantAccess(request("Bob", "Alice", "NL9")))
+                .expectErrorSatisfies(error -> assertThat(error)
+                        .isInstanceOf(AccountNotFoundException.class)
+                        .hasMessage("No account found with number: NL9"))
+                .verify();
+    }
+
+    @Test
+    void grantAccessBatch_shouldReportOutcomePerItem_withOneLookupAndOneInsert() {
+        when(accountService.findAllByAccountNumbers(List.of("NL1", "NL2", "NL1")))
+                .thenReturn(Mono.just(Map.of("NL1", ACCOUNT)));
+        when(powerOfAttorneyRepository.insert(anyList()))
+                .thenAnswer(invocation -> Flux.fromIterable(invocation.<List<PowerOfAttorneyDocument>>getArgument(0)));
+        when(granteeGrantsRepository.push(anyList())).thenReturn(Mono.empty());
+
+        var requests =
+                List.of(request("Bob", "Alice", "NL1"), request("Bob", "Carol", "NL2"), request("Eve", "Dan", "NL1"));
+
+        StepVerifier.create(powerOfAttorneyService.grantAccessBatch(requests))
+                .assertNext(results -> assertThat(results)
+                        .extracting(GrantResult::index, GrantResult::status)
+                        .containsExactly(
+                                tuple(0, GrantResult.Status.GRANTED),
+                                tuple(1, GrantResult.Status.ACCOUNT_NOT_FOUND),
+                                tuple(2, GrantResult.Status.NOT_ALLOWED)))
+                .verifyComplete();
+
+        verify(powerOfAttorneyRepository).insert(anyList());
+        verify(granteeGrantsRepository).push(anyList());
+        verify(authorizationIndex).add(any());
+    }
+
+    @Test
+    void grantAccessBatch_shouldRejectNullItemAsInvalid() {
+        when(accountService.findAllByAccountNumbers(List.of("NL1"))).thenReturn(Mono.just(Map.of("NL1", ACCOUNT)));
+        when(powerOfAttorneyRepository.insert(anyList()))
+                .thenAnswer(invocation -> Flux.fromIterable(invocation.<List<PowerOfAttorneyDocument>>getArgument(0)));
+        when(granteeGrantsRepository.push(anyList())).thenReturn(Mono.empty());
+
+        StepVerifier.create(
+                        powerOfAttorneyService.grantAccessBatch(Arrays.asList(request("Bob", "Alice", "NL1"), null)))
+                .assertNext(results -> assertThat(results)
+                        .extracting(GrantResult::index, GrantResult::status)
+                        .containsExactly(tuple(0, GrantResult.Status.GRANTED), tuple(1, GrantResult.Status.INVALID)))
+                .verifyComplete();
+    }
+
+    @Test
+    void grantAccess_shouldMarkReadModelStale_andStillGrant_whenReadModelWriteFails() {
+        var failure = new IllegalStateException("write failed");
+        when(accountService.findByAccountNumber("NL1")).thenReturn(Mono.just(ACCOUNT));
+        when(powerOfAttorneyRepository.insert(any(PowerOfAttorneyDocument.class)))
+                .thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+        when(granteeGrantsRepository.push(anyList())).thenReturn(Mono.error(failure));
+
+        StepVerifier.create(powerOfAttorneyService.grantAccess(request("Bob", "Alice", "NL1")))
+                .assertNext(powerOfAttorney ->
+                        assertThat(powerOfAttorney.granteeName()).isEqualTo("Alice"))
+                .verifyComplete();
+
+        verify(granteeReadModel).markStale(failure);
+    }
+
+    @Test
+    void findByGranteeName_shouldReadOneDocumentAndItsAccounts_whenReadModelIsReady() {
+        var document = GranteeGrantsDocument.builder()
+                .granteeName("Alice")
+                .grants(List.of(new GranteeGrantsDocument.Grant("NL1", AccountType.PAYMENT, Authorization.READ, "Bob")))
+                .build();
+        when(granteeReadModel.isReady()).thenReturn(true);
+        when(granteeGrantsRepository.findById("Alice")).thenReturn(Mono.just(document));
+        when(accountService.findAllByAccountNumbers(List.of("NL1"))).thenReturn(Mono.just(Map.of("NL1", ACCOUNT)));
+
+        StepVerifier.create(powerOfAttorneyService.findByGranteeName("Alice"))
+                .expectNext(new PowerOfAttorney("Alice", "Bob", ACCOUNT, Authorization.READ))
+                .verifyComplete();
+
+        verifyNoInteractions(powerOfAttorneyRepository);
+    }
+
+    @Test
+    void findAll_shouldReadAccountsOncePerBatch() {
+        streamingProperties.setBatchSize(2);
+        when(powerOfAttorneyRepository.findAll())
+                .thenReturn(Flux.just(grant("Alice", "NL1"), grant("Carol", "NL1"), grant("Dave", "NL1")));
+        when(accountService.findAllByAccountNumbers(List.of("NL1"))).thenReturn(Mono.just(Map.of("NL1", ACCOUNT)));
+
+        StepVerifier.create(powerOfAttorneyService.findAll().map(PowerOfAttorney::granteeName))
+                .expectNext("Alice", "Carol", "Dave")
+                .verifyComplete();
+
+        verify(accountService, times(2)).findAllByAccountNumbers(List.of("NL1"));
+    }
+
+    private static PowerOfAttorneyDocument grant(String granteeName, String accountNumber) {
+        return PowerOfAttorneyDocument.builder()
+                .granteeName(granteeName)
+                .grantorName("Bob")
+                .accountNumber(accountNumber)
+                .authorization(Authorization.READ)
+                .build();
+    }
+
+    private static PowerOfAttorneyRequest request(String grantorName, String granteeName, String accountNumber) {
+        return PowerOfAttorneyRequest.builder()
+                .grantorName(grantorName)
+                .granteeName(granteeName)
+                .authorization("READ")
+                .accountNumber(accountNumber)
+                .accountType("PAYMENT")
+                .build();
+    }
+}
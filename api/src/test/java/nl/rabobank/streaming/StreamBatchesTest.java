@@ -0,0 +1,41 @@
+package nl.rabobank.streaming;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+
+class StreamBatchesTest {
+
+    @Test
+    void of_shouldGroupElements_withSmallerLastBatch() {
+        assertThat(StreamBatches.of(Stream.of(1, 2, 3, 4, 5), 2))
+                .containsExactly(List.of(1, 2), List.of(3, 4), List.of(5));
+    }
+
+    @Test
+    void of_shouldReturnNoBatches_forEmptyStream() {
+        assertThat(StreamBatches.of(Stream.of(), 2)).isEmpty();
+    }
+
+    @Test
+    void of_shouldCloseSource_withBatches() {
+        var closed = new AtomicBoolean();
+
+        try (var batches = StreamBatches.of(Stream.of(1).onClose(() -> closed.set(true)), 2)) {
+            assertThat(batches).containsExactly(List.of(1));
+        }
+
+        assertThat(closed).isTrue();
+    }
+
+    @Test
+    void of_shouldThrowException_forBatchSizeBelowOne() {
+        assertThatThrownBy(() -> StreamBatches.of(Stream.of(1), 0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Batch size must be positive, got 0");
+    }
+}
@@ -0,0 +1,120 @@
+package nl.rabobank.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import nl.rabobank.account.Account;
+import nl.rabobank.codec.AccountCodec;
+import nl.rabobank.document.AccountDocument;
+import nl.rabobank.mapper.AccountMapper;
+import nl.rabobank.schema.StorageSchema;
+import org.bson.BsonDocument;
+import org.bson.BsonDocumentWriter;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.DocumentCodec;
+import org.bson.codecs.EncoderContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+/**
+ * Reading a page of accounts from BSON bytes, as the driver receives them, and writing it back. {@code converter*} goes
+ * through a {@link Document}, the mapping converter and the {@link AccountMapper}, as the repositories did;
+ * {@code codec*} uses the {@link AccountCodec}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AccountCodecBenchmark {
+
+    @Param({"1", "500"})
+    private int size;
+
+    private final AccountMapper accountMapper = new AccountMapper();
+    private final AccountCodec accountCodec = new AccountCodec(StorageSchema.STANDARD);
+    private final DocumentCodec documentCodec = new DocumentCodec();
+    private final EncoderContext encoderContext = EncoderContext.builder().build();
+
+    private MappingMongoConverter converter;
+    private List<Account> accounts;
+    private List<RawBsonDocument> page;
+
+    @Setup
+    public void setUp() {
+        converter = converter();
+        accounts = new ArrayList<>(size);
+        page = new ArrayList<>(size);
+        for (var i = 0; i < size; i++) {
+            var account = BenchmarkFixtures.account(i);
+            accounts.add(account);
+            page.add(new RawBsonDocument(account, accountCodec));
+        }
+    }
+
+    @Benchmark
+    public List<Account> converterRead() {
+        var result = new ArrayList<Account>(page.size());
+        for (var bson : page) {
+            result.add(accountMapper.toDomain(converter.read(AccountDocument.class, bson.decode(documentCodec))));
+        }
+        return result;
+    }
+
+    @Benchmark
+    public List<Account> codecRead() {
+        var result = new ArrayList<Account>(page.size());
+        for (var bson : page) {
+            result.add(bson.decode(accountCodec));
+        }
+        return result;
+    }
+
+    @Benchmark
+    public List<BsonDocument> converterWrite() {
+        var result = new ArrayList<BsonDocument>(accounts.size());
+        for (var account : accounts) {
+            var document = new Document();
+            converter.write(accountMapper.toDocument(account), document);
+            result.add(document.toBsonDocument());
+        }
+        return result;
+    }
+
+    @Benchmark
+    public List<BsonDocument> codecWrite() {
+        var result = new ArrayList<BsonDocument>(accounts.size());
+        for (var account : accounts) {
+            var document = new BsonDocument();
+            accountCodec.encode(new BsonDocumentWriter(document), account, encoderContext);
+            result.add(document);
+        }
+        return result;
+    }
+
+    private static MappingMongoConverter converter() {
+        var conversions = new MongoCustomConversions(List.of());
+        var mappingContext = new MongoMappingContext();
+        mappingContext.setSimpleTypeHolder(conversions.getSimpleTypeHolder());
+        mappingContext.afterPropertiesSet();
+        var converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext);
+        converter.setCustomConversions(conversions);
+        converter.afterPropertiesSet();
+        return converter;
+    }
+}
@@ -0,0 +1,52 @@
+package nl.rabobank.benchmarks;
+
+import java.math.BigDecimal;
+import java.util.stream.IntStream;
+import nl.rabobank.account.Account;
+import nl.rabobank.account.PaymentAccount;
+import nl.rabobank.account.SavingsAccount;
+import nl.rabobank.authorizations.Authorization;
+import nl.rabobank.authorizations.PowerOfAttorney;
+import nl.rabobank.dto.AccountRequest;
+import nl.rabobank.dto.PowerOfAttorneyRequest;
+
+/** Representative inputs, shared by the benchmarks so their results can be compared. */
+final class BenchmarkFixtures {
+
+    private BenchmarkFixtures() {}
+
+    static AccountRequest accountRequest() {
+        return AccountRequest.builder()
+                .accountNumber("NL01RABO0123456789")
+                .accountHolderName("John Doe")
+                .initialBalance(new BigDecimal("1250.75"))
+                .accountType("PAYMENT")
+                .build();
+    }
+
+    static PowerOfAttorneyRequest powerOfAttorneyRequest() {
+        return PowerOfAttorneyRequest.builder()
+                .grantorName("John Doe")
+                .granteeName("Jane Doe")
+                .authorization("WRITE")
+                .accountNumber("NL01RABO0123456789")
+                .accountType("PAYMENT")
+                .build();
+    }
+
+    static Account account(int i) {
+        var accountNumber = "NL01RABO%010d".formatted(i);
+        return i % 2 == 0
+                ? new PaymentAccount(accountNumber, "Holder " + i, 100_000L + i)
+                : new SavingsAccount(accountNumber, "Holder " + i, 100_000L + i);
+    }
+
+    static PowerOfAttorney powerOfAttorney(int i) {
+        var account = account(i);
+        return new PowerOfAttorney("Grantee " + i, account.accountHolderName(), account, Authorization.values()[i % 2]);
+    }
+
+    static Account[] accounts(int size) {
+        return IntStream.range(0, size).mapToObj(BenchmarkFixtures::account).toArray(Account[]::new);
+    }
+}
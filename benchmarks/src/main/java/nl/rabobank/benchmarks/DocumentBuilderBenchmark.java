@@ -0,0 +1,63 @@
+package nl.rabobank.benchmarks;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+import nl.rabobank.account.AccountType;
+import nl.rabobank.authorizations.Authorization;
+import nl.rabobank.document.AccountDocument;
+import nl.rabobank.document.PowerOfAttorneyDocument;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Lombok builder construction of the documents, against their all-args constructor as the baseline. */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DocumentBuilderBenchmark {
+
+    private final String accountNumber = "NL01RABO0123456789";
+    private final String accountHolderName = "John Doe";
+    private final BigDecimal balance = new BigDecimal("1250.75");
+    private final String granteeName = "Jane Doe";
+
+    @Benchmark
+    public AccountDocument accountDocumentBuilder() {
+        return AccountDocument.builder()
+                .accountNumber(accountNumber)
+                .accountHolderName(accountHolderName)
+                .balance(balance)
+                .accountType(AccountType.PAYMENT)
+                .build();
+    }
+
+    @Benchmark
+    public AccountDocument accountDocumentConstructor() {
+        return new AccountDocument(accountNumber, accountHolderName, balance, AccountType.PAYMENT);
+    }
+
+    @Benchmark
+    public PowerOfAttorneyDocument powerOfAttorneyDocumentBuilder() {
+        return PowerOfAttorneyDocument.builder()
+                .granteeName(granteeName)
+                .grantorName(accountHolderName)
+                .accountNumber(accountNumber)
+                .authorization(Authorization.READ)
+                .build();
+    }
+
+    @Benchmark
+    public PowerOfAttorneyDocument powerOfAttorneyDocumentConstructor() {
+        return new PowerOfAttorneyDocument(
+                null, granteeName, accountHolderName, accountNumber, null, Authorization.READ);
+    }
+}
@@ -0,0 +1,64 @@
+package nl.rabobank.benchmarks;
+
+import static nl.rabobank.account.AccountType.PAYMENT;
+import static nl.rabobank.account.AccountType.SAVINGS;
+
+import lombok.Builder;
+import lombok.Data;
+import nl.rabobank.account.Account;
+import nl.rabobank.account.MinorUnits;
+import nl.rabobank.account.PaymentAccount;
+import nl.rabobank.account.SavingsAccount;
+import nl.rabobank.authorizations.PowerOfAttorney;
+
+/**
+ * The response objects and mapping the API used before accounts and grants were serialised directly. Kept only as the
+ * baseline for {@link SerializationBenchmark}.
+ */
+final class DtoResponses {
+
+    private DtoResponses() {}
+
+    @Data
+    @Builder
+    static class AccountResponse {
+        private String accountNumber;
+        private String accountHolderName;
+        private String accountType;
+        private String balance;
+    }
+
+    @Data
+    @Builder
+    static class PowerOfAttorneyResponse {
+        private String id;
+        private String granteeName;
+        private String grantorName;
+        private String authorization;
+        private AccountResponse account;
+    }
+
+    static AccountResponse toAccountResponse(Account account) {
+        var accountType =
+                switch (account) {
+                    case PaymentAccount p -> PAYMENT;
+                    case SavingsAccount s -> SAVINGS;
+                };
+
+        return AccountResponse.builder()
+                .accountNumber(account.accountNumber())
+                .accountHolderName(account.accountHolderName())
+                .balance(MinorUnits.format(account.balance()))
+                .accountType(String.valueOf(accountType))
+                .build();
+    }
+
+    static PowerOfAttorneyResponse toPowerOfAttorneyResponse(PowerOfAttorney powerOfAttorney) {
+        return PowerOfAttorneyResponse.builder()
+                .grantorName(powerOfAttorney.grantorName())
+                .granteeName(powerOfAttorney.granteeName())
+                .authorization(String.valueOf(powerOfAttorney.authorization()))
+                .account(toAccountResponse(powerOfAttorney.account()))
+                .build();
+    }
+}
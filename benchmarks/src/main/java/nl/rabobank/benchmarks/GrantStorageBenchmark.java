@@ -0,0 +1,126 @@
+package nl.rabobank.benchmarks;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import nl.rabobank.account.Account;
+import nl.rabobank.authorizations.PowerOfAttorney;
+import nl.rabobank.document.AccountDocument;
+import nl.rabobank.document.PowerOfAttorneyDocument;
+import nl.rabobank.mapper.AccountMapper;
+import nl.rabobank.mapper.PowerOfAttorneyMapper;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.DocumentCodec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+/**
+ * Reading a page of grants from BSON bytes, as the driver receives them, up to the domain objects. The {@code embedded} layout
+ * is the former one with a copy of the account in every grant; the {@code reference} layout stores the account number
+ * only and also decodes the accounts of the page, as returned by the one {@code $in} query. Every account has
+ * {@link #GRANTS_PER_ACCOUNT} grants. The average BSON size of a grant is printed during setup.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GrantStorageBenchmark {
+
+    private static final int GRANTS_PER_ACCOUNT = 5;
+
+    @Param({"embedded", "reference"})
+    private String layout;
+
+    @Param({"500"})
+    private int size;
+
+    private final AccountMapper accountMapper = new AccountMapper();
+    private final PowerOfAttorneyMapper powerOfAttorneyMapper = new PowerOfAttorneyMapper(accountMapper);
+    private final DocumentCodec codec = new DocumentCodec();
+
+    private MappingMongoConverter converter;
+    private List<RawBsonDocument> grants;
+    private List<RawBsonDocument> accounts;
+
+    @Setup
+    public void setUp() {
+        converter = converter();
+        grants = new ArrayList<>(size);
+        var accountsByNumber = new LinkedHashMap<String, RawBsonDocument>();
+        for (var i = 0; i < size; i++) {
+            var account = BenchmarkFixtures.account(i / GRANTS_PER_ACCOUNT);
+            var grant = powerOfAttorneyMapper.toDocument(BenchmarkFixtures.powerOfAttorney(i).toBuilder()
+                    .account(account)
+                    .build());
+            grant.setId("%024x".formatted(i));
+            if (layout.equals("embedded")) {
+                grant.setAccountDocument(accountMapper.toDocument(account));
+                grant.setAccountNumber(null);
+            }
+            grants.add(bson(grant));
+            accountsByNumber.computeIfAbsent(
+                    account.accountNumber(), number -> bson(accountMapper.toDocument(account)));
+        }
+        accounts = layout.equals("reference") ? List.copyOf(accountsByNumber.values()) : List.of();
+
+        var grantBytes = grants.stream()
+                .mapToInt(grant -> grant.getByteBuffer().remaining())
+                .sum();
+        var accountBytes = accounts.stream()
+                .mapToInt(account -> account.getByteBuffer().remaining())
+                .sum();
+        System.out.printf(
+                "%n%s: %d bytes per grant, %d bytes per page of %d grants including %d accounts%n",
+                layout, grantBytes / size, grantBytes + accountBytes, size, accounts.size());
+    }
+
+    @Benchmark
+    public List<PowerOfAttorney> readPage() {
+        Map<String, Account> resolved = new LinkedHashMap<>();
+        for (var account : accounts) {
+            var domain = accountMapper.toDomain(converter.read(AccountDocument.class, account.decode(codec)));
+            resolved.put(domain.accountNumber(), domain);
+        }
+        var page = new ArrayList<PowerOfAttorney>(grants.size());
+        for (var grant : grants) {
+            page.add(powerOfAttorneyMapper.toDomain(
+                    converter.read(PowerOfAttorneyDocument.class, grant.decode(codec)), resolved));
+        }
+        return page;
+    }
+
+    private RawBsonDocument bson(Object document) {
+        var bson = new Document();
+        converter.write(document, bson);
+        return new RawBsonDocument(bson, codec);
+    }
+
+    private static MappingMongoConverter converter() {
+        var conversions = new MongoCustomConversions(List.of());
+        var mappingContext = new MongoMappingContext();
+        mappingContext.setSimpleTypeHolder(conversions.getSimpleTypeHolder());
+        mappingContext.afterPropertiesSet();
+        var converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext);
+        converter.setCustomConversions(conversions);
+        converter.afterPropertiesSet();
+        return converter;
+    }
+}
@@ -0,0 +1,95 @@
+package nl.rabobank.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import nl.rabobank.account.Account;
+import nl.rabobank.apimapper.AccountApiMapper;
+import nl.rabobank.apimapper.PowerOfAttorneyApiMapper;
+import nl.rabobank.authorizations.PowerOfAttorney;
+import nl.rabobank.document.AccountDocument;
+import nl.rabobank.document.PowerOfAttorneyDocument;
+import nl.rabobank.dto.AccountRequest;
+import nl.rabobank.dto.PowerOfAttorneyRequest;
+import nl.rabobank.mapper.AccountMapper;
+import nl.rabobank.mapper.PowerOfAttorneyMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Every copy a request goes through, one benchmark per mapper method, plus the complete account round trip
+ * {@code request -> domain -> document -> domain} as it happens on account creation. The domain object is serialised
+ * as is, so there is no response copy left to measure here.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MapperBenchmark {
+
+    private final AccountMapper accountMapper = new AccountMapper();
+    private final AccountApiMapper accountApiMapper = new AccountApiMapper();
+    private final PowerOfAttorneyMapper powerOfAttorneyMapper = new PowerOfAttorneyMapper(accountMapper);
+    private final PowerOfAttorneyApiMapper powerOfAttorneyApiMapper = new PowerOfAttorneyApiMapper();
+
+    private AccountRequest accountRequest;
+    private Account account;
+    private AccountDocument accountDocument;
+    private PowerOfAttorneyRequest powerOfAttorneyRequest;
+    private PowerOfAttorney powerOfAttorney;
+    private PowerOfAttorneyDocument powerOfAttorneyDocument;
+
+    @Setup
+    public void setUp() {
+        accountRequest = BenchmarkFixtures.accountRequest();
+        account = BenchmarkFixtures.account(0);
+        accountDocument = accountMapper.toDocument(account);
+        powerOfAttorneyRequest = BenchmarkFixtures.powerOfAttorneyRequest();
+        powerOfAttorney = BenchmarkFixtures.powerOfAttorney(0);
+        powerOfAttorneyDocument = powerOfAttorneyMapper.toDocument(powerOfAttorney);
+    }
+
+    @Benchmark
+    public Account accountApiMapperToDomain() {
+        return accountApiMapper.toDomain(accountRequest);
+    }
+
+    @Benchmark
+    public AccountDocument accountMapperToDocument() {
+        return accountMapper.toDocument(account);
+    }
+
+    @Benchmark
+    public Account accountMapperToDomain() {
+        return accountMapper.toDomain(accountDocument);
+    }
+
+    @Benchmark
+    public Account accountRoundTrip() {
+        var document = accountMapper.toDocument(accountApiMapper.toDomain(accountRequest));
+        return accountMapper.toDomain(document);
+    }
+
+    @Benchmark
+    public PowerOfAttorney powerOfAttorneyApiMapperToDomain() {
+        return powerOfAttorneyApiMapper.toDomain(powerOfAttorneyRequest, account);
+    }
+
+    @Benchmark
+    public PowerOfAttorneyDocument powerOfAttorneyMapperToDocument() {
+        return powerOfAttorneyMapper.toDocument(powerOfAttorney);
+    }
+
+    @Benchmark
+    public PowerOfAttorney powerOfAttorneyMapperToDomain() {
+        return powerOfAttorneyMapper.toDomain(powerOfAttorneyDocument, account);
+    }
+}
@@ -0,0 +1,82 @@
+package nl.rabobank.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import nl.rabobank.account.Account;
+import nl.rabobank.authorizations.PowerOfAttorney;
+import nl.rabobank.json.AccountJsonSerializer;
+import nl.rabobank.json.PowerOfAttorneyJsonSerializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Jackson serialisation of response lists, from a single item up to a full streamed batch. The {@code dto*} benchmarks
+ * map to the former response objects first and let Jackson introspect them; the {@code direct*} benchmarks write the
+ * domain objects with the serializers the API registers. Both {@link ObjectMapper}s are built like Spring MVC builds
+ * its own.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SerializationBenchmark {
+
+    @Param({"1", "50", "500", "5000"})
+    private int size;
+
+    private final ObjectMapper dtoObjectMapper =
+            Jackson2ObjectMapperBuilder.json().build();
+    private final ObjectMapper directObjectMapper = Jackson2ObjectMapperBuilder.json()
+            .serializers(new AccountJsonSerializer(), new PowerOfAttorneyJsonSerializer())
+            .build();
+
+    private List<Account> accounts;
+    private List<PowerOfAttorney> powersOfAttorney;
+
+    @Setup
+    public void setUp() {
+        accounts = Arrays.asList(BenchmarkFixtures.accounts(size));
+        powersOfAttorney = IntStream.range(0, size)
+                .mapToObj(BenchmarkFixtures::powerOfAttorney)
+                .toList();
+    }
+
+    @Benchmark
+    public byte[] dtoAccounts() throws JsonProcessingException {
+        return dtoObjectMapper.writeValueAsBytes(
+                accounts.stream().map(DtoResponses::toAccountResponse).toList());
+    }
+
+    @Benchmark
+    public byte[] directAccounts() throws JsonProcessingException {
+        return directObjectMapper.writeValueAsBytes(accounts);
+    }
+
+    @Benchmark
+    public byte[] dtoPowersOfAttorney() throws JsonProcessingException {
+        return dtoObjectMapper.writeValueAsBytes(powersOfAttorney.stream()
+                .map(DtoResponses::toPowerOfAttorneyResponse)
+                .toList());
+    }
+
+    @Benchmark
+    public byte[] directPowersOfAttorney() throws JsonProcessingException {
+        return directObjectMapper.writeValueAsBytes(powersOfAttorney);
+    }
+}
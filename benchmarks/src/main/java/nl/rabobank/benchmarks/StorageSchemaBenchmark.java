@@ -0,0 +1,135 @@
+package nl.rabobank.benchmarks;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import nl.rabobank.account.Account;
+import nl.rabobank.account.SavingsAccount;
+import nl.rabobank.authorizations.PowerOfAttorney;
+import nl.rabobank.document.AccountDocument;
+import nl.rabobank.document.PowerOfAttorneyDocument;
+import nl.rabobank.mapper.AccountMapper;
+import nl.rabobank.mapper.PowerOfAttorneyMapper;
+import nl.rabobank.schema.StorageSchema;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.DocumentCodec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+/**
+ * Reading a page of grants plus their accounts from BSON bytes in the standard and the compact {@link StorageSchema}.
+ * The accounts have numbers like {@code NL100000001}, which the compact schema stores as a numeric key. The average
+ * BSON size of an account, a grant and an account number index key is printed during setup.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StorageSchemaBenchmark {
+
+    private static final int GRANTS_PER_ACCOUNT = 5;
+
+    @Param({"STANDARD", "COMPACT"})
+    private StorageSchema schema;
+
+    @Param({"500"})
+    private int size;
+
+    private final AccountMapper accountMapper = new AccountMapper();
+    private final PowerOfAttorneyMapper powerOfAttorneyMapper = new PowerOfAttorneyMapper(accountMapper);
+    private final DocumentCodec codec = new DocumentCodec();
+
+    private MappingMongoConverter converter;
+    private List<RawBsonDocument> grants;
+    private List<RawBsonDocument> accounts;
+
+    @Setup
+    public void setUp() {
+        converter = converter(schema);
+        grants = new ArrayList<>(size);
+        accounts = new ArrayList<>();
+        var keyBytes = 0;
+        for (var i = 0; i < size; i++) {
+            var account = account(i / GRANTS_PER_ACCOUNT);
+            var grant = powerOfAttorneyMapper.toDocument(BenchmarkFixtures.powerOfAttorney(i).toBuilder()
+                    .account(account)
+                    .build());
+            grant.setId("%024x".formatted(i));
+            var document = new Document();
+            converter.write(grant, document);
+            schema.writeAccountReference(document);
+            grants.add(new RawBsonDocument(document, codec));
+            if (i % GRANTS_PER_ACCOUNT == 0) {
+                var accountDocument = new Document();
+                converter.write(accountMapper.toDocument(account), accountDocument);
+                schema.writeAccountKey(accountDocument);
+                accounts.add(new RawBsonDocument(accountDocument, codec));
+                keyBytes += new RawBsonDocument(new Document("_id", accountDocument.get("_id")), codec)
+                        .getByteBuffer()
+                        .remaining();
+            }
+        }
+
+        System.out.printf(
+                "%n%s: %d bytes per account, %d bytes per grant, %d bytes per account number key%n",
+                schema, bytes(accounts) / accounts.size(), bytes(grants) / size, keyBytes / accounts.size());
+    }
+
+    @Benchmark
+    public List<PowerOfAttorney> readPage() {
+        Map<String, Account> resolved = new LinkedHashMap<>();
+        for (var account : accounts) {
+            var document = account.decode(codec);
+            schema.readAccountKey(document);
+            var domain = accountMapper.toDomain(converter.read(AccountDocument.class, document));
+            resolved.put(domain.accountNumber(), domain);
+        }
+        var page = new ArrayList<PowerOfAttorney>(grants.size());
+        for (var grant : grants) {
+            var document = grant.decode(codec);
+            schema.readAccountReference(document);
+            page.add(powerOfAttorneyMapper.toDomain(converter.read(PowerOfAttorneyDocument.class, document), resolved));
+        }
+        return page;
+    }
+
+    private static Account account(int i) {
+        return new SavingsAccount("NL%09d".formatted(100_000_000 + i), "Account holder " + i, 100_000L + i);
+    }
+
+    private static int bytes(List<RawBsonDocument> documents) {
+        return documents.stream()
+                .mapToInt(document -> document.getByteBuffer().remaining())
+                .sum();
+    }
+
+    private static MappingMongoConverter converter(StorageSchema schema) {
+        var conversions = schema.conversions();
+        var mappingContext = new MongoMappingContext();
+        mappingContext.setSimpleTypeHolder(conversions.getSimpleTypeHolder());
+        schema.applyTo(mappingContext);
+        mappingContext.afterPropertiesSet();
+        var converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext);
+        converter.setCustomConversions(conversions);
+        schema.applyTo(converter);
+        converter.afterPropertiesSet();
+        return converter;
+    }
+}
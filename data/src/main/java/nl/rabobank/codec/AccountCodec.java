@@ -0,0 +1,150 @@
+package nl.rabobank.codec;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import nl.rabobank.account.Account;
+import nl.rabobank.account.AccountType;
+import nl.rabobank.account.MinorUnits;
+import nl.rabobank.account.PaymentAccount;
+import nl.rabobank.account.SavingsAccount;
+import nl.rabobank.document.AccountDocument;
+import nl.rabobank.schema.StorageSchema;
+import org.bson.BsonReader;
+import org.bson.BsonSerializationException;
+import org.bson.BsonType;
+import org.bson.BsonWriter;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.bson.types.Decimal128;
+
+/**
+ * Reads and writes accounts in the layout of {@link AccountDocument} without the mapping converter: BSON is decoded
+ * straight into a {@link PaymentAccount} or {@link SavingsAccount}, without reflection and without an intermediate
+ * document. Writes the same fields as the converter in the {@link StorageSchema} the converter uses, so both can read
+ * what the other wrote.
+ */
+public class AccountCodec implements Codec<Account> {
+
+    /** The type hint the converter writes, kept so documents written by this codec look like any other. */
+    static final String TYPE_HINT = AccountDocument.class.getName();
+
+    private final StorageSchema schema;
+    private final String accountHolderNameField;
+    private final String balanceField;
+    private final String accountTypeField;
+
+    public AccountCodec(StorageSchema schema) {
+        this.schema = schema;
+        this.accountHolderNameField = schema.field("accountHolderName");
+        this.balanceField = schema.field("balance");
+        this.accountTypeField = schema.field("accountType");
+    }
+
+    @Override
+    public void encode(BsonWriter writer, Account account, EncoderContext context) {
+        writer.writeStartDocument();
+        // Like the converter, null fields are left out
+        if (account.accountNumber() != null) {
+            writer.writeName("_id");
+            writeValue(writer, schema.accountKey(account.accountNumber()));
+        }
+        if (account.accountHolderName() != null) {
+            writer.writeString(accountHolderNameField, account.accountHolderName());
+        }
+        writer.writeDecimal128(balanceField, new Decimal128(MinorUnits.toDecimal(account.balance())));
+        writer.writeName(accountTypeField);
+        writeValue(writer, schema.code(accountType(account)));
+        if (schema.writesTypeHint()) {
+            writer.writeString("_class", TYPE_HINT);
+        }
+        writer.writeEndDocument();
+    }
+
+    @Override
+    public Account decode(BsonReader reader, DecoderContext context) {
+        String accountNumber = null;
+        String accountHolderName = null;
+        long balance = 0;
+        AccountType accountType = null;
+
+        reader.readStartDocument();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            var name = reader.readName();
+            if (name.equals("_id")) {
+                accountNumber = schema.accountNumber(readValue(reader));
+            } else if (name.equals(accountHolderNameField)) {
+                accountHolderName = (String) readValue(reader);
+            } else if (name.equals(balanceField)) {
+                balance = readBalance(reader);
+            } else if (name.equals(accountTypeField)) {
+                accountType = schema.accountType(readValue(reader));
+            } else {
+                reader.skipValue();
+            }
+        }
+        reader.readEndDocument();
+
+        if (accountType == null) {
+            throw new BsonSerializationException("Account %s has no accountType".formatted(accountNumber));
+        }
+        return switch (accountType) {
+            case PAYMENT -> new PaymentAccount(accountNumber, accountHolderName, balance);
+            case SAVINGS -> new SavingsAccount(accountNumber, accountHolderName, balance);
+        };
+    }
+
+    @Override
+    public Class<Account> getEncoderClass() {
+        return Account.class;
+    }
+
+    private static AccountType accountType(Account account) {
+        return switch (account) {
+            case PaymentAccount payment -> AccountType.PAYMENT;
+            case SavingsAccount savings -> AccountType.SAVINGS;
+        };
+    }
+
+    // The schema stores keys and codes as strings, 32 or 64 bit integers
+    private static void writeValue(BsonWriter writer, Object value) {
+        switch (value) {
+            case String text -> writer.writeString(text);
+            case Integer code -> writer.writeInt32(code);
+            case Long key -> writer.writeInt64(key);
+            default -> throw new BsonSerializationException("Unsupported value " + value);
+        }
+    }
+
+    private static Object readValue(BsonReader reader) {
+        return switch (reader.getCurrentBsonType()) {
+            case STRING -> reader.readString();
+            case INT32 -> reader.readInt32();
+            case INT64 -> reader.readInt64();
+            case NULL -> {
+                reader.readNull();
+                yield null;
+            }
+            default -> throw new BsonSerializationException("Unsupported type " + reader.getCurrentBsonType());
+        };
+    }
+
+    // Balances written as doubles by earlier versions are read like the converter reads them into a BigDecimal, and
+    // can have more decimals than cents
+    private static long readBalance(BsonReader reader) {
+        var balance =
+                switch (reader.getCurrentBsonType()) {
+                    case DECIMAL128 -> reader.readDecimal128().bigDecimalValue();
+                    case DOUBLE -> new BigDecimal(Double.toString(reader.readDouble()));
+                    case INT32 -> BigDecimal.valueOf(reader.readInt32());
+                    case INT64 -> BigDecimal.valueOf(reader.readInt64());
+                    case NULL -> {
+                        reader.readNull();
+                        yield null;
+                    }
+                    default ->
+                        throw new BsonSerializationException("Unsupported balance type " + reader.getCurrentBsonType());
+                };
+        return balance == null ? 0 : MinorUnits.of(balance.setScale(MinorUnits.SCALE, RoundingMode.HALF_EVEN));
+    }
+}
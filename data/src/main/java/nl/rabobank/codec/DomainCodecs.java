@@ -0,0 +1,38 @@
+package nl.rabobank.codec;
+
+import com.mongodb.MongoClientSettings;
+import nl.rabobank.account.Account;
+import nl.rabobank.schema.StorageSchema;
+import org.bson.codecs.Codec;
+import org.bson.codecs.configuration.CodecProvider;
+import org.bson.codecs.configuration.CodecRegistries;
+import org.bson.codecs.configuration.CodecRegistry;
+
+/**
+ * Provides the codecs of the domain records, for the record types as well as the interfaces they implement. Registered
+ * with every Mongo client, so a collection can be read straight into domain records with
+ * {@code withDocumentClass(Account.class)}.
+ */
+public final class DomainCodecs implements CodecProvider {
+
+    private final AccountCodec accountCodec;
+
+    public DomainCodecs(StorageSchema schema) {
+        this.accountCodec = new AccountCodec(schema);
+    }
+
+    /** The domain codecs for the schema in front of the driver defaults. */
+    public static CodecRegistry registry(StorageSchema schema) {
+        return CodecRegistries.fromRegistries(
+                CodecRegistries.fromProviders(new DomainCodecs(schema)), MongoClientSettings.getDefaultCodecRegistry());
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> Codec<T> get(Class<T> clazz, CodecRegistry registry) {
+        if (Account.class.isAssignableFrom(clazz)) {
+            return (Codec<T>) accountCodec;
+        }
+        return null;
+    }
+}
@@ -1,5 +1,6 @@
 package nl.rabobank.document;
 
+import java.math.BigDecimal;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -7,6 +8,8 @@ import lombok.NoArgsConstructor;
 import nl.rabobank.account.AccountType;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+import org.springframework.data.mongodb.core.mapping.FieldType;
 
 @Data
 @Builder
@@ -18,6 +21,10 @@ public class AccountDocument {
     String accountNumber;
 
     String accountHolderName;
-    Double balance;
+
+    /** Exact, as Decimal128; balances written as doubles by earlier versions are read as well. */
+    @Field(targetType = FieldType.DECIMAL128)
+    BigDecimal balance;
+
     AccountType accountType;
 }
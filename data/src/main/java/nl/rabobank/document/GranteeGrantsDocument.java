@@ -0,0 +1,39 @@
+package nl.rabobank.document;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import nl.rabobank.account.AccountType;
+import nl.rabobank.authorizations.Authorization;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/**
+ * Read model of {@code power_of_attorney_grants}: all grants of one grantee in one document, so listing them is a
+ * single primary key read. It is derived data, maintained at write time and regenerated from the grants by a rebuild.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "grantee_grants")
+public class GranteeGrantsDocument {
+    @Id
+    String granteeName;
+
+    /** One entry per grant, in the order the grants were made. */
+    List<Grant> grants;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Grant {
+        String accountNumber;
+        AccountType accountType;
+        Authorization authorization;
+        String grantorName;
+    }
+}
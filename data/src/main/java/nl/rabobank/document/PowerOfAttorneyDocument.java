@@ -19,6 +19,23 @@ public class PowerOfAttorneyDocument {
 
     String granteeName;
     String grantorName;
+
+    /** The {@code _id} of the account the grant is on. */
+    String accountNumber;
+
+    /**
+     * Copy of the account that earlier versions embedded instead of {@link #accountNumber}. It is only read, until the
+     * grant is migrated to the reference.
+     */
     AccountDocument accountDocument;
+
     Authorization authorization;
+
+    /** The account number of the grant, also for grants that still embed a copy of the account. */
+    public String accountReference() {
+        if (accountNumber != null) {
+            return accountNumber;
+        }
+        return accountDocument == null ? null : accountDocument.getAccountNumber();
+    }
 }
@@ -0,0 +1,41 @@
+package nl.rabobank.index;
+
+import java.util.LinkedHashMap;
+import java.util.SequencedMap;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.mongodb.core.index.Index;
+
+/**
+ * An index the application depends on. The key order is significant for compound indexes, so the keys are kept in
+ * declaration order.
+ */
+public record DeclaredIndex(String collection, String name, SequencedMap<String, Direction> keys) {
+
+    public static Builder on(String collection) {
+        return new Builder(collection);
+    }
+
+    public Index toIndex() {
+        var index = new Index().named(name);
+        keys.forEach(index::on);
+        return index;
+    }
+
+    public static class Builder {
+        private final String collection;
+        private final SequencedMap<String, Direction> keys = new LinkedHashMap<>();
+
+        private Builder(String collection) {
+            this.collection = collection;
+        }
+
+        public Builder ascending(String key) {
+            keys.put(key, Direction.ASC);
+            return this;
+        }
+
+        public DeclaredIndex named(String name) {
+            return new DeclaredIndex(collection, name, new LinkedHashMap<>(keys));
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package nl.rabobank.index;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Creates or verifies the declared indexes once the application is ready. Index builds on large collections can take
+ * minutes, so this runs on its own thread instead of on the startup or request path; queries fall back to collection
+ * scans until a build finishes.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IndexBootstrapper {
+
+    private final MongoTemplate mongoTemplate;
+    private final IndexDeclarations indexDeclarations;
+    private final IndexProperties indexProperties;
+
+    private volatile List<IndexDriftReport> lastReports = List.of();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        bootstrapInBackground();
+    }
+
+    public CompletableFuture<List<IndexDriftReport>> bootstrapInBackground() {
+        if (indexProperties.getMode() == IndexProperties.Mode.NONE) {
+            return CompletableFuture.completedFuture(List.of());
+        }
+
+        var result = new CompletableFuture<List<IndexDriftReport>>();
+        Thread.ofPlatform().daemon().name("mongo-index-bootstrap").start(() -> {
+            try {
+                result.complete(bootstrap());
+            } catch (RuntimeException e) {
+                log.error("Index bootstrap failed", e);
+                result.completeExceptionally(e);
+            }
+        });
+        return result;
+    }
+
+    public List<IndexDriftReport> bootstrap() {
+        var byCollection = indexDeclarations.all().stream().collect(Collectors.groupingBy(DeclaredIndex::collection));
+
+        var reports = byCollection.entrySet().stream()
+                .map(entry -> bootstrap(entry.getKey(), entry.getValue()))
+                .toList();
+
+        lastReports = reports;
+        return reports;
+    }
+
+    /** The drift reports of the last bootstrap run, empty if it did not run yet. */
+    public List<IndexDriftReport> lastReports() {
+        return lastReports;
+    }
+
+    private IndexDriftReport bootstrap(String collection, List<DeclaredIndex> declared) {
+        var indexOperations = mongoTemplate.indexOps(collection);
+
+        if (indexProperties.getMode() == IndexProperties.Mode.CREATE) {
+            for (var index : declared) {
+                try {
+                    // No-op when an identical index already exists
+                    indexOperations.createIndex(index.toIndex());
+                } catch (RuntimeException e) {
+                    log.warn("Could not create index {} on {}: {}", index.name(), collection, e.getMessage());
+                }
+            }
+        }
+
+        var report = IndexDriftReport.compare(collection, declared, indexOperations.getIndexInfo());
+        if (report.hasDrift()) {
+            log.warn(
+                    "Index drift on {}: missing={}, mismatched={}, unexpected={}",
+                    collection,
+                    report.missing(),
+                    report.mismatched(),
+                    report.unexpected());
+        } else {
+            log.info("Indexes on {} match the declaration", collection);
+        }
+        return report;
+    }
+}
@@ -0,0 +1,38 @@
+package nl.rabobank.index;
+
+import java.util.List;
+import nl.rabobank.schema.StorageSchema;
+import org.springframework.stereotype.Component;
+
+/**
+ * All secondary indexes the repositories rely on, on the field names of the {@link StorageSchema}. The accounts
+ * collection and the grantee read model are only queried on their {@code _id}, so they need no secondary index.
+ */
+@Component
+public class IndexDeclarations {
+
+    static final String POWER_OF_ATTORNEY_GRANTS = "power_of_attorney_grants";
+
+    private final List<DeclaredIndex> declared;
+
+    public IndexDeclarations(StorageSchema schema) {
+        var granteeName = schema.field("granteeName");
+        var accountNumber = schema.field("accountNumber");
+        this.declared = List.of(
+                // Serves findByGranteeName through its prefix, and lookups of a grantee on one account
+                DeclaredIndex.on(POWER_OF_ATTORNEY_GRANTS)
+                        .ascending(granteeName)
+                        .ascending(accountNumber)
+                        .named("granteeName_accountNumber"),
+                DeclaredIndex.on(POWER_OF_ATTORNEY_GRANTS)
+                        .ascending(schema.field("grantorName"))
+                        .named("grantorName"),
+                DeclaredIndex.on(POWER_OF_ATTORNEY_GRANTS)
+                        .ascending(accountNumber)
+                        .named("accountNumber"));
+    }
+
+    public List<DeclaredIndex> all() {
+        return declared;
+    }
+}
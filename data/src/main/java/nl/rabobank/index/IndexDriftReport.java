@@ -0,0 +1,64 @@
+package nl.rabobank.index;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+
+/**
+ * Differences between the declared and the actual indexes of one collection.
+ *
+ * @param missing    declared indexes that do not exist
+ * @param mismatched declared indexes that exist under the same name, but with different keys
+ * @param unexpected indexes that exist, but are not declared
+ */
+public record IndexDriftReport(
+        String collection, List<String> missing, List<String> mismatched, List<String> unexpected) {
+
+    private static final String ID_INDEX = "_id_";
+
+    public static IndexDriftReport compare(String collection, List<DeclaredIndex> declared, List<IndexInfo> actual) {
+        var actualByName = actual.stream().collect(Collectors.toMap(IndexInfo::getName, Function.identity()));
+        var declaredNames = declared.stream().map(DeclaredIndex::name).collect(Collectors.toSet());
+
+        var missing = new ArrayList<String>();
+        var mismatched = new ArrayList<String>();
+        for (var index : declared) {
+            var info = actualByName.get(index.name());
+            if (info == null) {
+                missing.add(index.name());
+            } else if (!keysOf(info).equals(keysOf(index))) {
+                mismatched.add(index.name());
+            }
+        }
+
+        var unexpected = actual.stream()
+                .map(IndexInfo::getName)
+                .filter(name -> !ID_INDEX.equals(name) && !declaredNames.contains(name))
+                .sorted()
+                .toList();
+
+        return new IndexDriftReport(collection, List.copyOf(missing), List.copyOf(mismatched), unexpected);
+    }
+
+    public boolean hasDrift() {
+        return !missing.isEmpty() || !mismatched.isEmpty() || !unexpected.isEmpty();
+    }
+
+    // Keys are compared as lists, because a map comparison would ignore the order of compound keys
+    private static List<Key> keysOf(IndexInfo info) {
+        return info.getIndexFields().stream()
+                .map(field -> new Key(field.getKey(), field.getDirection()))
+                .toList();
+    }
+
+    private static List<Key> keysOf(DeclaredIndex index) {
+        return index.keys().entrySet().stream()
+                .map(entry -> new Key(entry.getKey(), entry.getValue()))
+                .toList();
+    }
+
+    private record Key(String field, Direction direction) {}
+}
@@ -0,0 +1,21 @@
+package nl.rabobank.index;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "rabobank.mongo.indexes")
+public class IndexProperties {
+
+    /** What to do with the declared indexes at startup. */
+    private Mode mode = Mode.CREATE;
+
+    public enum Mode {
+        /** Create missing indexes, then report drift. */
+        CREATE,
+        /** Only report drift, for environments where indexes are managed by a DBA. */
+        VERIFY,
+        /** Do nothing. */
+        NONE
+    }
+}
@@ -3,41 +3,50 @@ package nl.rabobank.mapper;
 import static nl.rabobank.account.AccountType.PAYMENT;
 import static nl.rabobank.account.AccountType.SAVINGS;
 
+import io.micrometer.core.annotation.Timed;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
 import nl.rabobank.account.Account;
+import nl.rabobank.account.MinorUnits;
 import nl.rabobank.account.PaymentAccount;
 import nl.rabobank.account.SavingsAccount;
 import nl.rabobank.document.AccountDocument;
 import org.springframework.stereotype.Component;
 
 @Component
+@Timed("rabobank.mapper")
 public class AccountMapper {
 
     public AccountDocument toDocument(Account account) {
         return switch (account) {
-            case PaymentAccount(String accountNumber, String accountHolderName, Double balance) ->
+            case PaymentAccount(String accountNumber, String accountHolderName, long balance) ->
                 AccountDocument.builder()
                         .accountType(PAYMENT)
                         .accountNumber(accountNumber)
                         .accountHolderName(accountHolderName)
-                        .balance(balance)
+                        .balance(MinorUnits.toDecimal(balance))
                         .build();
-            case SavingsAccount(String accountNumber, String accountHolderName, Double balance) ->
+            case SavingsAccount(String accountNumber, String accountHolderName, long balance) ->
                 AccountDocument.builder()
                         .accountType(SAVINGS)
                         .accountNumber(accountNumber)
                         .accountHolderName(accountHolderName)
-                        .balance(balance)
+                        .balance(MinorUnits.toDecimal(balance))
                         .build();
             default -> throw new IllegalArgumentException("Unknown Account type: " + account.getClass());
         };
     }
 
     public Account toDomain(AccountDocument document) {
+        var balance = toMinorUnits(document.getBalance());
         return switch (document.getAccountType()) {
-            case PAYMENT ->
-                new PaymentAccount(document.getAccountNumber(), document.getAccountHolderName(), document.getBalance());
-            case SAVINGS ->
-                new SavingsAccount(document.getAccountNumber(), document.getAccountHolderName(), document.getBalance());
+            case PAYMENT -> new PaymentAccount(document.getAccountNumber(), document.getAccountHolderName(), balance);
+            case SAVINGS -> new SavingsAccount(document.getAccountNumber(), document.getAccountHolderName(), balance);
         };
     }
+
+    // Balances written as doubles by earlier versions can have more decimals than cents
+    private static long toMinorUnits(BigDecimal balance) {
+        return balance == null ? 0 : MinorUnits.of(balance.setScale(MinorUnits.SCALE, RoundingMode.HALF_EVEN));
+    }
 }
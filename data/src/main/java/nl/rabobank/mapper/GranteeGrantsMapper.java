@@ -0,0 +1,85 @@
+package nl.rabobank.mapper;
+
+import io.micrometer.core.annotation.Timed;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import nl.rabobank.account.Account;
+import nl.rabobank.account.AccountType;
+import nl.rabobank.account.PaymentAccount;
+import nl.rabobank.account.SavingsAccount;
+import nl.rabobank.authorizations.PowerOfAttorney;
+import nl.rabobank.document.GranteeGrantsDocument;
+import org.springframework.stereotype.Component;
+
+@Component
+@Timed("rabobank.mapper")
+public class GranteeGrantsMapper {
+
+    /**
+     * The grants per grantee, as documents that hold only the grants to add to the read model. Grants without a grantee
+     * or an account are left out.
+     */
+    public List<GranteeGrantsDocument> toAdditions(Collection<PowerOfAttorney> powersOfAttorney) {
+        var byGrantee = new LinkedHashMap<String, List<GranteeGrantsDocument.Grant>>();
+        for (var powerOfAttorney : powersOfAttorney) {
+            if (powerOfAttorney.granteeName() == null || powerOfAttorney.account() == null) {
+                continue;
+            }
+            byGrantee
+                    .computeIfAbsent(powerOfAttorney.granteeName(), grantee -> new ArrayList<>())
+                    .add(GranteeGrantsDocument.Grant.builder()
+                            .accountNumber(powerOfAttorney.account().accountNumber())
+                            .accountType(accountType(powerOfAttorney.account()))
+                            .authorization(powerOfAttorney.authorization())
+                            .grantorName(powerOfAttorney.grantorName())
+                            .build());
+        }
+        return byGrantee.entrySet().stream()
+                .map(grantee -> new GranteeGrantsDocument(grantee.getKey(), grantee.getValue()))
+                .toList();
+    }
+
+    /**
+     * The grants of the document with their accounts taken from {@code accounts}, which holds the current state of the
+     * accounts instead of the copy made when access was granted. Grants on accounts missing from {@code accounts} are
+     * left out.
+     */
+    public List<PowerOfAttorney> toDomain(GranteeGrantsDocument document, Map<String, Account> accounts) {
+        if (document.getGrants() == null) {
+            return List.of();
+        }
+        return document.getGrants().stream()
+                .filter(grant -> accounts.containsKey(grant.getAccountNumber()))
+                .map(grant -> PowerOfAttorney.builder()
+                        .granteeName(document.getGranteeName())
+                        .grantorName(grant.getGrantorName())
+                        .account(accounts.get(grant.getAccountNumber()))
+                        .authorization(grant.getAuthorization())
+                        .build())
+                .toList();
+    }
+
+    /** The distinct account numbers the grants of the document refer to. */
+    public List<String> accountNumbers(GranteeGrantsDocument document) {
+        if (document.getGrants() == null) {
+            return List.of();
+        }
+        return document.getGrants().stream()
+                .map(GranteeGrantsDocument.Grant::getAccountNumber)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+    }
+
+    private static AccountType accountType(Account account) {
+        return switch (account) {
+            case PaymentAccount payment -> AccountType.PAYMENT;
+            case SavingsAccount savings -> AccountType.SAVINGS;
+            default -> throw new IllegalArgumentException("Unknown Account type: " + account.getClass());
+        };
+    }
+}
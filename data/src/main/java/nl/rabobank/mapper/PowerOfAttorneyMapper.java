@@ -1,31 +1,49 @@
 package nl.rabobank.mapper;
 
+import io.micrometer.core.annotation.Timed;
+import java.util.Map;
 import lombok.AllArgsConstructor;
+import nl.rabobank.account.Account;
 import nl.rabobank.authorizations.PowerOfAttorney;
 import nl.rabobank.document.PowerOfAttorneyDocument;
 import org.springframework.stereotype.Component;
 
 @Component
 @AllArgsConstructor
+@Timed("rabobank.mapper")
 public class PowerOfAttorneyMapper {
 
     private AccountMapper accountMapper;
 
+    /** Stores the account as a reference, the account itself stays in the accounts collection only. */
     public PowerOfAttorneyDocument toDocument(PowerOfAttorney domain) {
         return PowerOfAttorneyDocument.builder()
                 .granteeName(domain.granteeName())
                 .grantorName(domain.grantorName())
-                .accountDocument(accountMapper.toDocument(domain.account()))
+                .accountNumber(domain.account().accountNumber())
                 .authorization(domain.authorization())
                 .build();
     }
 
-    public PowerOfAttorney toDomain(PowerOfAttorneyDocument doc) {
+    /**
+     * The grant on {@code account}, which is {@code null} when the account does not exist. A grant that still embeds a
+     * copy of its account falls back to that copy.
+     */
+    public PowerOfAttorney toDomain(PowerOfAttorneyDocument doc, Account account) {
+        if (account == null && doc.getAccountDocument() != null) {
+            account = accountMapper.toDomain(doc.getAccountDocument());
+        }
         return PowerOfAttorney.builder()
                 .granteeName(doc.getGranteeName())
                 .grantorName(doc.getGrantorName())
-                .account(accountMapper.toDomain(doc.getAccountDocument()))
+                .account(account)
                 .authorization(doc.getAuthorization())
                 .build();
     }
+
+    /** The grant with its account looked up in {@code accounts}, keyed by account number. */
+    public PowerOfAttorney toDomain(PowerOfAttorneyDocument doc, Map<String, Account> accounts) {
+        var accountNumber = doc.accountReference();
+        return toDomain(doc, accountNumber == null ? null : accounts.get(accountNumber));
+    }
 }
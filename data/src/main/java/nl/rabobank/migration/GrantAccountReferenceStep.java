@@ -0,0 +1,61 @@
+package nl.rabobank.migration;
+
+import com.mongodb.client.model.Filters;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import nl.rabobank.document.PowerOfAttorneyDocument;
+import nl.rabobank.schema.StorageSchema;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.springframework.stereotype.Component;
+
+/** Replaces the copy of the account that earlier versions embedded in every grant by a reference to the account. */
+@Component
+@RequiredArgsConstructor
+public class GrantAccountReferenceStep implements MigrationStep {
+
+    private final StorageSchema schema;
+
+    @Override
+    public int version() {
+        return 1;
+    }
+
+    @Override
+    public String name() {
+        return "grant-account-reference";
+    }
+
+    @Override
+    public Class<?> documentType() {
+        return PowerOfAttorneyDocument.class;
+    }
+
+    /** Grants that still embed a copy of their account instead of referencing it. */
+    @Override
+    public Bson pending() {
+        return Filters.and(
+                Filters.exists(schema.field("accountNumber"), false), Filters.exists(schema.field("accountDocument")));
+    }
+
+    @Override
+    public List<Document> update() {
+        var accountDocument = schema.field("accountDocument");
+        return List.of(
+                new Document("$set", new Document(schema.field("accountNumber"), "$" + accountDocument + "._id")),
+                new Document("$unset", accountDocument));
+    }
+
+    @Override
+    public boolean upgrade(Document grant) {
+        var accountNumber = schema.field("accountNumber");
+        var accountDocument = schema.field("accountDocument");
+        if (grant.containsKey(accountNumber) || !grant.containsKey(accountDocument)) {
+            return false;
+        }
+        if (grant.remove(accountDocument) instanceof Document account && account.containsKey("_id")) {
+            grant.put(accountNumber, account.get("_id"));
+        }
+        return true;
+    }
+}
@@ -0,0 +1,67 @@
+package nl.rabobank.migration;
+
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.UpdateOptions;
+import com.mongodb.client.model.Updates;
+import java.time.Instant;
+import java.util.Date;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+/**
+ * The progress of every migration step in {@code schema_migrations}, one document per version. While a pass over the
+ * collection runs it holds the {@code _id} of the last migrated batch, so a restarted pass resumes after it.
+ */
+@RequiredArgsConstructor
+class MigrationCheckpoints {
+
+    static final String COLLECTION = "schema_migrations";
+
+    private final MongoTemplate mongoTemplate;
+
+    /** The checkpoint of the running pass of the step, empty when no pass is running. */
+    Checkpoint load(MigrationStep step) {
+        var stored = mongoTemplate
+                .getCollection(COLLECTION)
+                .find(Filters.eq("_id", step.version()))
+                .first();
+        if (stored == null || !stored.containsKey("position")) {
+            return new Checkpoint(null, 0);
+        }
+        return new Checkpoint(
+                stored.get("position"), stored.get("migrated", Number.class).longValue());
+    }
+
+    /** Records that the pass migrated {@code migrated} documents so far, up to and including {@code position}. */
+    void advance(MigrationStep step, Object position, long migrated) {
+        mongoTemplate
+                .getCollection(COLLECTION)
+                .updateOne(
+                        Filters.eq("_id", step.version()),
+                        Updates.combine(
+                                Updates.set("step", step.name()),
+                                Updates.set("position", position),
+                                Updates.set("migrated", migrated),
+                                Updates.set("updatedAt", Date.from(Instant.now()))),
+                        new UpdateOptions().upsert(true));
+    }
+
+    /** Records the end of the pass, which migrated {@code migrated} documents. */
+    void complete(MigrationStep step, long migrated) {
+        var now = Date.from(Instant.now());
+        mongoTemplate
+                .getCollection(COLLECTION)
+                .updateOne(
+                        Filters.eq("_id", step.version()),
+                        Updates.combine(
+                                Updates.set("step", step.name()),
+                                Updates.unset("position"),
+                                Updates.set("migrated", migrated),
+                                Updates.set("updatedAt", now),
+                                Updates.set("completedAt", now)),
+                        new UpdateOptions().upsert(true));
+    }
+
+    /** {@code position} is the {@code _id} the pass resumes after, {@code null} to start at the first document. */
+    record Checkpoint(Object position, long migrated) {}
+}
@@ -0,0 +1,172 @@
+package nl.rabobank.migration;
+
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Projections;
+import com.mongodb.client.model.Sorts;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs the {@link MigrationStep}s on a background thread once the application is ready, in ascending version. Every
+ * step makes one pass over its collection in {@code _id} order, {@code rabobank.mongo.migration.batch-size} documents
+ * per update, throttled to {@code rabobank.mongo.migration.max-documents-per-second}. A checkpoint after every batch
+ * lets a pass that was interrupted by a restart resume where it stopped.
+ *
+ * <p>The application keeps serving requests while the migration runs, the {@link MigrationUpgrader} migrates the
+ * documents it has not reached yet when they are loaded. Batches repeat the pending filter of their step, so instances
+ * running the same pass leave each other's documents alone.
+ */
+@Slf4j
+@Component
+public class MigrationEngine {
+
+    private final MongoTemplate mongoTemplate;
+    private final MigrationProperties properties;
+    private final MigrationCheckpoints checkpoints;
+    private final List<MigrationStep> steps;
+    private final Map<Integer, StepMetrics> metrics = new HashMap<>();
+
+    public MigrationEngine(
+            MongoTemplate mongoTemplate,
+            MigrationProperties properties,
+            List<MigrationStep> steps,
+            MeterRegistry meterRegistry) {
+        this.mongoTemplate = mongoTemplate;
+        this.properties = properties;
+        this.checkpoints = new MigrationCheckpoints(mongoTemplate);
+        this.steps = steps.stream()
+                .sorted(Comparator.comparingInt(MigrationStep::version))
+                .toList();
+        for (var step : this.steps) {
+            if (metrics.put(step.version(), new StepMetrics(step, meterRegistry)) != null) {
+                throw new IllegalStateException(
+                        "Migration version %d is used by more than one step".formatted(step.version()));
+            }
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (properties.isEnabled()) {
+            Thread.ofPlatform().daemon().name("schema-migration").start(() -> {
+                try {
+                    migrate();
+                } catch (RuntimeException e) {
+                    log.error("Schema migration failed, it resumes on the next start", e);
+                }
+            });
+        }
+    }
+
+    /** The steps in the order they run. */
+    public List<MigrationStep> steps() {
+        return steps;
+    }
+
+    /** Runs a pass of every step, returns the number of migrated documents. Stops when the thread is interrupted. */
+    public synchronized long migrate() {
+        var throttle = new MigrationThrottle(properties.getMaxDocumentsPerSecond(), properties.getPause());
+        var migrated = 0L;
+        for (var step : steps) {
+            if (Thread.currentThread().isInterrupted()) {
+                break;
+            }
+            migrated += migrate(step, throttle);
+        }
+        return migrated;
+    }
+
+    private long migrate(MigrationStep step, MigrationThrottle throttle) {
+        var stepMetrics = metrics.get(step.version());
+        var collection = mongoTemplate.getCollection(mongoTemplate.getCollectionName(step.documentType()));
+        var checkpoint = checkpoints.load(step);
+        var position = checkpoint.position();
+        stepMetrics.remaining.set(collection.countDocuments(after(position, step.pending())));
+
+        var batchSize = properties.getBatchSize();
+        var migrated = 0L;
+        while (true) {
+            var ids = nextBatch(collection, step, position, batchSize);
+            if (ids.isEmpty()) {
+                break;
+            }
+            // The filter is repeated, so documents migrated by another instance in the meantime are left alone
+            var batch = stepMetrics.batches.record(() -> collection
+                    .updateMany(Filters.and(Filters.in("_id", ids), step.pending()), step.update())
+                    .getModifiedCount());
+            migrated += batch;
+            position = ids.getLast();
+            stepMetrics.documents.increment(batch);
+            stepMetrics.remaining.updateAndGet(remaining -> Math.max(0, remaining - ids.size()));
+            checkpoints.advance(step, position, checkpoint.migrated() + migrated);
+            if (ids.size() < batchSize) {
+                break;
+            }
+            if (!throttle.afterBatch(ids.size())) {
+                return migrated;
+            }
+        }
+
+        checkpoints.complete(step, checkpoint.migrated() + migrated);
+        stepMetrics.remaining.set(0);
+        if (migrated > 0) {
+            log.info("Migration {} {} migrated {} documents", step.version(), step.name(), migrated);
+        }
+        return migrated;
+    }
+
+    private static List<Object> nextBatch(
+            MongoCollection<Document> collection, MigrationStep step, Object position, int batchSize) {
+        return collection
+                .find(after(position, step.pending()))
+                .projection(Projections.include("_id"))
+                .sort(Sorts.ascending("_id"))
+                .limit(batchSize)
+                .map(document -> document.get("_id"))
+                .into(new ArrayList<>(batchSize));
+    }
+
+    private static Bson after(Object position, Bson pending) {
+        return position == null ? pending : Filters.and(Filters.gt("_id", position), pending);
+    }
+
+    private static final class StepMetrics {
+
+        private final Counter documents;
+        private final Timer batches;
+        private final AtomicLong remaining = new AtomicLong();
+
+        private StepMetrics(MigrationStep step, MeterRegistry meterRegistry) {
+            var tags = Tags.of("step", step.name(), "version", String.valueOf(step.version()));
+            this.documents = Counter.builder("rabobank.migration.documents")
+                    .description("Documents migrated in the background")
+                    .tags(tags)
+                    .register(meterRegistry);
+            this.batches = Timer.builder("rabobank.migration.batches")
+                    .description("Updates of one batch of documents by the background migration")
+                    .tags(tags)
+                    .register(meterRegistry);
+            Gauge.builder("rabobank.migration.remaining", remaining, AtomicLong::get)
+                    .description("Documents the running pass still has to look at, counted at its start")
+                    .tags(tags)
+                    .register(meterRegistry);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package nl.rabobank.migration;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "rabobank.mongo.migration")
+public class MigrationProperties {
+
+    /** Migrate documents written by earlier versions in the background once the application is ready. */
+    private boolean enabled = true;
+
+    /** Number of documents migrated per update. */
+    private int batchSize = 1_000;
+
+    /** Pause between two batches, so a migration leaves room for live traffic. */
+    private Duration pause = Duration.ofMillis(50);
+
+    /** Upper limit of documents migrated per second, on top of the pause; 0 for no limit. */
+    private int maxDocumentsPerSecond = 5_000;
+}
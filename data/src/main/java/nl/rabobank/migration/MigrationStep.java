@@ -0,0 +1,35 @@
+package nl.rabobank.migration;
+
+import java.util.List;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+
+/**
+ * One versioned change to the stored documents of a collection. The {@link MigrationEngine} migrates the documents in
+ * the database in the background; until it reaches a document, the {@link MigrationUpgrader} migrates it whenever it is
+ * loaded, so the application only ever sees the new layout.
+ *
+ * <p>A step has to be idempotent: its {@link #update()} is applied with its {@link #pending()} filter, and
+ * {@link #upgrade(Document)} leaves a migrated document alone. Reads that bypass the converter, like
+ * {@link nl.rabobank.codec.AccountCodec}, are not upgraded and have to read both layouts.
+ */
+public interface MigrationStep {
+
+    /** Steps run in ascending version, every version is used once. */
+    int version();
+
+    /** Short name of the step, used in logs, checkpoints and metric tags. */
+    String name();
+
+    /** The mapped document type, whose collection is migrated and whose loaded documents are upgraded. */
+    Class<?> documentType();
+
+    /** The documents that still need the step. */
+    Bson pending();
+
+    /** The update, usually a pipeline, that migrates a pending document in the database. */
+    List<? extends Bson> update();
+
+    /** Migrates a loaded document in place as {@link #update()} does, returns whether it was pending. */
+    boolean upgrade(Document document);
+}
@@ -0,0 +1,37 @@
+package nl.rabobank.migration;
+
+import java.time.Duration;
+
+/**
+ * Limits a migration to a number of documents per second, with at least a fixed pause between two batches. The limit
+ * is kept on average: a batch that comes in late does not allow the next one to run early.
+ */
+final class MigrationThrottle {
+
+    private final long nanosPerDocument;
+    private final long pauseNanos;
+
+    private long next = Long.MIN_VALUE;
+
+    MigrationThrottle(int maxDocumentsPerSecond, Duration pause) {
+        this.nanosPerDocument = maxDocumentsPerSecond > 0 ? 1_000_000_000L / maxDocumentsPerSecond : 0;
+        this.pauseNanos = pause.toNanos();
+    }
+
+    /** Waits after a batch of {@code documents}, returns {@code false} when the thread was interrupted. */
+    boolean afterBatch(int documents) {
+        try {
+            Thread.sleep(delay(documents, System.nanoTime()));
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /** How long to wait at {@code now} after a batch of {@code documents}. */
+    Duration delay(int documents, long now) {
+        next = Math.max(next, now) + documents * nanosPerDocument;
+        return Duration.ofNanos(Math.max(next - now, pauseNanos));
+    }
+}
@@ -0,0 +1,62 @@
+package nl.rabobank.migration;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.bson.Document;
+import org.springframework.core.Ordered;
+import org.springframework.data.mongodb.core.mapping.event.AbstractMongoEventListener;
+import org.springframework.data.mongodb.core.mapping.event.AfterLoadEvent;
+import org.springframework.stereotype.Component;
+
+/**
+ * Migrates documents that the {@link MigrationEngine} has not reached yet, or that an instance of an earlier version
+ * wrote since, when they are loaded through the templates or repositories. The upgrade is only in memory; the document
+ * is stored in the new layout by the background migration or by the next save.
+ *
+ * <p>Runs before the other listeners, so those see the document in the new layout.
+ */
+@Component
+public class MigrationUpgrader extends AbstractMongoEventListener<Object> implements Ordered {
+
+    private final Map<Class<?>, List<UpgradingStep>> steps;
+
+    public MigrationUpgrader(List<MigrationStep> steps, MeterRegistry meterRegistry) {
+        this.steps = steps.stream()
+                .sorted(Comparator.comparingInt(MigrationStep::version))
+                .map(step -> new UpgradingStep(
+                        step,
+                        Counter.builder("rabobank.migration.upgrades")
+                                .description("Loaded documents migrated in memory, before the background migration")
+                                .tag("step", step.name())
+                                .tag("version", String.valueOf(step.version()))
+                                .register(meterRegistry)))
+                .collect(Collectors.groupingBy(upgrading -> upgrading.step().documentType()));
+    }
+
+    @Override
+    public void onAfterLoad(AfterLoadEvent<Object> event) {
+        var pending = steps.get(event.getType());
+        if (pending != null) {
+            upgrade(pending, event.getDocument());
+        }
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+
+    private static void upgrade(List<UpgradingStep> steps, Document document) {
+        for (var upgrading : steps) {
+            if (upgrading.step().upgrade(document)) {
+                upgrading.upgrades().increment();
+            }
+        }
+    }
+
+    private record UpgradingStep(MigrationStep step, Counter upgrades) {}
+}
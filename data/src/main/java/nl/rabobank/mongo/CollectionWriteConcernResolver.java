@@ -0,0 +1,27 @@
+package nl.rabobank.mongo;
+
+import com.mongodb.WriteConcern;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.springframework.data.mongodb.core.MongoAction;
+import org.springframework.data.mongodb.core.WriteConcernResolver;
+
+/**
+ * Resolves the write concern of every template write from {@link MongoClientProperties#getWriteConcernOverrides()},
+ * falling back to the client's write concern for collections without an override.
+ */
+public class CollectionWriteConcernResolver implements WriteConcernResolver {
+
+    private final Map<String, WriteConcern> overrides;
+
+    public CollectionWriteConcernResolver(MongoClientProperties clientProperties) {
+        this.overrides = clientProperties.getWriteConcernOverrides().entrySet().stream()
+                .collect(Collectors.toUnmodifiableMap(
+                        Map.Entry::getKey, entry -> entry.getValue().toWriteConcern()));
+    }
+
+    @Override
+    public WriteConcern resolve(MongoAction action) {
+        return overrides.getOrDefault(action.getCollectionName(), action.getDefaultWriteConcern());
+    }
+}
@@ -0,0 +1,86 @@
+package nl.rabobank.mongo;
+
+import com.mongodb.MongoClientSettings;
+import com.mongodb.ReadConcern;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import nl.rabobank.codec.DomainCodecs;
+import nl.rabobank.schema.StorageSchema;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+/**
+ * Applies {@link MongoClientProperties} to the driver settings, sizing the connection pool for the threading model the
+ * application runs on, and registers the {@link DomainCodecs} of the {@link StorageSchema}. Applied to every client, like any other
+ * {@link MongoClientSettingsBuilderCustomizer} bean.
+ */
+@Slf4j
+@Component
+public class MongoClientCustomizer implements MongoClientSettingsBuilderCustomizer {
+
+    private final MongoClientProperties clientProperties;
+    private final StorageSchema schema;
+    private final boolean virtualThreads;
+
+    public MongoClientCustomizer(
+            MongoClientProperties clientProperties, StorageSchema schema, Environment environment) {
+        this.clientProperties = clientProperties;
+        this.schema = schema;
+        this.virtualThreads = Threading.VIRTUAL.isActive(environment);
+    }
+
+    @Override
+    public void customize(MongoClientSettings.Builder builder) {
+        builder.codecRegistry(DomainCodecs.registry(schema));
+
+        var pool = clientProperties.getPool();
+        var maxSize = maxSize();
+        log.info(
+                "Mongo connection pool: max {} connections, wait at most {} for one ({} threads)",
+                maxSize,
+                pool.getMaxWaitTime(),
+                virtualThreads ? "virtual" : "platform");
+
+        builder.applyToConnectionPoolSettings(settings -> settings.maxSize(maxSize)
+                .minSize(pool.getMinSize())
+                .maxConnecting(pool.getMaxConnecting())
+                .maxWaitTime(pool.getMaxWaitTime().toMillis(), TimeUnit.MILLISECONDS)
+                .maxConnectionIdleTime(pool.getMaxConnectionIdleTime().toMillis(), TimeUnit.MILLISECONDS)
+                .maxConnectionLifeTime(pool.getMaxConnectionLifeTime().toMillis(), TimeUnit.MILLISECONDS));
+
+        builder.applyToSocketSettings(settings -> {
+            if (clientProperties.getConnectTimeout() != null) {
+                settings.connectTimeout(clientProperties.getConnectTimeout().toMillis(), TimeUnit.MILLISECONDS);
+            }
+            if (clientProperties.getSocketTimeout() != null) {
+                settings.readTimeout(clientProperties.getSocketTimeout().toMillis(), TimeUnit.MILLISECONDS);
+            }
+        });
+        if (clientProperties.getServerSelectionTimeout() != null) {
+            builder.applyToClusterSettings(settings -> settings.serverSelectionTimeout(
+                    clientProperties.getServerSelectionTimeout().toMillis(), TimeUnit.MILLISECONDS));
+        }
+
+        if (!clientProperties.getCompressors().isEmpty()) {
+            builder.compressorList(clientProperties.getCompressors().stream()
+                    .map(MongoClientProperties.Compressor::toMongoCompressor)
+                    .toList());
+        }
+        if (clientProperties.getReadPreference() != null) {
+            builder.readPreference(clientProperties.getReadPreference().toReadPreference());
+        }
+        if (clientProperties.getReadConcern() != null) {
+            builder.readConcern(new ReadConcern(clientProperties.getReadConcern()));
+        }
+        if (clientProperties.getWriteConcern() != null) {
+            builder.writeConcern(clientProperties.getWriteConcern().toWriteConcern());
+        }
+    }
+
+    int maxSize() {
+        var pool = clientProperties.getPool();
+        return virtualThreads ? pool.getVirtualThreadsMaxSize() : pool.getMaxSize();
+    }
+}
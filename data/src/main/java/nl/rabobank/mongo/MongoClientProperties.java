@@ -0,0 +1,182 @@
+package nl.rabobank.mongo;
+
+import com.mongodb.MongoCompressor;
+import com.mongodb.ReadConcernLevel;
+import com.mongodb.ReadPreference;
+import com.mongodb.WriteConcern;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.ClassUtils;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Typed settings for the MongoDB client, applied on top of the connection string. Settings that are left unset keep
+ * whatever the connection string (or else the driver) specifies; the pool is always sized from here.
+ */
+@Data
+@Validated
+@ConfigurationProperties(prefix = "rabobank.mongo.client")
+public class MongoClientProperties {
+
+    @Valid
+    private Pool pool = new Pool();
+
+    /** How long to wait for a new connection to be established. */
+    private Duration connectTimeout;
+
+    /** How long to wait for a response on an established connection, {@code 0} waits indefinitely. */
+    private Duration socketTimeout;
+
+    /** How long to wait for a suitable server (e.g. a primary after a failover) before failing an operation. */
+    private Duration serverSelectionTimeout;
+
+    /** Wire compressors to offer to the server, in order of preference. */
+    private List<Compressor> compressors = new ArrayList<>();
+
+    private ReadPreferenceMode readPreference;
+
+    private ReadConcernLevel readConcern;
+
+    @Valid
+    private WriteConcernSetting writeConcern;
+
+    /**
+     * Write concerns per collection, overriding {@link #writeConcern} for every write to that collection. Useful to
+     * trade durability for latency on collections whose writes can be repeated or rebuilt.
+     */
+    private Map<String, @Valid WriteConcernSetting> writeConcernOverrides = new HashMap<>();
+
+    @AssertTrue(
+            message =
+                    "a configured compressor needs its library on the classpath (zstd-jni for zstd, snappy-java for snappy)")
+    public boolean isCompressorsAvailable() {
+        return compressors.stream().allMatch(Compressor::isAvailable);
+    }
+
+    @Data
+    public static class Pool {
+
+        /** Maximum number of connections per server when requests run on platform threads. */
+        @Min(1)
+        private int maxSize = 100;
+
+        /**
+         * Maximum number of connections per server when requests run on virtual threads. Request concurrency is then
+         * no longer capped by the Tomcat thread pool, so the connection pool becomes the limit and needs more room.
+         */
+        @Min(1)
+        private int virtualThreadsMaxSize = 500;
+
+        /** Number of connections kept open per server, even when idle. */
+        @Min(0)
+        private int minSize = 0;
+
+        /** Maximum number of connections per server that may be established concurrently. */
+        @Min(1)
+        private int maxConnecting = 4;
+
+        /**
+         * How long a request waits for a free connection before failing. The driver default of two minutes turns pool
+         * exhaustion into hanging requests; a short wait surfaces it as an error instead.
+         */
+        @NotNull
+        private Duration maxWaitTime = Duration.ofSeconds(2);
+
+        /** How long a connection may stay idle before it is closed, {@code 0} keeps it open. */
+        @NotNull
+        private Duration maxConnectionIdleTime = Duration.ZERO;
+
+        /** How long a connection may live before it is closed, {@code 0} keeps it open. */
+        @NotNull
+        private Duration maxConnectionLifeTime = Duration.ZERO;
+
+        @AssertTrue(message = "min-size must not exceed max-size or virtual-threads-max-size")
+        public boolean isMinSizeWithinMaxSize() {
+            return minSize <= Math.min(maxSize, virtualThreadsMaxSize);
+        }
+    }
+
+    @Data
+    public static class WriteConcernSetting {
+
+        /** Number of members that must acknowledge the write, {@code majority} or a tag set name. */
+        @Pattern(regexp = "majority|\\d+|[A-Za-z][\\w-]*")
+        private String w = "majority";
+
+        /** Whether the write must be in the on-disk journal before it is acknowledged. */
+        private Boolean journal;
+
+        /** How long to wait for the acknowledgement before the write fails. */
+        private Duration timeout;
+
+        @AssertTrue(message = "an unacknowledged write concern (w 0) cannot require the journal")
+        public boolean isJournalAcknowledged() {
+            return !("0".equals(w) && Boolean.TRUE.equals(journal));
+        }
+
+        public WriteConcern toWriteConcern() {
+            var writeConcern = w.chars().allMatch(Character::isDigit)
+                    ? new WriteConcern(Integer.parseInt(w))
+                    : new WriteConcern(w);
+            if (journal != null) {
+                writeConcern = writeConcern.withJournal(journal);
+            }
+            if (timeout != null) {
+                writeConcern = writeConcern.withWTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS);
+            }
+            return writeConcern;
+        }
+    }
+
+    public enum ReadPreferenceMode {
+        PRIMARY(ReadPreference::primary),
+        PRIMARY_PREFERRED(ReadPreference::primaryPreferred),
+        SECONDARY(ReadPreference::secondary),
+        SECONDARY_PREFERRED(ReadPreference::secondaryPreferred),
+        NEAREST(ReadPreference::nearest);
+
+        private final Supplier<ReadPreference> readPreference;
+
+        ReadPreferenceMode(Supplier<ReadPreference> readPreference) {
+            this.readPreference = readPreference;
+        }
+
+        public ReadPreference toReadPreference() {
+            return readPreference.get();
+        }
+    }
+
+    public enum Compressor {
+        ZSTD("com.github.luben.zstd.Zstd", MongoCompressor::createZstdCompressor),
+        SNAPPY("org.xerial.snappy.Snappy", MongoCompressor::createSnappyCompressor),
+        ZLIB(null, MongoCompressor::createZlibCompressor);
+
+        private final String requiredClass;
+        private final Supplier<MongoCompressor> compressor;
+
+        Compressor(String requiredClass, Supplier<MongoCompressor> compressor) {
+            this.requiredClass = requiredClass;
+            this.compressor = compressor;
+        }
+
+        public boolean isAvailable() {
+            return requiredClass == null || ClassUtils.isPresent(requiredClass, Compressor.class.getClassLoader());
+        }
+
+        public MongoCompressor toMongoCompressor() {
+            return compressor.get();
+        }
+    }
+}
@@ -1,10 +1,15 @@
 package nl.rabobank.mongo;
 
+import com.mongodb.ConnectionString;
+import com.mongodb.MongoClientSettings;
 import com.mongodb.client.MongoClient;
 import com.mongodb.client.MongoClients;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
 import org.springframework.boot.autoconfigure.mongo.MongoProperties;
+import org.springframework.boot.autoconfigure.mongo.MongoReactiveAutoConfiguration;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -19,6 +24,7 @@ import org.springframework.data.mongodb.repository.config.EnableMongoRepositorie
 @Profile("!test")
 public class MongoConfiguration extends AbstractMongoClientConfiguration {
     private final MongoProperties mongoProperties;
+    private final ObjectProvider<MongoClientSettingsBuilderCustomizer> clientSettingsCustomizers;
 
     @Override
     @NonNull
@@ -30,6 +36,14 @@ public class MongoConfiguration extends AbstractMongoClientConfiguration {
     @NonNull
     @Bean(destroyMethod = "close")
     public MongoClient mongoClient() {
-        return MongoClients.create(mongoProperties.determineUri());
+        var settings = MongoClientSettings.builder()
+                .applyConnectionString(new ConnectionString(mongoProperties.determineUri()));
+        // Our settings and codecs plus the metrics listeners Spring Boot registers as customizers, but not the Netty
+        // transport of the reactive client: it only shuts down the event loop of the last client it customized
+        clientSettingsCustomizers
+                .orderedStream()
+                .filter(customizer -> customizer.getClass().getEnclosingClass() != MongoReactiveAutoConfiguration.class)
+                .forEach(customizer -> customizer.customize(settings));
+        return MongoClients.create(settings.build());
     }
 }
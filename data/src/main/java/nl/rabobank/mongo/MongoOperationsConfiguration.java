@@ -0,0 +1,37 @@
+package nl.rabobank.mongo;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+
+/**
+ * Applies the per-collection write concerns to the blocking and the reactive template, whether they are created by
+ * {@link MongoConfiguration} or by Spring Boot.
+ */
+@Configuration(proxyBeanMethods = false)
+public class MongoOperationsConfiguration {
+
+    @Bean
+    CollectionWriteConcernResolver collectionWriteConcernResolver(MongoClientProperties clientProperties) {
+        return new CollectionWriteConcernResolver(clientProperties);
+    }
+
+    @Bean
+    static BeanPostProcessor writeConcernResolverPostProcessor(
+            ObjectProvider<CollectionWriteConcernResolver> resolver) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof MongoTemplate mongoTemplate) {
+                    mongoTemplate.setWriteConcernResolver(resolver.getObject());
+                } else if (bean instanceof ReactiveMongoTemplate reactiveMongoTemplate) {
+                    reactiveMongoTemplate.setWriteConcernResolver(resolver.getObject());
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,41 @@
+package nl.rabobank.mongo;
+
+import java.util.Set;
+import org.springframework.boot.autoconfigure.AutoConfigurationImportFilter;
+import org.springframework.boot.autoconfigure.AutoConfigurationMetadata;
+import org.springframework.boot.web.reactive.context.ConfigurableReactiveWebEnvironment;
+import org.springframework.context.EnvironmentAware;
+import org.springframework.core.env.Environment;
+
+/**
+ * Leaves out the auto-configuration of the reactive driver on the servlet stack. Both drivers are on the classpath, and
+ * Spring Boot would otherwise create a reactive client with its own connection pool, and reactive repositories, that
+ * nothing uses. Registered in {@code META-INF/spring.factories}.
+ */
+public class ReactiveMongoAutoConfigurationFilter implements AutoConfigurationImportFilter, EnvironmentAware {
+
+    private static final Set<String> REACTIVE_MONGO_AUTO_CONFIGURATIONS = Set.of(
+            "org.springframework.boot.autoconfigure.mongo.MongoReactiveAutoConfiguration",
+            "org.springframework.boot.autoconfigure.data.mongo.MongoReactiveDataAutoConfiguration",
+            "org.springframework.boot.autoconfigure.data.mongo.MongoReactiveRepositoriesAutoConfiguration");
+
+    private boolean reactive;
+
+    @Override
+    public void setEnvironment(Environment environment) {
+        reactive = environment instanceof ConfigurableReactiveWebEnvironment;
+    }
+
+    @Override
+    public boolean[] match(String[] autoConfigurationClasses, AutoConfigurationMetadata autoConfigurationMetadata) {
+        var matches = new boolean[autoConfigurationClasses.length];
+        for (int i = 0; i < autoConfigurationClasses.length; i++) {
+            // Classes left out by an earlier filter are null
+            var autoConfigurationClass = autoConfigurationClasses[i];
+            matches[i] = reactive
+                    || autoConfigurationClass == null
+                    || !REACTIVE_MONGO_AUTO_CONFIGURATIONS.contains(autoConfigurationClass);
+        }
+        return matches;
+    }
+}
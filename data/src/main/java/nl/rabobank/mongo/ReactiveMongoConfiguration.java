@@ -0,0 +1,18 @@
+package nl.rabobank.mongo;
+
+import static org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type.REACTIVE;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.repository.config.EnableReactiveMongoRepositories;
+
+/**
+ * Reactive repositories, only on the reactive stack. Their client and template are created by Spring Boot, which
+ * {@link ReactiveMongoAutoConfigurationFilter} leaves out on the servlet stack.
+ */
+@Configuration(proxyBeanMethods = false)
+@EnableReactiveMongoRepositories(basePackages = "nl.rabobank.repository.reactive")
+@ConditionalOnWebApplication(type = REACTIVE)
+@Profile("!test")
+public class ReactiveMongoConfiguration {}
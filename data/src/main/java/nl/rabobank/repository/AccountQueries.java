@@ -0,0 +1,44 @@
+package nl.rabobank.repository;
+
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Sorts;
+import java.util.Collection;
+import nl.rabobank.schema.StorageSchema;
+import org.bson.BsonType;
+import org.bson.conversions.Bson;
+
+/**
+ * Driver filters on the {@code accounts} collection shared by the blocking and the reactive repository. Account numbers
+ * are matched on their key in the {@link StorageSchema}.
+ */
+public final class AccountQueries {
+
+    /** Key order, the order of keyset pages. */
+    public static final Bson KEY_ORDER = Sorts.ascending("_id");
+
+    private AccountQueries() {}
+
+    public static Bson byAccountNumber(StorageSchema schema, String accountNumber) {
+        return Filters.eq("_id", schema.accountKey(accountNumber));
+    }
+
+    public static Bson byAccountNumbers(StorageSchema schema, Collection<String> accountNumbers) {
+        return Filters.in("_id", schema.accountKeys(accountNumbers));
+    }
+
+    /**
+     * The accounts after the account number in {@link #KEY_ORDER}, all accounts for an empty account number. A range
+     * only matches keys of its own type, and keys stored as numbers sort before those stored as strings, so after a
+     * numeric key the string keys follow.
+     */
+    public static Bson after(StorageSchema schema, String accountNumber) {
+        if (accountNumber.isEmpty()) {
+            return Filters.empty();
+        }
+        var key = schema.accountKey(accountNumber);
+        if (key instanceof String) {
+            return Filters.gt("_id", key);
+        }
+        return Filters.or(Filters.gt("_id", key), Filters.type("_id", BsonType.STRING));
+    }
+}
@@ -6,7 +6,7 @@ import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface AccountRepository extends MongoRepository<AccountDocument, String> {
+public interface AccountRepository extends MongoRepository<AccountDocument, String>, AccountRepositoryCustom {
 
     Optional<AccountDocument> findByAccountNumber(String accountNumber);
 
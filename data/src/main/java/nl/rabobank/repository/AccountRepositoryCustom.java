@@ -0,0 +1,48 @@
+package nl.rabobank.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+import nl.rabobank.account.Account;
+import nl.rabobank.document.AccountDocument;
+
+/**
+ * The account reads decode straight into domain records with the {@link nl.rabobank.codec.AccountCodec}, bypassing the
+ * mapping converter and {@link AccountDocument}.
+ */
+public interface AccountRepositoryCustom {
+
+    Optional<Account> findAccount(String accountNumber);
+
+    /** The accounts with the given numbers, read with one {@code $in} query. Unknown numbers are left out. */
+    List<Account> findAccounts(Collection<String> accountNumbers);
+
+    /**
+     * Keyset page over the accounts collection, the accounts after {@code accountNumber} in key order. The account
+     * number is the {@code _id}, so this is a range scan on the primary key index instead of a skip/limit over the whole
+     * collection. Key order is account number order in the standard schema, see
+     * {@link nl.rabobank.schema.StorageSchema} for the compact one.
+     */
+    List<Account> findAccountsAfter(String accountNumber, int limit);
+
+    /**
+     * Streams all accounts from a server side cursor, fetching {@code batchSize} documents per round trip. The
+     * returned stream holds an open cursor and must be closed by the caller.
+     */
+    Stream<Account> streamAll(int batchSize);
+
+    /**
+     * Streams only the account numbers ({@code _id}s) of all accounts, fetching {@code batchSize} per round trip. The
+     * returned stream holds an open cursor and must be closed by the caller.
+     */
+    Stream<String> streamAccountNumbers(int batchSize);
+
+    /**
+     * Inserts the documents with a single unordered bulk write, so a rejected document does not stop the others.
+     * Returns the positions in {@code documents} that were rejected because the account number already exists; any
+     * other write error is rethrown.
+     */
+    Set<Integer> insertAllUnordered(List<AccountDocument> documents);
+}
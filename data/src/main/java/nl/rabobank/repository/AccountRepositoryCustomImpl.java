@@ -0,0 +1,88 @@
+package nl.rabobank.repository;
+
+import com.mongodb.client.MongoCollection;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import lombok.RequiredArgsConstructor;
+import nl.rabobank.account.Account;
+import nl.rabobank.document.AccountDocument;
+import nl.rabobank.schema.StorageSchema;
+import org.bson.Document;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+@RequiredArgsConstructor
+class AccountRepositoryCustomImpl implements AccountRepositoryCustom {
+
+    private final MongoTemplate mongoTemplate;
+    private final StorageSchema schema;
+
+    @Override
+    public Optional<Account> findAccount(String accountNumber) {
+        return Optional.ofNullable(mongoTemplate.execute(AccountDocument.class, collection -> accounts(collection)
+                .find(AccountQueries.byAccountNumber(schema, accountNumber))
+                .first()));
+    }
+
+    @Override
+    public List<Account> findAccounts(Collection<String> accountNumbers) {
+        return mongoTemplate.execute(AccountDocument.class, collection -> accounts(collection)
+                .find(AccountQueries.byAccountNumbers(schema, accountNumbers))
+                .into(new ArrayList<>()));
+    }
+
+    @Override
+    public List<Account> findAccountsAfter(String accountNumber, int limit) {
+        return mongoTemplate.execute(AccountDocument.class, collection -> accounts(collection)
+                .find(AccountQueries.after(schema, accountNumber))
+                .sort(AccountQueries.KEY_ORDER)
+                .limit(limit)
+                .into(new ArrayList<>()));
+    }
+
+    @Override
+    public Stream<Account> streamAll(int batchSize) {
+        var cursor = mongoTemplate.execute(
+                AccountDocument.class,
+                collection -> accounts(collection).find().batchSize(batchSize).cursor());
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(cursor, Spliterator.ORDERED), false)
+                .onClose(cursor::close);
+    }
+
+    @Override
+    public Stream<String> streamAccountNumbers(int batchSize) {
+        var query = new Query().cursorBatchSize(batchSize);
+        query.fields().include("_id");
+        return mongoTemplate.stream(query, AccountDocument.class).map(AccountDocument::getAccountNumber);
+    }
+
+    private static MongoCollection<Account> accounts(MongoCollection<Document> collection) {
+        return collection.withDocumentClass(Account.class);
+    }
+
+    @Override
+    public Set<Integer> insertAllUnordered(List<AccountDocument> documents) {
+        if (documents.isEmpty()) {
+            return Set.of();
+        }
+
+        try {
+            mongoTemplate
+                    .bulkOps(BulkMode.UNORDERED, AccountDocument.class)
+                    .insert(documents)
+                    .execute();
+            return Set.of();
+        } catch (BulkOperationException e) {
+            return DuplicateKeyPositions.of(e).orElseThrow(() -> e);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package nl.rabobank.repository;
+
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.bulk.BulkWriteError;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.util.MongoDbErrorCodes;
+
+/** Extracts the positions of documents rejected by a unique index from a failed unordered bulk write. */
+public final class DuplicateKeyPositions {
+
+    private DuplicateKeyPositions() {}
+
+    /**
+     * The positions of the rejected documents when every write error of the bulk write is a duplicate key error, empty
+     * when {@code failure} is not a bulk write failure or also holds other errors.
+     */
+    public static Optional<Set<Integer>> of(Throwable failure) {
+        return writeErrors(failure)
+                .filter(errors ->
+                        errors.stream().allMatch(error -> MongoDbErrorCodes.isDuplicateKeyCode(error.getCode())))
+                .map(errors -> errors.stream().map(BulkWriteError::getIndex).collect(Collectors.toSet()));
+    }
+
+    private static Optional<List<BulkWriteError>> writeErrors(Throwable failure) {
+        for (var cause = failure; cause != null; cause = cause.getCause()) {
+            if (cause instanceof BulkOperationException bulkOperationException) {
+                return Optional.of(bulkOperationException.getErrors());
+            }
+            if (cause instanceof MongoBulkWriteException mongoBulkWriteException) {
+                return Optional.of(mongoBulkWriteException.getWriteErrors());
+            }
+        }
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,30 @@
+package nl.rabobank.repository;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+import java.util.Collection;
+import nl.rabobank.schema.StorageSchema;
+import org.springframework.data.mongodb.core.query.Query;
+
+/** Queries on {@code power_of_attorney_grants} shared by the blocking and the reactive repository. */
+public final class GrantQueries {
+
+    private GrantQueries() {}
+
+    /**
+     * The grants of any of the grantees on any of the accounts. Grants that were not migrated to an account reference yet
+     * are matched on the number of their embedded account; the compact schema has no embedded accounts.
+     */
+    public static Query onAccounts(
+            StorageSchema schema, Collection<String> granteeNames, Collection<String> accountNumbers) {
+        if (schema.isCompact()) {
+            return Query.query(
+                    where("granteeName").in(granteeNames).and("accountNumber").in(schema.accountKeys(accountNumbers)));
+        }
+        return Query.query(where("granteeName")
+                .in(granteeNames)
+                .orOperator(
+                        where("accountNumber").in(accountNumbers),
+                        where("accountDocument.accountNumber").in(accountNumbers)));
+    }
+}
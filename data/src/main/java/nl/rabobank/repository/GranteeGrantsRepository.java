@@ -0,0 +1,9 @@
+package nl.rabobank.repository;
+
+import nl.rabobank.document.GranteeGrantsDocument;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface GranteeGrantsRepository
+        extends MongoRepository<GranteeGrantsDocument, String>, GranteeGrantsRepositoryCustom {}
@@ -0,0 +1,45 @@
+package nl.rabobank.repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Optional;
+import nl.rabobank.document.GranteeGrantsDocument;
+
+public interface GranteeGrantsRepositoryCustom {
+
+    /** {@code true} when no grantee has a document yet, without counting the documents. */
+    boolean isEmpty();
+
+    /**
+     * Appends the grants of every addition to the document of its grantee with a single unordered bulk write, creating
+     * the documents of new grantees.
+     */
+    void push(Collection<GranteeGrantsDocument> additions);
+
+    /**
+     * Adds the grants of every addition that are not in the document of its grantee yet, so it can be repeated without
+     * creating duplicates.
+     */
+    void addToSet(Collection<GranteeGrantsDocument> additions);
+
+    /**
+     * Regenerates the document of every grantee from {@code power_of_attorney_grants} with one aggregation on the
+     * server. Grants made while it runs can be overwritten and must be added again afterwards.
+     */
+    void rebuild();
+
+    /**
+     * Records for all instances that a write to the read model failed at {@code failedAt}, the read model lacks grants
+     * made since the first failure until it is repaired.
+     */
+    void markStale(Instant failedAt);
+
+    /** The failed writes since the read model was last repaired, empty when it is complete. */
+    Optional<Staleness> staleness();
+
+    /** Removes the stale marker when no write failed since {@code repairStarted}. */
+    void clearStale(Instant repairStarted);
+
+    /** The first and the last failed write to the read model. */
+    record Staleness(Instant since, Instant lastFailure) {}
+}
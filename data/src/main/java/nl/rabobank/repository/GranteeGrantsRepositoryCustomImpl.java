@@ -0,0 +1,116 @@
+package nl.rabobank.repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import nl.rabobank.document.AccountDocument;
+import nl.rabobank.document.GranteeGrantsDocument;
+import nl.rabobank.document.PowerOfAttorneyDocument;
+import nl.rabobank.schema.StorageSchema;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.util.Pair;
+
+@RequiredArgsConstructor
+class GranteeGrantsRepositoryCustomImpl implements GranteeGrantsRepositoryCustom {
+
+    private static final String STATUS_COLLECTION = "grantee_grants_status";
+    private static final String STATUS_ID = "stale";
+
+    private final MongoTemplate mongoTemplate;
+    private final StorageSchema schema;
+
+    @Override
+    public boolean isEmpty() {
+        return !mongoTemplate.exists(new Query(), GranteeGrantsDocument.class);
+    }
+
+    @Override
+    public void push(Collection<GranteeGrantsDocument> additions) {
+        upsert(GranteeGrantsUpdates.push(schema, additions));
+    }
+
+    @Override
+    public void addToSet(Collection<GranteeGrantsDocument> additions) {
+        upsert(GranteeGrantsUpdates.addToSet(schema, additions));
+    }
+
+    @Override
+    public void rebuild() {
+        var grants = mongoTemplate.getCollectionName(PowerOfAttorneyDocument.class);
+        var accounts = mongoTemplate.getCollectionName(AccountDocument.class);
+        var granteeGrants = mongoTemplate.getCollectionName(GranteeGrantsDocument.class);
+        var granteeName = schema.field("granteeName");
+        var accountNumber = schema.field("accountNumber");
+
+        // $merge instead of $out keeps the collection and its documents readable while the aggregation runs
+        var pipeline = List.of(
+                new Document("$match", new Document(granteeName, new Document("$ne", null))),
+                new Document("$sort", new Document("_id", 1)),
+                // Grants only reference their account, its type is read from the accounts collection
+                new Document("$set", new Document(accountNumber, GranteeGrantsUpdates.accountNumberExpression(schema))),
+                new Document(
+                        "$lookup",
+                        new Document("from", accounts)
+                                .append("localField", accountNumber)
+                                .append("foreignField", "_id")
+                                .append("as", "account")),
+                new Document(
+                        "$group",
+                        new Document("_id", "$" + granteeName)
+                                .append(
+                                        schema.field("grants"),
+                                        new Document("$push", GranteeGrantsUpdates.entryExpression(schema)))),
+                new Document(
+                        "$merge",
+                        new Document("into", granteeGrants)
+                                .append("whenMatched", "replace")
+                                .append("whenNotMatched", "insert")));
+
+        mongoTemplate
+                .getCollection(grants)
+                .aggregate(pipeline)
+                .allowDiskUse(true)
+                .toCollection();
+    }
+
+    @Override
+    public void markStale(Instant failedAt) {
+        mongoTemplate.upsert(
+                statusQuery(), new Update().min("since", failedAt).max("lastFailure", failedAt), STATUS_COLLECTION);
+    }
+
+    @Override
+    public Optional<Staleness> staleness() {
+        return Optional.ofNullable(mongoTemplate.findOne(statusQuery(), Document.class, STATUS_COLLECTION))
+                .map(status -> new Staleness(
+                        status.getDate("since").toInstant(),
+                        status.getDate("lastFailure").toInstant()));
+    }
+
+    @Override
+    public void clearStale(Instant repairStarted) {
+        mongoTemplate.remove(
+                statusQuery().addCriteria(Criteria.where("lastFailure").lt(repairStarted)), STATUS_COLLECTION);
+    }
+
+    private static Query statusQuery() {
+        return Query.query(Criteria.where("_id").is(STATUS_ID));
+    }
+
+    private void upsert(List<Pair<Query, Update>> updates) {
+        if (updates.isEmpty()) {
+            return;
+        }
+        mongoTemplate
+                .bulkOps(BulkMode.UNORDERED, GranteeGrantsDocument.class)
+                .upsert(updates)
+                .execute();
+    }
+}
@@ -0,0 +1,77 @@
+package nl.rabobank.repository;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+import java.util.Collection;
+import java.util.List;
+import nl.rabobank.document.GranteeGrantsDocument;
+import nl.rabobank.schema.StorageSchema;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.util.Pair;
+
+/**
+ * The writes to {@code grantee_grants} shared by the blocking and the reactive repository. Entries are written as plain
+ * documents with the same fields in the same order as the rebuild aggregation creates them, so {@code $addToSet}
+ * recognises an entry regardless of which of the two wrote it. Field names and values follow the
+ * {@link StorageSchema}.
+ */
+public final class GranteeGrantsUpdates {
+
+    private GranteeGrantsUpdates() {}
+
+    /** One upsert per grantee that appends the grants of {@code additions} to its document. */
+    public static List<Pair<Query, Update>> push(StorageSchema schema, Collection<GranteeGrantsDocument> additions) {
+        return additions.stream()
+                .filter(addition -> addition.getGranteeName() != null)
+                .map(addition ->
+                        Pair.of(query(addition), new Update().push("grants").each(entries(schema, addition))))
+                .toList();
+    }
+
+    /** One upsert per grantee that adds those grants of {@code additions} that are not in its document yet. */
+    public static List<Pair<Query, Update>> addToSet(
+            StorageSchema schema, Collection<GranteeGrantsDocument> additions) {
+        return additions.stream()
+                .filter(addition -> addition.getGranteeName() != null)
+                .map(addition ->
+                        Pair.of(query(addition), new Update().addToSet("grants").each(entries(schema, addition))))
+                .toList();
+    }
+
+    /** The account number of a grant, also of a grant that still embeds a copy of its account. */
+    static Document accountNumberExpression(StorageSchema schema) {
+        return new Document(
+                "$ifNull",
+                List.of("$" + schema.field("accountNumber"), "$" + schema.field("accountDocument") + "._id"));
+    }
+
+    /**
+     * The {@code $group} expression of one entry, on a {@code power_of_attorney_grants} document with its
+     * {@link #accountNumberExpression account number} set and its account looked up into {@code account}.
+     */
+    static Document entryExpression(StorageSchema schema) {
+        return new Document(schema.field("accountNumber"), "$" + schema.field("accountNumber"))
+                .append(
+                        schema.field("accountType"),
+                        new Document("$arrayElemAt", List.of("$account." + schema.field("accountType"), 0)))
+                .append(schema.field("authorization"), "$" + schema.field("authorization"))
+                .append(schema.field("grantorName"), "$" + schema.field("grantorName"));
+    }
+
+    private static Query query(GranteeGrantsDocument addition) {
+        return Query.query(where("_id").is(addition.getGranteeName()));
+    }
+
+    private static Object[] entries(StorageSchema schema, GranteeGrantsDocument addition) {
+        return addition.getGrants().stream().map(grant -> entry(schema, grant)).toArray();
+    }
+
+    static Document entry(StorageSchema schema, GranteeGrantsDocument.Grant grant) {
+        return new Document(schema.field("accountNumber"), schema.accountKey(grant.getAccountNumber()))
+                .append(schema.field("accountType"), schema.code(grant.getAccountType()))
+                .append(schema.field("authorization"), schema.code(grant.getAuthorization()))
+                .append(schema.field("grantorName"), grant.getGrantorName());
+    }
+}
@@ -6,6 +6,7 @@ import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface PowerOfAttorneyRepository extends MongoRepository<PowerOfAttorneyDocument, String> {
+public interface PowerOfAttorneyRepository
+        extends MongoRepository<PowerOfAttorneyDocument, String>, PowerOfAttorneyRepositoryCustom {
     List<PowerOfAttorneyDocument> findByGranteeName(String granteeName);
 }
@@ -0,0 +1,43 @@
+package nl.rabobank.repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+import nl.rabobank.document.PowerOfAttorneyDocument;
+
+public interface PowerOfAttorneyRepositoryCustom {
+
+    /**
+     * Streams all grants from a server side cursor, fetching {@code batchSize} documents per round trip. The returned
+     * stream holds an open cursor and must be closed by the caller.
+     */
+    Stream<PowerOfAttorneyDocument> streamAll(int batchSize);
+
+    /**
+     * Streams all grants for the grantee from a server side cursor, fetching {@code batchSize} documents per round
+     * trip. The returned stream holds an open cursor and must be closed by the caller.
+     */
+    Stream<PowerOfAttorneyDocument> streamByGranteeName(String granteeName, int batchSize);
+
+    /**
+     * The grants of any of the grantees on any of the accounts, with one query. Grants that still embed a copy of their
+     * account are matched as well.
+     */
+    List<PowerOfAttorneyDocument> findByGranteeNamesAndAccountNumbers(
+            Collection<String> granteeNames, Collection<String> accountNumbers);
+
+    /**
+     * Streams the grantee, account number and authorization of all grants from a server side cursor, fetching
+     * {@code batchSize} documents per round trip. The other fields are not read. The returned stream holds an open
+     * cursor and must be closed by the caller.
+     */
+    Stream<PowerOfAttorneyDocument> streamAuthorizations(int batchSize);
+
+    /**
+     * Streams the grants inserted since {@code since}, judged by the timestamp in their generated object id, from a
+     * server side cursor. Grants stored with an id of their own are not included. The returned stream holds an open
+     * cursor and must be closed by the caller.
+     */
+    Stream<PowerOfAttorneyDocument> streamInsertedSince(Instant since, int batchSize);
+}
@@ -0,0 +1,54 @@
+package nl.rabobank.repository;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import nl.rabobank.document.PowerOfAttorneyDocument;
+import nl.rabobank.schema.StorageSchema;
+import org.bson.types.ObjectId;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+@RequiredArgsConstructor
+class PowerOfAttorneyRepositoryCustomImpl implements PowerOfAttorneyRepositoryCustom {
+
+    private final MongoTemplate mongoTemplate;
+    private final StorageSchema schema;
+
+    @Override
+    public Stream<PowerOfAttorneyDocument> streamAll(int batchSize) {
+        return mongoTemplate.stream(new Query().cursorBatchSize(batchSize), PowerOfAttorneyDocument.class);
+    }
+
+    @Override
+    public Stream<PowerOfAttorneyDocument> streamByGranteeName(String granteeName, int batchSize) {
+        var query = Query.query(where("granteeName").is(granteeName)).cursorBatchSize(batchSize);
+        return mongoTemplate.stream(query, PowerOfAttorneyDocument.class);
+    }
+
+    @Override
+    public List<PowerOfAttorneyDocument> findByGranteeNamesAndAccountNumbers(
+            Collection<String> granteeNames, Collection<String> accountNumbers) {
+        return mongoTemplate.find(
+                GrantQueries.onAccounts(schema, granteeNames, accountNumbers), PowerOfAttorneyDocument.class);
+    }
+
+    @Override
+    public Stream<PowerOfAttorneyDocument> streamAuthorizations(int batchSize) {
+        var query = new Query().cursorBatchSize(batchSize);
+        query.fields().include("granteeName", "accountNumber", "accountDocument.accountNumber", "authorization");
+        return mongoTemplate.stream(query, PowerOfAttorneyDocument.class);
+    }
+
+    @Override
+    public Stream<PowerOfAttorneyDocument> streamInsertedSince(Instant since, int batchSize) {
+        var query =
+                Query.query(where("_id").gte(new ObjectId(Date.from(since)))).cursorBatchSize(batchSize);
+        return mongoTemplate.stream(query, PowerOfAttorneyDocument.class);
+    }
+}
@@ -0,0 +1,30 @@
+package nl.rabobank.repository.reactive;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import nl.rabobank.account.Account;
+import nl.rabobank.document.AccountDocument;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/** Non-blocking counterpart of {@link nl.rabobank.repository.AccountRepositoryCustom}. */
+public interface ReactiveAccountRepositoryCustom {
+
+    Mono<Account> findAccount(String accountNumber);
+
+    /** The accounts with the given numbers, read with one {@code $in} query. Unknown numbers are left out. */
+    Flux<Account> findAccounts(Collection<String> accountNumbers);
+
+    /** Keyset pagination: the accounts after {@code accountNumber}, in key order. */
+    Flux<Account> findAccountsAfter(String accountNumber, int limit);
+
+    /** Streams all accounts from a server side cursor, fetching {@code batchSize} documents per round trip. */
+    Flux<Account> streamAll(int batchSize);
+
+    /**
+     * Inserts the documents with a single unordered bulk write. Emits the positions in {@code documents} that were
+     * rejected because the account number already exists; any other write error is signalled as an error.
+     */
+    Mono<Set<Integer>> insertAllUnordered(List<AccountDocument> documents);
+}
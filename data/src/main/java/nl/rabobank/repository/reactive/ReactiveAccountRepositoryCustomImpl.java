@@ -0,0 +1,73 @@
+package nl.rabobank.repository.reactive;
+
+import com.mongodb.reactivestreams.client.MongoCollection;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import nl.rabobank.account.Account;
+import nl.rabobank.document.AccountDocument;
+import nl.rabobank.repository.AccountQueries;
+import nl.rabobank.repository.DuplicateKeyPositions;
+import nl.rabobank.schema.StorageSchema;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@RequiredArgsConstructor
+class ReactiveAccountRepositoryCustomImpl implements ReactiveAccountRepositoryCustom {
+
+    private final ReactiveMongoTemplate reactiveMongoTemplate;
+    private final StorageSchema schema;
+
+    @Override
+    public Mono<Account> findAccount(String accountNumber) {
+        return reactiveMongoTemplate
+                .execute(AccountDocument.class, collection -> accounts(collection)
+                        .find(AccountQueries.byAccountNumber(schema, accountNumber))
+                        .first())
+                .next();
+    }
+
+    @Override
+    public Flux<Account> findAccounts(Collection<String> accountNumbers) {
+        return reactiveMongoTemplate.execute(AccountDocument.class, collection -> accounts(collection)
+                .find(AccountQueries.byAccountNumbers(schema, accountNumbers)));
+    }
+
+    @Override
+    public Flux<Account> findAccountsAfter(String accountNumber, int limit) {
+        return reactiveMongoTemplate.execute(AccountDocument.class, collection -> accounts(collection)
+                .find(AccountQueries.after(schema, accountNumber))
+                .sort(AccountQueries.KEY_ORDER)
+                .limit(limit));
+    }
+
+    @Override
+    public Flux<Account> streamAll(int batchSize) {
+        return reactiveMongoTemplate.execute(
+                AccountDocument.class, collection -> accounts(collection).find().batchSize(batchSize));
+    }
+
+    private static MongoCollection<Account> accounts(MongoCollection<Document> collection) {
+        return collection.withDocumentClass(Account.class);
+    }
+
+    @Override
+    public Mono<Set<Integer>> insertAllUnordered(List<AccountDocument> documents) {
+        if (documents.isEmpty()) {
+            return Mono.just(Set.of());
+        }
+
+        return reactiveMongoTemplate
+                .bulkOps(BulkMode.UNORDERED, AccountDocument.class)
+                .insert(documents)
+                .execute()
+                .<Set<Integer>>thenReturn(Set.of())
+                .onErrorResume(
+                        e -> DuplicateKeyPositions.of(e).isPresent(),
+                        e -> Mono.just(DuplicateKeyPositions.of(e).orElseThrow()));
+    }
+}
@@ -0,0 +1,10 @@
+package nl.rabobank.repository.reactive;
+
+import nl.rabobank.document.GranteeGrantsDocument;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Repository;
+
+/** Non-blocking counterpart of {@link nl.rabobank.repository.GranteeGrantsRepository} on the reactive Mongo driver. */
+@Repository
+public interface ReactiveGranteeGrantsRepository
+        extends ReactiveMongoRepository<GranteeGrantsDocument, String>, ReactiveGranteeGrantsRepositoryCustom {}
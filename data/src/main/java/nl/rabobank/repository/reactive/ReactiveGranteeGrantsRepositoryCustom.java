@@ -0,0 +1,11 @@
+package nl.rabobank.repository.reactive;
+
+import java.util.Collection;
+import nl.rabobank.document.GranteeGrantsDocument;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveGranteeGrantsRepositoryCustom {
+
+    /** Same contract as {@link nl.rabobank.repository.GranteeGrantsRepositoryCustom#push(Collection)}. */
+    Mono<Void> push(Collection<GranteeGrantsDocument> additions);
+}
@@ -0,0 +1,29 @@
+package nl.rabobank.repository.reactive;
+
+import java.util.Collection;
+import lombok.RequiredArgsConstructor;
+import nl.rabobank.document.GranteeGrantsDocument;
+import nl.rabobank.repository.GranteeGrantsUpdates;
+import nl.rabobank.schema.StorageSchema;
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import reactor.core.publisher.Mono;
+
+@RequiredArgsConstructor
+class ReactiveGranteeGrantsRepositoryCustomImpl implements ReactiveGranteeGrantsRepositoryCustom {
+
+    private final ReactiveMongoTemplate reactiveMongoTemplate;
+    private final StorageSchema schema;
+
+    @Override
+    public Mono<Void> push(Collection<GranteeGrantsDocument> additions) {
+        var updates = GranteeGrantsUpdates.push(schema, additions);
+        if (updates.isEmpty()) {
+            return Mono.empty();
+        }
+
+        var bulk = reactiveMongoTemplate.bulkOps(BulkMode.UNORDERED, GranteeGrantsDocument.class);
+        updates.forEach(update -> bulk.upsert(update.getFirst(), update.getSecond()));
+        return bulk.execute().then();
+    }
+}
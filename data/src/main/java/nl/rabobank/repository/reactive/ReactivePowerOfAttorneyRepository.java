@@ -0,0 +1,14 @@
+package nl.rabobank.repository.reactive;
+
+import nl.rabobank.document.PowerOfAttorneyDocument;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+
+/** Non-blocking counterpart of {@link nl.rabobank.repository.PowerOfAttorneyRepository} on the reactive Mongo driver. */
+@Repository
+public interface ReactivePowerOfAttorneyRepository
+        extends ReactiveMongoRepository<PowerOfAttorneyDocument, String>, ReactivePowerOfAttorneyRepositoryCustom {
+
+    Flux<PowerOfAttorneyDocument> findByGranteeName(String granteeName);
+}
@@ -0,0 +1,16 @@
+package nl.rabobank.repository.reactive;
+
+import java.util.Collection;
+import nl.rabobank.document.PowerOfAttorneyDocument;
+import reactor.core.publisher.Flux;
+
+public interface ReactivePowerOfAttorneyRepositoryCustom {
+
+    /**
+     * Same contract as
+     * {@link nl.rabobank.repository.PowerOfAttorneyRepositoryCustom#findByGranteeNamesAndAccountNumbers(Collection,
+     * Collection)}.
+     */
+    Flux<PowerOfAttorneyDocument> findByGranteeNamesAndAccountNumbers(
+            Collection<String> granteeNames, Collection<String> accountNumbers);
+}
@@ -0,0 +1,23 @@
+package nl.rabobank.repository.reactive;
+
+import java.util.Collection;
+import lombok.RequiredArgsConstructor;
+import nl.rabobank.document.PowerOfAttorneyDocument;
+import nl.rabobank.repository.GrantQueries;
+import nl.rabobank.schema.StorageSchema;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import reactor.core.publisher.Flux;
+
+@RequiredArgsConstructor
+class ReactivePowerOfAttorneyRepositoryCustomImpl implements ReactivePowerOfAttorneyRepositoryCustom {
+
+    private final ReactiveMongoTemplate reactiveMongoTemplate;
+    private final StorageSchema schema;
+
+    @Override
+    public Flux<PowerOfAttorneyDocument> findByGranteeNamesAndAccountNumbers(
+            Collection<String> granteeNames, Collection<String> accountNumbers) {
+        return reactiveMongoTemplate.find(
+                GrantQueries.onAccounts(schema, granteeNames, accountNumbers), PowerOfAttorneyDocument.class);
+    }
+}
@@ -0,0 +1,40 @@
+package nl.rabobank.schema;
+
+import lombok.RequiredArgsConstructor;
+import nl.rabobank.document.AccountDocument;
+import nl.rabobank.document.GranteeGrantsDocument;
+import nl.rabobank.document.PowerOfAttorneyDocument;
+import org.springframework.data.mongodb.core.mapping.event.AbstractMongoEventListener;
+import org.springframework.data.mongodb.core.mapping.event.AfterLoadEvent;
+import org.springframework.data.mongodb.core.mapping.event.BeforeSaveEvent;
+
+/**
+ * Stores account numbers as their account key in the {@code _id} of accounts and in the account reference of grants,
+ * for everything written and read through the templates and repositories.
+ */
+@RequiredArgsConstructor
+public class AccountKeyListener extends AbstractMongoEventListener<Object> {
+
+    private final StorageSchema schema;
+
+    @Override
+    public void onBeforeSave(BeforeSaveEvent<Object> event) {
+        switch (event.getSource()) {
+            case AccountDocument ignored -> schema.writeAccountKey(event.getDocument());
+            case PowerOfAttorneyDocument ignored -> schema.writeAccountReference(event.getDocument());
+            default -> {}
+        }
+    }
+
+    @Override
+    public void onAfterLoad(AfterLoadEvent<Object> event) {
+        Class<?> type = event.getType();
+        if (type == AccountDocument.class) {
+            schema.readAccountKey(event.getDocument());
+        } else if (type == PowerOfAttorneyDocument.class) {
+            schema.readAccountReference(event.getDocument());
+        } else if (type == GranteeGrantsDocument.class) {
+            schema.readAccountReferences(event.getDocument());
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package nl.rabobank.schema;
+
+/**
+ * Stores account numbers of two capital letters and up to 15 digits, like {@code NL100000001}, as a fixed-width
+ * {@code long} instead of a string: 8 bytes in the document and in every index on it, against 16 bytes for the string.
+ * Other account numbers are stored as they are.
+ *
+ * <p>The key is {@code country * 2·10^15 + 10^digits + number}, the leading {@code 10^digits} keeps leading zeros, so
+ * every account number has exactly one key. Keys sort by country, then by number of digits and then by number; all
+ * keys sort before the account numbers stored as strings.
+ */
+final class AccountKeys {
+
+    private static final int MAX_DIGITS = 15;
+    private static final long COUNTRY_FACTOR = 2 * pow10(MAX_DIGITS);
+    private static final int COUNTRIES = 26 * 26;
+
+    private AccountKeys() {}
+
+    /** The {@code long} key of the account number, or the account number itself when it cannot be encoded. */
+    static Object encode(String accountNumber) {
+        if (!isEncodable(accountNumber)) {
+            return accountNumber;
+        }
+        var country = (accountNumber.charAt(0) - 'A') * 26 + (accountNumber.charAt(1) - 'A');
+        var digits = accountNumber.length() - 2;
+        return country * COUNTRY_FACTOR + pow10(digits) + Long.parseLong(accountNumber, 2, accountNumber.length(), 10);
+    }
+
+    /** The account number of a key written by {@link #encode(String)}. */
+    static String decode(Object key) {
+        if (!(key instanceof Long value)) {
+            return (String) key;
+        }
+        if (value < 0 || value >= COUNTRIES * COUNTRY_FACTOR) {
+            throw new IllegalArgumentException("Not an account key: " + value);
+        }
+        var country = (int) (value / COUNTRY_FACTOR);
+        var number = value % COUNTRY_FACTOR;
+        var digits = Long.toString(number).length() - 1;
+        var text = new StringBuilder(2 + digits)
+                .append((char) ('A' + country / 26))
+                .append((char) ('A' + country % 26));
+        var significant = Long.toString(number - pow10(digits));
+        text.repeat('0', digits - significant.length());
+        return text.append(significant).toString();
+    }
+
+    private static boolean isEncodable(String accountNumber) {
+        if (accountNumber == null || accountNumber.length() < 3 || accountNumber.length() > 2 + MAX_DIGITS) {
+            return false;
+        }
+        for (var i = 0; i < accountNumber.length(); i++) {
+            var c = accountNumber.charAt(i);
+            if (i < 2 ? c < 'A' || c > 'Z' : c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static long pow10(int exponent) {
+        var result = 1L;
+        for (var i = 0; i < exponent; i++) {
+            result *= 10;
+        }
+        return result;
+    }
+}
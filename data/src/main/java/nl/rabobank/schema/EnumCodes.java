@@ -0,0 +1,86 @@
+package nl.rabobank.schema;
+
+import nl.rabobank.account.AccountType;
+import nl.rabobank.authorizations.Authorization;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.data.convert.ReadingConverter;
+import org.springframework.data.convert.WritingConverter;
+
+/**
+ * The integer codes of the enums in the compact schema. The codes are fixed here instead of derived from the ordinal,
+ * so reordering or adding constants does not change stored documents.
+ */
+final class EnumCodes {
+
+    private EnumCodes() {}
+
+    static int code(AccountType accountType) {
+        return switch (accountType) {
+            case PAYMENT -> 1;
+            case SAVINGS -> 2;
+        };
+    }
+
+    static AccountType accountType(int code) {
+        return switch (code) {
+            case 1 -> AccountType.PAYMENT;
+            case 2 -> AccountType.SAVINGS;
+            default -> throw new IllegalArgumentException("Unknown account type code " + code);
+        };
+    }
+
+    static int code(Authorization authorization) {
+        return switch (authorization) {
+            case READ -> 1;
+            case WRITE -> 2;
+        };
+    }
+
+    static Authorization authorization(int code) {
+        return switch (code) {
+            case 1 -> Authorization.READ;
+            case 2 -> Authorization.WRITE;
+            default -> throw new IllegalArgumentException("Unknown authorization code " + code);
+        };
+    }
+
+    @WritingConverter
+    enum AccountTypeToCode implements Converter<AccountType, Integer> {
+        INSTANCE;
+
+        @Override
+        public Integer convert(AccountType source) {
+            return code(source);
+        }
+    }
+
+    @ReadingConverter
+    enum CodeToAccountType implements Converter<Integer, AccountType> {
+        INSTANCE;
+
+        @Override
+        public AccountType convert(Integer source) {
+            return accountType(source);
+        }
+    }
+
+    @WritingConverter
+    enum AuthorizationToCode implements Converter<Authorization, Integer> {
+        INSTANCE;
+
+        @Override
+        public Integer convert(Authorization source) {
+            return code(source);
+        }
+    }
+
+    @ReadingConverter
+    enum CodeToAuthorization implements Converter<Integer, Authorization> {
+        INSTANCE;
+
+        @Override
+        public Authorization convert(Integer source) {
+            return authorization(source);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package nl.rabobank.schema;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+/**
+ * Applies the {@link StorageSchema} to the mapping context and the converter, whether they are created by
+ * {@link nl.rabobank.mongo.MongoConfiguration} or by Spring Boot, so the blocking and the reactive template and all
+ * repositories use it.
+ */
+@Configuration(proxyBeanMethods = false)
+public class SchemaConfiguration {
+
+    @Bean
+    StorageSchema storageSchema(SchemaProperties properties) {
+        return StorageSchema.of(properties);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "rabobank.mongo.schema", name = "compact", havingValue = "true")
+    AccountKeyListener accountKeyListener(StorageSchema schema) {
+        return new AccountKeyListener(schema);
+    }
+
+    @Bean
+    static BeanPostProcessor storageSchemaPostProcessor(ObjectProvider<StorageSchema> schema) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof MongoMappingContext mappingContext) {
+                    schema.getObject().applyTo(mappingContext);
+                } else if (bean instanceof MappingMongoConverter converter) {
+                    schema.getObject().applyTo(converter);
+                }
+                return bean;
+            }
+        };
+    }
+}
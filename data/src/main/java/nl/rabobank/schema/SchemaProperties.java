@@ -0,0 +1,15 @@
+package nl.rabobank.schema;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "rabobank.mongo.schema")
+public class SchemaProperties {
+
+    /**
+     * Store documents in the {@link StorageSchema#COMPACT compact schema}. Only for a new database: the application reads
+     * the schema it writes.
+     */
+    private boolean compact = false;
+}
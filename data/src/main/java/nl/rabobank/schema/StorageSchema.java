@@ -0,0 +1,203 @@
+package nl.rabobank.schema;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import nl.rabobank.account.AccountType;
+import nl.rabobank.authorizations.Authorization;
+import nl.rabobank.document.AccountDocument;
+import nl.rabobank.document.GranteeGrantsDocument;
+import nl.rabobank.document.PowerOfAttorneyDocument;
+import org.bson.Document;
+import org.springframework.data.mapping.model.FieldNamingStrategy;
+import org.springframework.data.mongodb.core.convert.DefaultMongoTypeMapper;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoConversionContext;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.convert.MongoValueConverter;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+/**
+ * How documents are laid out in MongoDB. The standard schema stores the property names, enum names and account numbers
+ * as they are, plus the {@code _class} type hint. The compact schema stores
+ *
+ * <ul>
+ *   <li>one-letter field names,
+ *   <li>{@link AccountType} and {@link Authorization} as integer codes,
+ *   <li>account numbers as a numeric key where their format allows it, see {@link AccountKeys},
+ *   <li>no type hint, none of the documents has subtypes.
+ * </ul>
+ *
+ * <p>Documents mapped by the converter follow the schema through {@link #applyTo(MongoMappingContext)} and
+ * {@link #applyTo(MappingMongoConverter)}, and the {@link AccountKeyListener} for the account keys; code that reads or
+ * writes BSON itself asks the schema for field names and stored values.
+ */
+public enum StorageSchema {
+    STANDARD(false),
+    COMPACT(true);
+
+    private static final Map<String, String> COMPACT_FIELDS = Map.of(
+            "accountNumber", "n",
+            "accountHolderName", "h",
+            "balance", "b",
+            "accountType", "t",
+            "accountDocument", "d",
+            "granteeName", "e",
+            "grantorName", "r",
+            "authorization", "a",
+            "grants", "g");
+
+    private final boolean compact;
+
+    StorageSchema(boolean compact) {
+        this.compact = compact;
+    }
+
+    public static StorageSchema of(SchemaProperties properties) {
+        return properties.isCompact() ? COMPACT : STANDARD;
+    }
+
+    public boolean isCompact() {
+        return compact;
+    }
+
+    /** The stored name of a document property; an id property is always stored as {@code _id}. */
+    public String field(String property) {
+        return compact ? COMPACT_FIELDS.getOrDefault(property, property) : property;
+    }
+
+    /** Whether documents carry the {@code _class} type hint. */
+    public boolean writesTypeHint() {
+        return !compact;
+    }
+
+    public Object accountKey(String accountNumber) {
+        return compact ? AccountKeys.encode(accountNumber) : accountNumber;
+    }
+
+    public List<Object> accountKeys(Collection<String> accountNumbers) {
+        return accountNumbers.stream().map(this::accountKey).toList();
+    }
+
+    /** The account number of a stored account key. */
+    public String accountNumber(Object key) {
+        return compact ? AccountKeys.decode(key) : (String) key;
+    }
+
+    public Object code(AccountType accountType) {
+        if (accountType == null) {
+            return null;
+        }
+        return compact ? EnumCodes.code(accountType) : accountType.name();
+    }
+
+    public AccountType accountType(Object stored) {
+        return switch (stored) {
+            case null -> null;
+            case Integer code -> EnumCodes.accountType(code);
+            default -> AccountType.valueOf(stored.toString());
+        };
+    }
+
+    public Object code(Authorization authorization) {
+        if (authorization == null) {
+            return null;
+        }
+        return compact ? EnumCodes.code(authorization) : authorization.name();
+    }
+
+    /**
+     * Replaces the account number in the {@code _id} of a converted {@link AccountDocument} by its key. The converter
+     * does not apply property value converters to ids when it writes or reads a document, only in queries.
+     */
+    public void writeAccountKey(Document account) {
+        encode(account, "_id");
+    }
+
+    /** Replaces the key in the {@code _id} of a loaded {@link AccountDocument} by its account number. */
+    public void readAccountKey(Document account) {
+        decode(account, "_id");
+    }
+
+    /**
+     * Replaces the account number of a converted {@link PowerOfAttorneyDocument} by its key. Done here rather than by a
+     * property value converter, which costs more than the rest of reading a grant.
+     */
+    public void writeAccountReference(Document grant) {
+        encode(grant, field("accountNumber"));
+    }
+
+    /** Replaces the account key of a loaded {@link PowerOfAttorneyDocument} by its account number. */
+    public void readAccountReference(Document grant) {
+        decode(grant, field("accountNumber"));
+    }
+
+    /** Replaces the account keys of the grants in a loaded {@link GranteeGrantsDocument} by their account numbers. */
+    public void readAccountReferences(Document granteeGrants) {
+        if (compact && granteeGrants.get(field("grants")) instanceof List<?> grants) {
+            for (var grant : grants) {
+                if (grant instanceof Document document) {
+                    readAccountReference(document);
+                }
+            }
+        }
+    }
+
+    private void encode(Document document, String field) {
+        if (compact && document.get(field) instanceof String accountNumber) {
+            document.put(field, AccountKeys.encode(accountNumber));
+        }
+    }
+
+    private void decode(Document document, String field) {
+        if (compact && document.containsKey(field)) {
+            document.put(field, AccountKeys.decode(document.get(field)));
+        }
+    }
+
+    /** Sets the field names of the schema, before the context is initialized. */
+    public void applyTo(MongoMappingContext mappingContext) {
+        if (compact) {
+            mappingContext.setFieldNamingStrategy((FieldNamingStrategy) property -> field(property.getName()));
+        }
+    }
+
+    /** Sets the conversions and the type hint of the schema, before the converter is initialized. */
+    public void applyTo(MappingMongoConverter converter) {
+        if (compact) {
+            converter.setCustomConversions(conversions());
+            converter.setTypeMapper(new DefaultMongoTypeMapper(null));
+        }
+    }
+
+    /** The conversions the converter needs for this schema. */
+    public MongoCustomConversions conversions() {
+        if (!compact) {
+            return new MongoCustomConversions(List.of());
+        }
+        return MongoCustomConversions.create(adapter -> {
+            adapter.registerConverters(List.of(
+                    EnumCodes.AccountTypeToCode.INSTANCE,
+                    EnumCodes.CodeToAccountType.INSTANCE,
+                    EnumCodes.AuthorizationToCode.INSTANCE,
+                    EnumCodes.CodeToAuthorization.INSTANCE));
+            // Only applied to queries on the account id, see writeAccountKey for the document itself
+            adapter.configurePropertyConversions(registrar ->
+                    registrar.registerConverter(AccountDocument.class, "accountNumber", AccountKeyConverter.INSTANCE));
+        });
+    }
+
+    private enum AccountKeyConverter implements MongoValueConverter<String, Object> {
+        INSTANCE;
+
+        @Override
+        public String read(Object value, MongoConversionContext context) {
+            return AccountKeys.decode(value);
+        }
+
+        @Override
+        public Object write(String value, MongoConversionContext context) {
+            return AccountKeys.encode(value);
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package nl.rabobank.codec;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import nl.rabobank.account.Account;
+import nl.rabobank.account.AccountType;
+import nl.rabobank.account.PaymentAccount;
+import nl.rabobank.account.SavingsAccount;
+import nl.rabobank.document.AccountDocument;
+import nl.rabobank.mapper.AccountMapper;
+import nl.rabobank.schema.StorageSchema;
+import org.bson.BsonDocument;
+import org.bson.BsonDocumentReader;
+import org.bson.BsonDocumentWriter;
+import org.bson.BsonSerializationException;
+import org.bson.Document;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+class AccountCodecTest {
+
+    private final AccountCodec codec = new AccountCodec(StorageSchema.STANDARD);
+    private final AccountMapper mapper = new AccountMapper();
+
+    private MappingMongoConverter converter;
+
+    @BeforeEach
+    void setUp() {
+        converter = converter(StorageSchema.STANDARD);
+    }
+
+    @ParameterizedTest(name = "[{index}] {0} {1}")
+    @CsvSource({"PAYMENT, 100000", "SAVINGS, -50", "PAYMENT, 0"})
+    void encode_shouldWriteSameDocument_asConverter(AccountType accountType, long balance) {
+        var account = account(accountType, balance);
+        var written = new Document();
+        converter.write(mapper.toDocument(account), written);
+
+        assertThat(encode(account)).isEqualTo(written.toBsonDocument());
+    }
+
+    @ParameterizedTest(name = "[{index}] {0} {1}")
+    @CsvSource({"PAYMENT, 100000", "SAVINGS, -50", "PAYMENT, 0"})
+    void decode_shouldReadConverterDocument_asMapper(AccountType accountType, long balance) {
+        var written = new Document();
+        converter.write(mapper.toDocument(account(accountType, balance)), written);
+
+        var decoded = decode(written.toBsonDocument());
+
+        assertThat(decoded)
+                .isEqualTo(mapper.toDomain(converter.read(AccountDocument.class, written)))
+                .isEqualTo(account(accountType, balance));
+    }
+
+    @ParameterizedTest
+    @CsvSource({"1000.0, 100000", "0.1, 10", "-12.35, -1235", "0.125, 12", "0.135, 14"})
+    void decode_shouldRoundLikeMapper_forBalanceStoredAsDouble(double stored, long expected) {
+        var bson = new Document("_id", "NL123456")
+                .append("accountHolderName", "John Doe")
+                .append("balance", stored)
+                .append("accountType", "PAYMENT");
+
+        var decoded = decode(bson.toBsonDocument());
+
+        assertThat(decoded.balance())
+                .isEqualTo(expected)
+                .isEqualTo(mapper.toDomain(converter.read(AccountDocument.class, bson))
+                        .balance());
+    }
+
+    @Test
+    void decode_shouldSkipUnknownFields() {
+        var bson = new Document("_id", "NL123456")
+                .append("accountHolderName", "John Doe")
+                .append("balance", 10)
+                .append("migratedAt", new Document("version", 2))
+                .append("accountType", "SAVINGS");
+
+        assertThat(decode(bson.toBsonDocument())).isEqualTo(new SavingsAccount("NL123456", "John Doe", 1000));
+    }
+
+    @Test
+    void decode_shouldThrow_forDocumentWithoutAccountType() {
+        var bson = new Document("_id", "NL123456").append("balance", 10);
+
+        assertThatThrownBy(() -> decode(bson.toBsonDocument()))
+                .isInstanceOf(BsonSerializationException.class)
+                .hasMessage("Account NL123456 has no accountType");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"NL100000001", "NL01RABO0000000001"})
+    void encode_shouldWriteSameDocument_asConverterInCompactSchema(String accountNumber) {
+        var compactCodec = new AccountCodec(StorageSchema.COMPACT);
+        var account = new SavingsAccount(accountNumber, "Mary Doe", -50);
+        var written = new Document();
+        converter(StorageSchema.COMPACT).write(mapper.toDocument(account), written);
+        StorageSchema.COMPACT.writeAccountKey(written);
+
+        var encoded = encode(compactCodec, account);
+
+        assertThat(encoded).isEqualTo(written.toBsonDocument());
+        assertThat(encoded.keySet()).containsExactly("_id", "h", "b", "t");
+        assertThat(decode(compactCodec, encoded)).isEqualTo(account);
+    }
+
+    @Test
+    void registry_shouldProvideCodec_forAccountAndItsRecords() {
+        var registry = DomainCodecs.registry(StorageSchema.STANDARD);
+
+        assertThat(registry.get(Account.class)).isInstanceOf(AccountCodec.class);
+        assertThat(registry.get(PaymentAccount.class)).isInstanceOf(AccountCodec.class);
+        assertThat(registry.get(Document.class)).isNotInstanceOf(AccountCodec.class);
+    }
+
+    private BsonDocument encode(Account account) {
+        return encode(codec, account);
+    }
+
+    private Account decode(BsonDocument bson) {
+        return decode(codec, bson);
+    }
+
+    private static BsonDocument encode(AccountCodec codec, Account account) {
+        var bson = new BsonDocument();
+        codec.encode(
+                new BsonDocumentWriter(bson), account, EncoderContext.builder().build());
+        return bson;
+    }
+
+    private static Account decode(AccountCodec codec, BsonDocument bson) {
+        return codec.decode(
+                new BsonDocumentReader(bson), DecoderContext.builder().build());
+    }
+
+    private static MappingMongoConverter converter(StorageSchema schema) {
+        var conversions = schema.conversions();
+        var mappingContext = new MongoMappingContext();
+        mappingContext.setSimpleTypeHolder(conversions.getSimpleTypeHolder());
+        schema.applyTo(mappingContext);
+        mappingContext.afterPropertiesSet();
+        var converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext);
+        converter.setCustomConversions(conversions);
+        schema.applyTo(converter);
+        converter.afterPropertiesSet();
+        return converter;
+    }
+
+    private static Account account(AccountType accountType, long balance) {
+        return switch (accountType) {
+            case PAYMENT -> new PaymentAccount("NL123456", "John Doe", balance);
+            case SAVINGS -> new SavingsAccount("NL654321", "Mary Doe", balance);
+        };
+    }
+}
@@ -0,0 +1,61 @@
+package nl.rabobank.document;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.util.List;
+import nl.rabobank.account.AccountType;
+import org.bson.Document;
+import org.bson.types.Decimal128;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+class AccountDocumentMappingTest {
+
+    private MappingMongoConverter converter;
+
+    @BeforeEach
+    void setUp() {
+        var conversions = new MongoCustomConversions(List.of());
+        var mappingContext = new MongoMappingContext();
+        mappingContext.setSimpleTypeHolder(conversions.getSimpleTypeHolder());
+        mappingContext.afterPropertiesSet();
+        converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext);
+        converter.setCustomConversions(conversions);
+        converter.afterPropertiesSet();
+    }
+
+    @Test
+    void write_shouldStoreBalanceAsDecimal128() {
+        var document = AccountDocument.builder()
+                .accountNumber("NL123456")
+                .accountHolderName("John Doe")
+                .balance(new BigDecimal("1000.10"))
+                .accountType(AccountType.PAYMENT)
+                .build();
+        var bson = new Document();
+
+        converter.write(document, bson);
+
+        assertThat(bson.get("balance")).isEqualTo(new Decimal128(new BigDecimal("1000.10")));
+    }
+
+    @ParameterizedTest
+    @CsvSource({"1000.0, 1000.0", "0.1, 0.1", "-12.35, -12.35"})
+    void read_shouldReturnExactBalance_forBalanceStoredAsDouble(double stored, BigDecimal expected) {
+        var bson = new Document("_id", "NL123456")
+                .append("accountHolderName", "John Doe")
+                .append("balance", stored)
+                .append("accountType", "PAYMENT");
+
+        var document = converter.read(AccountDocument.class, bson);
+
+        assertThat(document.getBalance()).isEqualTo(expected);
+    }
+}
@@ -0,0 +1,71 @@
+package nl.rabobank.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.List;
+import nl.rabobank.schema.StorageSchema;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.mongodb.core.index.IndexField;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+
+class IndexDriftReportTest {
+
+    private List<DeclaredIndex> declared;
+
+    @BeforeEach
+    void setUp() {
+        declared = new IndexDeclarations(StorageSchema.STANDARD).all();
+    }
+
+    @Test
+    void compare_shouldReportNoDrift_forMatchingIndexes() {
+        var actual = List.of(
+                indexInfo("_id_", "_id"),
+                indexInfo("granteeName_accountNumber", "granteeName", "accountNumber"),
+                indexInfo("grantorName", "grantorName"),
+                indexInfo("accountNumber", "accountNumber"));
+
+        var report = IndexDriftReport.compare("power_of_attorney_grants", declared, actual);
+
+        assertThat(report.hasDrift()).isFalse();
+        assertThat(report.missing()).isEmpty();
+        assertThat(report.mismatched()).isEmpty();
+        assertThat(report.unexpected()).isEmpty();
+    }
+
+    @Test
+    void compare_shouldReportMissing_forEmptyCollection() {
+        var report = IndexDriftReport.compare("power_of_attorney_grants", declared, List.of(indexInfo("_id_", "_id")));
+
+        assertThat(report.hasDrift()).isTrue();
+        assertThat(report.missing()).containsExactly("granteeName_accountNumber", "grantorName", "accountNumber");
+    }
+
+    @Test
+    void compare_shouldReportMismatchedAndUnexpected_forDriftedIndexes() {
+        var actual = List.of(
+                indexInfo("_id_", "_id"),
+                // Same name, but the compound keys are in a different order
+                indexInfo("granteeName_accountNumber", "accountNumber", "granteeName"),
+                indexInfo("grantorName", "grantorName"),
+                indexInfo("accountNumber", "accountNumber"),
+                indexInfo("granteeName_1", "granteeName"));
+
+        var report = IndexDriftReport.compare("power_of_attorney_grants", declared, actual);
+
+        assertThat(report.hasDrift()).isTrue();
+        assertThat(report.missing()).isEmpty();
+        assertThat(report.mismatched()).containsExactly("granteeName_accountNumber");
+        assertThat(report.unexpected()).containsExactly("granteeName_1");
+    }
+
+    private static IndexInfo indexInfo(String name, String... keys) {
+        var fields = Arrays.stream(keys)
+                .map(key -> IndexField.create(key, Direction.ASC))
+                .toList();
+        return new IndexInfo(fields, name, false, false, null);
+    }
+}
@@ -2,6 +2,7 @@ package nl.rabobank.mapper;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.math.BigDecimal;
 import nl.rabobank.account.AccountType;
 import nl.rabobank.account.PaymentAccount;
 import nl.rabobank.account.SavingsAccount;
@@ -19,15 +20,20 @@ class AccountMapperTest {
         mapper = new AccountMapper();
     }
 
-    @ParameterizedTest(name = "[{index}] {4}")
+    @ParameterizedTest(name = "[{index}] {5}")
     @CsvSource({
-        "NL123456, John Doe, 1000.0, PAYMENT, Payment account with positive balance",
-        "NL654321, Mary Doe, 500.0, SAVINGS, Savings account with positive balance",
-        "NL456789, John Doe, -1000.0, SAVINGS, Payment account with negative balance",
-        "NL987654, Mary Doe, -500.0, SAVINGS, Savings account with negative balance"
+        "NL123456, John Doe, 100000, 1000.00, PAYMENT, Payment account with positive balance",
+        "NL654321, Mary Doe, 50000, 500.00, SAVINGS, Savings account with positive balance",
+        "NL456789, John Doe, -100000, -1000.00, SAVINGS, Payment account with negative balance",
+        "NL987654, Mary Doe, -50000, -500.00, SAVINGS, Savings account with negative balance"
     })
     void toDocument_shouldMap_fromAccount(
-            String accountNumber, String accountHolderName, Double balance, AccountType accountType, String testName) {
+            String accountNumber,
+            String accountHolderName,
+            long balance,
+            BigDecimal decimalBalance,
+            AccountType accountType,
+            String testName) {
         var account =
                 switch (accountType) {
                     case PAYMENT -> new PaymentAccount(accountNumber, accountHolderName, balance);
@@ -39,24 +45,29 @@ class AccountMapperTest {
         assertThat(document).isNotNull().satisfies(doc -> {
             assertThat(doc.getAccountNumber()).isEqualTo(accountNumber);
             assertThat(doc.getAccountHolderName()).isEqualTo(accountHolderName);
-            assertThat(doc.getBalance()).isEqualTo(balance);
+            assertThat(doc.getBalance()).isEqualTo(decimalBalance);
             assertThat(doc.getAccountType()).isEqualTo(accountType);
         });
     }
 
-    @ParameterizedTest(name = "[{index}] {4}")
+    @ParameterizedTest(name = "[{index}] {5}")
     @CsvSource({
-        "NL123456, John Doe, 1000.0, PAYMENT, Payment document with positive balance",
-        "NL654321, Mary Doe, 500.0, SAVINGS, Savings document with positive balance",
-        "NL456789, John Doe, -1000.0, SAVINGS, Payment document with negative balance",
-        "NL987654, Mary Doe, -500.0, SAVINGS, Savings document with negative balance"
+        "NL123456, John Doe, 100000, 1000.00, PAYMENT, Payment document with positive balance",
+        "NL654321, Mary Doe, 50000, 500.00, SAVINGS, Savings document with positive balance",
+        "NL456789, John Doe, -100000, -1000.00, SAVINGS, Payment document with negative balance",
+        "NL987654, Mary Doe, -50000, -500.00, SAVINGS, Savings document with negative balance"
     })
     void toDomain_shouldMap_fromDocument(
-            String accountNumber, String accountHolderName, Double balance, AccountType accountType, String testName) {
+            String accountNumber,
+            String accountHolderName,
+            long balance,
+            BigDecimal decimalBalance,
+            AccountType accountType,
+            String testName) {
         var document = AccountDocument.builder()
                 .accountNumber(accountNumber)
                 .accountHolderName(accountHolderName)
-                .balance(balance)
+                .balance(decimalBalance)
                 .accountType(accountType)
                 .build();
 
@@ -75,13 +86,18 @@ class AccountMapperTest {
         });
     }
 
-    @ParameterizedTest(name = "[{index}] {4}")
+    @ParameterizedTest(name = "[{index}] {5}")
     @CsvSource({
-        "NL123456, John Doe, 1000.0, PAYMENT, Payment account to document to account",
-        "NL654321, Mary Doe, 500.0, SAVINGS, Savings account to document to account"
+        "NL123456, John Doe, 100000, 1000.00, PAYMENT, Payment account to document to account",
+        "NL654321, Mary Doe, 50000, 500.00, SAVINGS, Savings account to document to account"
     })
     void mapper_shouldReturnSameValue_forAccountToDocumentToAccount(
-            String accountNumber, String accountHolderName, Double balance, AccountType accountType, String testName) {
+            String accountNumber,
+            String accountHolderName,
+            long balance,
+            BigDecimal decimalBalance,
+            AccountType accountType,
+            String testName) {
         var account =
                 switch (accountType) {
                     case PAYMENT -> new PaymentAccount(accountNumber, accountHolderName, balance);
@@ -94,17 +110,22 @@ class AccountMapperTest {
         assertThat(convertedAccount).isEqualTo(account);
     }
 
-    @ParameterizedTest(name = "[{index}] {4}")
+    @ParameterizedTest(name = "[{index}] {5}")
     @CsvSource({
-        "NL123456, John Doe, 1000.0, PAYMENT, Document to payment account to document",
-        "NL654321, Mary Doe, 500.0, SAVINGS, Document to savings account to document"
+        "NL123456, John Doe, 100000, 1000.00, PAYMENT, Document to payment account to document",
+        "NL654321, Mary Doe, 50000, 500.00, SAVINGS, Document to savings account to document"
     })
     void mapper_shouldReturnSameValue_forDocumentToAccountToDocument(
-            String accountNumber, String accountHolderName, Double balance, AccountType accountType, String testName) {
+            String accountNumber,
+            String accountHolderName,
+            long balance,
+            BigDecimal decimalBalance,
+            AccountType accountType,
+            String testName) {
         var document = AccountDocument.builder()
                 .accountNumber(accountNumber)
                 .accountHolderName(accountHolderName)
-                .balance(balance)
+                .balance(decimalBalance)
                 .accountType(accountType)
                 .build();
 
@@ -113,4 +134,17 @@ class AccountMapperTest {
 
         assertThat(convertedDocument).isEqualTo(document);
     }
+
+    @ParameterizedTest
+    @CsvSource({"10.005, 1000", "10.015, 1002", "0.125, 12", "1000.0, 100000", "-0.5, -50"})
+    void toDomain_shouldRoundToCents_forBalanceWithMoreDecimals(BigDecimal balance, long expectedBalance) {
+        var document = AccountDocument.builder()
+                .accountNumber("NL123456")
+                .accountHolderName("John Doe")
+                .balance(balance)
+                .accountType(AccountType.PAYMENT)
+                .build();
+
+        assertThat(mapper.toDomain(document).balance()).isEqualTo(expectedBalance);
+    }
 }
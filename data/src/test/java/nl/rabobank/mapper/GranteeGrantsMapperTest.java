@@ -0,0 +1,94 @@
+package nl.rabobank.mapper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+import nl.rabobank.account.AccountType;
+import nl.rabobank.account.PaymentAccount;
+import nl.rabobank.account.SavingsAccount;
+import nl.rabobank.authorizations.Authorization;
+import nl.rabobank.authorizations.PowerOfAttorney;
+import nl.rabobank.document.GranteeGrantsDocument;
+import org.junit.jupiter.api.Test;
+
+class GranteeGrantsMapperTest {
+
+    private final GranteeGrantsMapper mapper = new GranteeGrantsMapper();
+
+    private final GranteeGrantsDocument document = GranteeGrantsDocument.builder()
+            .granteeName("Alice")
+            .grants(List.of(
+                    new GranteeGrantsDocument.Grant("NL1", AccountType.PAYMENT, Authorization.READ, "Bob"),
+                    new GranteeGrantsDocument.Grant("NL2", AccountType.SAVINGS, Authorization.WRITE, "Carol"),
+                    new GranteeGrantsDocument.Grant("NL1", AccountType.PAYMENT, Authorization.WRITE, "Bob")))
+            .build();
+
+    @Test
+    void toDomain_shouldMapEveryGrant_withTheCurrentAccount() {
+        var payment = new PaymentAccount("NL1", "Bob", 150_00);
+        var savings = new SavingsAccount("NL2", "Carol", 20_00);
+
+        var result = mapper.toDomain(document, Map.of("NL1", payment, "NL2", savings));
+
+        assertThat(result)
+                .containsExactly(
+                        new PowerOfAttorney("Alice", "Bob", payment, Authorization.READ),
+                        new PowerOfAttorney("Alice", "Carol", savings, Authorization.WRITE),
+                        new PowerOfAttorney("Alice", "Bob", payment, Authorization.WRITE));
+    }
+
+    @Test
+    void toDomain_shouldLeaveOutGrants_onMissingAccounts() {
+        var savings = new SavingsAccount("NL2", "Carol", 20_00);
+
+        var result = mapper.toDomain(document, Map.of("NL2", savings));
+
+        assertThat(result).extracting(PowerOfAttorney::account).containsExactly(savings);
+    }
+
+    @Test
+    void toDomain_shouldReturnEmptyList_withoutGrants() {
+        var result = mapper.toDomain(
+                GranteeGrantsDocument.builder().granteeName("Alice").build(), Map.of());
+
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    void accountNumbers_shouldReturnDistinctAccountNumbers() {
+        assertThat(mapper.accountNumbers(document)).containsExactly("NL1", "NL2");
+    }
+
+    @Test
+    void toAdditions_shouldGroupGrantsPerGrantee_inOrderOfTheGrants() {
+        var payment = new PaymentAccount("NL1", "Bob", 150_00);
+        var savings = new SavingsAccount("NL2", "Carol", 20_00);
+
+        var result = mapper.toAdditions(List.of(
+                new PowerOfAttorney("Alice", "Bob", payment, Authorization.READ),
+                new PowerOfAttorney("Dave", "Carol", savings, Authorization.WRITE),
+                new PowerOfAttorney("Alice", "Carol", savings, Authorization.WRITE)));
+
+        assertThat(result)
+                .containsExactly(
+                        new GranteeGrantsDocument(
+                                "Alice",
+                                List.of(
+                                        new GranteeGrantsDocument.Grant(
+                                                "NL1", AccountType.PAYMENT, Authorization.READ, "Bob"),
+                                        new GranteeGrantsDocument.Grant(
+                                                "NL2", AccountType.SAVINGS, Authorization.WRITE, "Carol"))),
+                        new GranteeGrantsDocument(
+                                "Dave",
+                                List.of(new GranteeGrantsDocument.Grant(
+                                        "NL2", AccountType.SAVINGS, Authorization.WRITE, "Carol"))));
+    }
+
+    @Test
+    void toAdditions_shouldLeaveOutGrants_withoutAccount() {
+        var result = mapper.toAdditions(List.of(new PowerOfAttorney("Alice", "Bob", null, Authorization.READ)));
+
+        assertThat(result).isEmpty();
+    }
+}
@@ -2,6 +2,7 @@ package nl.rabobank.mapper;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.Map;
 import nl.rabobank.account.Account;
 import nl.rabobank.account.AccountType;
 import nl.rabobank.account.PaymentAccount;
@@ -10,6 +11,7 @@ import nl.rabobank.authorizations.Authorization;
 import nl.rabobank.authorizations.PowerOfAttorney;
 import nl.rabobank.document.PowerOfAttorneyDocument;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 
@@ -26,15 +28,15 @@ class PowerAttorneyMapperTest {
 
     @ParameterizedTest(name = "[{index}] {6}")
     @CsvSource({
-        "John Doe, Frank Bank, READ, NL123456, 1000.0, PAYMENT, Grant READ",
-        "Mary Doe, Pieter Post, WRITE, NL654321, 500.0, SAVINGS, Grant WRITE",
+        "John Doe, Frank Bank, READ, NL123456, 100000, PAYMENT, Grant READ",
+        "Mary Doe, Pieter Post, WRITE, NL654321, 50000, SAVINGS, Grant WRITE",
     })
     void toDocument_shouldMap_fromPowerOfAttorney(
             String grantorName,
             String granteeName,
             Authorization authorization,
             String accountNumber,
-            Double balance,
+            long balance,
             AccountType accountType,
             String testName) {
         var account = getAccount(accountNumber, grantorName, balance, accountType);
@@ -52,21 +54,74 @@ class PowerAttorneyMapperTest {
             assertThat(doc.getGranteeName()).isEqualTo(granteeName);
             assertThat(doc.getGrantorName()).isEqualTo(grantorName);
             assertThat(doc.getAuthorization()).isEqualTo(authorization);
-            assertThat(doc.getAccountDocument()).isEqualTo(accountMapper.toDocument(account));
+            assertThat(doc.getAccountNumber()).isEqualTo(accountNumber);
+            assertThat(doc.getAccountDocument()).isNull();
         });
     }
 
     @ParameterizedTest(name = "[{index}] {6}")
     @CsvSource({
-        "John Doe, Frank Bank, READ, NL123456, 1000.0, PAYMENT, Grant READ",
-        "Mary Doe, Pieter Post, WRITE, NL654321, 500.0, SAVINGS, Grant WRITE",
+        "John Doe, Frank Bank, READ, NL123456, 100000, PAYMENT, Grant READ",
+        "Mary Doe, Pieter Post, WRITE, NL654321, 50000, SAVINGS, Grant WRITE",
     })
-    void toDomain_shouldMap_fromDocument(
+    void toDomain_shouldUseResolvedAccount_forAccountReference(
             String grantorName,
             String granteeName,
             Authorization authorization,
             String accountNumber,
-            Double balance,
+            long balance,
+            AccountType accountType,
+            String testName) {
+        var account = getAccount(accountNumber, grantorName, balance, accountType);
+
+        var powerOfAttorneyDocument = PowerOfAttorneyDocument.builder()
+                .granteeName(granteeName)
+                .grantorName(grantorName)
+                .accountNumber(accountNumber)
+                .authorization(authorization)
+                .build();
+
+        var powerOfAttorney = mapper.toDomain(powerOfAttorneyDocument, Map.of(accountNumber, account));
+
+        assertThat(powerOfAttorney).isEqualTo(new PowerOfAttorney(granteeName, grantorName, account, authorization));
+    }
+
+    @Test
+    void toDomain_shouldPreferResolvedAccount_overEmbeddedCopy() {
+        var copy = new PaymentAccount("NL1", "Bob", 100);
+        var current = new PaymentAccount("NL1", "Bob", 250);
+        var legacy = PowerOfAttorneyDocument.builder()
+                .granteeName("Alice")
+                .grantorName("Bob")
+                .accountDocument(accountMapper.toDocument(copy))
+                .authorization(Authorization.READ)
+                .build();
+
+        assertThat(mapper.toDomain(legacy, Map.of("NL1", current)).account()).isEqualTo(current);
+    }
+
+    @Test
+    void toDomain_shouldHaveNoAccount_forMissingReferencedAccount() {
+        var document = PowerOfAttorneyDocument.builder()
+                .granteeName("Alice")
+                .accountNumber("NL1")
+                .authorization(Authorization.READ)
+                .build();
+
+        assertThat(mapper.toDomain(document, Map.of()).account()).isNull();
+    }
+
+    @ParameterizedTest(name = "[{index}] {6}")
+    @CsvSource({
+        "John Doe, Frank Bank, READ, NL123456, 100000, PAYMENT, Grant READ",
+        "Mary Doe, Pieter Post, WRITE, NL654321, 50000, SAVINGS, Grant WRITE",
+    })
+    void toDomain_shouldFallBackToEmbeddedCopy_forUnmigratedDocument(
+            String grantorName,
+            String granteeName,
+            Authorization authorization,
+            String accountNumber,
+            long balance,
             AccountType accountType,
             String testName) {
 
@@ -80,7 +135,7 @@ class PowerAttorneyMapperTest {
                 .authorization(authorization)
                 .build();
 
-        var powerOfAttorney = mapper.toDomain(powerOfAttorneyDocument);
+        var powerOfAttorney = mapper.toDomain(powerOfAttorneyDocument, (Account) null);
 
         assertThat(powerOfAttorney).isNotNull().satisfies(p -> {
             assertThat(p.granteeName()).isEqualTo(granteeName);
@@ -92,15 +147,15 @@ class PowerAttorneyMapperTest {
 
     @ParameterizedTest(name = "[{index}] {6}")
     @CsvSource({
-        "John Doe, Frank Bank, READ, NL123456, 1000.0, PAYMENT, Grant READ",
-        "Mary Doe, Pieter Post, WRITE, NL654321, 500.0, SAVINGS, Grant WRITE",
+        "John Doe, Frank Bank, READ, NL123456, 100000, PAYMENT, Grant READ",
+        "Mary Doe, Pieter Post, WRITE, NL654321, 50000, SAVINGS, Grant WRITE",
     })
     void mapper_shouldReturnSameValue_forPowerOfAttorneyToDocumentToPowerOfAttorney(
             String grantorName,
             String granteeName,
             Authorization authorization,
             String accountNumber,
-            Double balance,
+            long balance,
             AccountType accountType,
             String testName) {
         var account = getAccount(accountNumber, grantorName, balance, accountType);
@@ -113,7 +168,7 @@ class PowerAttorneyMapperTest {
                 .build();
 
         var document = mapper.toDocument(powerOfAttorney);
-        var convertedPowerOfAttorney = mapper.toDomain(document);
+        var convertedPowerOfAttorney = mapper.toDomain(document, account);
 
         assertThat(convertedPowerOfAttorney).isNotNull().satisfies(p -> {
             assertThat(p.granteeName()).isEqualTo(granteeName);
@@ -125,15 +180,15 @@ class PowerAttorneyMapperTest {
 
     @ParameterizedTest(name = "[{index}] {6}")
     @CsvSource({
-        "John Doe, Frank Bank, READ, NL123456, 1000.0, PAYMENT, Grant READ",
-        "Mary Doe, Pieter Post, WRITE, NL654321, 500.0, SAVINGS, Grant WRITE",
+        "John Doe, Frank Bank, READ, NL123456, 100000, PAYMENT, Grant READ",
+        "Mary Doe, Pieter Post, WRITE, NL654321, 50000, SAVINGS, Grant WRITE",
     })
-    void mapper_shouldReturnSameValue_forDocumentToPowerOfAttorneyToDcoument(
+    void mapper_shouldReplaceEmbeddedCopyWithReference_forDocumentToPowerOfAttorneyToDocument(
             String grantorName,
             String granteeName,
             Authorization authorization,
             String accountNumber,
-            Double balance,
+            long balance,
             AccountType accountType,
             String testName) {
         var account = getAccount(accountNumber, grantorName, balance, accountType);
@@ -146,19 +201,19 @@ class PowerAttorneyMapperTest {
                 .authorization(authorization)
                 .build();
 
-        var powerOfAttorney = mapper.toDomain(powerOfAttorneyDocument);
+        var powerOfAttorney = mapper.toDomain(powerOfAttorneyDocument, (Account) null);
         var convertedDocument = mapper.toDocument(powerOfAttorney);
 
         assertThat(convertedDocument).isNotNull().satisfies(doc -> {
             assertThat(doc.getGranteeName()).isEqualTo(granteeName);
             assertThat(doc.getGrantorName()).isEqualTo(grantorName);
             assertThat(doc.getAuthorization()).isEqualTo(authorization);
-            assertThat(doc.getAccountDocument()).isEqualTo(accountMapper.toDocument(account));
+            assertThat(doc.getAccountNumber()).isEqualTo(accountNumber);
+            assertThat(doc.getAccountDocument()).isNull();
         });
     }
 
-    private Account getAccount(
-            String accountNumber, String accountHolderName, Double balance, AccountType accountType) {
+    private Account getAccount(String accountNumber, String accountHolderName, long balance, AccountType accountType) {
         return switch (accountType) {
             case PAYMENT -> new PaymentAccount(accountNumber, accountHolderName, balance);
             case SAVINGS -> new SavingsAccount(accountNumber, accountHolderName, balance);
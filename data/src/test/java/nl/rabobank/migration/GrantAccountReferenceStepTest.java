@@ -0,0 +1,59 @@
+package nl.rabobank.migration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.mongodb.client.model.Filters;
+import java.util.List;
+import nl.rabobank.schema.StorageSchema;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+class GrantAccountReferenceStepTest {
+
+    @Test
+    void upgrade_shouldReplaceEmbeddedAccount_byReference() {
+        var step = new GrantAccountReferenceStep(StorageSchema.STANDARD);
+        var grant = new Document("granteeName", "Grantee")
+                .append("accountDocument", new Document("_id", "NL100000001").append("balance", 10))
+                .append("authorization", "READ");
+
+        assertThat(step.upgrade(grant)).isTrue();
+        assertThat(grant)
+                .isEqualTo(new Document("granteeName", "Grantee")
+                        .append("authorization", "READ")
+                        .append("accountNumber", "NL100000001"));
+    }
+
+    @Test
+    void upgrade_shouldReadReference_fromProjectedAccount() {
+        var step = new GrantAccountReferenceStep(StorageSchema.STANDARD);
+        var grant = new Document("accountDocument", new Document("_id", "NL100000001"));
+
+        step.upgrade(grant);
+
+        assertThat(grant).isEqualTo(new Document("accountNumber", "NL100000001"));
+    }
+
+    @ParameterizedTest
+    @EnumSource(StorageSchema.class)
+    void upgrade_shouldLeaveGrant_withReference(StorageSchema schema) {
+        var step = new GrantAccountReferenceStep(schema);
+        var grant = new Document(schema.field("granteeName"), "Grantee").append(schema.field("accountNumber"), "NL1");
+
+        assertThat(step.upgrade(grant)).isFalse();
+        assertThat(grant)
+                .isEqualTo(new Document(schema.field("granteeName"), "Grantee")
+                        .append(schema.field("accountNumber"), "NL1"));
+    }
+
+    @Test
+    void pendingAndUpdate_shouldUseFieldsOfTheSchema() {
+        var step = new GrantAccountReferenceStep(StorageSchema.COMPACT);
+
+        assertThat(step.pending()).isEqualTo(Filters.and(Filters.exists("n", false), Filters.exists("d")));
+        assertThat(step.update())
+                .isEqualTo(List.of(new Document("$set", new Document("n", "$d._id")), new Document("$unset", "d")));
+    }
+}
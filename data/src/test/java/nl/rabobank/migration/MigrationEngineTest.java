@@ -0,0 +1,52 @@
+package nl.rabobank.migration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import nl.rabobank.schema.StorageSchema;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+class MigrationEngineTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void constructor_shouldRegisterMetrics_perStep() {
+        var engine = new MigrationEngine(
+                mock(MongoTemplate.class),
+                new MigrationProperties(),
+                List.of(new GrantAccountReferenceStep(StorageSchema.STANDARD)),
+                meterRegistry);
+
+        assertThat(engine.steps()).extracting(MigrationStep::version).containsExactly(1);
+        assertThat(meterRegistry
+                        .find("rabobank.migration.documents")
+                        .tag("step", "grant-account-reference")
+                        .counter())
+                .isNotNull();
+        assertThat(meterRegistry
+                        .find("rabobank.migration.batches")
+                        .tag("version", "1")
+                        .timer())
+                .isNotNull();
+        assertThat(meterRegistry.find("rabobank.migration.remaining").gauge().value())
+                .isZero();
+    }
+
+    @Test
+    void constructor_shouldReject_stepsWithTheSameVersion() {
+        var steps = List.<MigrationStep>of(
+                new GrantAccountReferenceStep(StorageSchema.STANDARD),
+                new GrantAccountReferenceStep(StorageSchema.STANDARD));
+        var properties = new MigrationProperties();
+        var mongoTemplate = mock(MongoTemplate.class);
+
+        assertThatThrownBy(() -> new MigrationEngine(mongoTemplate, properties, steps, meterRegistry))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Migration version 1 is used by more than one step");
+    }
+}
@@ -0,0 +1,36 @@
+package nl.rabobank.migration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+class MigrationThrottleTest {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    @Test
+    void delay_shouldSpreadDocuments_overTheRateLimit() {
+        var throttle = new MigrationThrottle(1_000, Duration.ofMillis(10));
+
+        assertThat(throttle.delay(500, 0)).isEqualTo(Duration.ofMillis(500));
+        assertThat(throttle.delay(500, SECOND / 2)).isEqualTo(Duration.ofMillis(500));
+        assertThat(throttle.delay(1_000, SECOND * 3 / 4)).isEqualTo(Duration.ofMillis(1_250));
+    }
+
+    @Test
+    void delay_shouldNotCatchUp_afterSlowBatch() {
+        var throttle = new MigrationThrottle(1_000, Duration.ofMillis(10));
+        throttle.delay(500, 0);
+
+        assertThat(throttle.delay(500, 5 * SECOND)).isEqualTo(Duration.ofMillis(500));
+    }
+
+    @Test
+    void delay_shouldPause_withoutRateLimit() {
+        var throttle = new MigrationThrottle(0, Duration.ofMillis(50));
+
+        assertThat(throttle.delay(1_000, -SECOND)).isEqualTo(Duration.ofMillis(50));
+        assertThat(throttle.delay(1_000, 0)).isEqualTo(Duration.ofMillis(50));
+    }
+}
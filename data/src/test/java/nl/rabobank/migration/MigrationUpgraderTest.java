@@ -0,0 +1,93 @@
+package nl.rabobank.migration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import nl.rabobank.document.AccountDocument;
+import nl.rabobank.document.PowerOfAttorneyDocument;
+import nl.rabobank.schema.StorageSchema;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.mapping.event.AfterLoadEvent;
+
+class MigrationUpgraderTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void onAfterLoad_shouldUpgradeDocument_inVersionOrder() {
+        var applied = new ArrayList<Integer>();
+        var upgrader = new MigrationUpgrader(
+                List.of(new RecordingStep(2, applied), new RecordingStep(1, applied)), meterRegistry);
+
+        upgrader.onAfterLoad(loaded(new Document(), PowerOfAttorneyDocument.class));
+
+        assertThat(applied).containsExactly(1, 2);
+    }
+
+    @Test
+    void onAfterLoad_shouldCountUpgrades_ofPendingDocuments() {
+        var upgrader =
+                new MigrationUpgrader(List.of(new GrantAccountReferenceStep(StorageSchema.STANDARD)), meterRegistry);
+        var legacy = new Document("accountDocument", new Document("_id", "NL1"));
+
+        upgrader.onAfterLoad(loaded(legacy, PowerOfAttorneyDocument.class));
+        upgrader.onAfterLoad(loaded(new Document("accountNumber", "NL2"), PowerOfAttorneyDocument.class));
+
+        assertThat(legacy).isEqualTo(new Document("accountNumber", "NL1"));
+        assertThat(meterRegistry
+                        .get("rabobank.migration.upgrades")
+                        .tag("step", "grant-account-reference")
+                        .counter()
+                        .count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void onAfterLoad_shouldLeaveOtherDocumentTypes() {
+        var upgrader =
+                new MigrationUpgrader(List.of(new GrantAccountReferenceStep(StorageSchema.STANDARD)), meterRegistry);
+        var account = new Document("accountDocument", new Document("_id", "NL1"));
+
+        upgrader.onAfterLoad(loaded(account, AccountDocument.class));
+
+        assertThat(account).isEqualTo(new Document("accountDocument", new Document("_id", "NL1")));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static AfterLoadEvent<Object> loaded(Document document, Class<?> type) {
+        return new AfterLoadEvent<>(document, (Class<Object>) type, "documents");
+    }
+
+    private record RecordingStep(int version, List<Integer> applied) implements MigrationStep {
+
+        @Override
+        public String name() {
+            return "step-" + version;
+        }
+
+        @Override
+        public Class<?> documentType() {
+            return PowerOfAttorneyDocument.class;
+        }
+
+        @Override
+        public Bson pending() {
+            return new Document();
+        }
+
+        @Override
+        public List<Document> update() {
+            return List.of();
+        }
+
+        @Override
+        public boolean upgrade(Document document) {
+            applied.add(version);
+            return false;
+        }
+    }
+}
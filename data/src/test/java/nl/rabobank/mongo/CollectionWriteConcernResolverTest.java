@@ -0,0 +1,44 @@
+package nl.rabobank.mongo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.mongodb.WriteConcern;
+import nl.rabobank.mongo.MongoClientProperties.WriteConcernSetting;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoAction;
+import org.springframework.data.mongodb.core.MongoActionOperation;
+
+class CollectionWriteConcernResolverTest {
+
+    @Test
+    void resolve_shouldUseOverride_forConfiguredCollection() {
+        var resolver = resolverWithOverride("power_of_attorney_grants", "1");
+
+        var resolved = resolver.resolve(insert("power_of_attorney_grants"));
+
+        assertThat(resolved).isEqualTo(WriteConcern.W1);
+    }
+
+    @Test
+    void resolve_shouldUseDefault_forOtherCollection() {
+        var resolver = resolverWithOverride("power_of_attorney_grants", "1");
+
+        var resolved = resolver.resolve(insert("accounts"));
+
+        assertThat(resolved).isEqualTo(WriteConcern.MAJORITY);
+    }
+
+    private static CollectionWriteConcernResolver resolverWithOverride(String collection, String w) {
+        var writeConcern = new WriteConcernSetting();
+        writeConcern.setW(w);
+        var properties = new MongoClientProperties();
+        properties.getWriteConcernOverrides().put(collection, writeConcern);
+        return new CollectionWriteConcernResolver(properties);
+    }
+
+    private static MongoAction insert(String collection) {
+        return new MongoAction(
+                WriteConcern.MAJORITY, MongoActionOperation.INSERT, collection, Object.class, new Document(), null);
+    }
+}
@@ -0,0 +1,117 @@
+package nl.rabobank.mongo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.mongodb.MongoClientSettings;
+import com.mongodb.ReadConcern;
+import com.mongodb.ReadConcernLevel;
+import com.mongodb.ReadPreference;
+import com.mongodb.WriteConcern;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import nl.rabobank.account.Account;
+import nl.rabobank.codec.AccountCodec;
+import nl.rabobank.mongo.MongoClientProperties.Compressor;
+import nl.rabobank.mongo.MongoClientProperties.ReadPreferenceMode;
+import nl.rabobank.mongo.MongoClientProperties.WriteConcernSetting;
+import nl.rabobank.schema.StorageSchema;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.mock.env.MockEnvironment;
+
+class MongoClientCustomizerTest {
+
+    @ParameterizedTest(name = "virtual threads {0}")
+    @CsvSource({"false, 100", "true, 500"})
+    void customize_shouldSizePool_forThreadingModel(boolean virtualThreads, int expectedMaxSize) {
+        var pool = customize(new MongoClientProperties(), virtualThreads).getConnectionPoolSettings();
+
+        assertThat(pool.getMaxSize()).isEqualTo(expectedMaxSize);
+        assertThat(pool.getMaxWaitTime(TimeUnit.MILLISECONDS)).isEqualTo(2_000);
+    }
+
+    @ParameterizedTest(name = "virtual threads {0}")
+    @CsvSource({"false", "true"})
+    void customize_shouldApplyConfiguredPoolLimits(boolean virtualThreads) {
+        var properties = new MongoClientProperties();
+        properties.getPool().setMaxSize(20);
+        properties.getPool().setVirtualThreadsMaxSize(20);
+        properties.getPool().setMinSize(5);
+        properties.getPool().setMaxConnecting(8);
+        properties.getPool().setMaxWaitTime(Duration.ofMillis(250));
+        properties.getPool().setMaxConnectionIdleTime(Duration.ofMinutes(1));
+        properties.getPool().setMaxConnectionLifeTime(Duration.ofMinutes(30));
+
+        var pool = customize(properties, virtualThreads).getConnectionPoolSettings();
+
+        assertThat(pool.getMaxSize()).isEqualTo(20);
+        assertThat(pool.getMinSize()).isEqualTo(5);
+        assertThat(pool.getMaxConnecting()).isEqualTo(8);
+        assertThat(pool.getMaxWaitTime(TimeUnit.MILLISECONDS)).isEqualTo(250);
+        assertThat(pool.getMaxConnectionIdleTime(TimeUnit.SECONDS)).isEqualTo(60);
+        assertThat(pool.getMaxConnectionLifeTime(TimeUnit.MINUTES)).isEqualTo(30);
+    }
+
+    @Test
+    void customize_shouldApplyTimeoutsCompressionAndConcerns() {
+        var properties = new MongoClientProperties();
+        properties.setConnectTimeout(Duration.ofSeconds(3));
+        properties.setSocketTimeout(Duration.ofSeconds(10));
+        properties.setServerSelectionTimeout(Duration.ofSeconds(5));
+        properties.setCompressors(List.of(Compressor.ZLIB));
+        properties.setReadPreference(ReadPreferenceMode.SECONDARY_PREFERRED);
+        properties.setReadConcern(ReadConcernLevel.MAJORITY);
+        var writeConcern = new WriteConcernSetting();
+        writeConcern.setJournal(true);
+        writeConcern.setTimeout(Duration.ofSeconds(1));
+        properties.setWriteConcern(writeConcern);
+
+        var settings = customize(properties, false);
+
+        assertThat(settings.getSocketSettings().getConnectTimeout(TimeUnit.MILLISECONDS))
+                .isEqualTo(3_000);
+        assertThat(settings.getSocketSettings().getReadTimeout(TimeUnit.MILLISECONDS))
+                .isEqualTo(10_000);
+        assertThat(settings.getClusterSettings().getServerSelectionTimeout(TimeUnit.MILLISECONDS))
+                .isEqualTo(5_000);
+        assertThat(settings.getCompressorList()).extracting("name").containsExactly("zlib");
+        assertThat(settings.getReadPreference()).isEqualTo(ReadPreference.secondaryPreferred());
+        assertThat(settings.getReadConcern()).isEqualTo(ReadConcern.MAJORITY);
+        assertThat(settings.getWriteConcern())
+                .isEqualTo(WriteConcern.MAJORITY.withJournal(true).withWTimeout(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void customize_shouldKeepDriverDefaults_forUnsetSettings() {
+        var settings = customize(new MongoClientProperties(), false);
+        var defaults = MongoClientSettings.builder().build();
+
+        assertThat(settings.getSocketSettings().getConnectTimeout(TimeUnit.MILLISECONDS))
+                .isEqualTo(defaults.getSocketSettings().getConnectTimeout(TimeUnit.MILLISECONDS));
+        assertThat(settings.getCompressorList()).isEmpty();
+        assertThat(settings.getReadPreference()).isEqualTo(defaults.getReadPreference());
+        assertThat(settings.getReadConcern()).isEqualTo(defaults.getReadConcern());
+        assertThat(settings.getWriteConcern()).isEqualTo(defaults.getWriteConcern());
+    }
+
+    @Test
+    void customize_shouldRegisterDomainCodecs_inFrontOfDriverDefaults() {
+        var registry = customize(new MongoClientProperties(), false).getCodecRegistry();
+
+        assertThat(registry.get(Account.class)).isInstanceOf(AccountCodec.class);
+        assertThat(registry.get(Document.class)).isNotNull();
+    }
+
+    private static MongoClientSettings customize(MongoClientProperties properties, boolean virtualThreads) {
+        var environment =
+                new MockEnvironment().withProperty("spring.threads.virtual.enabled", String.valueOf(virtualThreads));
+        var builder = MongoClientSettings.builder();
+
+        new MongoClientCustomizer(properties, StorageSchema.STANDARD, environment).customize(builder);
+
+        return builder.build();
+    }
+}
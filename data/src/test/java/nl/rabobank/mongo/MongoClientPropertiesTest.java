@@ -0,0 +1,70 @@
+package nl.rabobank.mongo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.mongodb.WriteConcern;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import java.util.List;
+import java.util.Map;
+import nl.rabobank.mongo.MongoClientProperties.Compressor;
+import nl.rabobank.mongo.MongoClientProperties.WriteConcernSetting;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class MongoClientPropertiesTest {
+
+    private final Validator validator =
+            Validation.buildDefaultValidatorFactory().getValidator();
+
+    @Test
+    void validate_shouldAcceptDefaults() {
+        assertThat(validator.validate(new MongoClientProperties())).isEmpty();
+    }
+
+    @Test
+    void validate_shouldReject_forMinSizeAboveMaxSize() {
+        var properties = new MongoClientProperties();
+        properties.getPool().setMinSize(200);
+
+        assertThat(violations(properties)).containsExactly("pool.minSizeWithinMaxSize");
+    }
+
+    @Test
+    void validate_shouldReject_forCompressorWithoutLibrary() {
+        var properties = new MongoClientProperties();
+        properties.setCompressors(List.of(Compressor.ZLIB, Compressor.SNAPPY));
+
+        assertThat(violations(properties)).containsExactly("compressorsAvailable");
+    }
+
+    @Test
+    void validate_shouldReject_forInvalidWriteConcernOverride() {
+        var writeConcern = new WriteConcernSetting();
+        writeConcern.setW("0");
+        writeConcern.setJournal(true);
+        var properties = new MongoClientProperties();
+        properties.setWriteConcernOverrides(Map.of("accounts", writeConcern));
+
+        assertThat(violations(properties)).containsExactly("writeConcernOverrides[accounts].journalAcknowledged");
+    }
+
+    @ParameterizedTest
+    @CsvSource({"majority, MAJORITY", "1, W1", "0, UNACKNOWLEDGED"})
+    void toWriteConcern_shouldParseW(String w, String expected) throws Exception {
+        var writeConcern = new WriteConcernSetting();
+        writeConcern.setW(w);
+
+        assertThat(writeConcern.toWriteConcern())
+                .isEqualTo(WriteConcern.class.getField(expected).get(null));
+    }
+
+    private List<String> violations(MongoClientProperties properties) {
+        return validator.validate(properties).stream()
+                .map(ConstraintViolation::getPropertyPath)
+                .map(Object::toString)
+                .toList();
+    }
+}
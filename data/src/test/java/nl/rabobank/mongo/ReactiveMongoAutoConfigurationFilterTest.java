@@ -0,0 +1,39 @@
+package nl.rabobank.mongo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.reactive.context.StandardReactiveWebEnvironment;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.StandardEnvironment;
+
+class ReactiveMongoAutoConfigurationFilterTest {
+
+    private static final String[] AUTO_CONFIGURATIONS = {
+        "org.springframework.boot.autoconfigure.mongo.MongoAutoConfiguration",
+        "org.springframework.boot.autoconfigure.mongo.MongoReactiveAutoConfiguration",
+        "org.springframework.boot.autoconfigure.data.mongo.MongoReactiveDataAutoConfiguration",
+        "org.springframework.boot.autoconfigure.data.mongo.MongoReactiveRepositoriesAutoConfiguration",
+        null
+    };
+
+    @Test
+    void match_shouldLeaveOutReactiveDriver_onServletStack() {
+        var matches = filter(new StandardEnvironment()).match(AUTO_CONFIGURATIONS, null);
+
+        assertThat(matches).containsExactly(true, false, false, false, true);
+    }
+
+    @Test
+    void match_shouldKeepReactiveDriver_onReactiveStack() {
+        var matches = filter(new StandardReactiveWebEnvironment()).match(AUTO_CONFIGURATIONS, null);
+
+        assertThat(matches).containsExactly(true, true, true, true, true);
+    }
+
+    private static ReactiveMongoAutoConfigurationFilter filter(Environment environment) {
+        var filter = new ReactiveMongoAutoConfigurationFilter();
+        filter.setEnvironment(environment);
+        return filter;
+    }
+}
@@ -0,0 +1,34 @@
+package nl.rabobank.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.mongodb.client.model.Filters;
+import nl.rabobank.schema.StorageSchema;
+import org.bson.BsonType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+class AccountQueriesTest {
+
+    @ParameterizedTest
+    @EnumSource(StorageSchema.class)
+    void after_shouldMatchAllAccounts_forFirstPage(StorageSchema schema) {
+        assertThat(AccountQueries.after(schema, "")).isEqualTo(Filters.empty());
+    }
+
+    @Test
+    void after_shouldRangeOverAccountNumbers_inStandardSchema() {
+        assertThat(AccountQueries.after(StorageSchema.STANDARD, "NL100000001"))
+                .isEqualTo(Filters.gt("_id", "NL100000001"));
+    }
+
+    @Test
+    void after_shouldContinueWithStringKeys_afterNumericKeyInCompactSchema() {
+        assertThat(AccountQueries.after(StorageSchema.COMPACT, "NL100000001"))
+                .isEqualTo(
+                        Filters.or(Filters.gt("_id", 698_000_001_100_000_001L), Filters.type("_id", BsonType.STRING)));
+        assertThat(AccountQueries.after(StorageSchema.COMPACT, "NL01RABO0000000001"))
+                .isEqualTo(Filters.gt("_id", "NL01RABO0000000001"));
+    }
+}
@@ -0,0 +1,158 @@
+package nl.rabobank.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import nl.rabobank.account.AccountType;
+import nl.rabobank.authorizations.Authorization;
+import nl.rabobank.document.GranteeGrantsDocument;
+import nl.rabobank.schema.StorageSchema;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.convert.UpdateMapper;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+class GranteeGrantsUpdatesTest {
+
+    private MongoMappingContext mappingContext;
+    private MappingMongoConverter converter;
+
+    @BeforeEach
+    void setUp() {
+        useSchema(StorageSchema.STANDARD);
+    }
+
+    @Test
+    void push_shouldAppendEntriesPerGrantee_inOrderOfTheGrants() {
+        var updates = GranteeGrantsUpdates.push(
+                StorageSchema.STANDARD,
+                List.of(
+                        new GranteeGrantsDocument(
+                                "Alice",
+                                List.of(
+                                        grant("NL1", AccountType.PAYMENT, Authorization.READ, "Bob"),
+                                        grant("NL3", AccountType.SAVINGS, Authorization.WRITE, "Erin"))),
+                        addition("Carol", grant("NL2", AccountType.SAVINGS, Authorization.WRITE, "Dave"))));
+
+        assertThat(updates).hasSize(2);
+        assertThat(updates.getFirst().getFirst().getQueryObject()).isEqualTo(new Document("_id", "Alice"));
+        assertThat(mapped(updates.getFirst().getSecond().getUpdateObject()))
+                .isEqualTo(new Document(
+                        "$push",
+                        new Document(
+                                "grants",
+                                new Document(
+                                        "$each",
+                                        List.of(
+                                                entry("NL1", "PAYMENT", "READ", "Bob"),
+                                                entry("NL3", "SAVINGS", "WRITE", "Erin"))))));
+        assertThat(updates.get(1).getFirst().getQueryObject()).isEqualTo(new Document("_id", "Carol"));
+    }
+
+    @Test
+    void addToSet_shouldAddEntries_withoutTypeInformation() {
+        var updates = GranteeGrantsUpdates.addToSet(
+                StorageSchema.STANDARD,
+                List.of(addition("Alice", grant("NL1", AccountType.PAYMENT, Authorization.READ, "Bob"))));
+
+        assertThat(mapped(updates.getFirst().getSecond().getUpdateObject()))
+                .isEqualTo(new Document(
+                        "$addToSet",
+                        new Document(
+                                "grants", new Document("$each", List.of(entry("NL1", "PAYMENT", "READ", "Bob"))))));
+    }
+
+    @Test
+    void push_shouldSkipGrants_withoutGrantee() {
+        var updates = GranteeGrantsUpdates.push(
+                StorageSchema.STANDARD,
+                List.of(addition(null, grant("NL1", AccountType.PAYMENT, Authorization.READ, "Bob"))));
+
+        assertThat(updates).isEmpty();
+    }
+
+    @ParameterizedTest
+    @EnumSource(StorageSchema.class)
+    void entry_shouldHaveTheFieldsOfTheRebuildAggregation_inTheSameOrder(StorageSchema schema) {
+        var entry = GranteeGrantsUpdates.entry(schema, grant("NL1", AccountType.PAYMENT, Authorization.READ, "Bob"));
+
+        assertThat(entry.keySet())
+                .containsExactlyElementsOf(
+                        GranteeGrantsUpdates.entryExpression(schema).keySet());
+    }
+
+    @ParameterizedTest
+    @EnumSource(StorageSchema.class)
+    void entry_shouldBeReadAsGrant(StorageSchema schema) {
+        useSchema(schema);
+        var bson = new Document("_id", "Alice")
+                .append(
+                        schema.field("grants"),
+                        List.of(GranteeGrantsUpdates.entry(
+                                schema, grant("NL1", AccountType.SAVINGS, Authorization.WRITE, "Bob"))));
+
+        schema.readAccountReferences(bson);
+        var document = converter.read(GranteeGrantsDocument.class, bson);
+
+        assertThat(document.getGranteeName()).isEqualTo("Alice");
+        assertThat(document.getGrants())
+                .containsExactly(
+                        new GranteeGrantsDocument.Grant("NL1", AccountType.SAVINGS, Authorization.WRITE, "Bob"));
+    }
+
+    @Test
+    void entry_shouldWriteLikeConverter_inCompactSchema() {
+        useSchema(StorageSchema.COMPACT);
+        var grant = grant("NL100000001", AccountType.SAVINGS, Authorization.WRITE, "Bob");
+        var written = new Document();
+        converter.write(new GranteeGrantsDocument("Alice", List.of(grant)), written);
+        written.getList("g", Document.class).forEach(StorageSchema.COMPACT::writeAccountReference);
+
+        var entry = GranteeGrantsUpdates.entry(StorageSchema.COMPACT, grant);
+
+        assertThat(written.getList("g", Document.class)).containsExactly(entry);
+        assertThat(entry)
+                .isEqualTo(new Document("n", 698_000_001_100_000_001L)
+                        .append("t", 2)
+                        .append("a", 2)
+                        .append("r", "Bob"));
+    }
+
+    private void useSchema(StorageSchema schema) {
+        var conversions = schema.conversions();
+        mappingContext = new MongoMappingContext();
+        mappingContext.setSimpleTypeHolder(conversions.getSimpleTypeHolder());
+        schema.applyTo(mappingContext);
+        mappingContext.afterPropertiesSet();
+        converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext);
+        converter.setCustomConversions(conversions);
+        schema.applyTo(converter);
+        converter.afterPropertiesSet();
+    }
+
+    private Document mapped(Document update) {
+        return new UpdateMapper(converter)
+                .getMappedObject(update, mappingContext.getPersistentEntity(GranteeGrantsDocument.class));
+    }
+
+    private static Document entry(String accountNumber, String accountType, String authorization, String grantorName) {
+        return new Document("accountNumber", accountNumber)
+                .append("accountType", accountType)
+                .append("authorization", authorization)
+                .append("grantorName", grantorName);
+    }
+
+    private static GranteeGrantsDocument addition(String granteeName, GranteeGrantsDocument.Grant grant) {
+        return new GranteeGrantsDocument(granteeName, List.of(grant));
+    }
+
+    private static GranteeGrantsDocument.Grant grant(
+            String accountNumber, AccountType accountType, Authorization authorization, String grantorName) {
+        return new GranteeGrantsDocument.Grant(accountNumber, accountType, authorization, grantorName);
+    }
+}
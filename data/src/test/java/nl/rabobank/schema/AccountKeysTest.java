@@ -0,0 +1,47 @@
+package nl.rabobank.schema;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class AccountKeysTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = {"NL100000001", "NL0", "NL000", "NL000000000000001", "AA999999999999999", "ZZ1"})
+    void encode_shouldReturnNumericKey_thatDecodesToTheAccountNumber(String accountNumber) {
+        var key = AccountKeys.encode(accountNumber);
+
+        assertThat(key).isInstanceOf(Long.class);
+        assertThat(AccountKeys.decode(key)).isEqualTo(accountNumber);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"NL01RABO0000000001", "nl123", "NL", "N1", "NLX1", "NL1234567890123456", "NL-1"})
+    void encode_shouldKeepAccountNumber_thatCannotBeEncoded(String accountNumber) {
+        assertThat(AccountKeys.encode(accountNumber)).isEqualTo(accountNumber);
+        assertThat(AccountKeys.decode(accountNumber)).isEqualTo(accountNumber);
+    }
+
+    @Test
+    void encode_shouldKeepLeadingZeros() {
+        assertThat(AccountKeys.encode("NL100000001")).isEqualTo(698_000_001_100_000_001L);
+        assertThat(AccountKeys.encode("NL01")).isNotEqualTo(AccountKeys.encode("NL1"));
+    }
+
+    @ParameterizedTest
+    @CsvSource({"NL100000001, NL100000002", "NL099999999, NL100000000", "NL9, NL00", "BE999, NL000"})
+    void encode_shouldOrderKeys_byCountryDigitsAndNumber(String lower, String higher) {
+        assertThat((Long) AccountKeys.encode(lower)).isLessThan((Long) AccountKeys.encode(higher));
+    }
+
+    @Test
+    void decode_shouldReject_keyOutOfRange() {
+        assertThatThrownBy(() -> AccountKeys.decode(-1L))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Not an account key: -1");
+    }
+}
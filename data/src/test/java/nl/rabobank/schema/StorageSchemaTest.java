@@ -0,0 +1,144 @@
+package nl.rabobank.schema;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+import java.math.BigDecimal;
+import java.util.List;
+import nl.rabobank.account.AccountType;
+import nl.rabobank.authorizations.Authorization;
+import nl.rabobank.document.AccountDocument;
+import nl.rabobank.document.PowerOfAttorneyDocument;
+import nl.rabobank.repository.GrantQueries;
+import org.bson.Document;
+import org.bson.types.Decimal128;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.convert.QueryMapper;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.query.Query;
+
+class StorageSchemaTest {
+
+    private static final long KEY = 698_000_001_100_000_001L;
+
+    private static final AccountDocument ACCOUNT = AccountDocument.builder()
+            .accountNumber("NL100000001")
+            .accountHolderName("John Doe")
+            .balance(new BigDecimal("1000.10"))
+            .accountType(AccountType.SAVINGS)
+            .build();
+
+    private static final PowerOfAttorneyDocument GRANT = PowerOfAttorneyDocument.builder()
+            .id("0123456789abcdef01234567")
+            .granteeName("Grantee")
+            .grantorName("John Doe")
+            .accountNumber("NL100000001")
+            .authorization(Authorization.WRITE)
+            .build();
+
+    @Test
+    void compact_shouldWriteAccount_withShortFieldsCodesAndKey() {
+        var converter = converter(StorageSchema.COMPACT);
+        var written = new Document();
+
+        converter.write(ACCOUNT, written);
+        StorageSchema.COMPACT.writeAccountKey(written);
+
+        assertThat(written)
+                .isEqualTo(new Document("_id", KEY)
+                        .append("h", "John Doe")
+                        .append("b", new Decimal128(new BigDecimal("1000.10")))
+                        .append("t", 2));
+
+        StorageSchema.COMPACT.readAccountKey(written);
+        assertThat(converter.read(AccountDocument.class, written)).isEqualTo(ACCOUNT);
+    }
+
+    @Test
+    void compact_shouldWriteGrant_withShortFieldsCodesAndKey() {
+        var converter = converter(StorageSchema.COMPACT);
+        var written = new Document();
+
+        converter.write(GRANT, written);
+        StorageSchema.COMPACT.writeAccountReference(written);
+
+        assertThat(written)
+                .isEqualTo(new Document("_id", new ObjectId("0123456789abcdef01234567"))
+                        .append("e", "Grantee")
+                        .append("r", "John Doe")
+                        .append("n", KEY)
+                        .append("a", 2));
+
+        StorageSchema.COMPACT.readAccountReference(written);
+        assertThat(converter.read(PowerOfAttorneyDocument.class, written)).isEqualTo(GRANT);
+    }
+
+    @Test
+    void compact_shouldMapQueries_toShortFieldsAndKeys() {
+        var converter = converter(StorageSchema.COMPACT);
+        var mappingContext = converter.getMappingContext();
+        var queryMapper = new QueryMapper(converter);
+
+        var grants = queryMapper.getMappedObject(
+                GrantQueries.onAccounts(
+                                StorageSchema.COMPACT, List.of("Grantee"), List.of("NL100000001", "NL01RABO0000000001"))
+                        .getQueryObject(),
+                mappingContext.getPersistentEntity(PowerOfAttorneyDocument.class));
+        var account = queryMapper.getMappedObject(
+                Query.query(where("accountNumber").is("NL100000001")).getQueryObject(),
+                mappingContext.getPersistentEntity(AccountDocument.class));
+
+        assertThat(grants)
+                .isEqualTo(new Document("e", new Document("$in", List.of("Grantee")))
+                        .append("n", new Document("$in", List.of(KEY, "NL01RABO0000000001"))));
+        assertThat(account).isEqualTo(new Document("_id", KEY));
+    }
+
+    @Test
+    void standard_shouldWriteDocuments_asTheyAre() {
+        var written = new Document();
+
+        converter(StorageSchema.STANDARD).write(GRANT, written);
+        StorageSchema.STANDARD.writeAccountReference(written);
+
+        assertThat(written.keySet())
+                .containsExactly("_id", "granteeName", "grantorName", "accountNumber", "authorization", "_class");
+        assertThat(written.get("accountNumber")).isEqualTo("NL100000001");
+        assertThat(written.get("authorization")).isEqualTo("WRITE");
+    }
+
+    @ParameterizedTest
+    @EnumSource(StorageSchema.class)
+    void accountType_shouldReadStoredCode(StorageSchema schema) {
+        for (var accountType : AccountType.values()) {
+            assertThat(schema.accountType(schema.code(accountType))).isEqualTo(accountType);
+        }
+    }
+
+    @Test
+    void of_shouldSelectSchema_fromProperties() {
+        var properties = new SchemaProperties();
+
+        assertThat(StorageSchema.of(properties)).isEqualTo(StorageSchema.STANDARD);
+        properties.setCompact(true);
+        assertThat(StorageSchema.of(properties)).isEqualTo(StorageSchema.COMPACT);
+    }
+
+    private static MappingMongoConverter converter(StorageSchema schema) {
+        var conversions = schema.conversions();
+        var mappingContext = new MongoMappingContext();
+        mappingContext.setSimpleTypeHolder(conversions.getSimpleTypeHolder());
+        schema.applyTo(mappingContext);
+        mappingContext.afterPropertiesSet();
+        var converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext);
+        converter.setCustomConversions(conversions);
+        schema.applyTo(converter);
+        converter.afterPropertiesSet();
+        return converter;
+    }
+}
@@ -5,5 +5,6 @@ public sealed interface Account permits PaymentAccount, SavingsAccount {
 
     String accountHolderName();
 
-    Double balance();
+    /** The balance in cents, see {@link MinorUnits}. */
+    long balance();
 }
@@ -0,0 +1,38 @@
+package nl.rabobank.account;
+
+import java.math.BigDecimal;
+
+/**
+ * Balances are whole numbers of cents in a primitive {@code long}, so they are exact and arithmetic on them does not
+ * allocate. These conversions are only needed at the edges, where amounts are decimals.
+ */
+public final class MinorUnits {
+
+    /** Number of decimals of an amount, cents of a euro. */
+    public static final int SCALE = 2;
+
+    private MinorUnits() {}
+
+    /** The amount in minor units, throws {@link ArithmeticException} if it has more than two decimals or overflows. */
+    public static long of(BigDecimal amount) {
+        return amount.movePointRight(SCALE).longValueExact();
+    }
+
+    public static BigDecimal toDecimal(long minorUnits) {
+        return BigDecimal.valueOf(minorUnits, SCALE);
+    }
+
+    /** Always two decimals, e.g. {@code 1000.00} and {@code -0.50}. */
+    public static String format(long minorUnits) {
+        var cents = Math.abs(minorUnits % 100);
+        var text = new StringBuilder(24);
+        if (minorUnits < 0) {
+            text.append('-');
+        }
+        return text.append(Math.abs(minorUnits / 100))
+                .append('.')
+                .append(cents < 10 ? "0" : "")
+                .append(cents)
+                .toString();
+    }
+}
@@ -1,3 +1,3 @@
 package nl.rabobank.account;
 
-public record PaymentAccount(String accountNumber, String accountHolderName, Double balance) implements Account {}
+public record PaymentAccount(String accountNumber, String accountHolderName, long balance) implements Account {}
@@ -1,3 +1,3 @@
 package nl.rabobank.account;
 
-public record SavingsAccount(String accountNumber, String accountHolderName, Double balance) implements Account {}
+public record SavingsAccount(String accountNumber, String accountHolderName, long balance) implements Account {}
@@ -0,0 +1,50 @@
+package nl.rabobank.loadtest;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import org.springframework.boot.convert.DurationStyle;
+
+/** {@code --name=value} command line arguments, restricted to a known set of names. */
+final class Arguments {
+
+    private final Map<String, String> values = new HashMap<>();
+
+    Arguments(Set<String> names, String... args) {
+        for (var arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Invalid argument '%s', expected --name=value".formatted(arg));
+            }
+            var name = arg.substring(2, arg.indexOf('='));
+            if (!names.contains(name)) {
+                throw new IllegalArgumentException("Unknown option '%s', expected one of %s".formatted(name, names));
+            }
+            values.put(name, arg.substring(arg.indexOf('=') + 1));
+        }
+    }
+
+    String get(String name, String defaultValue) {
+        return values.getOrDefault(name, defaultValue);
+    }
+
+    String get(String name) {
+        return values.get(name);
+    }
+
+    int getInt(String name, int defaultValue) {
+        return values.containsKey(name) ? Integer.parseInt(values.get(name)) : defaultValue;
+    }
+
+    long getLong(String name, long defaultValue) {
+        return values.containsKey(name) ? Long.parseLong(values.get(name)) : defaultValue;
+    }
+
+    double getDouble(String name, double defaultValue) {
+        return values.containsKey(name) ? Double.parseDouble(values.get(name)) : defaultValue;
+    }
+
+    Duration getDuration(String name, String defaultValue) {
+        return DurationStyle.detectAndParse(get(name, defaultValue));
+    }
+}
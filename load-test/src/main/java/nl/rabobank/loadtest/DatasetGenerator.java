@@ -0,0 +1,129 @@
+package nl.rabobank.loadtest;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+import nl.rabobank.RaboAssignmentApplication;
+import nl.rabobank.document.AccountDocument;
+import nl.rabobank.document.GranteeGrantsDocument;
+import nl.rabobank.document.PowerOfAttorneyDocument;
+import nl.rabobank.readmodel.GranteeReadModel;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+/**
+ * Writes a {@link SyntheticDataset} straight into MongoDB with unordered bulk inserts, several batches at a time. The
+ * application context is started without a web server, so the documents are mapped and indexed exactly as the
+ * application does.
+ *
+ * <pre>
+ * java -jar load-test/target/load-test.jar generate --accounts=1000000 --grants=5000000 --mongo-uri=mongodb://...
+ * </pre>
+ */
+@Slf4j
+public final class DatasetGenerator {
+
+    private DatasetGenerator() {}
+
+    public static void main(String[] args) {
+        var options = DatasetOptions.parse(args);
+        var application = new SpringApplicationBuilder(RaboAssignmentApplication.class)
+                .web(WebApplicationType.NONE)
+                .logStartupInfo(false);
+        var properties = options.mongoUri() == null
+                ? new String[0]
+                : new String[] {"--spring.data.mongodb.uri=" + options.mongoUri()};
+
+        try (var context = application.run(properties)) {
+            var mongoTemplate = context.getBean(MongoTemplate.class);
+            if (options.drop()) {
+                log.info("Removing existing accounts and grants");
+                mongoTemplate.remove(new Query(), AccountDocument.class);
+                mongoTemplate.remove(new Query(), PowerOfAttorneyDocument.class);
+                mongoTemplate.remove(new Query(), GranteeGrantsDocument.class);
+            }
+
+            var dataset = new SyntheticDataset(options);
+            var accounts = new BulkWriter<AccountDocument>(mongoTemplate, AccountDocument.class, options.parallelism());
+            dataset.accounts(accounts::write);
+            accounts.finish();
+
+            var grants = new BulkWriter<PowerOfAttorneyDocument>(
+                    mongoTemplate, PowerOfAttorneyDocument.class, options.parallelism());
+            dataset.grants(grants::write);
+            grants.finish();
+
+            // The grants bypass the services, so the grantee read model is regenerated from them
+            log.info("Rebuilding the grantee read model");
+            context.getBean(GranteeReadModel.class).rebuild();
+        }
+    }
+
+    /** Inserts batches on virtual threads, at most {@code parallelism} at a time. */
+    private static final class BulkWriter<T> {
+
+        private final MongoTemplate mongoTemplate;
+        private final Class<T> type;
+        private final int parallelism;
+        private final Semaphore permits;
+        private final LongAdder written = new LongAdder();
+        private final AtomicReference<RuntimeException> failure = new AtomicReference<>();
+        private final long start = System.nanoTime();
+        private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+        BulkWriter(MongoTemplate mongoTemplate, Class<T> type, int parallelism) {
+            this.mongoTemplate = mongoTemplate;
+            this.type = type;
+            this.parallelism = parallelism;
+            this.permits = new Semaphore(parallelism);
+        }
+
+        void write(List<T> batch) {
+            permits.acquireUninterruptibly();
+            rethrowFailure();
+            executor.execute(() -> {
+                try {
+                    mongoTemplate
+                            .bulkOps(BulkMode.UNORDERED, type)
+                            .insert(batch)
+                            .execute();
+                    written.add(batch.size());
+                } catch (RuntimeException e) {
+                    failure.compareAndSet(null, e);
+                } finally {
+                    permits.release();
+                }
+            });
+        }
+
+        void finish() {
+            permits.acquireUninterruptibly(parallelism);
+            executor.close();
+            rethrowFailure();
+
+            var seconds = Math.max(System.nanoTime() - start, 1) / (double) TimeUnit.SECONDS.toNanos(1);
+            log.info(
+                    "Inserted {} {} in {}s, {} documents/s",
+                    written.sum(),
+                    mongoTemplate.getCollectionName(type),
+                    "%.1f".formatted(seconds),
+                    Math.round(written.sum() / seconds));
+        }
+
+        private void rethrowFailure() {
+            var e = failure.get();
+            if (e != null) {
+                executor.shutdownNow();
+                throw e;
+            }
+        }
+    }
+}
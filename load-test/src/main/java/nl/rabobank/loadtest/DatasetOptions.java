@@ -0,0 +1,69 @@
+package nl.rabobank.loadtest;
+
+import java.util.Set;
+
+/** Options of the dataset generator, given as {@code --name=value} arguments after {@code generate}. */
+public record DatasetOptions(
+        int accounts,
+        int grants,
+        int holders,
+        int grantees,
+        double holderExponent,
+        double granteeExponent,
+        double savingsShare,
+        double writeShare,
+        int batchSize,
+        int parallelism,
+        long seed,
+        boolean drop,
+        String mongoUri) {
+
+    private static final Set<String> NAMES = Set.of(
+            "accounts",
+            "grants",
+            "holders",
+            "grantees",
+            "holder-exponent",
+            "grantee-exponent",
+            "savings-share",
+            "write-share",
+            "batch-size",
+            "parallelism",
+            "seed",
+            "drop",
+            "mongo-uri");
+
+    public DatasetOptions {
+        if (accounts < 1 || grants < 0 || holders < 1 || grantees < 1) {
+            throw new IllegalArgumentException("accounts, holders and grantees must be at least 1, grants at least 0");
+        }
+        if (holderExponent < 0 || granteeExponent < 0) {
+            throw new IllegalArgumentException("exponents must not be negative");
+        }
+        if (savingsShare < 0 || savingsShare > 1 || writeShare < 0 || writeShare > 1) {
+            throw new IllegalArgumentException("shares must be between 0 and 1");
+        }
+        if (batchSize < 1 || parallelism < 1) {
+            throw new IllegalArgumentException("batch-size and parallelism must be at least 1");
+        }
+    }
+
+    public static DatasetOptions parse(String... args) {
+        var arguments = new Arguments(NAMES, args);
+        var accounts = arguments.getInt("accounts", 100_000);
+        return new DatasetOptions(
+                accounts,
+                arguments.getInt("grants", 500_000),
+                arguments.getInt("holders", Math.max(1, accounts * 2 / 3)),
+                arguments.getInt("grantees", 20_000),
+                arguments.getDouble("holder-exponent", 0.6),
+                arguments.getDouble("grantee-exponent", 1.1),
+                arguments.getDouble("savings-share", 0.3),
+                arguments.getDouble("write-share", 0.3),
+                arguments.getInt("batch-size", 1000),
+                arguments.getInt("parallelism", 4),
+                arguments.getLong("seed", 42),
+                Boolean.parseBoolean(arguments.get("drop", "false")),
+                arguments.get("mongo-uri"));
+    }
+}
@@ -0,0 +1,59 @@
+package nl.rabobank.loadtest;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/** Latency histograms and outcome counters per operation, safe to record into from many threads. */
+final class LatencyStats {
+
+    /** Latencies are recorded in microseconds, up to a minute, with three significant digits. */
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    private final Map<Operation, ConcurrentHistogram> histograms = new EnumMap<>(Operation.class);
+    private final Map<Operation, LongAdder> errors = new EnumMap<>(Operation.class);
+    private final Map<Operation, LongAdder> dropped = new EnumMap<>(Operation.class);
+
+    LatencyStats() {
+        for (var operation : Operation.values()) {
+            histograms.put(operation, new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3));
+            errors.put(operation, new LongAdder());
+            dropped.put(operation, new LongAdder());
+        }
+    }
+
+    /** Records a completed request, successful or not, timed from its intended start. */
+    void record(Operation operation, long latencyNanos, boolean success) {
+        var micros = Math.min(Math.max(1, TimeUnit.NANOSECONDS.toMicros(latencyNanos)), HIGHEST_TRACKABLE_MICROS);
+        histograms.get(operation).recordValue(micros);
+        if (!success) {
+            errors.get(operation).increment();
+        }
+    }
+
+    /** Records a request that was never sent because too many requests were in flight. */
+    void drop(Operation operation) {
+        dropped.get(operation).increment();
+    }
+
+    void reset() {
+        histograms.values().forEach(Histogram::reset);
+        errors.values().forEach(LongAdder::reset);
+        dropped.values().forEach(LongAdder::reset);
+    }
+
+    Histogram histogram(Operation operation) {
+        return histograms.get(operation).copy();
+    }
+
+    long errors(Operation operation) {
+        return errors.get(operation).sum();
+    }
+
+    long dropped(Operation operation) {
+        return dropped.get(operation).sum();
+    }
+}
@@ -0,0 +1,112 @@
+package nl.rabobank.loadtest;
+
+import de.flapdoodle.embed.mongo.distribution.Version;
+import de.flapdoodle.embed.mongo.transitions.Mongod;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import lombok.extern.slf4j.Slf4j;
+import nl.rabobank.RaboAssignmentApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+
+/**
+ * Replays a weighted mix of API calls at a fixed rate and reports latency percentiles and throughput per operation.
+ *
+ * <p>Without {@code --target} the application is started in-process on a random port, against {@code --mongo-uri} or,
+ * when that is absent too, an embedded MongoDB. The seeded accounts are created first, then the run warms up, and only
+ * the measured phase after it is reported. With {@code generate} as first argument it runs the
+ * {@link DatasetGenerator} instead.
+ */
+@Slf4j
+public final class LoadTest {
+
+    private LoadTest() {}
+
+    public static void main(String[] args) throws Exception {
+        if (args.length > 0 && args[0].equals("generate")) {
+            DatasetGenerator.main(Arrays.copyOfRange(args, 1, args.length));
+            return;
+        }
+
+        var options = LoadTestOptions.parse(args);
+        List<AutoCloseable> resources = new ArrayList<>();
+        try {
+            var target = options.target() != null ? options.target() : startApplication(options, resources);
+            run(options, target);
+        } finally {
+            for (var resource : resources.reversed()) {
+                resource.close();
+            }
+        }
+    }
+
+    private static URI startApplication(LoadTestOptions options, List<AutoCloseable> resources) {
+        var mongoUri = options.mongoUri();
+        if (mongoUri == null) {
+            log.info("Starting embedded MongoDB");
+            var mongod = Mongod.instance().start(Version.Main.V7_0);
+            resources.add(mongod::close);
+            mongoUri = "mongodb://" + mongod.current().getServerAddress() + "/load-test";
+        }
+
+        var context = new SpringApplicationBuilder(RaboAssignmentApplication.class)
+                .run("--spring.data.mongodb.uri=" + mongoUri, "--server.port=0");
+        resources.add(context::close);
+        var port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        return URI.create("http://localhost:" + port);
+    }
+
+    private static void run(LoadTestOptions options, URI target) throws Exception {
+        try (var httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build()) {
+            var prefix = "LT" + Long.toString(System.currentTimeMillis() % 1_679_616, 36);
+            var trafficModel = new TrafficModel(target, prefix, options.accounts(), options.grantees());
+            seed(httpClient, trafficModel, options.accounts());
+
+            var generator = new OpenLoadGenerator(httpClient, trafficModel, options);
+            var stats = new LatencyStats();
+            if (options.warmup().isPositive()) {
+                log.info("Warming up for {}", options.warmup());
+                generator.run(options.warmup(), stats);
+                stats.reset();
+            }
+
+            log.info("Measuring {} at {} requests/s", options.duration(), options.rate());
+            generator.run(options.duration(), stats);
+
+            var report = new LoadTestReport(options, options.duration(), stats);
+            report.print(System.out);
+            report.write(options.output());
+            log.info("Results written to {}", options.output().toAbsolutePath());
+        }
+    }
+
+    /** Creates the accounts that lookups and grants target, failing fast when the API is not usable. */
+    private static void seed(HttpClient httpClient, TrafficModel trafficModel, int accounts) throws Exception {
+        log.info("Seeding {} accounts", accounts);
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            var futures = new ArrayList<Future<Integer>>();
+            for (var account = 0; account < accounts; account++) {
+                var request = trafficModel.createAccount(account);
+                futures.add(executor.submit(() ->
+                        httpClient.send(request, BodyHandlers.discarding()).statusCode()));
+            }
+            for (var future : futures) {
+                var status = future.get();
+                if (status != Operation.CREATE_ACCOUNT.expectedStatus()) {
+                    throw new IllegalStateException("Seeding an account failed with status " + status);
+                }
+            }
+        }
+    }
+}
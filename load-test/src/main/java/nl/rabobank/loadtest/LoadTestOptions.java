@@ -0,0 +1,78 @@
+package nl.rabobank.loadtest;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * Options of a load test run, given as {@code --name=value} arguments. Every option has a default, so a run without
+ * arguments replays the default mix against an embedded MongoDB.
+ */
+public record LoadTestOptions(
+        double rate,
+        Duration duration,
+        Duration warmup,
+        OperationMix mix,
+        Arrival arrival,
+        int accounts,
+        int grantees,
+        int maxInFlight,
+        long seed,
+        URI target,
+        String mongoUri,
+        Path output) {
+
+    static final String DEFAULT_MIX = "create-account:5,get-account:60,create-grant:10,grantee-query:25";
+
+    private static final Set<String> NAMES = Set.of(
+            "rate",
+            "duration",
+            "warmup",
+            "mix",
+            "arrival",
+            "accounts",
+            "grantees",
+            "max-in-flight",
+            "seed",
+            "target",
+            "mongo-uri",
+            "output");
+
+    /** How the start times of the requests are spread. */
+    public enum Arrival {
+        /** Exponentially distributed gaps, like independent users. */
+        POISSON,
+        /** Equal gaps. */
+        CONSTANT
+    }
+
+    public LoadTestOptions {
+        if (rate <= 0) {
+            throw new IllegalArgumentException("rate must be positive");
+        }
+        if (duration.isNegative() || duration.isZero() || warmup.isNegative()) {
+            throw new IllegalArgumentException("duration must be positive and warmup must not be negative");
+        }
+        if (accounts < 1 || grantees < 1 || maxInFlight < 1) {
+            throw new IllegalArgumentException("accounts, grantees and max-in-flight must be at least 1");
+        }
+    }
+
+    public static LoadTestOptions parse(String... args) {
+        var arguments = new Arguments(NAMES, args);
+        return new LoadTestOptions(
+                arguments.getDouble("rate", 200),
+                arguments.getDuration("duration", "60s"),
+                arguments.getDuration("warmup", "10s"),
+                OperationMix.parse(arguments.get("mix", DEFAULT_MIX)),
+                Arrival.valueOf(arguments.get("arrival", "poisson").toUpperCase()),
+                arguments.getInt("accounts", 1000),
+                arguments.getInt("grantees", 200),
+                arguments.getInt("max-in-flight", 10_000),
+                arguments.getLong("seed", 42),
+                arguments.get("target") != null ? URI.create(arguments.get("target")) : null,
+                arguments.get("mongo-uri"),
+                Path.of(arguments.get("output", "load-test-results")));
+    }
+}
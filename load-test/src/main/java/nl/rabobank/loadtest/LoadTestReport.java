@@ -0,0 +1,135 @@
+package nl.rabobank.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.HdrHistogram.Histogram;
+
+/**
+ * The outcome of a measured run: a summary for the console, a {@code result.json} for tooling and one {@code .hgrm}
+ * percentile distribution per operation, which HdrHistogram's plotter reads directly.
+ */
+final class LoadTestReport {
+
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+
+    private final LoadTestOptions options;
+    private final Duration measured;
+    private final Map<Operation, Histogram> histograms = new LinkedHashMap<>();
+    private final Map<Operation, Long> errors = new LinkedHashMap<>();
+    private final Map<Operation, Long> dropped = new LinkedHashMap<>();
+
+    LoadTestReport(LoadTestOptions options, Duration measured, LatencyStats stats) {
+        this.options = options;
+        this.measured = measured;
+        for (var operation : Operation.values()) {
+            var histogram = stats.histogram(operation);
+            if (histogram.getTotalCount() > 0 || stats.dropped(operation) > 0) {
+                histograms.put(operation, histogram);
+                errors.put(operation, stats.errors(operation));
+                dropped.put(operation, stats.dropped(operation));
+            }
+        }
+    }
+
+    void print(PrintStream out) {
+        out.printf(
+                "%n%.0f req/s target, %s arrivals, %ss measured%n",
+                options.rate(), options.arrival().name().toLowerCase(), measured.toSeconds());
+        out.printf(
+                "%-14s %9s %7s %7s %9s %9s %9s %9s %9s %9s%n",
+                "operation", "count", "errors", "dropped", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        histograms.forEach((operation, histogram) -> {
+            out.printf(
+                    "%-14s %9d %7d %7d %9.1f",
+                    operation.key(),
+                    histogram.getTotalCount(),
+                    errors.get(operation),
+                    dropped.get(operation),
+                    throughput(histogram));
+            for (var percentile : PERCENTILES) {
+                out.printf(" %9.2f", millis(histogram.getValueAtPercentile(percentile)));
+            }
+            out.printf(" %9.2f%n", millis(histogram.getMaxValue()));
+        });
+    }
+
+    void write(Path directory) throws IOException {
+        Files.createDirectories(directory);
+
+        var operations = new LinkedHashMap<String, Object>();
+        for (var entry : histograms.entrySet()) {
+            var operation = entry.getKey();
+            var histogram = entry.getValue();
+            var percentiles = new LinkedHashMap<String, Double>();
+            for (var percentile : PERCENTILES) {
+                percentiles.put(
+                        "p"
+                                + BigDecimal.valueOf(percentile)
+                                        .stripTrailingZeros()
+                                        .toPlainString(),
+                        millis(histogram.getValueAtPercentile(percentile)));
+            }
+            percentiles.put("max", millis(histogram.getMaxValue()));
+
+            var result = new LinkedHashMap<String, Object>();
+            result.put("count", histogram.getTotalCount());
+            result.put("errors", errors.get(operation));
+            result.put("dropped", dropped.get(operation));
+            result.put("throughputPerSecond", throughput(histogram));
+            result.put("meanMillis", histogram.getTotalCount() == 0 ? 0 : millis(histogram.getMean()));
+            result.put("latencyMillis", percentiles);
+            result.put("histogram", encode(histogram));
+            operations.put(operation.key(), result);
+
+            try (var out = new PrintStream(Files.newOutputStream(directory.resolve(operation.key() + ".hgrm")), true)) {
+                histogram.outputPercentileDistribution(out, 1000.0);
+            }
+        }
+
+        var run = new LinkedHashMap<String, Object>();
+        run.put("targetRate", options.rate());
+        run.put("arrival", options.arrival().name().toLowerCase());
+        run.put("durationSeconds", measured.toSeconds());
+        run.put("warmupSeconds", options.warmup().toSeconds());
+        run.put("mix", shares());
+
+        var result = new LinkedHashMap<String, Object>();
+        result.put("run", run);
+        result.put("operations", operations);
+        new ObjectMapper()
+                .enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(directory.resolve("result.json").toFile(), result);
+    }
+
+    private Map<String, Double> shares() {
+        var shares = new LinkedHashMap<String, Double>();
+        options.mix().shares().forEach((operation, share) -> shares.put(operation.key(), share));
+        return shares;
+    }
+
+    private double throughput(Histogram histogram) {
+        return histogram.getTotalCount() / (measured.toNanos() / 1e9);
+    }
+
+    private static double millis(double micros) {
+        return micros / 1000.0;
+    }
+
+    /** The histogram in HdrHistogram's compressed, base64 encoded form, so percentiles can be recomputed later. */
+    private static String encode(Histogram histogram) {
+        var buffer = ByteBuffer.allocate(histogram.getNeededByteBufferCapacity());
+        var length = histogram.encodeIntoCompressedByteBuffer(buffer);
+        return Base64.getEncoder().encodeToString(Arrays.copyOf(buffer.array(), length));
+    }
+}
@@ -0,0 +1,80 @@
+package nl.rabobank.loadtest;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.locks.LockSupport;
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGeneratorFactory;
+import lombok.extern.slf4j.Slf4j;
+import nl.rabobank.loadtest.LoadTestOptions.Arrival;
+
+/**
+ * Open-model load: requests start on a schedule derived from the target rate, independent of how fast earlier requests
+ * complete, and every latency is measured from the scheduled start. A slow response therefore cannot delay the
+ * requests behind it and hide their waiting time (coordinated omission); if the generator itself falls behind, the
+ * time it is late counts as latency too.
+ */
+@Slf4j
+final class OpenLoadGenerator {
+
+    private final HttpClient httpClient;
+    private final TrafficModel trafficModel;
+    private final LoadTestOptions options;
+    private final RandomGenerator random;
+
+    OpenLoadGenerator(HttpClient httpClient, TrafficModel trafficModel, LoadTestOptions options) {
+        this.httpClient = httpClient;
+        this.trafficModel = trafficModel;
+        this.options = options;
+        this.random = RandomGeneratorFactory.of("L64X128MixRandom").create(options.seed());
+    }
+
+    /** Sends requests at the target rate for the given duration and waits for the last one to complete. */
+    void run(Duration duration, LatencyStats stats) throws InterruptedException {
+        var inFlight = new Semaphore(options.maxInFlight());
+        var meanGapNanos = 1e9 / options.rate();
+        var start = System.nanoTime();
+        var end = start + duration.toNanos();
+
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            var scheduled = (double) start;
+            while (scheduled < end) {
+                var intendedStart = (long) scheduled;
+                var delay = intendedStart - System.nanoTime();
+                if (delay > 0) {
+                    LockSupport.parkNanos(delay);
+                }
+
+                var operation = options.mix().next(random);
+                var request = trafficModel.request(operation, random);
+                if (!inFlight.tryAcquire()) {
+                    stats.drop(operation);
+                } else {
+                    executor.execute(() -> {
+                        try {
+                            var response = httpClient.send(request, BodyHandlers.discarding());
+                            stats.record(
+                                    operation,
+                                    System.nanoTime() - intendedStart,
+                                    response.statusCode() == operation.expectedStatus());
+                        } catch (Exception e) {
+                            log.debug("{} failed: {}", operation.key(), e.toString());
+                            stats.record(operation, System.nanoTime() - intendedStart, false);
+                        } finally {
+                            inFlight.release();
+                        }
+                    });
+                }
+
+                scheduled += nextGap(meanGapNanos);
+            }
+        }
+    }
+
+    private double nextGap(double meanGapNanos) {
+        return options.arrival() == Arrival.POISSON ? random.nextExponential() * meanGapNanos : meanGapNanos;
+    }
+}
@@ -0,0 +1,36 @@
+package nl.rabobank.loadtest;
+
+import java.util.Arrays;
+
+/** The request types the load test mixes, named as they are configured in {@code --mix}. */
+public enum Operation {
+    CREATE_ACCOUNT("create-account", 201),
+    GET_ACCOUNT("get-account", 200),
+    CREATE_GRANT("create-grant", 201),
+    GRANTEE_QUERY("grantee-query", 200);
+
+    private final String key;
+    private final int expectedStatus;
+
+    Operation(String key, int expectedStatus) {
+        this.key = key;
+        this.expectedStatus = expectedStatus;
+    }
+
+    public String key() {
+        return key;
+    }
+
+    public int expectedStatus() {
+        return expectedStatus;
+    }
+
+    public static Operation fromKey(String key) {
+        return Arrays.stream(values())
+                .filter(operation -> operation.key.equals(key))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown operation '%s', expected one of %s"
+                        .formatted(
+                                key, Arrays.stream(values()).map(Operation::key).toList())));
+    }
+}
@@ -0,0 +1,64 @@
+package nl.rabobank.loadtest;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.random.RandomGenerator;
+
+/** Weighted choice between the operations, e.g. {@code create-account:5,get-account:60,...}. */
+public final class OperationMix {
+
+    private final Operation[] operations;
+    private final int[] cumulativeWeights;
+
+    private OperationMix(Map<Operation, Integer> weights) {
+        this.operations = weights.keySet().toArray(Operation[]::new);
+        this.cumulativeWeights = new int[operations.length];
+        var total = 0;
+        for (var i = 0; i < operations.length; i++) {
+            total += weights.get(operations[i]);
+            cumulativeWeights[i] = total;
+        }
+        if (total == 0) {
+            throw new IllegalArgumentException("The mix needs at least one operation with a positive weight");
+        }
+    }
+
+    public static OperationMix parse(String mix) {
+        var weights = new EnumMap<Operation, Integer>(Operation.class);
+        for (var entry : mix.split(",")) {
+            var parts = entry.trim().split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException(
+                        "Invalid mix entry '%s', expected operation:weight".formatted(entry));
+            }
+            var weight = Integer.parseInt(parts[1].trim());
+            if (weight < 0) {
+                throw new IllegalArgumentException("Negative weight for " + parts[0]);
+            }
+            weights.merge(Operation.fromKey(parts[0].trim()), weight, Integer::sum);
+        }
+        return new OperationMix(weights);
+    }
+
+    public Operation next(RandomGenerator random) {
+        var pick = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (var i = 0; i < cumulativeWeights.length; i++) {
+            if (pick < cumulativeWeights[i]) {
+                return operations[i];
+            }
+        }
+        throw new IllegalStateException("Unreachable");
+    }
+
+    /** The share of every operation in the mix, for the report. */
+    public Map<Operation, Double> shares() {
+        var shares = new EnumMap<Operation, Double>(Operation.class);
+        var total = (double) cumulativeWeights[cumulativeWeights.length - 1];
+        var previous = 0;
+        for (var i = 0; i < operations.length; i++) {
+            shares.put(operations[i], (cumulativeWeights[i] - previous) / total);
+            previous = cumulativeWeights[i];
+        }
+        return shares;
+    }
+}
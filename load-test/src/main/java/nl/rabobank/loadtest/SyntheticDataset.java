@@ -0,0 +1,133 @@
+package nl.rabobank.loadtest;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGeneratorFactory;
+import nl.rabobank.account.AccountType;
+import nl.rabobank.account.MinorUnits;
+import nl.rabobank.authorizations.Authorization;
+import nl.rabobank.document.AccountDocument;
+import nl.rabobank.document.PowerOfAttorneyDocument;
+import org.bson.types.ObjectId;
+
+/**
+ * Deterministic accounts and grants for a seed. Holders own a skewed number of accounts and grants per grantee follow a
+ * power law, both drawn from a {@link ZipfDistribution}; the grantor of a grant is always the holder of its account, as
+ * the API requires. Only the holder, type and balance in cents of every account are kept, so datasets of millions of documents
+ * fit in a small heap.
+ */
+final class SyntheticDataset {
+
+    private static final String[] FIRST_NAMES = {
+        "Anna", "Bram", "Daan", "Emma", "Eva", "Fleur", "Finn", "Julia", "Lars", "Lisa", "Lucas", "Milan", "Noah",
+        "Nora", "Sanne", "Sem", "Sophie", "Thijs", "Tess", "Zoë"
+    };
+    private static final String[] LAST_NAMES = {
+        "Bakker", "Bos", "Dekker", "de Boer", "de Groot", "de Jong", "de Vries", "Dijkstra", "Jansen", "Janssen",
+        "Meijer", "Mulder", "Peters", "Smit", "van Dijk", "van den Berg", "van der Meer", "Visser", "Vos", "Willems"
+    };
+
+    /** 2024-01-01T00:00:00Z, the timestamp part of the generated grant ids. */
+    private static final int ID_EPOCH_SECONDS = 1_704_067_200;
+
+    private final DatasetOptions options;
+    private final RandomGenerator random;
+    private final int[] holders;
+    private final boolean[] savings;
+    private final long[] balances;
+
+    SyntheticDataset(DatasetOptions options) {
+        this.options = options;
+        this.random = RandomGeneratorFactory.of("L64X128MixRandom").create(options.seed());
+        this.holders = new int[options.accounts()];
+        this.savings = new boolean[options.accounts()];
+        this.balances = new long[options.accounts()];
+    }
+
+    /** Generates the accounts in batches; must be called before {@link #grants(Consumer)}. */
+    void accounts(Consumer<List<AccountDocument>> batches) {
+        var holderRanks = new ZipfDistribution(options.holders(), options.holderExponent());
+        var batch = new ArrayList<AccountDocument>(options.batchSize());
+        for (var account = 0; account < options.accounts(); account++) {
+            holders[account] = holderRanks.sample(random);
+            savings[account] = random.nextDouble() < options.savingsShare();
+            // Log-normal, most balances in the hundreds to thousands with a long tail of larger ones
+            balances[account] = Math.round(Math.exp(7 + 1.5 * random.nextGaussian()) * 100);
+
+            batch.add(account(account));
+            if (batch.size() == options.batchSize()) {
+                batches.accept(batch);
+                batch = new ArrayList<>(options.batchSize());
+            }
+        }
+        if (!batch.isEmpty()) {
+            batches.accept(batch);
+        }
+    }
+
+    void grants(Consumer<List<PowerOfAttorneyDocument>> batches) {
+        var granteeRanks = new ZipfDistribution(options.grantees(), options.granteeExponent());
+        var batch = new ArrayList<PowerOfAttorneyDocument>(options.batchSize());
+        for (var grant = 0; grant < options.grants(); grant++) {
+            var account = random.nextInt(options.accounts());
+            var grantor = holderName(holders[account]);
+            var granteeRank = granteeRanks.sample(random);
+            var grantee = granteeName(granteeRank);
+            if (grantee.equals(grantor)) {
+                grantee = granteeName((granteeRank + 1) % options.grantees());
+            }
+
+            batch.add(PowerOfAttorneyDocument.builder()
+                    .id(grantId(grant))
+                    .grantorName(grantor)
+                    .granteeName(grantee)
+                    .accountNumber(accountNumber(account))
+                    .authorization(
+                            random.nextDouble() < options.writeShare() ? Authorization.WRITE : Authorization.READ)
+                    .build());
+            if (batch.size() == options.batchSize()) {
+                batches.accept(batch);
+                batch = new ArrayList<>(options.batchSize());
+            }
+        }
+        if (!batch.isEmpty()) {
+            batches.accept(batch);
+        }
+    }
+
+    private AccountDocument account(int account) {
+        return AccountDocument.builder()
+                .accountNumber(accountNumber(account))
+                .accountHolderName(holderName(holders[account]))
+                .balance(MinorUnits.toDecimal(balances[account]))
+                .accountType(savings[account] ? AccountType.SAVINGS : AccountType.PAYMENT)
+                .build();
+    }
+
+    static String accountNumber(int account) {
+        return "NL%09d".formatted(account);
+    }
+
+    /** Unique names for every rank: all first and last name pairs, then the same pairs with a number. */
+    static String holderName(int rank) {
+        var pairs = FIRST_NAMES.length * LAST_NAMES.length;
+        var name = FIRST_NAMES[rank % FIRST_NAMES.length] + " "
+                + LAST_NAMES[rank / FIRST_NAMES.length % LAST_NAMES.length];
+        return rank < pairs ? name : name + " " + (rank / pairs + 1);
+    }
+
+    /** Grantees are people too, they overlap with the holders that own few accounts. */
+    private String granteeName(int rank) {
+        return holderName(options.holders() / 2 + rank);
+    }
+
+    /** An ObjectId that only depends on the position of the grant, so a seed always produces the same ids. */
+    private static String grantId(int grant) {
+        var bytes =
+                ByteBuffer.allocate(12).putInt(ID_EPOCH_SECONDS).putLong(grant).array();
+        return new ObjectId(bytes).toHexString();
+    }
+}
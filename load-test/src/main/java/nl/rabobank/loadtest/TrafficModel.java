@@ -0,0 +1,95 @@
+package nl.rabobank.loadtest;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.random.RandomGenerator;
+
+/**
+ * Builds the requests of every operation. Reads and grants target the seeded accounts, which are known to exist; new
+ * accounts get numbers after them. Account numbers carry a per-run prefix, so runs against the same database don't
+ * collide.
+ */
+final class TrafficModel {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final URI baseUri;
+    private final String prefix;
+    private final int seededAccounts;
+    private final int grantees;
+    private final AtomicInteger nextAccount;
+
+    TrafficModel(URI baseUri, String prefix, int seededAccounts, int grantees) {
+        this.baseUri = baseUri;
+        this.prefix = prefix;
+        this.seededAccounts = seededAccounts;
+        this.grantees = grantees;
+        this.nextAccount = new AtomicInteger(seededAccounts);
+    }
+
+    HttpRequest request(Operation operation, RandomGenerator random) {
+        return switch (operation) {
+            case CREATE_ACCOUNT -> createAccount(nextAccount.getAndIncrement());
+            case GET_ACCOUNT -> get("/api/v1/accounts/" + accountNumber(random.nextInt(seededAccounts)));
+            case CREATE_GRANT -> createGrant(random.nextInt(seededAccounts), random);
+            case GRANTEE_QUERY ->
+                get("/api/v1/power-of-attorney?granteeName="
+                        + URLEncoder.encode(grantee(random.nextInt(grantees)), StandardCharsets.UTF_8));
+        };
+    }
+
+    HttpRequest createAccount(int account) {
+        var body = """
+                {"accountNumber":"%s","accountHolderName":"%s","initialBalance":%d.0,"accountType":"%s"}""".formatted(accountNumber(account), holder(account), 100 + account % 10_000, accountType(account));
+        return post("/api/v1/accounts", body);
+    }
+
+    private HttpRequest createGrant(int account, RandomGenerator random) {
+        var body = """
+                {"grantorName":"%s","granteeName":"%s","authorization":"%s","accountNumber":"%s","accountType":"%s"}""".formatted(
+                        holder(account),
+                        grantee(random.nextInt(grantees)),
+                        random.nextBoolean() ? "READ" : "WRITE",
+                        accountNumber(account),
+                        accountType(account));
+        return post("/api/v1/power-of-attorney", body);
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(baseUri.resolve(path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Accept", "application/json")
+                .GET()
+                .build();
+    }
+
+    private HttpRequest post(String path, String body) {
+        return HttpRequest.newBuilder(baseUri.resolve(path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Content-Type", "application/json")
+                .header("Accept", "application/json")
+                .POST(BodyPublishers.ofString(body))
+                .build();
+    }
+
+    String accountNumber(int account) {
+        return "%s%09d".formatted(prefix, account);
+    }
+
+    private static String holder(int account) {
+        return "Holder " + account;
+    }
+
+    private static String grantee(int grantee) {
+        return "Grantee " + grantee;
+    }
+
+    private static String accountType(int account) {
+        return account % 3 == 0 ? "SAVINGS" : "PAYMENT";
+    }
+}
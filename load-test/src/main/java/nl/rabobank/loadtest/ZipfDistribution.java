@@ -0,0 +1,35 @@
+package nl.rabobank.loadtest;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+/**
+ * Ranks {@code 0..size-1} drawn with a probability proportional to {@code 1 / (rank + 1)^exponent}: a few ranks are
+ * drawn very often and a long tail rarely, as with grants per grantee or accounts per holder. An exponent of 0 draws
+ * uniformly.
+ */
+final class ZipfDistribution {
+
+    private final double[] cumulative;
+
+    ZipfDistribution(int size, double exponent) {
+        if (size < 1 || exponent < 0) {
+            throw new IllegalArgumentException("size must be at least 1 and exponent must not be negative");
+        }
+        cumulative = new double[size];
+        var total = 0.0;
+        for (var rank = 0; rank < size; rank++) {
+            total += 1 / Math.pow(rank + 1, exponent);
+            cumulative[rank] = total;
+        }
+        for (var rank = 0; rank < size; rank++) {
+            cumulative[rank] /= total;
+        }
+    }
+
+    int sample(RandomGenerator random) {
+        var index = Arrays.binarySearch(cumulative, random.nextDouble());
+        var rank = index >= 0 ? index : -index - 1;
+        return Math.min(rank, cumulative.length - 1);
+    }
+}
@@ -0,0 +1,54 @@
+package nl.rabobank.loadtest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import nl.rabobank.loadtest.LoadTestOptions.Arrival;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class LoadTestOptionsTest {
+
+    @Test
+    void parse_shouldReturnDefaults_forNoArguments() {
+        var options = LoadTestOptions.parse();
+
+        assertThat(options.rate()).isEqualTo(200);
+        assertThat(options.duration()).isEqualTo(Duration.ofSeconds(60));
+        assertThat(options.warmup()).isEqualTo(Duration.ofSeconds(10));
+        assertThat(options.arrival()).isEqualTo(Arrival.POISSON);
+        assertThat(options.target()).isNull();
+        assertThat(options.mongoUri()).isNull();
+        assertThat(options.output()).isEqualTo(Path.of("load-test-results"));
+    }
+
+    @Test
+    void parse_shouldReturnGivenValues_forArguments() {
+        var options = LoadTestOptions.parse(
+                "--rate=1500",
+                "--duration=2m",
+                "--warmup=0s",
+                "--arrival=constant",
+                "--accounts=50",
+                "--target=http://localhost:8080",
+                "--output=out");
+
+        assertThat(options.rate()).isEqualTo(1500);
+        assertThat(options.duration()).isEqualTo(Duration.ofMinutes(2));
+        assertThat(options.warmup()).isZero();
+        assertThat(options.arrival()).isEqualTo(Arrival.CONSTANT);
+        assertThat(options.accounts()).isEqualTo(50);
+        assertThat(options.target()).isEqualTo(URI.create("http://localhost:8080"));
+        assertThat(options.output()).isEqualTo(Path.of("out"));
+    }
+
+    @ParameterizedTest
+    @CsvSource({"rate=10", "--unknown=1", "--rate=0", "--duration=0s", "--warmup=-1s", "--accounts=0"})
+    void parse_shouldThrowException_forInvalidArgument(String argument) {
+        assertThatThrownBy(() -> LoadTestOptions.parse(argument)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,49 @@
+package nl.rabobank.loadtest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.EnumMap;
+import java.util.random.RandomGeneratorFactory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class OperationMixTest {
+
+    @Test
+    void next_shouldFollowWeights_forDefaultMix() {
+        var mix = OperationMix.parse(LoadTestOptions.DEFAULT_MIX);
+        var random = RandomGeneratorFactory.of("L64X128MixRandom").create(1);
+        var counts = new EnumMap<Operation, Integer>(Operation.class);
+
+        for (var i = 0; i < 100_000; i++) {
+            counts.merge(mix.next(random), 1, Integer::sum);
+        }
+
+        assertThat(counts.get(Operation.CREATE_ACCOUNT) / 100_000.0).isCloseTo(0.05, within(0.01));
+        assertThat(counts.get(Operation.GET_ACCOUNT) / 100_000.0).isCloseTo(0.60, within(0.01));
+        assertThat(counts.get(Operation.CREATE_GRANT) / 100_000.0).isCloseTo(0.10, within(0.01));
+        assertThat(counts.get(Operation.GRANTEE_QUERY) / 100_000.0).isCloseTo(0.25, within(0.01));
+    }
+
+    @Test
+    void next_shouldNeverPickOperation_withZeroWeight() {
+        var mix = OperationMix.parse("get-account:1, create-grant:0");
+        var random = RandomGeneratorFactory.of("L64X128MixRandom").create(1);
+
+        for (var i = 0; i < 1_000; i++) {
+            assertThat(mix.next(random)).isEqualTo(Operation.GET_ACCOUNT);
+        }
+        assertThat(mix.shares()).containsEntry(Operation.GET_ACCOUNT, 1.0).containsEntry(Operation.CREATE_GRANT, 0.0);
+    }
+
+    @ParameterizedTest
+    @CsvSource(
+            delimiter = ';',
+            value = {"get-account", "unknown:1", "get-account:-1", "get-account:0"})
+    void parse_shouldThrowException_forInvalidMix(String mix) {
+        assertThatThrownBy(() -> OperationMix.parse(mix)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,113 @@
+package nl.rabobank.loadtest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import nl.rabobank.account.AccountType;
+import nl.rabobank.document.AccountDocument;
+import nl.rabobank.document.PowerOfAttorneyDocument;
+import org.junit.jupiter.api.Test;
+
+class SyntheticDatasetTest {
+
+    private static final DatasetOptions OPTIONS =
+            DatasetOptions.parse("--accounts=5000", "--grants=20000", "--grantees=1000", "--batch-size=700");
+
+    @Test
+    void generate_shouldReturnSameDocuments_forSameSeed() {
+        var first = generate(OPTIONS);
+        var second = generate(OPTIONS);
+
+        assertThat(second.accounts()).isEqualTo(first.accounts());
+        assertThat(second.grants()).isEqualTo(first.grants());
+    }
+
+    @Test
+    void generate_shouldReturnOtherDocuments_forOtherSeed() {
+        var first = generate(OPTIONS);
+        var second = generate(DatasetOptions.parse("--accounts=5000", "--grants=20000", "--seed=7"));
+
+        assertThat(second.grants()).isNotEqualTo(first.grants());
+    }
+
+    @Test
+    void generate_shouldReturnRequestedVolumes_withUniqueKeys() {
+        var dataset = generate(OPTIONS);
+
+        assertThat(dataset.accounts()).hasSize(5000);
+        assertThat(dataset.grants()).hasSize(20000);
+        assertThat(new HashSet<>(dataset.accounts().stream()
+                        .map(AccountDocument::getAccountNumber)
+                        .toList()))
+                .hasSize(5000);
+        assertThat(new HashSet<>(dataset.grants().stream()
+                        .map(PowerOfAttorneyDocument::getId)
+                        .toList()))
+                .hasSize(20000);
+    }
+
+    @Test
+    void generate_shouldReturnGrants_fromAccountHolder() {
+        var dataset = generate(OPTIONS);
+        var accounts = dataset.accounts().stream()
+                .collect(Collectors.toMap(AccountDocument::getAccountNumber, Function.identity()));
+
+        assertThat(dataset.grants()).allSatisfy(grant -> {
+            assertThat(grant.getAccountDocument()).isNull();
+            assertThat(accounts).containsKey(grant.getAccountNumber());
+            assertThat(grant.getGrantorName())
+                    .isEqualTo(accounts.get(grant.getAccountNumber()).getAccountHolderName());
+            assertThat(grant.getGranteeName()).isNotEqualTo(grant.getGrantorName());
+        });
+    }
+
+    @Test
+    void generate_shouldReturnSkewedDistributions() {
+        var dataset = generate(OPTIONS);
+
+        var savings = dataset.accounts().stream()
+                .filter(account -> account.getAccountType() == AccountType.SAVINGS)
+                .count();
+        assertThat(savings / 5000.0).isCloseTo(0.3, within(0.03));
+
+        var accountsPerHolder = countBy(dataset.accounts(), AccountDocument::getAccountHolderName);
+        assertThat(accountsPerHolder.values().stream()
+                        .mapToInt(Integer::intValue)
+                        .max()
+                        .orElseThrow())
+                .isGreaterThan(10);
+
+        // With exponent 1.1 the busiest grantee has far more grants than the median one
+        var grantsPerGrantee = countBy(dataset.grants(), PowerOfAttorneyDocument::getGranteeName).values().stream()
+                .sorted()
+                .toList();
+        assertThat(grantsPerGrantee.getLast()).isGreaterThan(50 * grantsPerGrantee.get(grantsPerGrantee.size() / 2));
+    }
+
+    private static <T> Map<String, Integer> countBy(List<T> items, Function<T, String> key) {
+        var counts = new HashMap<String, Integer>();
+        items.forEach(item -> counts.merge(key.apply(item), 1, Integer::sum));
+        return counts;
+    }
+
+    private static Dataset generate(DatasetOptions options) {
+        var dataset = new SyntheticDataset(options);
+        var accounts = new ArrayList<AccountDocument>();
+        var grants = new ArrayList<PowerOfAttorneyDocument>();
+        dataset.accounts(batch -> {
+            assertThat(batch).hasSizeLessThanOrEqualTo(options.batchSize());
+            accounts.addAll(batch);
+        });
+        dataset.grants(grants::addAll);
+        return new Dataset(accounts, grants);
+    }
+
+    private record Dataset(List<AccountDocument> accounts, List<PowerOfAttorneyDocument> grants) {}
+}
@@ -0,0 +1,49 @@
+package nl.rabobank.loadtest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.random.RandomGeneratorFactory;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class ZipfDistributionTest {
+
+    @Test
+    void sample_shouldFollowPowerLaw_forExponentOne() {
+        var distribution = new ZipfDistribution(100, 1.0);
+        var random = RandomGeneratorFactory.of("L64X128MixRandom").create(1);
+        var counts = new int[100];
+
+        for (var i = 0; i < 200_000; i++) {
+            counts[distribution.sample(random)]++;
+        }
+
+        // Rank r is drawn 1/r as often as the first rank
+        assertThat(counts[1] / (double) counts[0]).isCloseTo(0.5, within(0.03));
+        assertThat(counts[9] / (double) counts[0]).isCloseTo(0.1, within(0.02));
+        assertThat(counts[99]).isPositive();
+    }
+
+    @Test
+    void sample_shouldBeUniform_forExponentZero() {
+        var distribution = new ZipfDistribution(4, 0);
+        var random = RandomGeneratorFactory.of("L64X128MixRandom").create(1);
+        var counts = new int[4];
+
+        for (var i = 0; i < 40_000; i++) {
+            counts[distribution.sample(random)]++;
+        }
+
+        assertThat(IntStream.of(counts)).allSatisfy(count -> assertThat(count).isBetween(9_500, 10_500));
+    }
+
+    @ParameterizedTest
+    @CsvSource({"0, 1.0", "10, -0.5"})
+    void constructor_shouldThrowException_forInvalidArguments(int size, double exponent) {
+        assertThatThrownBy(() -> new ZipfDistribution(size, exponent)).isInstanceOf(IllegalArgumentException.class);
+    }
+}